@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.benchmark.java;
+
+import io.github.cowwoc.requirements12.java.ConcurrentValidationSession;
+import io.github.cowwoc.requirements12.java.JavaValidators;
+import io.github.cowwoc.requirements12.java.ValidationFailure;
+import io.github.cowwoc.requirements12.java.validator.PrimitiveIntegerValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of validating values and collecting their failures from 64 threads at once.
+ * <p>
+ * Each iteration records a fixed batch of failures into a new sink so that memory usage remains bounded.
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"CanBeFinal", "LongLine", "FieldMayBeFinal"})
+public class FailureSinkTest
+{
+	private static final boolean FAST_ESTIMATE = Boolean.getBoolean("FAST_ESTIMATE");
+	private static final int WRITERS = 64;
+	/**
+	 * The number of failures that each thread records per iteration.
+	 */
+	private static final int BATCH_SIZE = 10_000;
+	// Fields may not be final:
+	// https://github.com/openjdk/jmh/blob/cb3c3a90137dad781a2a37fda72dc11ebf253593/jmh-samples/src/main/java/org/openjdk/jmh/samples/JMHSample_10_ConstantFold.java#L58
+	private int value = 5;
+	private JavaValidators validators = JavaValidators.newInstance();
+	private List<ValidationFailure> synchronizedList;
+	private ConcurrentValidationSession concurrentSession;
+
+	@Setup(Level.Iteration)
+	public void setup()
+	{
+		synchronizedList = Collections.synchronizedList(new ArrayList<>());
+		concurrentSession = ConcurrentValidationSession.newInstance();
+	}
+
+	@Test
+	public void runBenchmarks() throws RunnerException
+	{
+		ChainedOptionsBuilder builder = new OptionsBuilder().
+			include(FailureSinkTest.class.getSimpleName()).
+			timeUnit(TimeUnit.MICROSECONDS).
+			mode(Mode.SingleShotTime).
+			warmupBatchSize(BATCH_SIZE).
+			measurementBatchSize(BATCH_SIZE);
+		if (FAST_ESTIMATE)
+		{
+			builder.warmupIterations(10).
+				measurementIterations(10).
+				forks(1);
+		}
+		else
+		{
+			builder.warmupIterations(20).
+				measurementIterations(50);
+		}
+		Options options = builder.build();
+		new Runner(options).run();
+	}
+
+	/**
+	 * Each thread validates values using a validator factory of its own and copies the failures of every
+	 * validator into a synchronized list.
+	 *
+	 * @param writer the thread's state
+	 * @return true if the list changed
+	 */
+	@Benchmark
+	@Threads(WRITERS)
+	public boolean synchronizedList(Writer writer)
+	{
+		return synchronizedList.addAll(writer.validators.checkIf(value, "value").isNegative().
+			elseGetFailures().getFailures());
+	}
+
+	/**
+	 * Each thread validates values using a validator factory that is bound to the shared session.
+	 *
+	 * @param writer the thread's state
+	 * @return the validator
+	 */
+	@Benchmark
+	@Threads(WRITERS)
+	public PrimitiveIntegerValidator concurrentSession(Writer writer)
+	{
+		return writer.sessionValidators.checkIf(value, "value").isNegative();
+	}
+
+	/**
+	 * The validator factories of a single thread.
+	 */
+	@State(Scope.Thread)
+	public static class Writer
+	{
+		private JavaValidators validators;
+		private JavaValidators sessionValidators;
+
+		@Setup(Level.Iteration)
+		public void setup(FailureSinkTest benchmark)
+		{
+			validators = benchmark.validators.copy();
+			sessionValidators = benchmark.validators.copy().withSession(benchmark.concurrentSession);
+		}
+	}
+}
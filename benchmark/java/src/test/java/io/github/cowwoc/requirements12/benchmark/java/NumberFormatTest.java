@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.benchmark.java;
+
+import io.github.cowwoc.requirements12.java.JavaValidators;
+import io.github.cowwoc.requirements12.java.internal.ConfigurationUpdater;
+import io.github.cowwoc.requirements12.java.internal.util.NumberFormatter;
+import io.github.cowwoc.requirements12.java.internal.validator.AbstractValidators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code String.format()} to {@code NumberFormatter}, which {@code StringMappers} uses to render
+ * primitive numbers.
+ * <p>
+ * The {@code failureMessage} benchmarks render the message of a numeric validation failure using a
+ * {@code Long} mapper that delegates to each formatter. The default mappers render boxed numbers using
+ * {@code String.valueOf()}, so the mappers are registered explicitly.
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"CanBeFinal", "LongLine", "FieldMayBeFinal"})
+public class NumberFormatTest
+{
+	private static final boolean FAST_ESTIMATE = Boolean.getBoolean("FAST_ESTIMATE");
+	// Fields may not be final:
+	// https://github.com/openjdk/jmh/blob/cb3c3a90137dad781a2a37fda72dc11ebf253593/jmh-samples/src/main/java/org/openjdk/jmh/samples/JMHSample_10_ConstantFold.java#L58
+	private long longValue = -1_234_567_890L;
+	private double doubleValue = 12_345.678_9;
+	private JavaValidators formatValidators = JavaValidators.newInstance();
+	private JavaValidators numberFormatterValidators = JavaValidators.newInstance();
+
+	@Setup
+	public void setup()
+	{
+		try (ConfigurationUpdater configurationUpdater =
+			((AbstractValidators<?>) formatValidators).updateConfiguration())
+		{
+			configurationUpdater.stringMappers().put(Long.class, (value, seen) -> String.format("%,d", value));
+		}
+		try (ConfigurationUpdater configurationUpdater =
+			((AbstractValidators<?>) numberFormatterValidators).updateConfiguration())
+		{
+			configurationUpdater.stringMappers().put(Long.class, (value, seen) ->
+				NumberFormatter.format((long) value));
+		}
+	}
+
+	@Test
+	public void runBenchmarks() throws RunnerException
+	{
+		ChainedOptionsBuilder builder = new OptionsBuilder().
+			include(NumberFormatTest.class.getSimpleName()).
+			timeUnit(TimeUnit.NANOSECONDS).
+			mode(Mode.AverageTime);
+		if (FAST_ESTIMATE)
+		{
+			builder.warmupIterations(5).
+				measurementIterations(5).
+				forks(1);
+		}
+		else
+		{
+			builder.warmupIterations(10).
+				measurementIterations(20);
+		}
+		Options options = builder.build();
+		new Runner(options).run();
+	}
+
+	@Benchmark
+	public String formatLong()
+	{
+		return String.format("%,d", longValue);
+	}
+
+	@Benchmark
+	public String numberFormatterLong()
+	{
+		return NumberFormatter.format(longValue);
+	}
+
+	@Benchmark
+	public String formatDouble()
+	{
+		return String.format("%,f", doubleValue);
+	}
+
+	@Benchmark
+	public String numberFormatterDouble()
+	{
+		return NumberFormatter.format(doubleValue);
+	}
+
+	@Benchmark
+	public List<String> formatFailureMessage()
+	{
+		return formatValidators.checkIf(longValue, "value").isPositive().elseGetFailures().getMessages();
+	}
+
+	@Benchmark
+	public List<String> numberFormatterFailureMessage()
+	{
+		return numberFormatterValidators.checkIf(longValue, "value").isPositive().elseGetFailures().getMessages();
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.benchmark.java;
+
+import io.github.cowwoc.requirements12.java.JavaValidators;
+import io.github.cowwoc.requirements12.java.validator.StringValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@code matches(String)} with and without the pattern cache, from a single thread and
+ * from many threads that share the cache.
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"CanBeFinal", "LongLine", "FieldMayBeFinal"})
+public class PatternCacheTest
+{
+	private static final boolean FAST_ESTIMATE = Boolean.getBoolean("FAST_ESTIMATE");
+	/**
+	 * The maximum number of cached patterns ({@code 0} compiles the pattern on every call).
+	 */
+	@Param({"0", "256"})
+	public int patternCacheSize;
+	// Fields may not be final:
+	// https://github.com/openjdk/jmh/blob/cb3c3a90137dad781a2a37fda72dc11ebf253593/jmh-samples/src/main/java/org/openjdk/jmh/samples/JMHSample_10_ConstantFold.java#L58
+	private String value = "550e8400-e29b-41d4-a716-446655440000";
+	private String regex = "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}";
+	private JavaValidators validators = JavaValidators.newInstance();
+
+	@Setup
+	public void setup()
+	{
+		validators.globalConfiguration().patternCacheSize(patternCacheSize);
+	}
+
+	@Test
+	public void runBenchmarks() throws RunnerException
+	{
+		ChainedOptionsBuilder builder = new OptionsBuilder().
+			include(PatternCacheTest.class.getSimpleName()).
+			timeUnit(TimeUnit.NANOSECONDS).
+			mode(Mode.AverageTime);
+		if (FAST_ESTIMATE)
+		{
+			builder.warmupIterations(5).
+				measurementIterations(5).
+				forks(1);
+		}
+		else
+		{
+			builder.warmupIterations(10).
+				measurementIterations(20);
+		}
+		Options options = builder.build();
+		new Runner(options).run();
+	}
+
+	@Benchmark
+	public StringValidator matches()
+	{
+		return validators.requireThat(value, "value").matches(regex);
+	}
+
+	@Benchmark
+	@Threads(16)
+	public StringValidator matchesConcurrently()
+	{
+		return validators.requireThat(value, "value").matches(regex);
+	}
+}
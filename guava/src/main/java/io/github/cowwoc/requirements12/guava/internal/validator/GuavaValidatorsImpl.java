@@ -6,18 +6,13 @@
 package io.github.cowwoc.requirements12.guava.internal.validator;
 
 import com.google.common.collect.Multimap;
-import io.github.cowwoc.requirements12.java.ValidationFailure;
 import io.github.cowwoc.requirements12.java.internal.Configuration;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements12.java.internal.validator.AbstractValidators;
 import io.github.cowwoc.requirements12.guava.GuavaValidators;
 import io.github.cowwoc.requirements12.guava.validator.MultimapValidator;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static io.github.cowwoc.requirements12.java.internal.util.ValidationTarget.valid;
 import static io.github.cowwoc.requirements12.java.internal.validator.JavaValidatorsImpl.DEFAULT_NAME;
@@ -43,10 +38,13 @@ public class GuavaValidatorsImpl extends AbstractValidators<GuavaValidators>
 	 * @param other the factory to copy
 	 * @throws NullPointerException if {@code other} is null
 	 */
+	@SuppressWarnings("this-escape")
 	public GuavaValidatorsImpl(GuavaValidatorsImpl other)
 	{
 		this(other.scope, other.configuration());
-		this.context.putAll(other.context);
+		// Suppress "this-escape" because copyContext() only updates the state of the superclass
+		copyContext(other);
+		this.session = other.session;
 	}
 
 	@Override
@@ -86,35 +84,9 @@ public class GuavaValidatorsImpl extends AbstractValidators<GuavaValidators>
 			newValidatorFailures());
 	}
 
-	private Map<String, Optional<Object>> newValidatorContext()
-	{
-		Map<String, Optional<Object>> context = HashMap.newHashMap(this.context.size() + 2);
-		context.putAll(this.context);
-		return context;
-	}
-
-	private List<ValidationFailure> newValidatorFailures()
-	{
-		return new ArrayList<>(2);
-	}
-
 	@Override
 	public GuavaValidators copy()
 	{
 		return new GuavaValidatorsImpl(this);
 	}
-
-	@Override
-	public GuavaValidators withContext(Object value, String name)
-	{
-		context.put(name, Optional.ofNullable(value));
-		return this;
-	}
-
-	@Override
-	public GuavaValidators removeContext(String name)
-	{
-		context.remove(name);
-		return this;
-	}
 }
\ No newline at end of file
@@ -58,7 +58,7 @@ public final class MultimapValidatorImpl<K, V, T extends Multimap<K, V>>
 		if (value.validationFailed(Multimap::isEmpty))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isEmptyFailed(this).toString());
 		}
 		return self();
@@ -70,7 +70,7 @@ public final class MultimapValidatorImpl<K, V, T extends Multimap<K, V>>
 		if (value.validationFailed(v -> !v.isEmpty()))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isNotEmptyFailed(this).toString());
 		}
 		return self();
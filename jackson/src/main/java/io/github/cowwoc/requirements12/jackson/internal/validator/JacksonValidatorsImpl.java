@@ -6,7 +6,6 @@ package io.github.cowwoc.requirements12.jackson.internal.validator;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.github.cowwoc.requirements12.java.ValidationFailure;
 import io.github.cowwoc.requirements12.java.internal.Configuration;
 import io.github.cowwoc.requirements12.java.internal.ConfigurationUpdater;
 import io.github.cowwoc.requirements12.java.internal.MutableStringMappers;
@@ -16,11 +15,7 @@ import io.github.cowwoc.requirements12.java.internal.validator.AbstractValidator
 import io.github.cowwoc.requirements12.jackson.JacksonValidators;
 import io.github.cowwoc.requirements12.jackson.validator.JsonNodeValidator;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.TreeMap;
 
 import static io.github.cowwoc.requirements12.java.internal.util.ValidationTarget.valid;
@@ -86,10 +81,13 @@ public class JacksonValidatorsImpl extends AbstractValidators<JacksonValidators>
 	 * @throws NullPointerException if {@code other}, {@code other.scope} or {@code other.configuration()} are
 	 *                              null
 	 */
+	@SuppressWarnings("this-escape")
 	public JacksonValidatorsImpl(JacksonValidatorsImpl other)
 	{
 		this(other.scope, other.configuration());
-		this.context.putAll(other.context);
+		// Suppress "this-escape" because copyContext() only updates the state of the superclass
+		copyContext(other);
+		this.session = other.session;
 	}
 
 	@Override
@@ -129,35 +127,9 @@ public class JacksonValidatorsImpl extends AbstractValidators<JacksonValidators>
 			newValidatorFailures());
 	}
 
-	private Map<String, Optional<Object>> newValidatorContext()
-	{
-		Map<String, Optional<Object>> context = HashMap.newHashMap(this.context.size() + 2);
-		context.putAll(this.context);
-		return context;
-	}
-
-	private List<ValidationFailure> newValidatorFailures()
-	{
-		return new ArrayList<>(2);
-	}
-
 	@Override
 	public JacksonValidators copy()
 	{
 		return new JacksonValidatorsImpl(this);
 	}
-
-	@Override
-	public JacksonValidators withContext(Object value, String name)
-	{
-		context.put(name, Optional.ofNullable(value));
-		return this;
-	}
-
-	@Override
-	public JacksonValidators removeContext(String name)
-	{
-		context.remove(name);
-		return this;
-	}
 }
\ No newline at end of file
@@ -63,7 +63,7 @@ public final class JsonNodeValidatorImpl<T extends JsonNode>
 		if (!newValue.isValid())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				JsonNodeMessages.property(this, name).toString());
 		}
 		return new JsonNodeValidatorImpl<>(scope, configuration, this.name + "." + name, newValue, context,
@@ -96,7 +96,7 @@ public final class JsonNodeValidatorImpl<T extends JsonNode>
 		if (value.validationFailed(predicate))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				JsonNodeMessages.isType(this, type).toString());
 		}
 	}
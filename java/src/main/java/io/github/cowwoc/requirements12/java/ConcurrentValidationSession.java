@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java;
+
+import io.github.cowwoc.requirements12.annotation.CheckReturnValue;
+import io.github.cowwoc.requirements12.java.internal.validator.ConcurrentValidationSessionImpl;
+
+/**
+ * A {@link ValidationSession} that collects failures from validators running on multiple threads.
+ * <p>
+ * Each parallel task binds its validators to a view of the session that is associated with the index of the
+ * task. Failures are reported in ascending order of their index, regardless of the order in which the tasks
+ * complete. For example:
+ * {@snippet :
+ * ConcurrentValidationSession session = ConcurrentValidationSession.newInstance().maximumFailures(100);
+ * IntStream.range(0, users.size()).parallel().forEach(i ->
+ * {
+ *   if (session.isCancelled())
+ *     return;
+ *   JavaValidators validators = JavaValidators.newInstance().withSession(session.forIndex(i));
+ *   validators.checkIf(users.get(i).name(), "name").isNotBlank();
+ * });
+ * session.elseThrow();
+ *}
+ * <p>
+ * Failures that share the same index are reported in the order that they were recorded.
+ * <p>
+ * <b>Thread Safety</b>: This interface is thread-safe. Views returned by {@link #forIndex(long)} are not
+ * thread-safe and must be confined to a single task.
+ */
+public sealed interface ConcurrentValidationSession extends ValidationSession
+	permits ConcurrentValidationSessionImpl, ConcurrentValidationSessionImpl.IndexedSession
+{
+	/**
+	 * Creates a new session that records an unlimited number of failures.
+	 *
+	 * @return a new session
+	 */
+	static ConcurrentValidationSession newInstance()
+	{
+		return new ConcurrentValidationSessionImpl();
+	}
+
+	@Override
+	ConcurrentValidationSession maximumFailures(int maximumFailures);
+
+	@Override
+	ConcurrentValidationSession failFast(boolean failFast);
+
+	/**
+	 * Returns a view of this session that records failures under the specified index.
+	 * <p>
+	 * Failures recorded through the view are added to this session. {@code validationFailed()},
+	 * {@code elseGetFailures()} and {@code elseThrow()} of the view only report the failures that were recorded
+	 * through it. Failures that are recorded without a view are associated with index {@code 0}.
+	 *
+	 * @param index the position of the failures relative to other failures in the session
+	 * @return a view of this session
+	 */
+	@CheckReturnValue
+	ConcurrentValidationSession forIndex(long index);
+
+	/**
+	 * Indicates whether the session has recorded {@link #maximumFailures()} failures. Parallel tasks may use
+	 * this method to skip validations whose failures would be discarded.
+	 *
+	 * @return {@code true} if subsequent failures will be discarded
+	 */
+	@CheckReturnValue
+	boolean isCancelled();
+}
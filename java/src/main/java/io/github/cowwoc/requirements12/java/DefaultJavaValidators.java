@@ -11,7 +11,9 @@ import io.github.cowwoc.requirements12.java.internal.validator.JavaValidatorsImp
 import io.github.cowwoc.requirements12.java.validator.BigDecimalValidator;
 import io.github.cowwoc.requirements12.java.validator.BigIntegerValidator;
 import io.github.cowwoc.requirements12.java.validator.BooleanValidator;
+import io.github.cowwoc.requirements12.java.validator.ByteBufferValidator;
 import io.github.cowwoc.requirements12.java.validator.ByteValidator;
+import io.github.cowwoc.requirements12.java.validator.CharSequenceValidator;
 import io.github.cowwoc.requirements12.java.validator.CharacterValidator;
 import io.github.cowwoc.requirements12.java.validator.CollectionValidator;
 import io.github.cowwoc.requirements12.java.validator.ComparableValidator;
@@ -53,6 +55,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
@@ -632,6 +635,22 @@ public final class DefaultJavaValidators
 		return DELEGATE.requireThat(value, name);
 	}
 
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static CharSequenceValidator requireThatCharSequence(CharSequence value, String name)
+	{
+		return DELEGATE.requireThatCharSequence(value, name);
+	}
+
 	/**
 	 * Validates the state of a {@code URI}.
 	 * <p>
@@ -699,6 +718,22 @@ public final class DefaultJavaValidators
 		return DELEGATE.requireThat(value, name);
 	}
 
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static ByteBufferValidator requireThat(ByteBuffer value, String name)
+	{
+		return DELEGATE.requireThat(value, name);
+	}
+
 	/**
 	 * Validates the state of a {@code byte}.
 	 * <p>
@@ -2009,6 +2044,43 @@ public final class DefaultJavaValidators
 		return DELEGATE.that(value);
 	}
 
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static CharSequenceValidator thatCharSequence(CharSequence value, String name)
+	{
+		return DELEGATE.thatCharSequence(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static CharSequenceValidator thatCharSequence(CharSequence value)
+	{
+		return DELEGATE.thatCharSequence(value);
+	}
+
 	/**
 	 * Validates the state of a {@code URI}.
 	 * <p>
@@ -2163,6 +2235,43 @@ public final class DefaultJavaValidators
 		return DELEGATE.that(value);
 	}
 
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static ByteBufferValidator that(ByteBuffer value, String name)
+	{
+		return DELEGATE.that(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static ByteBufferValidator that(ByteBuffer value)
+	{
+		return DELEGATE.that(value);
+	}
+
 	/**
 	 * Validates the state of a {@code byte}.
 	 * <p>
@@ -3305,6 +3414,39 @@ public final class DefaultJavaValidators
 		return DELEGATE.checkIf(value);
 	}
 
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static CharSequenceValidator checkIfCharSequence(CharSequence value, String name)
+	{
+		return DELEGATE.checkIfCharSequence(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static CharSequenceValidator checkIfCharSequence(CharSequence value)
+	{
+		return DELEGATE.checkIfCharSequence(value);
+	}
+
 	/**
 	 * Validates the state of a {@code URI}.
 	 * <p>
@@ -3443,6 +3585,39 @@ public final class DefaultJavaValidators
 		return DELEGATE.checkIf(value);
 	}
 
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	public static ByteBufferValidator checkIf(ByteBuffer value, String name)
+	{
+		return DELEGATE.checkIf(value, name);
+	}
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	public static ByteBufferValidator checkIf(ByteBuffer value)
+	{
+		return DELEGATE.checkIf(value);
+	}
+
 	/**
 	 * Returns the contextual information for validators created out by this factory. The contextual information
 	 * is a map of key-value pairs that can provide more details about validation failures. For example, if the
@@ -3469,6 +3644,9 @@ public final class DefaultJavaValidators
 	 * This method adds contextual information to exception messages. The contextual information is stored as
 	 * key-value pairs in a map. Values set by this method may be overridden by
 	 * {@link ValidatorComponent#withContext(Object, String)}}.
+	 * <p>
+	 * The context is shared by all threads. Use {@link ScopedContext} for values that are specific to a
+	 * request, such as a request ID.
 	 *
 	 * @param value the value of the entry
 	 * @param name  the name of an entry
@@ -4,6 +4,8 @@
  */
 package io.github.cowwoc.requirements12.java;
 
+import io.github.cowwoc.requirements12.java.validator.StringValidator;
+
 import java.util.Set;
 
 /**
@@ -37,4 +39,37 @@ public interface GlobalConfiguration
 	 * @throws NullPointerException if {@code encoding} is null
 	 */
 	GlobalConfiguration terminalEncoding(TerminalEncoding encoding);
+
+	/**
+	 * Returns the maximum number of compiled regular expressions that are cached by
+	 * {@link StringValidator#matches(String)}.
+	 *
+	 * @return the maximum number of cached patterns ({@code 0} if caching is disabled)
+	 */
+	int patternCacheSize();
+
+	/**
+	 * Sets the maximum number of compiled regular expressions that are cached by
+	 * {@link StringValidator#matches(String)}. Once the cache is full, the least-recently used pattern is
+	 * evicted.
+	 *
+	 * @param size the maximum number of cached patterns ({@code 0} disables caching)
+	 * @return this
+	 * @throws IllegalArgumentException if {@code size} is negative
+	 */
+	GlobalConfiguration patternCacheSize(int size);
+
+	/**
+	 * Returns the number of times that {@link StringValidator#matches(String)} found its pattern in the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	long patternCacheHits();
+
+	/**
+	 * Returns the number of times that {@link StringValidator#matches(String)} had to compile its pattern.
+	 *
+	 * @return the number of cache misses
+	 */
+	long patternCacheMisses();
 }
\ No newline at end of file
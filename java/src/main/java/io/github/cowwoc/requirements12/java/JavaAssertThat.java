@@ -7,7 +7,9 @@ package io.github.cowwoc.requirements12.java;
 import io.github.cowwoc.requirements12.java.validator.BigDecimalValidator;
 import io.github.cowwoc.requirements12.java.validator.BigIntegerValidator;
 import io.github.cowwoc.requirements12.java.validator.BooleanValidator;
+import io.github.cowwoc.requirements12.java.validator.ByteBufferValidator;
 import io.github.cowwoc.requirements12.java.validator.ByteValidator;
+import io.github.cowwoc.requirements12.java.validator.CharSequenceValidator;
 import io.github.cowwoc.requirements12.java.validator.CharacterValidator;
 import io.github.cowwoc.requirements12.java.validator.CollectionValidator;
 import io.github.cowwoc.requirements12.java.validator.ComparableValidator;
@@ -47,6 +49,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
@@ -1175,6 +1178,37 @@ public interface JavaAssertThat
 	 */
 	StringValidator that(String value);
 
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	CharSequenceValidator thatCharSequence(CharSequence value, String name);
+
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	CharSequenceValidator thatCharSequence(CharSequence value);
+
 	/**
 	 * Validates the state of a {@code URI}.
 	 * <p>
@@ -1341,4 +1375,35 @@ public interface JavaAssertThat
 	 * @return a validator for the value
 	 */
 	InetAddressValidator that(InetAddress value);
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	ByteBufferValidator that(ByteBuffer value, String name);
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails. This exception is then
+	 * converted into an {@link AssertionError}. Exceptions unrelated to validation failures are not converted.
+	 * <p>
+	 * This method is intended to be used with the {@code assert} keyword, like so:
+	 * {@code assert that(value, name)}.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	ByteBufferValidator that(ByteBuffer value);
 }
\ No newline at end of file
@@ -7,7 +7,9 @@ package io.github.cowwoc.requirements12.java;
 import io.github.cowwoc.requirements12.java.validator.BigDecimalValidator;
 import io.github.cowwoc.requirements12.java.validator.BigIntegerValidator;
 import io.github.cowwoc.requirements12.java.validator.BooleanValidator;
+import io.github.cowwoc.requirements12.java.validator.ByteBufferValidator;
 import io.github.cowwoc.requirements12.java.validator.ByteValidator;
+import io.github.cowwoc.requirements12.java.validator.CharSequenceValidator;
 import io.github.cowwoc.requirements12.java.validator.CharacterValidator;
 import io.github.cowwoc.requirements12.java.validator.CollectionValidator;
 import io.github.cowwoc.requirements12.java.validator.ComparableValidator;
@@ -47,6 +49,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
@@ -997,6 +1000,33 @@ public interface JavaCheckIf
 	 */
 	StringValidator checkIf(String value);
 
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	CharSequenceValidator checkIfCharSequence(CharSequence value, String name);
+
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	CharSequenceValidator checkIfCharSequence(CharSequence value);
+
 	/**
 	 * Validates the state of a {@code URI}.
 	 * <p>
@@ -1143,4 +1173,31 @@ public interface JavaCheckIf
 	 * @return a validator for the value
 	 */
 	InetAddressValidator checkIf(InetAddress value);
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	ByteBufferValidator checkIf(ByteBuffer value, String name);
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator captures exceptions on validation failure rather than throwing them immediately.
+	 * These exceptions can be retrieved or thrown once the validation completes. Exceptions unrelated to
+	 * validation failures are thrown immediately.
+	 *
+	 * @param value the value
+	 * @return a validator for the value
+	 */
+	ByteBufferValidator checkIf(ByteBuffer value);
 }
\ No newline at end of file
@@ -7,7 +7,9 @@ package io.github.cowwoc.requirements12.java;
 import io.github.cowwoc.requirements12.java.validator.BigDecimalValidator;
 import io.github.cowwoc.requirements12.java.validator.BigIntegerValidator;
 import io.github.cowwoc.requirements12.java.validator.BooleanValidator;
+import io.github.cowwoc.requirements12.java.validator.ByteBufferValidator;
 import io.github.cowwoc.requirements12.java.validator.ByteValidator;
+import io.github.cowwoc.requirements12.java.validator.CharSequenceValidator;
 import io.github.cowwoc.requirements12.java.validator.CharacterValidator;
 import io.github.cowwoc.requirements12.java.validator.CollectionValidator;
 import io.github.cowwoc.requirements12.java.validator.ComparableValidator;
@@ -47,6 +49,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
@@ -510,6 +513,19 @@ public interface JavaRequireThat
 	 */
 	StringValidator requireThat(String value, String name);
 
+	/**
+	 * Validates the state of a {@code CharSequence}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	CharSequenceValidator requireThatCharSequence(CharSequence value, String name);
+
 	/**
 	 * Validates the state of a {@code URI}.
 	 * <p>
@@ -580,4 +596,17 @@ public interface JavaRequireThat
 	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
 	 */
 	InetAddressValidator requireThat(InetAddress value, String name);
+
+	/**
+	 * Validates the state of a {@code ByteBuffer}.
+	 * <p>
+	 * The returned validator throws an exception immediately if a validation fails.
+	 *
+	 * @param value the value
+	 * @param name  the name of the value
+	 * @return a validator for the value
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	ByteBufferValidator requireThat(ByteBuffer value, String name);
 }
\ No newline at end of file
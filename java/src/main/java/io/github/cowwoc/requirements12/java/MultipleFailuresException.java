@@ -4,17 +4,30 @@
  */
 package io.github.cowwoc.requirements12.java;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Thrown if multiple validations have failed.
+ * <p>
+ * The exception message is generated on demand. If the validators were configured to not
+ * {@code recordStacktrace()}, nested exceptions are not created unless they are requested using
+ * {@link ValidationFailure#getException()}. Otherwise, each nested exception is created when its failure is
+ * recorded, because that is the only point at which its stack trace can be captured.
  */
 public final class MultipleFailuresException extends RuntimeException
 {
 	@Serial
 	private static final long serialVersionUID = 0L;
 	private transient final List<ValidationFailure> failures;
+	/**
+	 * The exception message, or {@code null} if it has not been generated yet.
+	 */
+	private String cachedMessage;
 
 	/**
 	 * Creates a new exception.
@@ -25,28 +38,61 @@ public final class MultipleFailuresException extends RuntimeException
 	 */
 	public MultipleFailuresException(List<ValidationFailure> failures)
 	{
-		super(createMessage(failures));
+		super(null, null);
+		if (failures == null)
+			throw new NullPointerException("failures may not be null");
+		if (failures.isEmpty())
+			throw new IllegalArgumentException("failures must contain at least two elements");
 		this.failures = List.copyOf(failures);
 	}
 
+	@Override
+	public String getMessage()
+	{
+		// Benign race: concurrent invocations generate the same String
+		String result = cachedMessage;
+		if (result == null)
+		{
+			result = createMessage(failures);
+			cachedMessage = result;
+		}
+		return result;
+	}
+
+	/**
+	 * @param failures the list of validation failures
+	 * @return the exception message
+	 */
 	private static String createMessage(List<ValidationFailure> failures)
 	{
-		if (failures == null)
-			throw new NullPointerException("failures may not be null");
-		if (failures.isEmpty())
-			throw new IllegalArgumentException("failures must contain at least two elements");
 		StringBuilder result = new StringBuilder(35).append("There are ").append(failures.size()).
 			append(" nested exceptions.\n");
+		// Maps the context of each failure to the first failure that it belongs to
+		Map<String, Integer> contextToFailure = HashMap.newHashMap(failures.size());
 		int i = 1;
 		for (ValidationFailure failure : failures)
 		{
-			result.append(i).append(". ").append(failure.getException().getClass().getName());
-			String message = failure.getMessage();
-			if (message != null)
+			result.append(i).append(". ").append(failure.getType().getName());
+			String failureMessage = failure.getMessage();
+			if (failureMessage != null)
 			{
-				result.append(": ").
-					append(message).
-					append('\n');
+				int endOfFirstLine = failureMessage.indexOf('\n');
+				if (endOfFirstLine == -1)
+					result.append(": ").append(failureMessage);
+				else
+				{
+					// Render context that is shared by multiple failures only once
+					String context = failureMessage.substring(endOfFirstLine + 1);
+					Integer firstFailure = contextToFailure.putIfAbsent(context, i);
+					if (firstFailure == null)
+						result.append(": ").append(failureMessage);
+					else
+					{
+						result.append(": ").append(failureMessage, 0, endOfFirstLine).
+							append("\n(same context as failure ").append(firstFailure).append(')');
+					}
+				}
+				result.append('\n');
 			}
 			++i;
 		}
@@ -62,4 +108,12 @@ public final class MultipleFailuresException extends RuntimeException
 	{
 		return failures;
 	}
-}
\ No newline at end of file
+
+	@Serial
+	private void writeObject(ObjectOutputStream out) throws IOException
+	{
+		// The failures are not serialized so the message must be generated before they are lost
+		getMessage();
+		out.defaultWriteObject();
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java;
+
+import io.github.cowwoc.requirements12.annotation.CheckReturnValue;
+import io.github.cowwoc.requirements12.java.validator.component.ValidatorComponent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Contextual information that is bound to the current thread for the duration of an operation.
+ * <p>
+ * Validators that are created while the operation runs include the contextual information in their exception
+ * messages, without affecting validators that are created by other threads. This is useful for
+ * request-scoped values such as a request ID or a tenant. For example:
+ * {@snippet :
+ * ScopedContext.newInstance().withContext(requestId, "requestId").run(() ->
+ * {
+ *   // Failures include "requestId: ..."
+ *   requireThat(name, "name").isNotBlank();
+ * });
+ *}
+ * <p>
+ * Bindings nest: an operation inherits the context of the enclosing operation, and may override its
+ * entries. The previous context is restored when the operation returns. Values set by
+ * {@link Validators#withContext(Object, String)} and {@link ValidatorComponent#withContext(Object, String)}
+ * take precedence over the scoped context.
+ * <p>
+ * The context is not inherited by threads that are started by the operation.
+ * <p>
+ * <b>Thread Safety</b>: This class is immutable.
+ */
+public final class ScopedContext
+{
+	/**
+	 * A context that does not contain any entries.
+	 */
+	private static final ScopedContext EMPTY = new ScopedContext(Map.of());
+	/**
+	 * The context that is bound to the current thread, or {@code null} if no context is bound. The stored maps
+	 * are unmodifiable.
+	 */
+	private static final ThreadLocal<Map<String, Optional<Object>>> CURRENT = new ThreadLocal<>();
+	private final Map<String, Optional<Object>> context;
+
+	/**
+	 * @param context an unmodifiable map from each entry's name to its value
+	 */
+	private ScopedContext(Map<String, Optional<Object>> context)
+	{
+		this.context = context;
+	}
+
+	/**
+	 * Returns a context that does not contain any entries.
+	 *
+	 * @return an empty context
+	 */
+	public static ScopedContext newInstance()
+	{
+		return EMPTY;
+	}
+
+	/**
+	 * Returns the contextual information that is bound to the current thread.
+	 *
+	 * @return an unmodifiable map from each entry's name to its value
+	 */
+	public static Map<String, Optional<Object>> getContext()
+	{
+		Map<String, Optional<Object>> current = CURRENT.get();
+		if (current == null)
+			return Map.of();
+		return current;
+	}
+
+	/**
+	 * Returns a copy of this context that contains an additional entry.
+	 *
+	 * @param value the value of the entry
+	 * @param name  the name of the entry
+	 * @return a new context
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace or is empty
+	 */
+	@CheckReturnValue
+	public ScopedContext withContext(Object value, String name)
+	{
+		if (name == null)
+			throw new NullPointerException("name may not be null");
+		if (name.isEmpty())
+			throw new IllegalArgumentException("name may not be empty");
+		for (int i = 0; i < name.length(); ++i)
+		{
+			if (Character.isWhitespace(name.charAt(i)))
+				throw new IllegalArgumentException("name may not contain whitespace");
+		}
+		Map<String, Optional<Object>> newContext = HashMap.newHashMap(context.size() + 1);
+		newContext.putAll(context);
+		newContext.put(name, Optional.ofNullable(value));
+		return new ScopedContext(Map.copyOf(newContext));
+	}
+
+	/**
+	 * Returns the entries of this context.
+	 *
+	 * @return an unmodifiable map from each entry's name to its value
+	 */
+	public Map<String, Optional<Object>> getEntries()
+	{
+		return context;
+	}
+
+	/**
+	 * Runs an operation with this context bound to the current thread.
+	 *
+	 * @param operation the operation to run
+	 * @throws NullPointerException if {@code operation} is null
+	 */
+	public void run(Runnable operation)
+	{
+		if (operation == null)
+			throw new NullPointerException("operation may not be null");
+		Map<String, Optional<Object>> previous = bind();
+		try
+		{
+			operation.run();
+		}
+		finally
+		{
+			restore(previous);
+		}
+	}
+
+	/**
+	 * Invokes an operation with this context bound to the current thread.
+	 *
+	 * @param <V>       the type of value returned by the operation
+	 * @param operation the operation to invoke
+	 * @return the value returned by the operation
+	 * @throws NullPointerException if {@code operation} is null
+	 * @throws Exception            if the operation throws an exception
+	 */
+	public <V> V call(Callable<V> operation) throws Exception
+	{
+		if (operation == null)
+			throw new NullPointerException("operation may not be null");
+		Map<String, Optional<Object>> previous = bind();
+		try
+		{
+			return operation.call();
+		}
+		finally
+		{
+			restore(previous);
+		}
+	}
+
+	/**
+	 * Binds this context to the current thread, on top of any context that is already bound.
+	 *
+	 * @return the previously bound context
+	 */
+	private Map<String, Optional<Object>> bind()
+	{
+		Map<String, Optional<Object>> previous = CURRENT.get();
+		Map<String, Optional<Object>> merged;
+		if (previous == null || previous.isEmpty())
+			merged = context;
+		else if (context.isEmpty())
+			merged = previous;
+		else
+		{
+			Map<String, Optional<Object>> entries = HashMap.newHashMap(previous.size() + context.size());
+			entries.putAll(previous);
+			entries.putAll(context);
+			merged = Map.copyOf(entries);
+		}
+		CURRENT.set(merged);
+		return previous;
+	}
+
+	/**
+	 * Restores the context that was bound before {@link #bind()} was invoked.
+	 *
+	 * @param previous the previously bound context
+	 */
+	private static void restore(Map<String, Optional<Object>> previous)
+	{
+		// Remove the entry instead of storing null so that pooled threads do not retain it
+		if (previous == null)
+			CURRENT.remove();
+		else
+			CURRENT.set(previous);
+	}
+
+	@Override
+	public String toString()
+	{
+		return context.toString();
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java;
+
+import io.github.cowwoc.requirements12.annotation.CheckReturnValue;
+import io.github.cowwoc.requirements12.java.validator.StringValidator;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Character-level constraints that {@link StringValidator#satisfies(StringConstraints)} evaluates in a single
+ * pass over a string.
+ * <p>
+ * For example:
+ * {@snippet :
+ * private static final StringConstraints REQUEST_ID = StringConstraints.newInstance().
+ *   withLength(5, 64).
+ *   withPrefix("req-").
+ *   withAllowedCharacters(c -> (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-');
+ *
+ * requireThat(requestId, "requestId").satisfies(REQUEST_ID);
+ *}
+ * <p>
+ * <b>Thread Safety</b>: This class is immutable.
+ */
+public final class StringConstraints
+{
+	/**
+	 * Constraints that accept any string.
+	 */
+	private static final StringConstraints NONE = new StringConstraints(0, Integer.MAX_VALUE, "", "", true,
+		null);
+	private final int minimumLength;
+	private final int maximumLength;
+	private final String prefix;
+	private final String suffix;
+	private final boolean whitespaceAllowed;
+	private final IntPredicate allowedCharacters;
+
+	/**
+	 * @param minimumLength     the minimum number of characters (inclusive)
+	 * @param maximumLength     the maximum number of characters (inclusive)
+	 * @param prefix            the string that the value must start with
+	 * @param suffix            the string that the value must end with
+	 * @param whitespaceAllowed {@code true} if the value may contain whitespace codepoints
+	 * @param allowedCharacters (optional) returns {@code true} for codepoints that the value may contain
+	 */
+	private StringConstraints(int minimumLength, int maximumLength, String prefix, String suffix,
+		boolean whitespaceAllowed, IntPredicate allowedCharacters)
+	{
+		this.minimumLength = minimumLength;
+		this.maximumLength = maximumLength;
+		this.prefix = prefix;
+		this.suffix = suffix;
+		this.whitespaceAllowed = whitespaceAllowed;
+		this.allowedCharacters = allowedCharacters;
+	}
+
+	/**
+	 * Returns constraints that accept any string.
+	 *
+	 * @return constraints that accept any string
+	 */
+	public static StringConstraints newInstance()
+	{
+		return NONE;
+	}
+
+	/**
+	 * Returns a copy of these constraints that limits the number of characters in the value, as returned by
+	 * {@link String#length()}.
+	 *
+	 * @param minimum the minimum length (inclusive)
+	 * @param maximum the maximum length (inclusive)
+	 * @return new constraints
+	 * @throws IllegalArgumentException if {@code minimum} is negative or greater than {@code maximum}
+	 */
+	@CheckReturnValue
+	public StringConstraints withLength(int minimum, int maximum)
+	{
+		if (minimum < 0)
+		{
+			throw new IllegalArgumentException("minimum may not be negative.\n" +
+				"actual: " + minimum);
+		}
+		if (minimum > maximum)
+		{
+			throw new IllegalArgumentException("minimum may not be greater than maximum.\n" +
+				"minimum: " + minimum + "\n" +
+				"maximum: " + maximum);
+		}
+		return new StringConstraints(minimum, maximum, prefix, suffix, whitespaceAllowed, allowedCharacters);
+	}
+
+	/**
+	 * Returns a copy of these constraints that requires the value to start with a prefix.
+	 *
+	 * @param prefix the string that the value must start with
+	 * @return new constraints
+	 * @throws NullPointerException if {@code prefix} is null
+	 */
+	@CheckReturnValue
+	public StringConstraints withPrefix(String prefix)
+	{
+		if (prefix == null)
+			throw new NullPointerException("prefix may not be null");
+		return new StringConstraints(minimumLength, maximumLength, prefix, suffix, whitespaceAllowed,
+			allowedCharacters);
+	}
+
+	/**
+	 * Returns a copy of these constraints that requires the value to end with a suffix.
+	 *
+	 * @param suffix the string that the value must end with
+	 * @return new constraints
+	 * @throws NullPointerException if {@code suffix} is null
+	 */
+	@CheckReturnValue
+	public StringConstraints withSuffix(String suffix)
+	{
+		if (suffix == null)
+			throw new NullPointerException("suffix may not be null");
+		return new StringConstraints(minimumLength, maximumLength, prefix, suffix, whitespaceAllowed,
+			allowedCharacters);
+	}
+
+	/**
+	 * Returns a copy of these constraints that prevents the value from containing whitespace codepoints, as
+	 * defined by {@link Character#isWhitespace(int)}.
+	 *
+	 * @return new constraints
+	 */
+	@CheckReturnValue
+	public StringConstraints withoutWhitespace()
+	{
+		return new StringConstraints(minimumLength, maximumLength, prefix, suffix, false, allowedCharacters);
+	}
+
+	/**
+	 * Returns a copy of these constraints that limits the codepoints that the value may contain.
+	 *
+	 * @param allowedCharacters returns {@code true} for codepoints that the value may contain
+	 * @return new constraints
+	 * @throws NullPointerException if {@code allowedCharacters} is null
+	 */
+	@CheckReturnValue
+	public StringConstraints withAllowedCharacters(IntPredicate allowedCharacters)
+	{
+		if (allowedCharacters == null)
+			throw new NullPointerException("allowedCharacters may not be null");
+		return new StringConstraints(minimumLength, maximumLength, prefix, suffix, whitespaceAllowed,
+			allowedCharacters);
+	}
+
+	/**
+	 * Returns the minimum number of characters in the value.
+	 *
+	 * @return the minimum length (inclusive)
+	 */
+	public int getMinimumLength()
+	{
+		return minimumLength;
+	}
+
+	/**
+	 * Returns the maximum number of characters in the value.
+	 *
+	 * @return the maximum length (inclusive)
+	 */
+	public int getMaximumLength()
+	{
+		return maximumLength;
+	}
+
+	/**
+	 * Returns the string that the value must start with.
+	 *
+	 * @return an empty string if the value may start with any string
+	 */
+	public String getPrefix()
+	{
+		return prefix;
+	}
+
+	/**
+	 * Returns the string that the value must end with.
+	 *
+	 * @return an empty string if the value may end with any string
+	 */
+	public String getSuffix()
+	{
+		return suffix;
+	}
+
+	/**
+	 * Indicates if the value may contain whitespace codepoints.
+	 *
+	 * @return {@code true} if the value may contain whitespace codepoints
+	 */
+	public boolean isWhitespaceAllowed()
+	{
+		return whitespaceAllowed;
+	}
+
+	/**
+	 * Returns the codepoints that the value may contain.
+	 *
+	 * @return {@code null} if the value may contain any codepoint
+	 */
+	public IntPredicate getAllowedCharacters()
+	{
+		return allowedCharacters;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "minimumLength: " + minimumLength + ", maximumLength: " + maximumLength + ", prefix: \"" +
+			prefix + "\", suffix: \"" + suffix + "\", whitespaceAllowed: " + whitespaceAllowed +
+			", allowedCharacters: " + allowedCharacters;
+	}
+}
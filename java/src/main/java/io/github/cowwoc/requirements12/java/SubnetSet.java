@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java;
+
+import io.github.cowwoc.requirements12.java.internal.util.IpAddresses;
+import io.github.cowwoc.requirements12.java.validator.InetAddressValidator;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A set of IP address ranges in CIDR notation, such as {@code 10.0.0.0/8} or {@code 2001:db8::/32}.
+ * <p>
+ * The ranges are compiled once into a binary trie that may be reused by
+ * {@link InetAddressValidator#isInAnyOf(SubnetSet)} and {@link InetAddressValidator#isNotInAnyOf(SubnetSet)}.
+ * Looking up an address takes time proportional to the number of bits in the address, regardless of the
+ * number of ranges. For example:
+ * {@snippet :
+ * private static final SubnetSet TRUSTED_PROXIES = SubnetSet.of(List.of("10.0.0.0/8", "fd00::/8"));
+ *
+ * requireThat(clientAddress, "clientAddress").isInAnyOf(TRUSTED_PROXIES);
+ *}
+ * <p>
+ * <b>Thread Safety</b>: This class is immutable.
+ */
+public final class SubnetSet
+{
+	/**
+	 * Indicates that a trie node does not terminate any range.
+	 */
+	private static final int NO_RANGE = -1;
+	/**
+	 * The ranges, in the order that they were provided.
+	 */
+	private final List<String> ranges;
+	private final Trie ipV4;
+	private final Trie ipV6;
+
+	/**
+	 * @param ranges the ranges in CIDR notation
+	 * @param ipV4   the IPv4 ranges
+	 * @param ipV6   the IPv6 ranges
+	 */
+	private SubnetSet(List<String> ranges, Trie ipV4, Trie ipV6)
+	{
+		this.ranges = ranges;
+		this.ipV4 = ipV4;
+		this.ipV6 = ipV6;
+	}
+
+	/**
+	 * Returns a set of IP address ranges.
+	 * <p>
+	 * Each range consists of an IP address literal, a slash and the number of leading bits that identify the
+	 * network (e.g. {@code 192.168.0.0/16}). An address without a prefix length denotes a single host. Bits
+	 * after the prefix are ignored.
+	 *
+	 * @param ranges the ranges in CIDR notation
+	 * @return a new set
+	 * @throws NullPointerException     if {@code ranges} or any of its elements are null
+	 * @throws IllegalArgumentException if any of the ranges are malformed
+	 */
+	public static SubnetSet of(Collection<String> ranges)
+	{
+		if (ranges == null)
+			throw new NullPointerException("ranges may not be null");
+		List<String> copy = new ArrayList<>(ranges.size());
+		Trie ipV4 = new Trie();
+		Trie ipV6 = new Trie();
+		for (String range : ranges)
+		{
+			if (range == null)
+				throw new NullPointerException("ranges may not contain null");
+			int slash = range.indexOf('/');
+			String address;
+			if (slash == -1)
+				address = range;
+			else
+				address = range.substring(0, slash);
+			byte[] bytes = IpAddresses.toBytes(address);
+			if (bytes == null)
+				throw new IllegalArgumentException("ranges contains an invalid IP address.\nactual: " + range);
+			int bits = bytes.length * 8;
+			int prefixLength;
+			if (slash == -1)
+				prefixLength = bits;
+			else
+			{
+				prefixLength = parsePrefixLength(range, slash + 1);
+				if (prefixLength == -1 || prefixLength > bits)
+				{
+					throw new IllegalArgumentException("ranges contains an invalid prefix length.\n" +
+						"actual: " + range);
+				}
+			}
+			Trie trie;
+			if (bytes.length == 4)
+				trie = ipV4;
+			else
+				trie = ipV6;
+			trie.add(bytes, prefixLength, copy.size());
+			copy.add(range);
+		}
+		return new SubnetSet(Collections.unmodifiableList(copy), ipV4.compact(), ipV6.compact());
+	}
+
+	/**
+	 * @param range a range in CIDR notation
+	 * @param start the index of the first digit of the prefix length
+	 * @return the prefix length, or {@code -1} if it is malformed
+	 */
+	private static int parsePrefixLength(String range, int start)
+	{
+		int length = range.length();
+		if (start == length || length - start > 3 || (length - start > 1 && range.charAt(start) == '0'))
+			return -1;
+		int result = 0;
+		for (int i = start; i < length; ++i)
+		{
+			int digit = range.charAt(i) - '0';
+			if (digit < 0 || digit > 9)
+				return -1;
+			result = result * 10 + digit;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the ranges in this set.
+	 *
+	 * @return an unmodifiable list of ranges in CIDR notation, in the order that they were provided
+	 */
+	public List<String> getRanges()
+	{
+		return ranges;
+	}
+
+	/**
+	 * Returns the most specific range that contains an address.
+	 *
+	 * @param address an IP address
+	 * @return {@code null} if none of the ranges contain the address
+	 * @throws NullPointerException if {@code address} is null
+	 */
+	public String getMatchingRange(InetAddress address)
+	{
+		if (address == null)
+			throw new NullPointerException("address may not be null");
+		byte[] bytes = address.getAddress();
+		int index = getTrie(bytes).getLongestMatch(bytes);
+		if (index == NO_RANGE)
+			return null;
+		return ranges.get(index);
+	}
+
+	/**
+	 * Returns the ranges that share the longest prefix with an address. If the address belongs to a range,
+	 * the most specific such range is returned.
+	 *
+	 * @param address     an IP address
+	 * @param maximumSize the maximum number of ranges to return
+	 * @return the nearest ranges, or an empty list if the set does not contain any ranges of the same address
+	 * 	family
+	 * @throws NullPointerException     if {@code address} is null
+	 * @throws IllegalArgumentException if {@code maximumSize} is negative
+	 */
+	public List<String> getNearestRanges(InetAddress address, int maximumSize)
+	{
+		if (address == null)
+			throw new NullPointerException("address may not be null");
+		if (maximumSize < 0)
+		{
+			throw new IllegalArgumentException("maximumSize may not be negative.\n" +
+				"actual: " + maximumSize);
+		}
+		byte[] bytes = address.getAddress();
+		Trie trie = getTrie(bytes);
+		int match = trie.getLongestMatch(bytes);
+		if (match != NO_RANGE)
+			return List.of(ranges.get(match));
+		List<String> nearest = new ArrayList<>(Math.min(maximumSize, 8));
+		for (int index : trie.getNearestMatches(bytes, maximumSize))
+			nearest.add(ranges.get(index));
+		return nearest;
+	}
+
+	/**
+	 * @param address the bytes of an address
+	 * @return the trie that contains ranges of the same address family
+	 */
+	private Trie getTrie(byte[] address)
+	{
+		if (address.length == 4)
+			return ipV4;
+		return ipV6;
+	}
+
+	@Override
+	public String toString()
+	{
+		return ranges.toString();
+	}
+
+	/**
+	 * A binary trie of address prefixes. Each node branches on one bit of the address, from the most
+	 * significant bit to the least significant one.
+	 */
+	private static final class Trie
+	{
+		/**
+		 * The child of each node for a {@code 0} bit, or {@code 0} if there is none. The root is node {@code 0},
+		 * so it cannot be anyone's child.
+		 */
+		private int[] zeroChild = new int[16];
+		/**
+		 * The child of each node for a {@code 1} bit, or {@code 0} if there is none.
+		 */
+		private int[] oneChild = new int[16];
+		/**
+		 * The index of the first range whose prefix ends at each node, or {@code NO_RANGE} if none does.
+		 */
+		private int[] range = new int[16];
+		private int size = 1;
+
+		/**
+		 * Creates an empty trie.
+		 */
+		Trie()
+		{
+			Arrays.fill(range, NO_RANGE);
+		}
+
+		/**
+		 * Adds a range to the trie.
+		 *
+		 * @param address      the bytes of the range's address
+		 * @param prefixLength the number of leading bits that identify the range
+		 * @param index        the index of the range
+		 */
+		void add(byte[] address, int prefixLength, int index)
+		{
+			int node = 0;
+			for (int bit = 0; bit < prefixLength; ++bit)
+			{
+				int[] children;
+				if (getBit(address, bit))
+					children = oneChild;
+				else
+					children = zeroChild;
+				int child = children[node];
+				if (child == 0)
+				{
+					child = newNode();
+					// newNode() may have replaced the arrays
+					if (getBit(address, bit))
+						oneChild[node] = child;
+					else
+						zeroChild[node] = child;
+				}
+				node = child;
+			}
+			if (range[node] == NO_RANGE)
+				range[node] = index;
+		}
+
+		/**
+		 * @return the index of a new node
+		 */
+		private int newNode()
+		{
+			if (size == range.length)
+			{
+				int capacity = size * 2;
+				zeroChild = Arrays.copyOf(zeroChild, capacity);
+				oneChild = Arrays.copyOf(oneChild, capacity);
+				range = Arrays.copyOf(range, capacity);
+				Arrays.fill(range, size, capacity, NO_RANGE);
+			}
+			return size++;
+		}
+
+		/**
+		 * Releases unused capacity.
+		 *
+		 * @return this
+		 */
+		Trie compact()
+		{
+			zeroChild = Arrays.copyOf(zeroChild, size);
+			oneChild = Arrays.copyOf(oneChild, size);
+			range = Arrays.copyOf(range, size);
+			return this;
+		}
+
+		/**
+		 * @param address the bytes of an address
+		 * @return the index of the longest range that contains the address, or {@code NO_RANGE} if there is none
+		 */
+		int getLongestMatch(byte[] address)
+		{
+			int match = range[0];
+			int node = 0;
+			int bits = address.length * 8;
+			for (int bit = 0; bit < bits; ++bit)
+			{
+				if (getBit(address, bit))
+					node = oneChild[node];
+				else
+					node = zeroChild[node];
+				if (node == 0)
+					break;
+				if (range[node] != NO_RANGE)
+					match = range[node];
+			}
+			return match;
+		}
+
+		/**
+		 * Returns the ranges below the deepest node that shares a prefix with an address.
+		 *
+		 * @param address     the bytes of an address
+		 * @param maximumSize the maximum number of ranges to return
+		 * @return the indexes of the ranges
+		 */
+		List<Integer> getNearestMatches(byte[] address, int maximumSize)
+		{
+			int node = 0;
+			int bits = address.length * 8;
+			for (int bit = 0; bit < bits; ++bit)
+			{
+				int child;
+				if (getBit(address, bit))
+					child = oneChild[node];
+				else
+					child = zeroChild[node];
+				if (child == 0)
+					break;
+				node = child;
+			}
+			List<Integer> matches = new ArrayList<>();
+			collectRanges(node, maximumSize, matches);
+			return matches;
+		}
+
+		/**
+		 * Collects the ranges in a subtree, shortest prefixes first.
+		 *
+		 * @param root        the root of the subtree
+		 * @param maximumSize the maximum number of ranges to collect
+		 * @param matches     the list to add the ranges' indexes to
+		 */
+		private void collectRanges(int root, int maximumSize, List<Integer> matches)
+		{
+			// Breadth-first, so that broader ranges are reported before narrower ones
+			int[] queue = new int[size];
+			int head = 0;
+			int tail = 0;
+			queue[tail++] = root;
+			while (head < tail && matches.size() < maximumSize)
+			{
+				int node = queue[head++];
+				if (range[node] != NO_RANGE)
+					matches.add(range[node]);
+				if (zeroChild[node] != 0)
+					queue[tail++] = zeroChild[node];
+				if (oneChild[node] != 0)
+					queue[tail++] = oneChild[node];
+			}
+		}
+
+		/**
+		 * @param address the bytes of an address
+		 * @param bit     the index of a bit, where {@code 0} is the most significant bit
+		 * @return {@code true} if the bit is set
+		 */
+		private static boolean getBit(byte[] address, int bit)
+		{
+			return (address[bit >>> 3] & (0x80 >>> (bit & 7))) != 0;
+		}
+	}
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java;
+
+import io.github.cowwoc.requirements12.java.validator.StringValidator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Finds occurrences of any of a set of substrings in a single pass over the input, using the Aho-Corasick
+ * algorithm.
+ * <p>
+ * The matcher is compiled once and may be reused by
+ * {@link StringValidator#containsAny(SubstringMatcher)} and
+ * {@link StringValidator#doesNotContainAny(SubstringMatcher)}. Searching takes time proportional to the
+ * length of the input, regardless of the number of substrings. For example:
+ * {@snippet :
+ * private static final SubstringMatcher FORBIDDEN_TOKENS = SubstringMatcher.of(loadDenyList());
+ *
+ * requireThat(comment, "comment").doesNotContainAny(FORBIDDEN_TOKENS);
+ *}
+ * <p>
+ * <b>Thread Safety</b>: This class is immutable.
+ */
+public final class SubstringMatcher
+{
+	/**
+	 * The substrings, in the order that they were first provided.
+	 */
+	private final List<String> patterns;
+	/**
+	 * The index of the first outgoing transition of each state in {@code transitionCharacters} and
+	 * {@code transitionTargets}. The transitions of state {@code s} occupy the range
+	 * {@code [firstTransition[s], firstTransition[s + 1])}, sorted by character.
+	 */
+	private final int[] firstTransition;
+	private final char[] transitionCharacters;
+	private final int[] transitionTargets;
+	/**
+	 * The state that represents the longest proper suffix of each state that is also in the trie.
+	 */
+	private final int[] failure;
+	/**
+	 * The index of the pattern that ends at each state, or {@code -1} if no pattern ends there.
+	 */
+	private final int[] output;
+	/**
+	 * The nearest state along the failure chain of each state at which a pattern ends, or {@code -1} if there is
+	 * none.
+	 */
+	private final int[] outputLink;
+
+	/**
+	 * @param patterns the substrings to search for
+	 */
+	private SubstringMatcher(List<String> patterns)
+	{
+		this.patterns = patterns;
+
+		// Build the trie
+		List<TreeMap<Character, Integer>> children = new ArrayList<>();
+		children.add(new TreeMap<>());
+		List<Integer> outputs = new ArrayList<>();
+		outputs.add(-1);
+		int transitionCount = 0;
+		for (int i = 0; i < patterns.size(); ++i)
+		{
+			String pattern = patterns.get(i);
+			int state = 0;
+			for (int j = 0; j < pattern.length(); ++j)
+			{
+				Integer next = children.get(state).get(pattern.charAt(j));
+				if (next == null)
+				{
+					next = children.size();
+					children.get(state).put(pattern.charAt(j), next);
+					children.add(new TreeMap<>());
+					outputs.add(-1);
+					++transitionCount;
+				}
+				state = next;
+			}
+			if (outputs.get(state) == -1)
+				outputs.set(state, i);
+		}
+
+		int stateCount = children.size();
+		this.firstTransition = new int[stateCount + 1];
+		this.transitionCharacters = new char[transitionCount];
+		this.transitionTargets = new int[transitionCount];
+		this.output = new int[stateCount];
+		int transition = 0;
+		for (int state = 0; state < stateCount; ++state)
+		{
+			firstTransition[state] = transition;
+			for (Entry<Character, Integer> entry : children.get(state).entrySet())
+			{
+				transitionCharacters[transition] = entry.getKey();
+				transitionTargets[transition] = entry.getValue();
+				++transition;
+			}
+			output[state] = outputs.get(state);
+		}
+		firstTransition[stateCount] = transition;
+
+		// Compute the failure links in breadth-first order, so that the links of shallower states are known
+		this.failure = new int[stateCount];
+		this.outputLink = new int[stateCount];
+		outputLink[0] = -1;
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (int i = firstTransition[0]; i < firstTransition[1]; ++i)
+		{
+			int child = transitionTargets[i];
+			failure[child] = 0;
+			outputLink[child] = -1;
+			queue.add(child);
+		}
+		while (!queue.isEmpty())
+		{
+			int state = queue.remove();
+			for (int i = firstTransition[state]; i < firstTransition[state + 1]; ++i)
+			{
+				char c = transitionCharacters[i];
+				int child = transitionTargets[i];
+				int fallback = failure[state];
+				int target;
+				while (true)
+				{
+					target = getTransition(fallback, c);
+					if (target != -1 || fallback == 0)
+						break;
+					fallback = failure[fallback];
+				}
+				if (target == -1)
+					target = 0;
+				failure[child] = target;
+				if (output[target] != -1)
+					outputLink[child] = target;
+				else
+					outputLink[child] = outputLink[target];
+				queue.add(child);
+			}
+		}
+	}
+
+	/**
+	 * Returns a matcher for a set of substrings.
+	 *
+	 * @param patterns the substrings to search for. Duplicates are ignored.
+	 * @return a new matcher
+	 * @throws NullPointerException if {@code patterns} or any of its elements are null
+	 */
+	public static SubstringMatcher of(Collection<String> patterns)
+	{
+		if (patterns == null)
+			throw new NullPointerException("patterns may not be null");
+		Set<String> unique = HashSet.newHashSet(patterns.size());
+		List<String> ordered = new ArrayList<>(patterns.size());
+		for (String pattern : patterns)
+		{
+			if (pattern == null)
+				throw new NullPointerException("patterns may not contain null");
+			if (unique.add(pattern))
+				ordered.add(pattern);
+		}
+		return new SubstringMatcher(Collections.unmodifiableList(ordered));
+	}
+
+	/**
+	 * Returns the substrings that this matcher searches for.
+	 *
+	 * @return an unmodifiable list of distinct substrings, in the order that they were provided
+	 */
+	public List<String> getPatterns()
+	{
+		return patterns;
+	}
+
+	/**
+	 * @param state a state
+	 * @param c     a character
+	 * @return the state reached by following the transition on {@code c}, or {@code -1} if there is no such
+	 * 	transition
+	 */
+	private int getTransition(int state, char c)
+	{
+		int low = firstTransition[state];
+		int high = firstTransition[state + 1] - 1;
+		while (low <= high)
+		{
+			int middle = (low + high) >>> 1;
+			char candidate = transitionCharacters[middle];
+			if (candidate < c)
+				low = middle + 1;
+			else if (candidate > c)
+				high = middle - 1;
+			else
+				return transitionTargets[middle];
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the first occurrence of any of the substrings in a sequence.
+	 * <p>
+	 * Occurrences are ordered by the index at which they end. If several substrings end at the same index, the
+	 * longest one is returned.
+	 *
+	 * @param input the sequence to search
+	 * @return {@code null} if none of the substrings occur in {@code input}
+	 * @throws NullPointerException if {@code input} is null
+	 */
+	public Match find(CharSequence input)
+	{
+		if (input == null)
+			throw new NullPointerException("input may not be null");
+		if (output[0] != -1)
+		{
+			// The empty string occurs at the beginning of every sequence
+			return new Match(patterns.get(output[0]), 0);
+		}
+		int state = 0;
+		for (int i = 0; i < input.length(); ++i)
+		{
+			char c = input.charAt(i);
+			while (true)
+			{
+				int next = getTransition(state, c);
+				if (next != -1)
+				{
+					state = next;
+					break;
+				}
+				if (state == 0)
+					break;
+				state = failure[state];
+			}
+			int matchState;
+			if (output[state] != -1)
+				matchState = state;
+			else
+				matchState = outputLink[state];
+			if (matchState != -1)
+			{
+				String pattern = patterns.get(output[matchState]);
+				return new Match(pattern, i + 1 - pattern.length());
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public String toString()
+	{
+		return patterns.toString();
+	}
+
+	/**
+	 * An occurrence of a substring.
+	 *
+	 * @param pattern the substring that was found
+	 * @param index   the index of the first character of the occurrence
+	 */
+	public record Match(String pattern, int index)
+	{
+	}
+}
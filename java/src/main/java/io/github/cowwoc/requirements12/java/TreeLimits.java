@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java;
+
+import io.github.cowwoc.requirements12.annotation.CheckReturnValue;
+import io.github.cowwoc.requirements12.java.validator.PathValidator;
+
+/**
+ * Limits that {@link PathValidator#isTreeWithin(TreeLimits)} enforces on a directory tree.
+ * <p>
+ * The limits are enforced while the tree is being walked, so the walk stops as soon as any of them is
+ * exceeded. For example:
+ * {@snippet :
+ * private static final TreeLimits UPLOAD_LIMITS = TreeLimits.newInstance().
+ *   withMaximumFiles(10_000).
+ *   withMaximumDirectories(1_000).
+ *   withMaximumSize(2L * 1024 * 1024 * 1024).
+ *   withMaximumDepth(8).
+ *   withoutEscapingLinks();
+ *
+ * requireThat(extractedArchive, "extractedArchive").isTreeWithin(UPLOAD_LIMITS);
+ *}
+ * <p>
+ * <b>Thread Safety</b>: This class is immutable.
+ */
+public final class TreeLimits
+{
+	/**
+	 * Limits that accept any tree.
+	 */
+	private static final TreeLimits NONE = new TreeLimits(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE,
+		Integer.MAX_VALUE, true);
+	private final long maximumFiles;
+	private final long maximumDirectories;
+	private final long maximumSize;
+	private final int maximumDepth;
+	private final boolean escapingLinksAllowed;
+
+	/**
+	 * @param maximumFiles         the maximum number of files (inclusive)
+	 * @param maximumDirectories   the maximum number of directories, excluding the root (inclusive)
+	 * @param maximumSize          the maximum total size of the files, in bytes (inclusive)
+	 * @param maximumDepth         the maximum depth of any entry (inclusive)
+	 * @param escapingLinksAllowed {@code true} if the tree may contain symbolic links that point outside of it
+	 */
+	private TreeLimits(long maximumFiles, long maximumDirectories, long maximumSize, int maximumDepth,
+		boolean escapingLinksAllowed)
+	{
+		this.maximumFiles = maximumFiles;
+		this.maximumDirectories = maximumDirectories;
+		this.maximumSize = maximumSize;
+		this.maximumDepth = maximumDepth;
+		this.escapingLinksAllowed = escapingLinksAllowed;
+	}
+
+	/**
+	 * Returns limits that accept any tree.
+	 *
+	 * @return limits that accept any tree
+	 */
+	public static TreeLimits newInstance()
+	{
+		return NONE;
+	}
+
+	/**
+	 * Returns a copy of these limits that restricts the number of files in the tree. Every entry other than a
+	 * directory, including symbolic links, counts as a file.
+	 *
+	 * @param maximumFiles the maximum number of files (inclusive)
+	 * @return new limits
+	 * @throws IllegalArgumentException if {@code maximumFiles} is negative
+	 */
+	@CheckReturnValue
+	public TreeLimits withMaximumFiles(long maximumFiles)
+	{
+		if (maximumFiles < 0)
+		{
+			throw new IllegalArgumentException("maximumFiles may not be negative.\n" +
+				"actual: " + maximumFiles);
+		}
+		return new TreeLimits(maximumFiles, maximumDirectories, maximumSize, maximumDepth,
+			escapingLinksAllowed);
+	}
+
+	/**
+	 * Returns a copy of these limits that restricts the number of directories in the tree, excluding the root
+	 * directory. Without this limit, a tree that consists of many empty directories is walked in full.
+	 *
+	 * @param maximumDirectories the maximum number of directories (inclusive)
+	 * @return new limits
+	 * @throws IllegalArgumentException if {@code maximumDirectories} is negative
+	 */
+	@CheckReturnValue
+	public TreeLimits withMaximumDirectories(long maximumDirectories)
+	{
+		if (maximumDirectories < 0)
+		{
+			throw new IllegalArgumentException("maximumDirectories may not be negative.\n" +
+				"actual: " + maximumDirectories);
+		}
+		return new TreeLimits(maximumFiles, maximumDirectories, maximumSize, maximumDepth,
+			escapingLinksAllowed);
+	}
+
+	/**
+	 * Returns a copy of these limits that restricts the total size of the regular files in the tree.
+	 *
+	 * @param maximumSize the maximum total size, in bytes (inclusive)
+	 * @return new limits
+	 * @throws IllegalArgumentException if {@code maximumSize} is negative
+	 */
+	@CheckReturnValue
+	public TreeLimits withMaximumSize(long maximumSize)
+	{
+		if (maximumSize < 0)
+		{
+			throw new IllegalArgumentException("maximumSize may not be negative.\n" +
+				"actual: " + maximumSize);
+		}
+		return new TreeLimits(maximumFiles, maximumDirectories, maximumSize, maximumDepth,
+			escapingLinksAllowed);
+	}
+
+	/**
+	 * Returns a copy of these limits that restricts how deeply entries may be nested. The entries of the root
+	 * directory have a depth of {@code 1}.
+	 *
+	 * @param maximumDepth the maximum depth (inclusive)
+	 * @return new limits
+	 * @throws IllegalArgumentException if {@code maximumDepth} is negative
+	 */
+	@CheckReturnValue
+	public TreeLimits withMaximumDepth(int maximumDepth)
+	{
+		if (maximumDepth < 0)
+		{
+			throw new IllegalArgumentException("maximumDepth may not be negative.\n" +
+				"actual: " + maximumDepth);
+		}
+		return new TreeLimits(maximumFiles, maximumDirectories, maximumSize, maximumDepth,
+			escapingLinksAllowed);
+	}
+
+	/**
+	 * Returns a copy of these limits that prevents the tree from containing symbolic links that point outside
+	 * of the root directory. Symbolic links are never followed during the walk.
+	 *
+	 * @return new limits
+	 */
+	@CheckReturnValue
+	public TreeLimits withoutEscapingLinks()
+	{
+		return new TreeLimits(maximumFiles, maximumDirectories, maximumSize, maximumDepth, false);
+	}
+
+	/**
+	 * Returns the maximum number of files in the tree.
+	 *
+	 * @return the maximum number of files (inclusive)
+	 */
+	public long getMaximumFiles()
+	{
+		return maximumFiles;
+	}
+
+	/**
+	 * Returns the maximum number of directories in the tree, excluding the root directory.
+	 *
+	 * @return the maximum number of directories (inclusive)
+	 */
+	public long getMaximumDirectories()
+	{
+		return maximumDirectories;
+	}
+
+	/**
+	 * Returns the maximum total size of the regular files in the tree.
+	 *
+	 * @return the maximum total size, in bytes (inclusive)
+	 */
+	public long getMaximumSize()
+	{
+		return maximumSize;
+	}
+
+	/**
+	 * Returns the maximum depth of any entry in the tree.
+	 *
+	 * @return the maximum depth (inclusive)
+	 */
+	public int getMaximumDepth()
+	{
+		return maximumDepth;
+	}
+
+	/**
+	 * Indicates if the tree may contain symbolic links that point outside of it.
+	 *
+	 * @return {@code true} if the tree may contain symbolic links that point outside of it
+	 */
+	public boolean isEscapingLinksAllowed()
+	{
+		return escapingLinksAllowed;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "maximumFiles: " + maximumFiles + ", maximumDirectories: " + maximumDirectories +
+			", maximumSize: " + maximumSize + ", maximumDepth: " + maximumDepth + ", escapingLinksAllowed: " +
+			escapingLinksAllowed;
+	}
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java;
+
+import io.github.cowwoc.requirements12.annotation.CheckReturnValue;
+import io.github.cowwoc.requirements12.java.validator.StringValidator;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Component-level constraints that {@link StringValidator#isUri(UriConstraints)} evaluates against the
+ * components of a URI, without constructing a {@code java.net.URI}.
+ * <p>
+ * For example:
+ * {@snippet :
+ * private static final UriConstraints CALLBACK_URL = UriConstraints.newInstance().
+ *   withSchemes(List.of("https")).
+ *   withHosts(List.of("hooks.example.com")).
+ *   withPorts(443, 443).
+ *   withPathPrefix("/callbacks/").
+ *   withoutUserInfo();
+ *
+ * requireThat(callbackUrl, "callbackUrl").isUri(CALLBACK_URL);
+ *}
+ * <p>
+ * <b>Thread Safety</b>: This class is immutable.
+ */
+public final class UriConstraints
+{
+	/**
+	 * Constraints that accept any URI.
+	 */
+	private static final UriConstraints NONE = new UriConstraints(List.of(), List.of(), 0, 65_535, "", true);
+	private final List<String> schemes;
+	private final List<String> hosts;
+	private final int minimumPort;
+	private final int maximumPort;
+	private final String pathPrefix;
+	private final boolean userInfoAllowed;
+
+	/**
+	 * @param schemes         the schemes that the URI may have, or an empty list if any scheme is allowed
+	 * @param hosts           the hosts that the URI may have, or an empty list if any host is allowed
+	 * @param minimumPort     the minimum explicit port (inclusive)
+	 * @param maximumPort     the maximum explicit port (inclusive)
+	 * @param pathPrefix      the string that the path must start with
+	 * @param userInfoAllowed {@code true} if the URI may contain user information
+	 */
+	private UriConstraints(List<String> schemes, List<String> hosts, int minimumPort, int maximumPort,
+		String pathPrefix, boolean userInfoAllowed)
+	{
+		this.schemes = schemes;
+		this.hosts = hosts;
+		this.minimumPort = minimumPort;
+		this.maximumPort = maximumPort;
+		this.pathPrefix = pathPrefix;
+		this.userInfoAllowed = userInfoAllowed;
+	}
+
+	/**
+	 * Returns constraints that accept any URI.
+	 *
+	 * @return constraints that accept any URI
+	 */
+	public static UriConstraints newInstance()
+	{
+		return NONE;
+	}
+
+	/**
+	 * Returns a copy of these constraints that requires the URI to have one of the specified schemes. Schemes
+	 * are compared case-insensitively.
+	 *
+	 * @param schemes the schemes that the URI may have
+	 * @return new constraints
+	 * @throws NullPointerException     if {@code schemes} or any of its elements are null
+	 * @throws IllegalArgumentException if {@code schemes} is empty
+	 */
+	@CheckReturnValue
+	public UriConstraints withSchemes(Collection<String> schemes)
+	{
+		List<String> copy = copyNonEmpty(schemes, "schemes");
+		return new UriConstraints(copy, hosts, minimumPort, maximumPort, pathPrefix, userInfoAllowed);
+	}
+
+	/**
+	 * Returns a copy of these constraints that requires the URI to have one of the specified hosts. Hosts are
+	 * compared case-insensitively. IPv6 hosts are specified without brackets.
+	 *
+	 * @param hosts the hosts that the URI may have
+	 * @return new constraints
+	 * @throws NullPointerException     if {@code hosts} or any of its elements are null
+	 * @throws IllegalArgumentException if {@code hosts} is empty
+	 */
+	@CheckReturnValue
+	public UriConstraints withHosts(Collection<String> hosts)
+	{
+		List<String> copy = copyNonEmpty(hosts, "hosts");
+		return new UriConstraints(schemes, copy, minimumPort, maximumPort, pathPrefix, userInfoAllowed);
+	}
+
+	/**
+	 * @param values the values to copy
+	 * @param name   the name of the values
+	 * @return an unmodifiable copy of the values
+	 * @throws NullPointerException     if {@code values} or any of its elements are null
+	 * @throws IllegalArgumentException if {@code values} is empty
+	 */
+	private static List<String> copyNonEmpty(Collection<String> values, String name)
+	{
+		if (values == null)
+			throw new NullPointerException(name + " may not be null");
+		if (values.isEmpty())
+			throw new IllegalArgumentException(name + " may not be empty");
+		for (String value : values)
+		{
+			if (value == null)
+				throw new NullPointerException(name + " may not contain null");
+		}
+		return List.copyOf(values);
+	}
+
+	/**
+	 * Returns a copy of these constraints that limits the port that the URI may specify. URIs that do not
+	 * specify a port are not affected.
+	 *
+	 * @param minimum the minimum port (inclusive)
+	 * @param maximum the maximum port (inclusive)
+	 * @return new constraints
+	 * @throws IllegalArgumentException if {@code minimum} is negative, {@code maximum} is greater than
+	 *                                  {@code 65535}, or {@code minimum} is greater than {@code maximum}
+	 */
+	@CheckReturnValue
+	public UriConstraints withPorts(int minimum, int maximum)
+	{
+		if (minimum < 0)
+		{
+			throw new IllegalArgumentException("minimum may not be negative.\n" +
+				"actual: " + minimum);
+		}
+		if (maximum > 65_535)
+		{
+			throw new IllegalArgumentException("maximum may not be greater than 65535.\n" +
+				"actual: " + maximum);
+		}
+		if (minimum > maximum)
+		{
+			throw new IllegalArgumentException("minimum may not be greater than maximum.\n" +
+				"minimum: " + minimum + "\n" +
+				"maximum: " + maximum);
+		}
+		return new UriConstraints(schemes, hosts, minimum, maximum, pathPrefix, userInfoAllowed);
+	}
+
+	/**
+	 * Returns a copy of these constraints that requires the path of the URI to start with a prefix.
+	 * <p>
+	 * The path is compared as it appears in the URI, without decoding or normalizing it. To prevent the prefix
+	 * from being bypassed, such as by {@code /callbacks/../admin}, the path is rejected if:
+	 * <ul>
+	 *   <li>any of its segments is {@code "."} or {@code ".."}, including their percent-encoded forms such as
+	 *   {@code %2E%2E} and segments with path parameters such as {@code ..;x}.</li>
+	 *   <li>it contains a percent-encoded slash or backslash ({@code %2F} or {@code %5C}).</li>
+	 *   <li>the prefix ends in the middle of a segment. For example, {@code "/api"} matches {@code "/api"} and
+	 *   {@code "/api/v1"} but not {@code "/apiary"}.</li>
+	 * </ul>
+	 * Characters other than these are not decoded, so {@code "/api/"} does not match {@code "/%61pi/"}.
+	 *
+	 * @param pathPrefix the string that the path must start with
+	 * @return new constraints
+	 * @throws NullPointerException if {@code pathPrefix} is null
+	 */
+	@CheckReturnValue
+	public UriConstraints withPathPrefix(String pathPrefix)
+	{
+		if (pathPrefix == null)
+			throw new NullPointerException("pathPrefix may not be null");
+		return new UriConstraints(schemes, hosts, minimumPort, maximumPort, pathPrefix, userInfoAllowed);
+	}
+
+	/**
+	 * Returns a copy of these constraints that prevents the URI from containing user information, such as
+	 * {@code user:password@}.
+	 *
+	 * @return new constraints
+	 */
+	@CheckReturnValue
+	public UriConstraints withoutUserInfo()
+	{
+		return new UriConstraints(schemes, hosts, minimumPort, maximumPort, pathPrefix, false);
+	}
+
+	/**
+	 * Returns the schemes that the URI may have.
+	 *
+	 * @return an unmodifiable list, or an empty list if any scheme is allowed
+	 */
+	public List<String> getSchemes()
+	{
+		return schemes;
+	}
+
+	/**
+	 * Returns the hosts that the URI may have.
+	 *
+	 * @return an unmodifiable list, or an empty list if any host is allowed
+	 */
+	public List<String> getHosts()
+	{
+		return hosts;
+	}
+
+	/**
+	 * Returns the minimum port that the URI may specify.
+	 *
+	 * @return the minimum port (inclusive)
+	 */
+	public int getMinimumPort()
+	{
+		return minimumPort;
+	}
+
+	/**
+	 * Returns the maximum port that the URI may specify.
+	 *
+	 * @return the maximum port (inclusive)
+	 */
+	public int getMaximumPort()
+	{
+		return maximumPort;
+	}
+
+	/**
+	 * Returns the string that the path must start with.
+	 *
+	 * @return an empty string if the path may start with any string
+	 */
+	public String getPathPrefix()
+	{
+		return pathPrefix;
+	}
+
+	/**
+	 * Indicates if the URI may contain user information.
+	 *
+	 * @return {@code true} if the URI may contain user information
+	 */
+	public boolean isUserInfoAllowed()
+	{
+		return userInfoAllowed;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "schemes: " + schemes + ", hosts: " + hosts + ", minimumPort: " + minimumPort +
+			", maximumPort: " + maximumPort + ", pathPrefix: \"" + pathPrefix + "\", userInfoAllowed: " +
+			userInfoAllowed;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java;
+
+import io.github.cowwoc.requirements12.annotation.CheckReturnValue;
+import io.github.cowwoc.requirements12.java.internal.validator.ValidationSessionImpl;
+
+/**
+ * Collects the failures of multiple validators into a single list.
+ * <p>
+ * Validators created by a factory that is {@link Validators#withSession(ValidationSession) bound to a session}
+ * record their failures directly into the session instead of a list of their own. For example:
+ * {@snippet :
+ * ValidationSession session = ValidationSession.newInstance().maximumFailures(10);
+ * JavaValidators validators = JavaValidators.newInstance().withSession(session);
+ *
+ * validators.checkIf(name, "name").isNotBlank();
+ * validators.checkIf(age, "age").isPositive();
+ * session.elseThrow();
+ *}
+ * <p>
+ * Validators that share a session also share their failures. Consequently,
+ * {@code validationFailed()}, {@code elseGetFailures()} and {@code elseThrow()} of any one of these
+ * validators report the failures of the entire session.
+ * <p>
+ * <b>Thread Safety</b>: This interface is not thread-safe. Use {@link ConcurrentValidationSession} to
+ * collect failures from validators running on multiple threads.
+ */
+public sealed interface ValidationSession permits ValidationSessionImpl, ConcurrentValidationSession
+{
+	/**
+	 * Creates a new session that records an unlimited number of failures.
+	 *
+	 * @return a new session
+	 */
+	static ValidationSession newInstance()
+	{
+		return new ValidationSessionImpl();
+	}
+
+	/**
+	 * Returns the maximum number of failures that the session records. Subsequent failures are discarded.
+	 *
+	 * @return {@code Integer.MAX_VALUE} by default
+	 */
+	@CheckReturnValue
+	int maximumFailures();
+
+	/**
+	 * Sets the maximum number of failures that the session records. Subsequent failures are discarded.
+	 *
+	 * @param maximumFailures the maximum number of failures
+	 * @return this
+	 * @throws IllegalArgumentException if {@code maximumFailures} is zero or negative
+	 */
+	ValidationSession maximumFailures(int maximumFailures);
+
+	/**
+	 * Returns {@code true} if an exception is thrown as soon as the session records
+	 * {@link #maximumFailures()} failures.
+	 *
+	 * @return {@code false} by default
+	 */
+	@CheckReturnValue
+	boolean failFast();
+
+	/**
+	 * Specifies whether an exception is thrown as soon as the session records {@link #maximumFailures()}
+	 * failures. Combined with {@code maximumFailures(1)}, the session throws on the first failure.
+	 *
+	 * @param failFast {@code true} if an exception is thrown as soon as the maximum number of failures is
+	 *                 reached
+	 * @return this
+	 */
+	ValidationSession failFast(boolean failFast);
+
+	/**
+	 * Checks if any validation has failed.
+	 *
+	 * @return {@code true} if at least one validation has failed
+	 */
+	boolean validationFailed();
+
+	/**
+	 * Returns the list of failed validations.
+	 *
+	 * @return the list of failed validations
+	 */
+	ValidationFailures elseGetFailures();
+
+	/**
+	 * Throws an exception if a validation failed; otherwise, returns {@code true}.
+	 *
+	 * @return true if the validation passed
+	 * @throws RuntimeException          if a method precondition was violated
+	 * @throws Error                     if a class invariant or method postcondition was violated
+	 * @throws MultipleFailuresException if more than one validation failed. This exception contains a list of
+	 *                                   the failures.
+	 */
+	boolean elseThrow();
+}
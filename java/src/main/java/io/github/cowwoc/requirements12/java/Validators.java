@@ -90,6 +90,19 @@ public interface Validators<S>
 	 */
 	S removeContext(String name);
 
+	/**
+	 * Records the failures of validators created by this factory into a shared session.
+	 * <p>
+	 * Validators created after this method is invoked append their failures to the session instead of a list
+	 * of their own, which allows the failures of multiple values to be reported together.
+	 *
+	 * @param session the session to record failures into
+	 * @return this
+	 * @throws NullPointerException if {@code session} is null
+	 * @see ValidationSession
+	 */
+	S withSession(ValidationSession session);
+
 	/**
 	 * Returns the global configuration shared by all validators.
 	 * <p>
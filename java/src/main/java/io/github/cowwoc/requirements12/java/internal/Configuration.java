@@ -13,6 +13,10 @@ import java.util.function.Function;
  */
 public final class Configuration
 {
+	/**
+	 * An exception transformer that returns exceptions unchanged.
+	 */
+	public static final Function<Throwable, ? extends Throwable> IDENTITY_TRANSFORMER = t -> t;
 	/**
 	 * The default configuration.
 	 */
@@ -24,6 +28,7 @@ public final class Configuration
 	private final boolean recordStacktrace;
 	private final boolean throwOnFailure;
 	private final Function<Throwable, ? extends Throwable> exceptionTransformer;
+	private final int maximumFailures;
 
 	/**
 	 * Creates a new configuration that:
@@ -35,6 +40,7 @@ public final class Configuration
 	 * <li>Excludes this library from exception stack traces.</li>
 	 * <li>Record a stack trace when a failure occurs.</li>
 	 * <li>May include a diff that compares the actual and expected values.</li>
+	 * <li>Records an unlimited number of failures.</li>
 	 * </ul>
 	 */
 	public Configuration()
@@ -44,8 +50,9 @@ public final class Configuration
 		this.equalityMethod = EqualityMethod.OBJECT;
 		this.throwOnFailure = true;
 		this.recordStacktrace = true;
-		this.exceptionTransformer = t -> t;
+		this.exceptionTransformer = IDENTITY_TRANSFORMER;
 		this.stringMappers = StringMappers.DEFAULT;
+		this.maximumFailures = Integer.MAX_VALUE;
 	}
 
 	/**
@@ -66,10 +73,13 @@ public final class Configuration
 	 * @param throwOnFailure       {@code true} if an exception is thrown on validation failure
 	 * @param exceptionTransformer a function that transforms the validation exception before it is thrown or
 	 *                             returned
+	 * @param maximumFailures      the maximum number of failures that a validator records
+	 * @throws NullPointerException     if any of the arguments are null
+	 * @throws IllegalArgumentException if {@code maximumFailures} is zero or negative
 	 */
 	public Configuration(boolean cleanStackTrace, boolean allowDiff, EqualityMethod equalityMethod,
 		StringMappers stringMappers, boolean recordStacktrace, boolean throwOnFailure,
-		Function<Throwable, ? extends Throwable> exceptionTransformer)
+		Function<Throwable, ? extends Throwable> exceptionTransformer, int maximumFailures)
 	{
 		if (equalityMethod == null)
 			throw new NullPointerException("equityMethod may not be null");
@@ -77,6 +87,8 @@ public final class Configuration
 			throw new NullPointerException("stringMappers may not be null");
 		if (exceptionTransformer == null)
 			throw new NullPointerException("exceptionTransformer  may not be null");
+		if (maximumFailures <= 0)
+			throw new IllegalArgumentException("maximumFailures must be positive");
 		this.cleanStackTrace = cleanStackTrace;
 		this.allowDiff = allowDiff;
 		this.equalityMethod = equalityMethod;
@@ -84,6 +96,7 @@ public final class Configuration
 		this.recordStacktrace = recordStacktrace;
 		this.throwOnFailure = throwOnFailure;
 		this.exceptionTransformer = exceptionTransformer;
+		this.maximumFailures = maximumFailures;
 	}
 
 	/**
@@ -168,6 +181,17 @@ public final class Configuration
 		return exceptionTransformer;
 	}
 
+	/**
+	 * Returns the maximum number of failures that a validator records. Once a validator reaches this limit,
+	 * subsequent failures are discarded without building their message.
+	 *
+	 * @return {@code Integer.MAX_VALUE} by default
+	 */
+	public int maximumFailures()
+	{
+		return maximumFailures;
+	}
+
 	@Override
 	public int hashCode()
 	{
@@ -178,7 +202,8 @@ public final class Configuration
 		hash = 23 * hash + stringMappers.hashCode();
 		hash = 23 * hash + Boolean.hashCode(recordStacktrace);
 		hash = 23 * hash + Boolean.hashCode(throwOnFailure);
-		return 23 * hash + exceptionTransformer.hashCode();
+		hash = 23 * hash + exceptionTransformer.hashCode();
+		return 23 * hash + maximumFailures;
 	}
 
 	@Override
@@ -191,7 +216,7 @@ public final class Configuration
 		return other.cleanStackTrace == cleanStackTrace && other.allowDiff == allowDiff &&
 			other.equalityMethod == equalityMethod && other.stringMappers.equals(stringMappers) &&
 			other.recordStacktrace == recordStacktrace() && other.throwOnFailure == throwOnFailure &&
-			other.exceptionTransformer == exceptionTransformer;
+			other.exceptionTransformer == exceptionTransformer && other.maximumFailures == maximumFailures;
 	}
 
 	@Override
@@ -200,6 +225,6 @@ public final class Configuration
 		return "cleanStackTrace: " + cleanStackTrace + ", allowDiff: " + allowDiff +
 			", equalityMethod: " + equalityMethod + ", stringMappers: " + stringMappers +
 			", recordStacktrace: " + recordStacktrace + ", throwOnFailure:" + throwOnFailure +
-			", exceptionTransformer: " + exceptionTransformer;
+			", exceptionTransformer: " + exceptionTransformer + ", maximumFailures: " + maximumFailures;
 	}
 }
\ No newline at end of file
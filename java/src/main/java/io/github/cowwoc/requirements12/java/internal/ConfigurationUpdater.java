@@ -89,6 +89,11 @@ public interface ConfigurationUpdater extends AutoCloseable
 	 * When set to {@code false}, the exception type remains unchanged, but the stack trace location is
 	 * undefined. Users who only plan to {@link ValidationFailures#getMessages() list of failure messages}
 	 * instead of exceptions may experience a performance improvement if this value is set to {@code false}.
+	 * <p>
+	 * When {@code true}, every failure creates its exception as soon as it is recorded, because the stack trace
+	 * can only be captured at that point. When {@code false}, exceptions are only created if they are
+	 * requested, so a {@code MultipleFailuresException} that aggregates many failures does not create their
+	 * exceptions.
 	 *
 	 * @param recordStacktrace {@code true} if exceptions must be recorded when a validation failure occurs
 	 * @return this
@@ -122,6 +127,26 @@ public interface ConfigurationUpdater extends AutoCloseable
 	 */
 	ConfigurationUpdater exceptionTransformer(Function<Throwable, ? extends Throwable> transformer);
 
+	/**
+	 * Returns the maximum number of failures that a validator records. Once a validator reaches this limit,
+	 * subsequent failures are discarded without building their message.
+	 *
+	 * @return {@code Integer.MAX_VALUE} by default
+	 */
+	@CheckReturnValue
+	int maximumFailures();
+
+	/**
+	 * Sets the maximum number of failures that a validator records. Once a validator reaches this limit,
+	 * subsequent failures are discarded without building their message. The remaining checks of a chain still
+	 * run; only the messages of the failures past the limit are skipped.
+	 *
+	 * @param maximumFailures the maximum number of failures
+	 * @return this
+	 * @throws IllegalArgumentException if {@code maximumFailures} is zero or negative
+	 */
+	ConfigurationUpdater maximumFailures(int maximumFailures);
+
 	/**
 	 * Applies the changes to the configuration.
 	 */
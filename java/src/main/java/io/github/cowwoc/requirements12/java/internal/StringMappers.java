@@ -4,6 +4,8 @@
  */
 package io.github.cowwoc.requirements12.java.internal;
 
+import io.github.cowwoc.requirements12.java.internal.util.NumberFormatter;
+
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.math.BigDecimal;
@@ -42,13 +44,13 @@ public final class StringMappers
 	StringMappers()
 	{
 		typeToMapper = HashMap.newHashMap(23);
-		typeToMapper.put(Optional.of(boolean.class), (value, seen) -> String.format("%b", value));
-		typeToMapper.put(Optional.of(byte.class), (value, seen) -> String.format("%,d", (byte) value));
-		typeToMapper.put(Optional.of(short.class), (value, seen) -> String.format("%,d", (short) value));
-		typeToMapper.put(Optional.of(int.class), (value, seen) -> String.format("%,d", (int) value));
-		typeToMapper.put(Optional.of(long.class), (value, seen) -> String.format("%,d", (long) value));
-		typeToMapper.put(Optional.of(float.class), (value, seen) -> String.format("%,f", (float) value));
-		typeToMapper.put(Optional.of(double.class), (value, seen) -> String.format("%,f", (double) value));
+		typeToMapper.put(Optional.of(boolean.class), (value, seen) -> String.valueOf(value));
+		typeToMapper.put(Optional.of(byte.class), (value, seen) -> NumberFormatter.format((byte) value));
+		typeToMapper.put(Optional.of(short.class), (value, seen) -> NumberFormatter.format((short) value));
+		typeToMapper.put(Optional.of(int.class), (value, seen) -> NumberFormatter.format((int) value));
+		typeToMapper.put(Optional.of(long.class), (value, seen) -> NumberFormatter.format((long) value));
+		typeToMapper.put(Optional.of(float.class), (value, seen) -> NumberFormatter.format((float) value));
+		typeToMapper.put(Optional.of(double.class), (value, seen) -> NumberFormatter.format((double) value));
 		typeToMapper.put(Optional.of(boolean[].class), (value, seen) -> Arrays.toString((boolean[]) value));
 		typeToMapper.put(Optional.of(byte[].class), (value, seen) -> Arrays.toString((byte[]) value));
 		typeToMapper.put(Optional.of(char[].class), (value, seen) -> Arrays.toString((char[]) value));
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.message;
+
+import io.github.cowwoc.requirements12.java.internal.message.section.MessageBuilder;
+import io.github.cowwoc.requirements12.java.internal.validator.AbstractValidator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HexFormat;
+import java.util.Objects;
+
+import static io.github.cowwoc.requirements12.java.internal.message.section.MessageBuilder.quoteName;
+
+/**
+ * Generates failure messages for {@code ByteBuffer}s.
+ */
+public final class ByteBufferMessages
+{
+	private ByteBufferMessages()
+	{
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param expected  the expected byte order
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder hasOrder(AbstractValidator<?, ByteBuffer> validator, ByteOrder expected)
+	{
+		// "actual" must have a byte order of BIG_ENDIAN.
+		// actual        : java.nio.DirectByteBuffer[pos=0 lim=16 cap=16]
+		// actual.order(): LITTLE_ENDIAN
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " must have a byte order of " + expected + ".");
+		ByteBuffer value = validator.getValueOrDefault(null);
+		if (value != null)
+		{
+			messageBuilder.withContext(value, name).
+				withContext(new UnquotedStringValue(value.order().toString()), name + ".order()");
+		}
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator       the validator
+	 * @param unitSize        the unit size in bytes
+	 * @param alignmentOffset the offset of the buffer's position from the nearest aligned address
+	 *                        ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isAligned(AbstractValidator<?, ByteBuffer> validator, int unitSize,
+		Integer alignmentOffset)
+	{
+		// "actual" must be aligned to 8 bytes.
+		// actual         : java.nio.DirectByteBuffer[pos=3 lim=16 cap=16]
+		// alignmentOffset: 3
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " must be aligned to " + unitSize + " bytes.");
+		ByteBuffer value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value, name);
+		if (alignmentOffset != null)
+			messageBuilder.withContext(alignmentOffset, "alignmentOffset");
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator  the validator
+	 * @param constraint the constraint that the value must adhere to (e.g. "must start with")
+	 * @param bytes      the bytes that the constraint refers to
+	 * @param offset     the offset of the first byte that violates the constraint, relative to the buffer's
+	 *                   position ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder bytesFailed(AbstractValidator<?, ByteBuffer> validator, String constraint,
+		byte[] bytes, Integer offset)
+	{
+		// "actual" must start with the bytes 0x89504e47.
+		// actual: java.nio.HeapByteBuffer[pos=0 lim=16 cap=16]
+		// offset: 0
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " " + constraint + " the bytes 0x" + HexFormat.of().formatHex(bytes) + ".");
+		ByteBuffer value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value, name);
+		if (offset != null)
+			messageBuilder.withContext(offset, "offset");
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator    the validator
+	 * @param expectedName the name of the expected value ({@code null} if undefined)
+	 * @param expected     the expected value
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isEqualToFailed(AbstractValidator<?, ByteBuffer> validator,
+		String expectedName, ByteBuffer expected)
+	{
+		// "actual" must be equal to "expected".
+		// actual              : java.nio.HeapByteBuffer[pos=0 lim=8 cap=8]
+		// expected            : java.nio.HeapByteBuffer[pos=0 lim=8 cap=8]
+		// actual.remaining()  : 8
+		// expected.remaining(): 8
+		// mismatch            : 4
+		// mismatchCount       : 1
+		// actual[0..7]        : [1, 2, 3, 4, 5, 6, 7, 8]
+		// expected[0..7]      : [1, 2, 3, 4, -1, 6, 7, 8]
+		String name = validator.getName();
+		String expectedNameOrValue = validator.getNameOrValue("", expectedName, "", expected);
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " must be equal to " + expectedNameOrValue + ".");
+		ByteBuffer value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value, name);
+		if (expectedName != null)
+			messageBuilder.withContext(expected, expectedName);
+		if (value != null)
+		{
+			// ByteBuffer.toString() does not describe the contents of the buffer
+			String resolvedExpectedName = Objects.requireNonNullElse(expectedName, "expected");
+			MismatchWindows.of(value, expected).addTo(messageBuilder, name, resolvedExpectedName);
+		}
+		return messageBuilder;
+	}
+}
@@ -8,6 +8,7 @@ import io.github.cowwoc.requirements12.java.internal.message.section.MessageBuil
 import io.github.cowwoc.requirements12.java.internal.validator.AbstractValidator;
 
 import java.net.InetAddress;
+import java.util.List;
 
 /**
  * Generates failure messages for InetAddress.
@@ -33,4 +34,61 @@ public final class InetAddressMessages
 			messageBuilder.withContext(value, name);
 		return messageBuilder;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * @param validator the validator
+	 * @param range     the range that the value must belong to
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isInSubnet(AbstractValidator<?, InetAddress> validator, String range)
+	{
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			MessageBuilder.quoteName(name) + " must belong to the subnet " + range + ".");
+		InetAddress value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value, name);
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator     the validator
+	 * @param nearestRanges the ranges that are nearest to the value
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isInAnyOf(AbstractValidator<?, InetAddress> validator,
+		List<String> nearestRanges)
+	{
+		// Allow-lists may contain thousands of ranges, so only the nearest ones are reported
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			MessageBuilder.quoteName(name) + " must belong to one of the permitted subnets.");
+		InetAddress value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value, name);
+		if (!nearestRanges.isEmpty())
+			messageBuilder.withContext(nearestRanges, "nearestSubnets");
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param range     (optional) the most specific range that contains the value, or {@code null} if the value
+	 *                  is null
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isNotInAnyOf(AbstractValidator<?, InetAddress> validator, String range)
+	{
+		String name = validator.getName();
+		String message;
+		if (range == null)
+			message = MessageBuilder.quoteName(name) + " may not belong to any of the forbidden subnets.";
+		else
+			message = MessageBuilder.quoteName(name) + " may not belong to the subnet " + range + ".";
+		MessageBuilder messageBuilder = new MessageBuilder(validator, message);
+		InetAddress value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value, name);
+		return messageBuilder;
+	}
+}
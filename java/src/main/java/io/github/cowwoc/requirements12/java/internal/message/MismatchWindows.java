@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.message;
+
+import io.github.cowwoc.requirements12.java.internal.message.section.MessageBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Describes the differences between two sequences of primitive values without converting them to a String.
+ * <p>
+ * Mismatches are located using {@code Arrays.mismatch()}, or eight bytes at a time for buffers, which compare
+ * many elements per instruction. Only a small window of elements around each mismatch is copied and rendered,
+ * so the cost of the failure message is proportional to the size of the windows rather than the length of the
+ * sequences.
+ */
+final class MismatchWindows
+{
+	/**
+	 * Arrays that are longer than this are rendered as windows around their mismatches, instead of being
+	 * diffed in full.
+	 */
+	static final int MINIMUM_LENGTH = 64;
+	/**
+	 * The number of elements to display on either side of a mismatch.
+	 */
+	private static final int RADIUS = 8;
+	/**
+	 * The maximum number of windows to display.
+	 */
+	private static final int MAXIMUM_WINDOWS = 3;
+	private final String lengthSuffix;
+	private final String indexPrefix;
+	private final int actualLength;
+	private final int expectedLength;
+	private final RangeMismatch mismatch;
+	private final RangeCopier actualCopier;
+	private final RangeCopier expectedCopier;
+
+	/**
+	 * @param lengthSuffix   the suffix that is appended to the name of a value to refer to its length
+	 * @param indexPrefix    the prefix of the indexes in window labels, identifying the origin that they are
+	 *                       relative to
+	 * @param actualLength   the length of the actual value
+	 * @param expectedLength the length of the expected value
+	 * @param mismatch       locates mismatches between the two values
+	 * @param actualCopier   copies a range of the actual value
+	 * @param expectedCopier copies a range of the expected value
+	 */
+	private MismatchWindows(String lengthSuffix, String indexPrefix, int actualLength, int expectedLength,
+		RangeMismatch mismatch, RangeCopier actualCopier, RangeCopier expectedCopier)
+	{
+		this.lengthSuffix = lengthSuffix;
+		this.indexPrefix = indexPrefix;
+		this.actualLength = actualLength;
+		this.expectedLength = expectedLength;
+		this.mismatch = mismatch;
+		this.actualCopier = actualCopier;
+		this.expectedCopier = expectedCopier;
+	}
+
+	/**
+	 * @param actual   the actual value
+	 * @param expected the expected value
+	 * @return {@code null} if the values are not primitive arrays of the same type, or if neither of them is
+	 * 	longer than {@link #MINIMUM_LENGTH}
+	 */
+	static MismatchWindows of(Object actual, Object expected)
+	{
+		MismatchWindows windows = switch (actual)
+		{
+			case boolean[] a when expected instanceof boolean[] e ->
+				new MismatchWindows(".length", "", a.length, e.length,
+					(from, to) -> Arrays.mismatch(a, from, to, e, from, to),
+					(from, to) -> Arrays.copyOfRange(a, from, to),
+					(from, to) -> Arrays.copyOfRange(e, from, to));
+			case byte[] a when expected instanceof byte[] e ->
+				new MismatchWindows(".length", "", a.length, e.length,
+					(from, to) -> Arrays.mismatch(a, from, to, e, from, to),
+					(from, to) -> Arrays.copyOfRange(a, from, to),
+					(from, to) -> Arrays.copyOfRange(e, from, to));
+			case char[] a when expected instanceof char[] e ->
+				new MismatchWindows(".length", "", a.length, e.length,
+					(from, to) -> Arrays.mismatch(a, from, to, e, from, to),
+					(from, to) -> Arrays.copyOfRange(a, from, to),
+					(from, to) -> Arrays.copyOfRange(e, from, to));
+			case short[] a when expected instanceof short[] e ->
+				new MismatchWindows(".length", "", a.length, e.length,
+					(from, to) -> Arrays.mismatch(a, from, to, e, from, to),
+					(from, to) -> Arrays.copyOfRange(a, from, to),
+					(from, to) -> Arrays.copyOfRange(e, from, to));
+			case int[] a when expected instanceof int[] e ->
+				new MismatchWindows(".length", "", a.length, e.length,
+					(from, to) -> Arrays.mismatch(a, from, to, e, from, to),
+					(from, to) -> Arrays.copyOfRange(a, from, to),
+					(from, to) -> Arrays.copyOfRange(e, from, to));
+			case long[] a when expected instanceof long[] e ->
+				new MismatchWindows(".length", "", a.length, e.length,
+					(from, to) -> Arrays.mismatch(a, from, to, e, from, to),
+					(from, to) -> Arrays.copyOfRange(a, from, to),
+					(from, to) -> Arrays.copyOfRange(e, from, to));
+			case float[] a when expected instanceof float[] e ->
+				new MismatchWindows(".length", "", a.length, e.length,
+					(from, to) -> Arrays.mismatch(a, from, to, e, from, to),
+					(from, to) -> Arrays.copyOfRange(a, from, to),
+					(from, to) -> Arrays.copyOfRange(e, from, to));
+			case double[] a when expected instanceof double[] e ->
+				new MismatchWindows(".length", "", a.length, e.length,
+					(from, to) -> Arrays.mismatch(a, from, to, e, from, to),
+					(from, to) -> Arrays.copyOfRange(a, from, to),
+					(from, to) -> Arrays.copyOfRange(e, from, to));
+			case null, default -> null;
+		};
+		if (windows == null || Math.max(windows.actualLength, windows.expectedLength) <= MINIMUM_LENGTH)
+			return null;
+		return windows;
+	}
+
+	/**
+	 * Compares the remaining bytes of two buffers. The position, limit and mark of the buffers are left
+	 * unchanged. Indexes are offsets from each buffer's position, and windows are labeled accordingly (e.g.
+	 * {@code actual[position+8..position+24]}).
+	 *
+	 * @param actual   the actual value
+	 * @param expected the expected value
+	 * @return the windows of the buffers
+	 */
+	static MismatchWindows of(ByteBuffer actual, ByteBuffer expected)
+	{
+		int actualPosition = actual.position();
+		int expectedPosition = expected.position();
+		return new MismatchWindows(".remaining()", "position+", actual.remaining(), expected.remaining(),
+			(from, to) -> mismatch(actual, actualPosition, expected, expectedPosition, from, to),
+			(from, to) -> copyOfRange(actual, actualPosition, from, to),
+			(from, to) -> copyOfRange(expected, expectedPosition, from, to));
+	}
+
+	/**
+	 * Compares two buffers using absolute reads, so that no views of the buffers are allocated.
+	 *
+	 * @param actual           the actual value
+	 * @param actualPosition   the position of the actual value
+	 * @param expected         the expected value
+	 * @param expectedPosition the position of the expected value
+	 * @param from             the offset of the first byte to compare, relative to the positions
+	 * @param to               the offset after the last byte to compare, relative to the positions
+	 * @return the offset of the first mismatch, relative to {@code from}, or {@code -1} if there is no
+	 * 	mismatch
+	 */
+	private static int mismatch(ByteBuffer actual, int actualPosition, ByteBuffer expected,
+		int expectedPosition, int from, int to)
+	{
+		int offset = from;
+		ByteOrder order = actual.order();
+		// getLong() only reads the same bytes in the same order if both buffers have the same byte order
+		if (order == expected.order())
+		{
+			for (; offset <= to - Long.BYTES; offset += Long.BYTES)
+			{
+				long difference = actual.getLong(actualPosition + offset) ^
+					expected.getLong(expectedPosition + offset);
+				if (difference != 0)
+				{
+					int bits;
+					if (order == ByteOrder.BIG_ENDIAN)
+						bits = Long.numberOfLeadingZeros(difference);
+					else
+						bits = Long.numberOfTrailingZeros(difference);
+					return offset - from + bits / Byte.SIZE;
+				}
+			}
+		}
+		for (; offset < to; ++offset)
+		{
+			if (actual.get(actualPosition + offset) != expected.get(expectedPosition + offset))
+				return offset - from;
+		}
+		return -1;
+	}
+
+	/**
+	 * @param buffer   a buffer
+	 * @param position the buffer's position
+	 * @param from     the offset of the first byte to copy, relative to {@code position}
+	 * @param to       the offset after the last byte to copy, relative to {@code position}
+	 * @return the bytes
+	 */
+	private static byte[] copyOfRange(ByteBuffer buffer, int position, int from, int to)
+	{
+		byte[] result = new byte[to - from];
+		buffer.get(position + from, result);
+		return result;
+	}
+
+	/**
+	 * Adds the lengths of the values, the index of the first mismatch, the total number of mismatches and the
+	 * windows around the first few mismatches to a message.
+	 *
+	 * @param messageBuilder the message to add to
+	 * @param actualName     the name of the actual value
+	 * @param expectedName   the name of the expected value
+	 * @return {@code messageBuilder}
+	 */
+	MessageBuilder addTo(MessageBuilder messageBuilder, String actualName, String expectedName)
+	{
+		int commonLength = Math.min(actualLength, expectedLength);
+		List<Integer> windowStarts = new ArrayList<>(MAXIMUM_WINDOWS);
+		int windowEnd = 0;
+		int firstMismatch = -1;
+		// Elements that are missing from the shorter value count as mismatches
+		long mismatchCount = Math.abs((long) actualLength - expectedLength);
+		int index = nextMismatch(0, commonLength);
+		while (index != -1)
+		{
+			if (firstMismatch == -1)
+				firstMismatch = index;
+			++mismatchCount;
+			if (windowStarts.size() < MAXIMUM_WINDOWS && index >= windowEnd)
+			{
+				int start = Math.max(windowEnd, index - RADIUS);
+				windowStarts.add(start);
+				windowEnd = start + 2 * RADIUS + 1;
+			}
+			index = nextMismatch(index + 1, commonLength);
+		}
+		if (actualLength != expectedLength)
+		{
+			if (firstMismatch == -1)
+				firstMismatch = commonLength;
+			if (windowStarts.size() < MAXIMUM_WINDOWS && commonLength >= windowEnd)
+				windowStarts.add(Math.max(windowEnd, commonLength - RADIUS));
+		}
+
+		messageBuilder.withContext(actualLength, actualName + lengthSuffix).
+			withContext(expectedLength, expectedName + lengthSuffix).
+			withContext(firstMismatch, "mismatch").
+			withContext(mismatchCount, "mismatchCount");
+		for (int start : windowStarts)
+		{
+			addWindow(messageBuilder, actualName, actualCopier, actualLength, start);
+			addWindow(messageBuilder, expectedName, expectedCopier, expectedLength, start);
+		}
+		return messageBuilder;
+	}
+
+	/**
+	 * @param from the index to start searching at
+	 * @param to   the index to stop searching at (exclusive)
+	 * @return the index of the first mismatch in the range, or {@code -1} if there is no mismatch
+	 */
+	private int nextMismatch(int from, int to)
+	{
+		if (from >= to)
+			return -1;
+		int result = mismatch.apply(from, to);
+		if (result == -1)
+			return -1;
+		return from + result;
+	}
+
+	/**
+	 * @param messageBuilder the message to add to
+	 * @param name           the name of the value
+	 * @param copier         copies a range of the value
+	 * @param length         the length of the value
+	 * @param start          the index of the first element in the window
+	 */
+	private void addWindow(MessageBuilder messageBuilder, String name, RangeCopier copier, int length,
+		int start)
+	{
+		int end = Math.min(length, start + 2 * RADIUS + 1);
+		if (start >= end)
+			return;
+		messageBuilder.withContext(copier.apply(start, end),
+			name + "[" + indexPrefix + start + ".." + indexPrefix + (end - 1) + "]");
+	}
+
+	/**
+	 * Locates the first mismatch in a range of two values.
+	 */
+	@FunctionalInterface
+	private interface RangeMismatch
+	{
+		/**
+		 * @param from the index of the first element to compare
+		 * @param to   the index after the last element to compare
+		 * @return the index of the first mismatch, relative to {@code from}, or {@code -1} if there is no
+		 * 	mismatch
+		 */
+		int apply(int from, int to);
+	}
+
+	/**
+	 * Copies a range of a value.
+	 */
+	@FunctionalInterface
+	private interface RangeCopier
+	{
+		/**
+		 * @param from the index of the first element to copy
+		 * @param to   the index after the last element to copy
+		 * @return an array containing the elements
+		 */
+		Object apply(int from, int to);
+	}
+}
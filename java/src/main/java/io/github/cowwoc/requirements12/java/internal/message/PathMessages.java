@@ -4,17 +4,23 @@
  */
 package io.github.cowwoc.requirements12.java.internal.message;
 
+import io.github.cowwoc.requirements12.java.TreeLimits;
 import io.github.cowwoc.requirements12.java.internal.message.section.MessageBuilder;
-import io.github.cowwoc.requirements12.java.internal.util.Difference;
+import io.github.cowwoc.requirements12.java.internal.util.Pluralizer;
+import io.github.cowwoc.requirements12.java.internal.util.TreeWalker.Violation;
 import io.github.cowwoc.requirements12.java.internal.validator.AbstractObjectValidator;
 import io.github.cowwoc.requirements12.java.internal.validator.AbstractValidator;
 import io.github.cowwoc.requirements12.java.internal.validator.PathValidatorImpl;
+import io.github.cowwoc.requirements12.java.internal.validator.PathValidatorImpl.Entries;
 
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HexFormat;
 import java.util.Set;
 
 import static io.github.cowwoc.requirements12.java.internal.message.section.MessageBuilder.quoteName;
@@ -111,6 +117,75 @@ public final class PathMessages
 		return messageBuilder;
 	}
 
+	/**
+	 * @param validator   the validator
+	 * @param expected    the permissions that the file must have
+	 * @param permissions the permissions of the file ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder hasPermissions(AbstractValidator<?, Path> validator,
+		Set<PosixFilePermission> expected, Set<PosixFilePermission> permissions)
+	{
+		// "actual" must have the permissions [OWNER_READ, OWNER_WRITE].
+		// actual              : /home/root/file
+		// actual.permissions(): [OWNER_READ]
+		// missing             : [OWNER_WRITE]
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " must have the permissions " + sorted(expected) + ".");
+		Path value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toAbsolutePath(), name);
+		if (permissions != null)
+		{
+			Set<PosixFilePermission> missing = sorted(expected);
+			missing.removeAll(permissions);
+			messageBuilder.withContext(sorted(permissions), name + ".permissions()").
+				withContext(missing, "missing");
+		}
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator   the validator
+	 * @param unwanted    the permissions that the file may not have
+	 * @param permissions the permissions of the file ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder doesNotHavePermissions(AbstractValidator<?, Path> validator,
+		Set<PosixFilePermission> unwanted, Set<PosixFilePermission> permissions)
+	{
+		// "actual" may not have any of the permissions [OTHERS_READ, OTHERS_WRITE].
+		// actual              : /home/root/file
+		// actual.permissions(): [OWNER_READ, OTHERS_READ]
+		// unwantedMatches     : [OTHERS_READ]
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " may not have any of the permissions " + sorted(unwanted) + ".");
+		Path value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toAbsolutePath(), name);
+		if (permissions != null)
+		{
+			Set<PosixFilePermission> unwantedMatches = sorted(unwanted);
+			unwantedMatches.retainAll(permissions);
+			messageBuilder.withContext(sorted(permissions), name + ".permissions()").
+				withContext(unwantedMatches, "unwantedMatches");
+		}
+		return messageBuilder;
+	}
+
+	/**
+	 * @param permissions a set of permissions
+	 * @return a mutable copy of the permissions, in their natural order
+	 */
+	private static Set<PosixFilePermission> sorted(Set<PosixFilePermission> permissions)
+	{
+		Set<PosixFilePermission> copy = EnumSet.noneOf(PosixFilePermission.class);
+		copy.addAll(permissions);
+		return copy;
+	}
+
 	/**
 	 * @param validator the validator
 	 * @return a message for the validation failure
@@ -159,6 +234,280 @@ public final class PathMessages
 		return ObjectMessages.isNotEmptyFailed(validator);
 	}
 
+	/**
+	 * @param validator the validator
+	 * @param minimum   the minimum number of entries (inclusive)
+	 * @param entries   the number of entries in the directory ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder containsAtLeast(AbstractValidator<?, Path> validator, int minimum,
+		Integer entries)
+	{
+		// "actual" must contain at least 3 entries.
+		// actual          : /home/root
+		// actual.entries(): 2
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " must contain at least " + minimum + " " +
+				Pluralizer.ENTRY.nameOf(minimum, null) + ".");
+		Path value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toAbsolutePath(), name);
+		if (entries != null)
+			messageBuilder.withContext(entries, name + ".entries()");
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param maximum   the maximum number of entries (inclusive)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder containsAtMost(AbstractValidator<?, Path> validator, int maximum)
+	{
+		// "actual" must contain at most 3 entries.
+		// actual: /home/root
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " must contain at most " + maximum + " " +
+				Pluralizer.ENTRY.nameOf(maximum, null) + ".");
+		Path value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toAbsolutePath(), name);
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param cause     the underlying cause of the failure
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder readEntries(AbstractValidator<?, Path> validator, Throwable cause)
+	{
+		String name = validator.getName();
+		String message;
+		if (cause instanceof NoSuchFileException)
+			message = quoteName(name) + " referenced a non-existent directory.";
+		else
+			message = "Failed to read the entries of " + quoteName(name) + ".";
+		MessageBuilder messageBuilder = new MessageBuilder(validator, message);
+		Path value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toAbsolutePath(), name);
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param limits    the limits that the tree must be within
+	 * @param violation the limit that was exceeded ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isTreeWithin(AbstractValidator<?, Path> validator, TreeLimits limits,
+		Violation violation)
+	{
+		// "actual" may not contain more than 10000 files.
+		// actual       : /home/uploads/1234
+		// offendingPath: /home/uploads/1234/a/b/c
+		// files        : 10001
+		String name = validator.getName();
+		if (violation == null)
+		{
+			return new MessageBuilder(validator,
+				quoteName(name) + " must be a directory tree that is within the limits: " + limits + ".");
+		}
+		String constraint;
+		String actualName;
+		switch (violation.limit())
+		{
+			case FILES ->
+			{
+				constraint = "may not contain more than " + limits.getMaximumFiles() + " files";
+				actualName = "files";
+			}
+			case DIRECTORIES ->
+			{
+				constraint = "may not contain more than " + limits.getMaximumDirectories() + " directories";
+				actualName = "directories";
+			}
+			case SIZE ->
+			{
+				constraint = "may not contain more than " + limits.getMaximumSize() + " bytes";
+				actualName = "size";
+			}
+			case DEPTH ->
+			{
+				constraint = "may not contain entries that are nested more than " + limits.getMaximumDepth() +
+					" levels deep";
+				actualName = "depth";
+			}
+			case ESCAPING_LINK ->
+			{
+				constraint = "may not contain symbolic links that point outside of it";
+				actualName = "target";
+			}
+			default -> throw new AssertionError(violation.limit());
+		}
+		MessageBuilder messageBuilder = new MessageBuilder(validator, quoteName(name) + " " + constraint + ".");
+		Path value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toAbsolutePath(), name);
+		return messageBuilder.withContext(violation.path(), "offendingPath").
+			withContext(violation.actual(), actualName);
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param cause     the underlying cause of the failure
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder walkTree(AbstractValidator<?, Path> validator, Throwable cause)
+	{
+		String name = validator.getName();
+		String message;
+		if (cause instanceof NoSuchFileException)
+			message = quoteName(name) + " referenced a non-existent path.";
+		else
+			message = "Failed to walk the directory tree of " + quoteName(name) + ".";
+		MessageBuilder messageBuilder = new MessageBuilder(validator, message);
+		Path value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toAbsolutePath(), name);
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param prefix    the bytes that the file must start with
+	 * @param offset    the offset of the first byte that does not match ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder contentStartsWith(AbstractValidator<?, Path> validator, byte[] prefix,
+		Long offset)
+	{
+		// "actual" must start with the bytes 0x89504e47.
+		// actual: /home/image.png
+		// offset: 0
+		return getContentMessage(validator, "must start with the bytes 0x" + HexFormat.of().formatHex(prefix),
+			offset);
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param unwanted  the byte that the file may not contain
+	 * @param offset    the offset of the first occurrence of the byte ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder contentDoesNotContain(AbstractValidator<?, Path> validator, byte unwanted,
+		Long offset)
+	{
+		// "actual" may not contain the byte 0x00.
+		// actual: /home/report.csv
+		// offset: 1024
+		return getContentMessage(validator,
+			"may not contain the byte 0x" + HexFormat.of().toHexDigits(unwanted), offset);
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param offset    the offset of the first malformed byte ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder contentIsUtf8(AbstractValidator<?, Path> validator, Long offset)
+	{
+		// "actual" must contain valid UTF-8.
+		// actual: /home/report.csv
+		// offset: 1024
+		return getContentMessage(validator, "must contain valid UTF-8", offset);
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param maximum   the maximum number of lines (inclusive)
+	 * @param offset    the offset of the first line that exceeds the limit ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder contentHasAtMostLines(AbstractValidator<?, Path> validator, long maximum,
+		Long offset)
+	{
+		// "actual" may not contain more than 100 lines.
+		// actual: /home/report.csv
+		// offset: 4096
+		String lines;
+		if (maximum == 1)
+			lines = " line";
+		else
+			lines = " lines";
+		return getContentMessage(validator, "may not contain more than " + maximum + lines, offset);
+	}
+
+	/**
+	 * @param validator  the validator
+	 * @param constraint the constraint that the contents of the file failed to satisfy
+	 * @param offset     the offset of the first byte that violates the constraint ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	private static MessageBuilder getContentMessage(AbstractValidator<?, Path> validator, String constraint,
+		Long offset)
+	{
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator, quoteName(name) + " " + constraint + ".");
+		Path value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toAbsolutePath(), name);
+		if (offset != null)
+			messageBuilder.withContext(offset, "offset");
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param algorithm the name of the checksum algorithm
+	 * @param expected  the expected checksum
+	 * @param actual    the actual checksum ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder hasChecksum(AbstractValidator<?, Path> validator, String algorithm,
+		byte[] expected, byte[] actual)
+	{
+		// "actual" must have a SHA-256 checksum of 9f86d081884c7d65....
+		// actual  : /home/release.zip
+		// checksum: 2c26b46b68ffc68f...
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " must have a " + algorithm + " checksum of " +
+				HexFormat.of().formatHex(expected) + ".");
+		Path value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toAbsolutePath(), name);
+		if (actual != null)
+		{
+			messageBuilder.withContext(new UnquotedStringValue(HexFormat.of().formatHex(actual)),
+				"checksum");
+		}
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param cause     the underlying cause of the failure
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder readContents(AbstractValidator<?, Path> validator, Throwable cause)
+	{
+		String name = validator.getName();
+		String message;
+		if (cause instanceof NoSuchFileException)
+			message = quoteName(name) + " referenced a non-existent file.";
+		else
+			message = "Failed to read the contents of " + quoteName(name) + ".";
+		MessageBuilder messageBuilder = new MessageBuilder(validator, message);
+		Path value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toAbsolutePath(), name);
+		return messageBuilder;
+	}
+
 	/**
 	 * @param validator    the validator
 	 * @param expectedName the name of the expected path ({@code null} if undefined)
@@ -266,13 +615,13 @@ public final class PathMessages
 
 	/**
 	 * @param validator    the validator
-	 * @param difference   the difference between the actual and expected values ({@code null} if undefined)
+	 * @param entries      the difference between the actual and expected entries ({@code null} if undefined)
 	 * @param expectedName the name of the paths ({@code null} if undefined)
 	 * @param expected     the paths
 	 * @return a message for the validation failure
 	 */
 	public static MessageBuilder containsExactlyFailed(AbstractObjectValidator<?, ?> validator,
-		Difference<Path> difference, String expectedName, Object expected)
+		Entries entries, String expectedName, Object expected)
 	{
 		// "actual" must consist of the paths [/home/root, /home/guest, /home/banned].
 		//
@@ -283,6 +632,10 @@ public final class PathMessages
 		// expected: [/home/root, /home/guest, /home/banned]
 		// missing : [/home/guest]
 		// unwanted: [/home/unwanted-guest]
+		//
+		// If there are too many unwanted entries to list, their total is appended:
+		//
+		// unwantedCount: 5000
 
 		String name = validator.getName();
 		StringBuilder message = new StringBuilder(quoteName(name)).append(" must consist of the ");
@@ -297,9 +650,13 @@ public final class PathMessages
 		validator.value.nullToInvalid().ifValid(v -> messageBuilder.withContext(v, name));
 		if (expectedName != null)
 			messageBuilder.withContext(expected, expectedName);
-		if (difference != null)
-			messageBuilder.withContext(difference.onlyInOther(), "missing").
-				withContext(difference.onlyInActual(), "unwanted");
+		if (entries != null)
+		{
+			messageBuilder.withContext(entries.missing(), "missing").
+				withContext(entries.unwanted(), "unwanted");
+			if (entries.unwantedCount() > entries.unwanted().size())
+				messageBuilder.withContext(entries.unwantedCount(), "unwantedCount");
+		}
 		return messageBuilder;
 	}
 
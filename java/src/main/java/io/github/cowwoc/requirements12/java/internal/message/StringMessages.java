@@ -6,17 +6,25 @@ package io.github.cowwoc.requirements12.java.internal.message;
 
 import io.github.cowwoc.requirements12.java.internal.StringMappers;
 import io.github.cowwoc.requirements12.java.internal.message.section.MessageBuilder;
+import io.github.cowwoc.requirements12.java.internal.util.Pluralizer;
 import io.github.cowwoc.requirements12.java.internal.validator.AbstractValidator;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import static io.github.cowwoc.requirements12.java.internal.message.section.MessageBuilder.quoteName;
 
 /**
- * Generates failure messages for strings.
+ * Generates failure messages for strings and other character sequences.
  */
 public final class StringMessages
 {
+	/**
+	 * The maximum number of substrings that {@link #containsAny(AbstractValidator, List)} lists.
+	 */
+	private static final int MAXIMUM_LISTED_SUBSTRINGS = 10;
+
 	private StringMessages()
 	{
 	}
@@ -25,14 +33,14 @@ public final class StringMessages
 	 * @param validator the validator
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder isBlank(AbstractValidator<?, String> validator)
+	public static MessageBuilder isBlank(AbstractValidator<?, ? extends CharSequence> validator)
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " must be empty or contain only whitespace codepoints.");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -40,14 +48,14 @@ public final class StringMessages
 	 * @param validator the validator
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder isNotBlank(AbstractValidator<?, String> validator)
+	public static MessageBuilder isNotBlank(AbstractValidator<?, ? extends CharSequence> validator)
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not be empty or contain only whitespace codepoints.");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -55,14 +63,14 @@ public final class StringMessages
 	 * @param validator the validator
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder isTrimmed(AbstractValidator<?, String> validator)
+	public static MessageBuilder isTrimmed(AbstractValidator<?, ? extends CharSequence> validator)
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not contain leading or trailing whitespace.");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -70,14 +78,14 @@ public final class StringMessages
 	 * @param validator the validator
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder isStripped(AbstractValidator<?, String> validator)
+	public static MessageBuilder isStripped(AbstractValidator<?, ? extends CharSequence> validator)
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not contain leading or trailing whitespace codepoints.");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -86,16 +94,16 @@ public final class StringMessages
 	 * @param prefix    the value that the string must start with
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder startsWith(AbstractValidator<?, String> validator,
+	public static MessageBuilder startsWith(AbstractValidator<?, ? extends CharSequence> validator,
 		String prefix)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " must start with " + stringMappers.toString(prefix) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -104,15 +112,16 @@ public final class StringMessages
 	 * @param prefix    the value that the string must start with
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder doesNotStartWith(AbstractValidator<?, String> validator, String prefix)
+	public static MessageBuilder doesNotStartWith(AbstractValidator<?, ? extends CharSequence> validator,
+		String prefix)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not start with " + stringMappers.toString(prefix) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -121,15 +130,15 @@ public final class StringMessages
 	 * @param suffix    the value that the string must end with
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder endsWith(AbstractValidator<?, String> validator, String suffix)
+	public static MessageBuilder endsWith(AbstractValidator<?, ? extends CharSequence> validator, String suffix)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " must end with " + stringMappers.toString(suffix) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -138,15 +147,16 @@ public final class StringMessages
 	 * @param suffix    the value that the string must end with
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder doesNotEndWith(AbstractValidator<?, String> validator, String suffix)
+	public static MessageBuilder doesNotEndWith(AbstractValidator<?, ? extends CharSequence> validator,
+		String suffix)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not end with " + stringMappers.toString(suffix) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -155,15 +165,16 @@ public final class StringMessages
 	 * @param expected  the expected value
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder contains(AbstractValidator<?, String> validator, String expected)
+	public static MessageBuilder contains(AbstractValidator<?, ? extends CharSequence> validator,
+		String expected)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " must contain " + stringMappers.toString(expected) + ".");
-		String value = validator.getValueOrDefault(null);
+		CharSequence value = validator.getValueOrDefault(null);
 		if (value != null)
-			messageBuilder.withContext(value, name);
+			messageBuilder.withContext(value.toString(), name);
 		return messageBuilder;
 	}
 
@@ -172,12 +183,121 @@ public final class StringMessages
 	 * @param unwanted  the unwanted value
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder doesNotContain(AbstractValidator<?, String> validator, String unwanted)
+	public static MessageBuilder doesNotContain(AbstractValidator<?, ? extends CharSequence> validator,
+		String unwanted)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " may not contain " + stringMappers.toString(unwanted) + ".");
+		CharSequence value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toString(), name);
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param expected  the expected substrings
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder containsAny(AbstractValidator<?, ? extends CharSequence> validator,
+		List<String> expected)
+	{
+		String name = validator.getName();
+		StringMappers stringMappers = validator.configuration().stringMappers();
+		MessageBuilder messageBuilder;
+		if (expected.size() <= MAXIMUM_LISTED_SUBSTRINGS)
+		{
+			messageBuilder = new MessageBuilder(validator,
+				quoteName(name) + " must contain at least one of " + stringMappers.toString(expected) + ".");
+		}
+		else
+		{
+			// Allow-lists may contain thousands of entries, so only a sample is reported
+			messageBuilder = new MessageBuilder(validator,
+				quoteName(name) + " must contain at least one of " + expected.size() + " substrings.");
+		}
+		CharSequence value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toString(), name);
+		if (expected.size() > MAXIMUM_LISTED_SUBSTRINGS)
+		{
+			messageBuilder.withContext(expected.subList(0, MAXIMUM_LISTED_SUBSTRINGS),
+				"expected.subList(0, " + MAXIMUM_LISTED_SUBSTRINGS + ")");
+		}
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param match     (optional) the first unwanted substring that the value contains, or {@code null} if the
+	 *                  value is null
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder doesNotContainAny(AbstractValidator<?, ? extends CharSequence> validator,
+		String match)
+	{
+		// Deny-lists may contain thousands of entries, so only the substring that was found is reported
+		String name = validator.getName();
+		String message;
+		if (match == null)
+			message = quoteName(name) + " may not contain any of the unwanted substrings.";
+		else
+		{
+			StringMappers stringMappers = validator.configuration().stringMappers();
+			message = quoteName(name) + " may not contain " + stringMappers.toString(match) + ".";
+		}
+		MessageBuilder messageBuilder = new MessageBuilder(validator, message);
+		CharSequence value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toString(), name);
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder doesNotContainWhitespace(
+		AbstractValidator<?, ? extends CharSequence> validator)
+	{
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " may not contain whitespace characters.");
+		CharSequence value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toString(), name);
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param minimum   the minimum length (inclusive)
+	 * @param maximum   the maximum length (inclusive)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder lengthIsBetween(AbstractValidator<?, String> validator, int minimum,
+		int maximum)
+	{
+		String name = validator.getName();
+		StringMappers stringMappers = validator.configuration().stringMappers();
+		String bounds;
+		int lastBound = maximum;
+		if (minimum == maximum)
+			bounds = "exactly " + stringMappers.toString(minimum);
+		else if (maximum == Integer.MAX_VALUE)
+		{
+			bounds = "at least " + stringMappers.toString(minimum);
+			lastBound = minimum;
+		}
+		else if (minimum == 0)
+			bounds = "at most " + stringMappers.toString(maximum);
+		else
+			bounds = "between " + stringMappers.toString(minimum) + " and " + stringMappers.toString(maximum);
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " must contain " + bounds + " " + Pluralizer.CHARACTER.nameOf(lastBound, null) +
+				".");
 		String value = validator.getValueOrDefault(null);
 		if (value != null)
 			messageBuilder.withContext(value, name);
@@ -188,11 +308,11 @@ public final class StringMessages
 	 * @param validator the validator
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder doesNotContainWhitespace(AbstractValidator<?, String> validator)
+	public static MessageBuilder containsOnlyAllowedCharacters(AbstractValidator<?, String> validator)
 	{
 		String name = validator.getName();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
-			quoteName(name) + " may not contain whitespace characters.");
+			quoteName(name) + " may only contain allowed characters.");
 		String value = validator.getValueOrDefault(null);
 		if (value != null)
 			messageBuilder.withContext(value, name);
@@ -204,16 +324,109 @@ public final class StringMessages
 	 * @param regex     the regular expression
 	 * @return a message for the validation failure
 	 */
-	public static MessageBuilder matches(AbstractValidator<?, String> validator, Pattern regex)
+	public static MessageBuilder matches(AbstractValidator<?, ? extends CharSequence> validator, Pattern regex)
 	{
 		String name = validator.getName();
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		MessageBuilder messageBuilder = new MessageBuilder(validator,
 			quoteName(name) + " must match the regular expression " +
 				stringMappers.toString(regex) + ".");
+		CharSequence value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toString(), name);
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param regex     the regular expression
+	 * @param timeout   the maximum amount of time that the match may take
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder matchesWithinTimeout(AbstractValidator<?, ? extends CharSequence> validator,
+		Pattern regex,
+		Duration timeout)
+	{
+		String name = validator.getName();
+		StringMappers stringMappers = validator.configuration().stringMappers();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " must match the regular expression " + stringMappers.toString(regex) +
+				", but the match did not complete within " + stringMappers.toString(timeout) + ".");
+		CharSequence value = validator.getValueOrDefault(null);
+		if (value != null)
+			messageBuilder.withContext(value.toString(), name);
+		return messageBuilder;
+	}
+
+	/**
+	 * @param validator the validator
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isUuid(AbstractValidator<?, String> validator)
+	{
+		return mustBe(validator, "a UUID");
+	}
+
+	/**
+	 * @param validator the validator
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isHex(AbstractValidator<?, String> validator)
+	{
+		return mustBe(validator, "a non-empty sequence of hexadecimal digits");
+	}
+
+	/**
+	 * @param validator the validator
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isBase64(AbstractValidator<?, String> validator)
+	{
+		return mustBe(validator, "Base64-encoded");
+	}
+
+	/**
+	 * @param validator the validator
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isIso8601Instant(AbstractValidator<?, String> validator)
+	{
+		return mustBe(validator, "an ISO-8601 instant");
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param type      the type of IP address (e.g. "IP v4" or "IP v6")
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isIpAddress(AbstractValidator<?, String> validator, String type)
+	{
+		return mustBe(validator, "an " + type + " address");
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param type      the type that the value must be parsable as (e.g. "a long")
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder isParsableAs(AbstractValidator<?, String> validator, String type)
+	{
+		return mustBe(validator, "parsable as " + type);
+	}
+
+	/**
+	 * @param validator   the validator
+	 * @param description a description of the format that the value must have
+	 * @return a message for the validation failure
+	 */
+	private static MessageBuilder mustBe(AbstractValidator<?, String> validator, String description)
+	{
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " must be " + description + ".");
 		String value = validator.getValueOrDefault(null);
 		if (value != null)
 			messageBuilder.withContext(value, name);
 		return messageBuilder;
 	}
-}
\ No newline at end of file
+}
@@ -4,9 +4,12 @@
  */
 package io.github.cowwoc.requirements12.java.internal.message;
 
+import io.github.cowwoc.requirements12.java.internal.StringMappers;
 import io.github.cowwoc.requirements12.java.internal.message.section.MessageBuilder;
 import io.github.cowwoc.requirements12.java.internal.validator.AbstractValidator;
 
+import java.util.List;
+
 /**
  * Generates failure messages for URIs.
  */
@@ -24,4 +27,70 @@ public final class UriMessages
 	{
 		return ValidatorMessages.constraintFailed(validator, "must be an absolute URI");
 	}
-}
\ No newline at end of file
+
+	/**
+	 * @param validator the validator
+	 * @return a message indicating that the validation failed
+	 */
+	public static MessageBuilder isUri(AbstractValidator<?, ?> validator)
+	{
+		return ValidatorMessages.constraintFailed(validator, "must be a URI");
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param schemes   the schemes that the URI may have
+	 * @return a message indicating that the validation failed
+	 */
+	public static MessageBuilder hasScheme(AbstractValidator<?, ?> validator, List<String> schemes)
+	{
+		StringMappers stringMappers = validator.configuration().stringMappers();
+		return ValidatorMessages.constraintFailed(validator, "must have one of the schemes " +
+			stringMappers.toString(schemes));
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param hosts     the hosts that the URI may have
+	 * @return a message indicating that the validation failed
+	 */
+	public static MessageBuilder hasHost(AbstractValidator<?, ?> validator, List<String> hosts)
+	{
+		StringMappers stringMappers = validator.configuration().stringMappers();
+		return ValidatorMessages.constraintFailed(validator, "must have one of the hosts " +
+			stringMappers.toString(hosts));
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param minimum   the minimum port (inclusive)
+	 * @param maximum   the maximum port (inclusive)
+	 * @return a message indicating that the validation failed
+	 */
+	public static MessageBuilder hasPort(AbstractValidator<?, ?> validator, int minimum, int maximum)
+	{
+		return ValidatorMessages.constraintFailed(validator, "must have a port between " + minimum + " and " +
+			maximum + " (inclusive)");
+	}
+
+	/**
+	 * @param validator the validator
+	 * @param prefix    the string that the path must start with
+	 * @return a message indicating that the validation failed
+	 */
+	public static MessageBuilder hasPathPrefix(AbstractValidator<?, ?> validator, String prefix)
+	{
+		StringMappers stringMappers = validator.configuration().stringMappers();
+		return ValidatorMessages.constraintFailed(validator, "must have a path that starts with " +
+			stringMappers.toString(prefix));
+	}
+
+	/**
+	 * @param validator the validator
+	 * @return a message indicating that the validation failed
+	 */
+	public static MessageBuilder doesNotContainUserInfo(AbstractValidator<?, ?> validator)
+	{
+		return ValidatorMessages.constraintFailed(validator, "may not contain user information");
+	}
+}
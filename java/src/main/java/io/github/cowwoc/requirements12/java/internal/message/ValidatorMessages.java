@@ -8,6 +8,7 @@ import io.github.cowwoc.requirements12.java.internal.StringMappers;
 import io.github.cowwoc.requirements12.java.internal.message.section.MessageBuilder;
 import io.github.cowwoc.requirements12.java.internal.validator.AbstractValidator;
 
+import java.util.HexFormat;
 import java.util.Objects;
 
 import static io.github.cowwoc.requirements12.java.internal.message.section.MessageBuilder.quoteName;
@@ -57,10 +58,26 @@ public final class ValidatorMessages
 		StringMappers stringMappers = validator.configuration().stringMappers();
 		String name = validator.getName();
 		Object value = validator.getValueOrDefault(null);
+		MismatchWindows mismatchWindows = MismatchWindows.of(value, expected);
+		if (mismatchWindows != null)
+		{
+			// 1. Both values are large primitive arrays. Only the elements around each mismatch are rendered.
+			//
+			//    "actual" had an unexpected value.
+			//    actual.length           : 1048576
+			//    expected.length         : 1048576
+			//    mismatch                : 524288
+			//    mismatchCount           : 1
+			//    actual[524280..524296]  : [0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0]
+			//    expected[524280..524296]: [0, 0, 0, 0, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 0]
+			String resolvedExpectedName = Objects.requireNonNullElse(expectedName, "expected");
+			return mismatchWindows.addTo(new MessageBuilder(validator,
+				quoteName(name) + " had an unexpected value."), name, resolvedExpectedName);
+		}
 		if (value == null || diffIsUnnecessary(value, stringMappers) ||
 			diffIsUnnecessary(expected, stringMappers))
 		{
-			// 1. One of the values is short and simple enough to make a diff unnecessary.
+			// 2. One of the values is short and simple enough to make a diff unnecessary.
 			//
 			//     "actual" must be equal to "expected".
 			//     actual  : 123
@@ -75,7 +92,7 @@ public final class ValidatorMessages
 			return messageBuilder;
 		}
 
-		// 2. Both values are long and/or complex.
+		// 3. Both values are long and/or complex.
 		//
 		//    "actual" had an unexpected value.
 		//
@@ -120,4 +137,28 @@ public final class ValidatorMessages
 			messageBuilder.withContext(unwanted, unwantedName);
 		return messageBuilder;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * @param validator the validator
+	 * @param algorithm the name of the checksum algorithm
+	 * @param expected  the expected checksum
+	 * @param actual    the actual checksum ({@code null} if undefined)
+	 * @return a message for the validation failure
+	 */
+	public static MessageBuilder hasChecksumFailed(AbstractValidator<?, ?> validator, String algorithm,
+		byte[] expected, byte[] actual)
+	{
+		// "actual" must have a SHA-256 checksum of 9f86d081884c7d65....
+		// checksum: 2c26b46b68ffc68f...
+		String name = validator.getName();
+		MessageBuilder messageBuilder = new MessageBuilder(validator,
+			quoteName(name) + " must have a " + algorithm + " checksum of " +
+				HexFormat.of().formatHex(expected) + ".");
+		if (actual != null)
+		{
+			messageBuilder.withContext(new UnquotedStringValue(HexFormat.of().formatHex(actual)),
+				"checksum");
+		}
+		return messageBuilder;
+	}
+}
@@ -5,8 +5,6 @@
 
 package io.github.cowwoc.requirements12.java.internal.message.section;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map.Entry;
 import java.util.SequencedMap;
 
@@ -31,26 +29,63 @@ public record ContextSection(SequencedMap<String, String> value) implements Mess
 	}
 
 	@Override
-	public List<String> getLinesWithPaddedKeys(int maxKeyLength)
+	public int getLineCount()
 	{
-		// Align the colons vertically
-		List<String> lines = new ArrayList<>();
+		return value.size();
+	}
+
+	@Override
+	public int getLength(int maxKeyLength)
+	{
+		if (value.isEmpty())
+			return 0;
+		// Count the newlines between the lines
+		int length = value.size() - 1;
+		for (Entry<String, String> entry : value.entrySet())
+			length += getLineLength(entry.getKey(), entry.getValue(), maxKeyLength);
+		return length;
+	}
+
+	@Override
+	public void appendTo(StringBuilder target, int maxKeyLength)
+	{
+		boolean firstLine = true;
 		for (Entry<String, String> entry : value.entrySet())
-			lines.add(alignLeft(entry.getKey(), maxKeyLength) + ": " + entry.getValue());
-		return lines;
+		{
+			if (firstLine)
+				firstLine = false;
+			else
+				target.append('\n');
+			appendLine(target, entry.getKey(), entry.getValue(), maxKeyLength);
+		}
+	}
+
+	/**
+	 * @param key          the key of the line
+	 * @param value        the value of the line
+	 * @param maxKeyLength the maximum key length across all sections
+	 * @return the number of characters that {@link #appendLine(StringBuilder, String, String, int)} appends
+	 */
+	static int getLineLength(String key, String value, int maxKeyLength)
+	{
+		return Math.max(key.length(), maxKeyLength) + ": ".length() + value.length();
 	}
 
 	/**
-	 * @param text      the {@code String} to align
-	 * @param minLength the minimum length of {@code text}
-	 * @return {@code text} padded on the right with spaces until its length is greater than or equal to
-	 * {@code minLength}
+	 * Appends a key-value pair, padding the key on the right with spaces until its length is greater than or
+	 * equal to {@code maxKeyLength}.
+	 *
+	 * @param target       the builder to append to
+	 * @param key          the key of the line
+	 * @param value        the value of the line
+	 * @param maxKeyLength the maximum key length across all sections
 	 */
-	private static String alignLeft(String text, int minLength)
+	static void appendLine(StringBuilder target, String key, String value, int maxKeyLength)
 	{
-		int actualLength = text.length();
-		if (actualLength > minLength)
-			return text;
-		return text + " ".repeat(minLength - actualLength);
+		// Align the colons vertically
+		target.append(key);
+		for (int i = key.length(); i < maxKeyLength; ++i)
+			target.append(' ');
+		target.append(": ").append(value);
 	}
 }
\ No newline at end of file
@@ -15,8 +15,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.SequencedMap;
-import java.util.StringJoiner;
 
 /**
  * Builds an exception message.
@@ -126,22 +124,6 @@ public final class MessageBuilder
 		return this;
 	}
 
-	/**
-	 * @return the contextual information associated with a validation failure
-	 */
-	private ContextSection getValidatorContext()
-	{
-		Map<String, Optional<Object>> mergedContext = new LinkedHashMap<>(failureContext);
-		for (Entry<String, Optional<Object>> entry : validator.getContext().entrySet())
-			mergedContext.putIfAbsent(entry.getKey(), entry.getValue());
-
-		StringMappers stringMappers = validator.configuration().stringMappers();
-		SequencedMap<String, String> contextAsString = new LinkedHashMap<>();
-		for (Entry<String, Optional<Object>> entry : mergedContext.entrySet())
-			contextAsString.put(entry.getKey(), stringMappers.toString(entry.getValue().orElse(null)));
-		return new ContextSection(contextAsString);
-	}
-
 	/**
 	 * Quotes the name of a parameter, unless it references a method call.
 	 *
@@ -158,65 +140,83 @@ public final class MessageBuilder
 	@Override
 	public String toString()
 	{
-		List<MessageSection> context = new ArrayList<>();
-		addValidatorContextToContext(context);
-		addDiffToContext(context);
-		addExceptionMessageToContext(context);
-		return toString(context);
-	}
-
-	private void addDiffToContext(List<MessageSection> context)
-	{
-		if (diff.isEmpty())
-			return;
-		if (!context.isEmpty() || !message.isEmpty())
+		// Convert the context to strings. Entries of the failure context take precedence over the validator's.
+		Map<String, Optional<Object>> validatorContext = validator.getContextView();
+		int maxContextSize = failureContext.size() + validatorContext.size();
+		String[] contextKeys = new String[maxContextSize];
+		String[] contextValues = new String[maxContextSize];
+		int contextSize = 0;
+		StringMappers stringMappers = validator.configuration().stringMappers();
+		for (Entry<String, Optional<Object>> entry : failureContext.entrySet())
 		{
-			// Add an extra newline in front of the diff
-			context.add(new StringSection(""));
+			contextKeys[contextSize] = entry.getKey();
+			contextValues[contextSize] = stringMappers.toString(entry.getValue().orElse(null));
+			++contextSize;
 		}
-		context.addAll(diff);
-	}
-
-	private void addValidatorContextToContext(List<MessageSection> context)
-	{
-		ContextSection validatorContext = getValidatorContext();
-		if (!validatorContext.value().isEmpty())
-			context.add(validatorContext);
-	}
+		for (Entry<String, Optional<Object>> entry : validatorContext.entrySet())
+		{
+			if (failureContext.containsKey(entry.getKey()))
+				continue;
+			contextKeys[contextSize] = entry.getKey();
+			contextValues[contextSize] = stringMappers.toString(entry.getValue().orElse(null));
+			++contextSize;
+		}
+		String updatedMessage = getUpdatedMessage(contextSize == 0 && diff.isEmpty());
+		// Add an extra newline in front of the diff
+		boolean separateDiff = !diff.isEmpty() && (contextSize > 0 || !message.isEmpty());
 
-	private String toString(List<MessageSection> context)
-	{
+		// Measure the message so that the builder is only allocated once
 		int maxKeyLength = 0;
-		for (MessageSection section : context)
+		for (int i = 0; i < contextSize; ++i)
+			maxKeyLength = Math.max(maxKeyLength, contextKeys[i].length());
+		for (MessageSection section : diff)
 			maxKeyLength = Math.max(maxKeyLength, section.getMaxKeyLength());
 
-		StringJoiner lines = new StringJoiner("\n");
-		for (MessageSection section : context)
+		int length = updatedMessage.length();
+		for (int i = 0; i < contextSize; ++i)
+			length += 1 + ContextSection.getLineLength(contextKeys[i], contextValues[i], maxKeyLength);
+		if (separateDiff)
+			++length;
+		for (MessageSection section : diff)
 		{
-			for (String line : section.getLinesWithPaddedKeys(maxKeyLength))
-				lines.add(line);
+			if (section.getLineCount() > 0)
+				length += 1 + section.getLength(maxKeyLength);
 		}
-		return lines.toString();
-	}
 
-	private void addExceptionMessageToContext(List<MessageSection> context)
-	{
-		if (message == null)
-			return;
-		String updatedMessage;
-		if (context.isEmpty() && !message.contains("\n"))
+		StringBuilder result = new StringBuilder(length);
+		result.append(updatedMessage);
+		for (int i = 0; i < contextSize; ++i)
 		{
-			assert !message.isEmpty();
-			assert message.endsWith(".") : message;
-
-			// Strip the period from the end of single-line messages, unless it contains a comma.
-			if (message.contains(","))
-				updatedMessage = message;
-			else
-				updatedMessage = message.substring(0, message.length() - 1);
+			result.append('\n');
+			ContextSection.appendLine(result, contextKeys[i], contextValues[i], maxKeyLength);
 		}
-		else
-			updatedMessage = message;
-		context.addFirst(new StringSection(updatedMessage));
+		if (separateDiff)
+			result.append('\n');
+		for (MessageSection section : diff)
+		{
+			if (section.getLineCount() == 0)
+				continue;
+			result.append('\n');
+			section.appendTo(result, maxKeyLength);
+		}
+		assert result.length() == length : "Expected: " + length + ", actual: " + result.length();
+		return result.toString();
+	}
+
+	/**
+	 * @param standalone {@code true} if the message is not followed by any context
+	 * @return the exception message to display
+	 */
+	private String getUpdatedMessage(boolean standalone)
+	{
+		if (!standalone || message.contains("\n"))
+			return message;
+		assert !message.isEmpty();
+		assert message.endsWith(".") : message;
+
+		// Strip the period from the end of single-line messages, unless it contains a comma.
+		if (message.contains(","))
+			return message;
+		return message.substring(0, message.length() - 1);
 	}
-}
\ No newline at end of file
+}
@@ -4,8 +4,6 @@
  */
 package io.github.cowwoc.requirements12.java.internal.message.section;
 
-import java.util.List;
-
 /**
  * A section of text that contains contextual information related to a validation failure.
  */
@@ -18,8 +16,22 @@ public sealed interface MessageSection permits ContextSection, StringSection
 	int getMaxKeyLength();
 
 	/**
+	 * @return the number of lines in this section
+	 */
+	int getLineCount();
+
+	/**
+	 * @param maxKeyLength the maximum key length across all sections
+	 * @return the number of characters that {@link #appendTo(StringBuilder, int)} appends
+	 */
+	int getLength(int maxKeyLength);
+
+	/**
+	 * Appends this section's lines, separated by newlines, with the keys padded to fill {@code maxKeyLength}
+	 * characters.
+	 *
+	 * @param target       the builder to append to
 	 * @param maxKeyLength the maximum key length across all sections
-	 * @return this section's lines, with the keys padded to fill {@code maxKeyLength} characters
 	 */
-	List<String> getLinesWithPaddedKeys(int maxKeyLength);
-}
\ No newline at end of file
+	void appendTo(StringBuilder target, int maxKeyLength);
+}
@@ -5,8 +5,6 @@
 
 package io.github.cowwoc.requirements12.java.internal.message.section;
 
-import java.util.List;
-
 /**
  * A string that is added to the exception context.
  */
@@ -25,8 +23,20 @@ public record StringSection(String value) implements MessageSection
 	}
 
 	@Override
-	public List<String> getLinesWithPaddedKeys(int maxKeyLength)
+	public int getLineCount()
+	{
+		return 1;
+	}
+
+	@Override
+	public int getLength(int maxKeyLength)
+	{
+		return value.length();
+	}
+
+	@Override
+	public void appendTo(StringBuilder target, int maxKeyLength)
 	{
-		return List.of(value);
+		target.append(value);
 	}
 }
\ No newline at end of file
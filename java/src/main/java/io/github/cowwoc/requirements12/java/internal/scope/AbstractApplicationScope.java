@@ -11,6 +11,7 @@ import io.github.cowwoc.requirements12.java.GlobalConfiguration;
 import io.github.cowwoc.requirements12.java.JavaValidators;
 import io.github.cowwoc.requirements12.java.internal.Configuration;
 import io.github.cowwoc.requirements12.java.internal.terminal.Terminal;
+import io.github.cowwoc.requirements12.java.internal.util.PatternCache;
 import io.github.cowwoc.requirements12.java.internal.validator.JavaValidatorsImpl;
 import io.github.cowwoc.requirements12.java.internal.validator.MutableConfiguration;
 
@@ -57,6 +58,12 @@ public abstract class AbstractApplicationScope extends AbstractScope
 		return parent.getTerminal();
 	}
 
+	@Override
+	public PatternCache getPatternCache()
+	{
+		return parent.getPatternCache();
+	}
+
 	@Override
 	public JavaValidators getInternalValidators()
 	{
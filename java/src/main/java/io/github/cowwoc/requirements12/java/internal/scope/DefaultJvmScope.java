@@ -6,6 +6,7 @@ package io.github.cowwoc.requirements12.java.internal.scope;
 
 import io.github.cowwoc.pouch.core.AbstractScope;
 import io.github.cowwoc.requirements12.java.internal.terminal.Terminal;
+import io.github.cowwoc.requirements12.java.internal.util.PatternCache;
 
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -27,6 +28,7 @@ public final class DefaultJvmScope extends AbstractScope
 	 */
 	public static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
 	private final Terminal terminal = new Terminal();
+	private final PatternCache patternCache = new PatternCache(PatternCache.DEFAULT_MAXIMUM_SIZE);
 	private final AtomicBoolean closed = new AtomicBoolean();
 
 	private DefaultJvmScope()
@@ -39,6 +41,12 @@ public final class DefaultJvmScope extends AbstractScope
 		return terminal;
 	}
 
+	@Override
+	public PatternCache getPatternCache()
+	{
+		return patternCache;
+	}
+
 	@Override
 	public boolean isClosed()
 	{
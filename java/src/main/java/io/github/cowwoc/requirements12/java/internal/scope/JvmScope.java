@@ -6,6 +6,7 @@ package io.github.cowwoc.requirements12.java.internal.scope;
 
 import io.github.cowwoc.pouch.core.Scope;
 import io.github.cowwoc.requirements12.java.internal.terminal.Terminal;
+import io.github.cowwoc.requirements12.java.internal.util.PatternCache;
 
 /**
  * Values specific to the lifetime of a JVM.
@@ -19,6 +20,11 @@ public interface JvmScope extends Scope
 	 */
 	Terminal getTerminal();
 
+	/**
+	 * @return the compiled regular expressions that are shared by all validators
+	 */
+	PatternCache getPatternCache();
+
 	@Override
 	void close();
 }
\ No newline at end of file
@@ -27,7 +27,7 @@ public final class MainApplicationScope extends AbstractApplicationScope
 	 */
 	private MainApplicationScope(JvmScope parent)
 	{
-		super(parent, new MainGlobalConfiguration(parent.getTerminal()));
+		super(parent, new MainGlobalConfiguration(parent.getTerminal(), parent.getPatternCache()));
 		parent.addChild(this);
 	}
 
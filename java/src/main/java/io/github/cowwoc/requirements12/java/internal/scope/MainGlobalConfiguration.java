@@ -7,6 +7,7 @@ package io.github.cowwoc.requirements12.java.internal.scope;
 import io.github.cowwoc.requirements12.java.GlobalConfiguration;
 import io.github.cowwoc.requirements12.java.TerminalEncoding;
 import io.github.cowwoc.requirements12.java.internal.terminal.Terminal;
+import io.github.cowwoc.requirements12.java.internal.util.PatternCache;
 
 import java.util.Set;
 
@@ -16,15 +17,19 @@ import java.util.Set;
 public final class MainGlobalConfiguration implements GlobalConfiguration
 {
 	private final Terminal terminal;
+	private final PatternCache patternCache;
 
 	/**
-	 * @param terminal the system configuration
-	 * @throws AssertionError if {@code terminal} is null
+	 * @param terminal     the system configuration
+	 * @param patternCache the compiled regular expressions that are shared by all validators
+	 * @throws AssertionError if any of the arguments are null
 	 */
-	public MainGlobalConfiguration(Terminal terminal)
+	public MainGlobalConfiguration(Terminal terminal, PatternCache patternCache)
 	{
 		assert terminal != null;
+		assert patternCache != null;
 		this.terminal = terminal;
+		this.patternCache = patternCache;
 	}
 
 	@Override
@@ -48,10 +53,37 @@ public final class MainGlobalConfiguration implements GlobalConfiguration
 		return this;
 	}
 
+	@Override
+	public int patternCacheSize()
+	{
+		return patternCache.getMaximumSize();
+	}
+
+	@Override
+	public GlobalConfiguration patternCacheSize(int size)
+	{
+		if (size < 0)
+			throw new IllegalArgumentException("size may not be negative.\nactual: " + size);
+		patternCache.setMaximumSize(size);
+		return this;
+	}
+
+	@Override
+	public long patternCacheHits()
+	{
+		return patternCache.getHits();
+	}
+
+	@Override
+	public long patternCacheMisses()
+	{
+		return patternCache.getMisses();
+	}
+
 	@Override
 	public String toString()
 	{
 		return "MainGlobalConfiguration[supportedTerminalEncodings=" + supportedTerminalEncodings() +
-			", terminalEncoding=" + terminalEncoding() + "]";
+			", terminalEncoding=" + terminalEncoding() + ", patternCache=" + patternCache + "]";
 	}
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Searches the remaining bytes of a {@code ByteBuffer} in place.
+ * <p>
+ * Buffers are read using absolute indexes, so their position, limit and mark are left unchanged. Offsets are
+ * relative to the buffer's position.
+ */
+public final class ByteBuffers
+{
+	private ByteBuffers()
+	{
+	}
+
+	/**
+	 * Returns the offset at which the remaining bytes of a buffer stop matching a prefix.
+	 *
+	 * @param buffer a buffer
+	 * @param prefix the bytes that the buffer must start with
+	 * @return the offset of the first byte that does not match, the number of remaining bytes if the buffer is
+	 * 	shorter than the prefix, or {@code -1} if the buffer starts with the prefix
+	 */
+	public static int mismatch(ByteBuffer buffer, byte[] prefix)
+	{
+		int length = Math.min(buffer.remaining(), prefix.length);
+		int mismatch = buffer.slice(buffer.position(), length).mismatch(ByteBuffer.wrap(prefix, 0, length));
+		if (mismatch != -1)
+			return mismatch;
+		if (length < prefix.length)
+			return length;
+		return -1;
+	}
+
+	/**
+	 * Returns the offset of the first occurrence of a sequence of bytes in the remaining bytes of a buffer.
+	 *
+	 * @param buffer  a buffer
+	 * @param pattern the bytes to search for
+	 * @return the offset of the first occurrence, or {@code -1} if the buffer does not contain the pattern
+	 */
+	public static int indexOf(ByteBuffer buffer, byte[] pattern)
+	{
+		int start = buffer.position();
+		if (pattern.length == 0)
+			return 0;
+		// The absolute index of the last byte that may start a match
+		int last = buffer.limit() - pattern.length;
+		byte first = pattern[0];
+		long firstInEveryByte = (first & 0xFFL) * FileContents.ONES;
+		ByteBuffer wrappedPattern = ByteBuffer.wrap(pattern);
+		int i = start;
+		while (i <= last)
+		{
+			// Skip eight bytes at a time until one of them matches the first byte of the pattern. The byte
+			// order of the buffer does not affect whether a word contains a match.
+			if (i + Long.BYTES <= last + 1 &&
+				FileContents.getZeroBytes(buffer.getLong(i) ^ firstInEveryByte) == 0)
+			{
+				i += Long.BYTES;
+				continue;
+			}
+			if (buffer.get(i) == first &&
+				buffer.slice(i, pattern.length).mismatch(wrappedPattern) == -1)
+			{
+				return i - start;
+			}
+			++i;
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.util;
+
+/**
+ * Inspects a {@code CharSequence} through its interface methods, without converting it to a {@code String}.
+ */
+public final class CharSequences
+{
+	private CharSequences()
+	{
+	}
+
+	/**
+	 * Indicates if a region of a sequence is equal to a String.
+	 *
+	 * @param value  a sequence
+	 * @param offset the index of the first character of the region
+	 * @param other  the String to compare to
+	 * @return {@code true} if the region is equal to {@code other}, or {@code false} if it differs or extends
+	 * 	past the end of the sequence
+	 */
+	public static boolean regionMatches(CharSequence value, int offset, String other)
+	{
+		int otherLength = other.length();
+		if (offset < 0 || offset > value.length() - otherLength)
+			return false;
+		for (int i = 0; i < otherLength; ++i)
+		{
+			if (value.charAt(offset + i) != other.charAt(i))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Indicates if a sequence starts with a prefix.
+	 *
+	 * @param value  a sequence
+	 * @param prefix the prefix
+	 * @return {@code true} if the sequence starts with {@code prefix}
+	 */
+	public static boolean startsWith(CharSequence value, String prefix)
+	{
+		return regionMatches(value, 0, prefix);
+	}
+
+	/**
+	 * Indicates if a sequence ends with a suffix.
+	 *
+	 * @param value  a sequence
+	 * @param suffix the suffix
+	 * @return {@code true} if the sequence ends with {@code suffix}
+	 */
+	public static boolean endsWith(CharSequence value, String suffix)
+	{
+		return regionMatches(value, value.length() - suffix.length(), suffix);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of a String in a sequence.
+	 *
+	 * @param value  a sequence
+	 * @param target the String to search for
+	 * @return the index of the first occurrence, or {@code -1} if the sequence does not contain {@code target}
+	 */
+	public static int indexOf(CharSequence value, String target)
+	{
+		if (value instanceof String string)
+			return string.indexOf(target);
+		int targetLength = target.length();
+		if (targetLength == 0)
+			return 0;
+		char first = target.charAt(0);
+		int last = value.length() - targetLength;
+		for (int i = 0; i <= last; ++i)
+		{
+			// Only compare the rest of the target at indexes that match its first character
+			if (value.charAt(i) == first && regionMatches(value, i, target))
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Indicates if a sequence is empty or contains only {@link Character#isWhitespace(int) whitespace}
+	 * codepoints.
+	 *
+	 * @param value a sequence
+	 * @return {@code true} if the sequence is blank
+	 */
+	public static boolean isBlank(CharSequence value)
+	{
+		return indexOfWhitespace(value, false) == -1;
+	}
+
+	/**
+	 * Indicates if a sequence contains any {@link Character#isWhitespace(int) whitespace} codepoints.
+	 *
+	 * @param value a sequence
+	 * @return {@code true} if the sequence contains whitespace
+	 */
+	public static boolean containsWhitespace(CharSequence value)
+	{
+		return indexOfWhitespace(value, true) != -1;
+	}
+
+	/**
+	 * @param value      a sequence
+	 * @param whitespace {@code true} to search for a whitespace codepoint, {@code false} to search for a
+	 *                   non-whitespace codepoint
+	 * @return the index of the first matching codepoint, or {@code -1} if there is no match
+	 */
+	private static int indexOfWhitespace(CharSequence value, boolean whitespace)
+	{
+		int length = value.length();
+		int i = 0;
+		while (i < length)
+		{
+			int codepoint = Character.codePointAt(value, i);
+			if (Character.isWhitespace(codepoint) == whitespace)
+				return i;
+			i += Character.charCount(codepoint);
+		}
+		return -1;
+	}
+
+	/**
+	 * Indicates if a sequence has no leading or trailing whitespace, where whitespace is defined by
+	 * {@link String#trim()}.
+	 *
+	 * @param value a sequence
+	 * @return {@code true} if the sequence is trimmed
+	 */
+	public static boolean isTrimmed(CharSequence value)
+	{
+		int length = value.length();
+		if (length == 0)
+			return true;
+		return value.charAt(0) > ' ' && value.charAt(length - 1) > ' ';
+	}
+
+	/**
+	 * Indicates if a sequence has no leading or trailing whitespace, where whitespace is defined by
+	 * {@link String#strip()}.
+	 *
+	 * @param value a sequence
+	 * @return {@code true} if the sequence is stripped
+	 */
+	public static boolean isStripped(CharSequence value)
+	{
+		int length = value.length();
+		if (length == 0)
+			return true;
+		return !Character.isWhitespace(Character.codePointAt(value, 0)) &&
+			!Character.isWhitespace(Character.codePointBefore(value, length));
+	}
+}
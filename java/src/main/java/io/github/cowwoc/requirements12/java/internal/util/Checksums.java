@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * Computes checksums and message digests without copying the input.
+ * <p>
+ * The {@link Checksum} algorithms {@code CRC32}, {@code CRC32C} and {@code Adler32} are supported, along with
+ * any {@link MessageDigest} algorithm that is available to the JVM, such as {@code SHA-256}. The value of a
+ * {@code Checksum} is returned as four big-endian bytes.
+ * <p>
+ * Providers are looked up once per algorithm; later computations clone a prototype digest instead. Files are
+ * read into direct buffers that are borrowed from a small shared pool, so that neither platform nor virtual
+ * threads pin native memory between validations.
+ */
+public final class Checksums
+{
+	/**
+	 * The number of bytes to read from a file at a time.
+	 */
+	private static final int CHUNK_SIZE = 64 * 1024;
+	/**
+	 * Maps the uppercase name of a {@code Checksum} algorithm to a factory that creates instances of it.
+	 */
+	private static final Map<String, Supplier<Checksum>> CHECKSUMS = Map.of(
+		"CRC32", CRC32::new,
+		"CRC32C", CRC32C::new,
+		"ADLER32", Adler32::new);
+	/**
+	 * The maximum number of idle read buffers that are retained for reuse.
+	 */
+	private static final int MAXIMUM_IDLE_BUFFERS = 4;
+	/**
+	 * Maps the uppercase name of an algorithm to a factory that creates hashers for it.
+	 */
+	private static final ConcurrentMap<String, HasherFactory> FACTORIES = new ConcurrentHashMap<>();
+	/**
+	 * Idle buffers that files are read into.
+	 */
+	private static final BlockingQueue<ByteBuffer> IDLE_BUFFERS =
+		new ArrayBlockingQueue<>(MAXIMUM_IDLE_BUFFERS);
+
+	private Checksums()
+	{
+	}
+
+	/**
+	 * Ensures that an algorithm is supported.
+	 *
+	 * @param algorithm the name of a {@code Checksum} or {@code MessageDigest} algorithm
+	 * @throws IllegalArgumentException if the algorithm is not supported
+	 */
+	public static void requireSupported(String algorithm)
+	{
+		getFactory(algorithm);
+	}
+
+	/**
+	 * Computes the checksum of an array.
+	 *
+	 * @param algorithm the name of a {@code Checksum} or {@code MessageDigest} algorithm
+	 * @param value     the array
+	 * @return the checksum
+	 * @throws IllegalArgumentException if the algorithm is not supported
+	 */
+	public static byte[] compute(String algorithm, byte[] value)
+	{
+		Hasher hasher = getFactory(algorithm).newHasher();
+		hasher.update(value, 0, value.length);
+		return hasher.finish();
+	}
+
+	/**
+	 * Computes the checksum of the remaining bytes of a buffer, without changing its position.
+	 *
+	 * @param algorithm the name of a {@code Checksum} or {@code MessageDigest} algorithm
+	 * @param value     the buffer
+	 * @return the checksum
+	 * @throws IllegalArgumentException if the algorithm is not supported
+	 */
+	public static byte[] compute(String algorithm, ByteBuffer value)
+	{
+		Hasher hasher = getFactory(algorithm).newHasher();
+		hasher.update(value.duplicate());
+		return hasher.finish();
+	}
+
+	/**
+	 * Computes the checksum of a file, reading it in fixed-size chunks.
+	 *
+	 * @param algorithm the name of a {@code Checksum} or {@code MessageDigest} algorithm
+	 * @param path      the file
+	 * @return the checksum
+	 * @throws IllegalArgumentException if the algorithm is not supported
+	 * @throws IOException              if an I/O error occurs while reading the file
+	 */
+	public static byte[] compute(String algorithm, Path path) throws IOException
+	{
+		Hasher hasher = getFactory(algorithm).newHasher();
+		ByteBuffer buffer = IDLE_BUFFERS.poll();
+		if (buffer == null)
+			buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			while (channel.read(buffer.clear()) != -1)
+				hasher.update(buffer.flip());
+			return hasher.finish();
+		}
+		finally
+		{
+			// Buffers that do not fit in the pool are released by the garbage collector
+			IDLE_BUFFERS.offer(buffer);
+		}
+	}
+
+	/**
+	 * @param algorithm the name of a {@code Checksum} or {@code MessageDigest} algorithm
+	 * @return the factory of hashers for the algorithm
+	 * @throws IllegalArgumentException if the algorithm is not supported
+	 */
+	private static HasherFactory getFactory(String algorithm)
+	{
+		// Algorithm names are case-insensitive, so normalize them to avoid caching duplicate factories
+		return FACTORIES.computeIfAbsent(algorithm.toUpperCase(Locale.ROOT), key -> createFactory(algorithm));
+	}
+
+	/**
+	 * @param algorithm the name of a {@code Checksum} or {@code MessageDigest} algorithm
+	 * @return a new factory
+	 * @throws IllegalArgumentException if the algorithm is not supported
+	 */
+	private static HasherFactory createFactory(String algorithm)
+	{
+		Supplier<Checksum> checksum = CHECKSUMS.get(algorithm.toUpperCase(Locale.ROOT));
+		if (checksum != null)
+			return () -> new ChecksumHasher(checksum.get());
+		MessageDigest prototype = getDigest(algorithm);
+		return () ->
+		{
+			try
+			{
+				return new DigestHasher((MessageDigest) prototype.clone());
+			}
+			catch (CloneNotSupportedException e)
+			{
+				return new DigestHasher(getDigest(algorithm));
+			}
+		};
+	}
+
+	/**
+	 * @param algorithm the name of a {@code MessageDigest} algorithm
+	 * @return a new digest
+	 * @throws IllegalArgumentException if the algorithm is not supported
+	 */
+	private static MessageDigest getDigest(String algorithm)
+	{
+		try
+		{
+			return MessageDigest.getInstance(algorithm);
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new IllegalArgumentException("algorithm is not supported.\n" +
+				"actual: " + algorithm, e);
+		}
+	}
+
+	/**
+	 * Creates hashers for an algorithm.
+	 */
+	@FunctionalInterface
+	private interface HasherFactory
+	{
+		/**
+		 * @return a hasher that is ready to accept input
+		 */
+		Hasher newHasher();
+	}
+
+	/**
+	 * Feeds bytes into a checksum or message digest.
+	 */
+	private sealed interface Hasher
+	{
+		/**
+		 * @param value  an array
+		 * @param offset the index of the first byte to consume
+		 * @param length the number of bytes to consume
+		 */
+		void update(byte[] value, int offset, int length);
+
+		/**
+		 * Consumes the remaining bytes of a buffer.
+		 *
+		 * @param value a buffer
+		 */
+		void update(ByteBuffer value);
+
+		/**
+		 * Returns the checksum of the bytes that were consumed.
+		 *
+		 * @return the checksum
+		 */
+		byte[] finish();
+	}
+
+	/**
+	 * Adapts a {@code MessageDigest}.
+	 *
+	 * @param digest the digest
+	 */
+	private record DigestHasher(MessageDigest digest) implements Hasher
+	{
+		@Override
+		public void update(byte[] value, int offset, int length)
+		{
+			digest.update(value, offset, length);
+		}
+
+		@Override
+		public void update(ByteBuffer value)
+		{
+			digest.update(value);
+		}
+
+		@Override
+		public byte[] finish()
+		{
+			return digest.digest();
+		}
+	}
+
+	/**
+	 * Adapts a 32-bit {@code Checksum}.
+	 *
+	 * @param checksum the checksum
+	 */
+	private record ChecksumHasher(Checksum checksum) implements Hasher
+	{
+		@Override
+		public void update(byte[] value, int offset, int length)
+		{
+			checksum.update(value, offset, length);
+		}
+
+		@Override
+		public void update(ByteBuffer value)
+		{
+			checksum.update(value);
+		}
+
+		@Override
+		public byte[] finish()
+		{
+			int value = (int) checksum.getValue();
+			checksum.reset();
+			return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+		}
+	}
+}
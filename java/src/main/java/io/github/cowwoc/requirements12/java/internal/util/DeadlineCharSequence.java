@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.util;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * A {@code CharSequence} that aborts regular expression matching once a deadline has passed.
+ * <p>
+ * {@code Matcher} cannot be interrupted, but it reads its input one character at a time. Catastrophic
+ * backtracking reads the same characters over and over, so checking the clock every few thousand reads bounds
+ * the amount of time that a match can take.
+ */
+public final class DeadlineCharSequence implements CharSequence
+{
+	/**
+	 * The number of character reads between checks of the clock. Must be a power of two.
+	 */
+	private static final int READS_PER_CHECK = 4096;
+	private final CharSequence delegate;
+	private final Budget budget;
+
+	/**
+	 * @param delegate the input
+	 * @param budget   the time budget that is shared by this sequence and its subsequences
+	 */
+	private DeadlineCharSequence(CharSequence delegate, Budget budget)
+	{
+		assert delegate != null;
+		assert budget != null;
+		this.delegate = delegate;
+		this.budget = budget;
+	}
+
+	/**
+	 * Matches a regular expression against an input within a time budget.
+	 *
+	 * @param regex   the regular expression
+	 * @param input   the input
+	 * @param timeout the maximum amount of time that the match may take
+	 * @return the outcome of the match
+	 * @throws AssertionError if any of the arguments are null, or if {@code timeout} is not positive
+	 */
+	public static MatchOutcome matches(Pattern regex, CharSequence input, Duration timeout)
+	{
+		assert regex != null;
+		assert input != null;
+		assert timeout != null;
+		assert timeout.isPositive() : "timeout: " + timeout;
+		long timeoutInNanos;
+		try
+		{
+			timeoutInNanos = timeout.toNanos();
+		}
+		catch (ArithmeticException e)
+		{
+			timeoutInNanos = Long.MAX_VALUE;
+		}
+		DeadlineCharSequence sequence = new DeadlineCharSequence(input, new Budget(timeoutInNanos));
+		try
+		{
+			if (regex.matcher(sequence).matches())
+				return MatchOutcome.MATCH;
+			return MatchOutcome.MISMATCH;
+		}
+		catch (DeadlineExceededException e)
+		{
+			return MatchOutcome.TIMEOUT;
+		}
+	}
+
+	@Override
+	public int length()
+	{
+		return delegate.length();
+	}
+
+	@Override
+	public char charAt(int index)
+	{
+		budget.onRead();
+		return delegate.charAt(index);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end)
+	{
+		return new DeadlineCharSequence(delegate.subSequence(start, end), budget);
+	}
+
+	@Override
+	public String toString()
+	{
+		return delegate.toString();
+	}
+
+	/**
+	 * The outcome of a time-limited match.
+	 */
+	public enum MatchOutcome
+	{
+		/**
+		 * The input matched the regular expression.
+		 */
+		MATCH,
+		/**
+		 * The input did not match the regular expression.
+		 */
+		MISMATCH,
+		/**
+		 * The match did not complete before the deadline.
+		 */
+		TIMEOUT
+	}
+
+	/**
+	 * Tracks the time that a match has taken.
+	 */
+	private static final class Budget
+	{
+		private final long startTime = System.nanoTime();
+		private final long timeoutInNanos;
+		private int reads;
+
+		/**
+		 * @param timeoutInNanos the maximum amount of time that the match may take, in nanoseconds
+		 */
+		Budget(long timeoutInNanos)
+		{
+			this.timeoutInNanos = timeoutInNanos;
+		}
+
+		/**
+		 * Records a character read.
+		 *
+		 * @throws DeadlineExceededException if the deadline has passed
+		 */
+		void onRead()
+		{
+			++reads;
+			if ((reads & (READS_PER_CHECK - 1)) == 0 && System.nanoTime() - startTime > timeoutInNanos)
+				throw DeadlineExceededException.INSTANCE;
+		}
+	}
+
+	/**
+	 * Thrown when a match does not complete before its deadline.
+	 */
+	private static final class DeadlineExceededException extends RuntimeException
+	{
+		/**
+		 * The exception does not record a stack trace, so a single instance may be shared.
+		 */
+		static final DeadlineExceededException INSTANCE = new DeadlineExceededException();
+		private static final long serialVersionUID = 0L;
+
+		private DeadlineExceededException()
+		{
+			super(null, null, false, false);
+		}
+	}
+}
@@ -6,6 +6,7 @@ package io.github.cowwoc.requirements12.java.internal.util;
 
 import io.github.cowwoc.requirements12.java.MultipleFailuresException;
 import io.github.cowwoc.requirements12.java.ValidationFailure;
+import io.github.cowwoc.requirements12.java.internal.validator.ValidationFailureImpl;
 
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -87,17 +88,17 @@ public final class Exceptions
 		if (cause != null)
 			removeLibraryFromStackTrace(cause);
 
-		Throwable[] suppressedExceptions;
 		if (throwable instanceof MultipleFailuresException mfe)
 		{
-			List<ValidationFailure> nestedFailures = mfe.getFailures();
-			suppressedExceptions = new Throwable[nestedFailures.size()];
-			for (int i = 0; i < suppressedExceptions.length; ++i)
-				suppressedExceptions[i] = nestedFailures.get(i).getException();
+			for (ValidationFailure nestedFailure : mfe.getFailures())
+			{
+				// ValidationFailureImpl cleans the stack trace of its exception when it is created. Skip it to avoid
+				// creating exceptions that the user might never request.
+				if (!(nestedFailure instanceof ValidationFailureImpl))
+					removeLibraryFromStackTrace(nestedFailure.getException());
+			}
 		}
-		else
-			suppressedExceptions = throwable.getSuppressed();
-		for (Throwable suppressed : suppressedExceptions)
+		for (Throwable suppressed : throwable.getSuppressed())
 			removeLibraryFromStackTrace(suppressed);
 	}
 
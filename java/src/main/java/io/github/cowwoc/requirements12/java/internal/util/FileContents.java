@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Scans the contents of files without copying them onto the heap.
+ * <p>
+ * Files are memory-mapped in windows of at most {@value #WINDOW_SIZE} bytes, and each window is scanned eight
+ * bytes at a time where possible. Scans report the offset of the first byte that violates a constraint.
+ */
+public final class FileContents
+{
+	/**
+	 * The maximum number of bytes to map at a time.
+	 */
+	private static final int WINDOW_SIZE = 1 << 28;
+	/**
+	 * A long whose bytes are all {@code 0x01}.
+	 */
+	static final long ONES = 0x0101_0101_0101_0101L;
+	/**
+	 * A long whose bytes are all {@code 0x7F}.
+	 */
+	private static final long LOW_BITS = 0x7F7F_7F7F_7F7F_7F7FL;
+	/**
+	 * A long whose bytes are all {@code 0x80}.
+	 */
+	private static final long HIGH_BITS = 0x8080_8080_8080_8080L;
+
+	private FileContents()
+	{
+	}
+
+	/**
+	 * Returns the offset at which a file stops matching a prefix.
+	 *
+	 * @param path   a file
+	 * @param prefix the bytes that the file must start with
+	 * @return the offset of the first byte that does not match, the size of the file if it is shorter than the
+	 * 	prefix, or {@code -1} if the file starts with the prefix
+	 * @throws IOException if an I/O error occurs while reading the file
+	 */
+	public static long mismatch(Path path, byte[] prefix) throws IOException
+	{
+		// Reading a few bytes is cheaper than mapping them
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			ByteBuffer buffer = ByteBuffer.allocate(prefix.length);
+			while (buffer.hasRemaining() && channel.read(buffer) != -1)
+			{
+				// Keep reading until the buffer is full or the end of the file is reached
+			}
+			int length = buffer.position();
+			int mismatch = Arrays.mismatch(buffer.array(), 0, length, prefix, 0, prefix.length);
+			if (mismatch == -1)
+				return -1;
+			return mismatch;
+		}
+	}
+
+	/**
+	 * Returns the offset of the first occurrence of a byte in a file.
+	 *
+	 * @param path  a file
+	 * @param value the byte to search for
+	 * @return the offset of the first occurrence, or {@code -1} if the file does not contain the byte
+	 * @throws IOException if an I/O error occurs while reading the file
+	 */
+	public static long indexOf(Path path, byte value) throws IOException
+	{
+		return scan(path, new Scanner()
+		{
+			private final long pattern = (value & 0xFFL) * ONES;
+
+			@Override
+			public long scan(ByteBuffer window, long offset)
+			{
+				int length = window.limit();
+				int i = 0;
+				for (; i + Long.BYTES <= length; i += Long.BYTES)
+				{
+					long matches = getZeroBytes(window.getLong(i) ^ pattern);
+					if (matches != 0)
+						return offset + i + Long.numberOfTrailingZeros(matches) / 8;
+				}
+				for (; i < length; ++i)
+				{
+					if (window.get(i) == value)
+						return offset + i;
+				}
+				return -1;
+			}
+		});
+	}
+
+	/**
+	 * Returns the offset of the first line that exceeds a maximum number of lines. Lines are terminated by
+	 * {@code \n}; a final line without a terminator is also counted.
+	 *
+	 * @param path    a file
+	 * @param maximum the maximum number of lines
+	 * @return the offset of the first byte of line {@code maximum + 1}, or {@code -1} if the file contains at
+	 * 	most {@code maximum} lines
+	 * @throws IOException if an I/O error occurs while reading the file
+	 */
+	public static long getExcessLineOffset(Path path, long maximum) throws IOException
+	{
+		return scan(path, new Scanner()
+		{
+			private final long pattern = '\n' * ONES;
+			/**
+			 * The number of line terminators that were found.
+			 */
+			private long terminators;
+
+			@Override
+			public long scan(ByteBuffer window, long offset)
+			{
+				if (maximum == 0)
+					return 0;
+				int length = window.limit();
+				int i = 0;
+				for (; i + Long.BYTES <= length; i += Long.BYTES)
+				{
+					int count = Long.bitCount(getZeroBytes(window.getLong(i) ^ pattern));
+					if (terminators + count >= maximum)
+						break;
+					terminators += count;
+				}
+				for (; i < length; ++i)
+				{
+					if (window.get(i) == '\n')
+					{
+						++terminators;
+						if (terminators == maximum)
+						{
+							// Any byte after the last permitted terminator starts an excess line
+							long next = offset + i + 1;
+							if (next < getSize())
+								return next;
+							return -1;
+						}
+					}
+				}
+				return -1;
+			}
+		});
+	}
+
+	/**
+	 * Returns the offset of the first byte that is not part of a well-formed UTF-8 sequence, as defined by
+	 * <a href="https://www.rfc-editor.org/rfc/rfc3629#section-4">RFC 3629, section 4</a>. Overlong encodings,
+	 * surrogates and code points above {@code U+10FFFF} are rejected.
+	 *
+	 * @param path a file
+	 * @return the offset of the first byte of the first malformed sequence, or {@code -1} if the file is valid
+	 * 	UTF-8
+	 * @throws IOException if an I/O error occurs while reading the file
+	 */
+	public static long getMalformedUtf8Offset(Path path) throws IOException
+	{
+		return scan(path, new Scanner()
+		{
+			/**
+			 * The number of continuation bytes that the current sequence still needs.
+			 */
+			private int needed;
+			/**
+			 * The minimum value of the next continuation byte.
+			 */
+			private int lower = 0x80;
+			/**
+			 * The maximum value of the next continuation byte.
+			 */
+			private int upper = 0xBF;
+			/**
+			 * The offset of the first byte of the current sequence.
+			 */
+			private long sequenceStart;
+
+			@Override
+			public long scan(ByteBuffer window, long offset)
+			{
+				int length = window.limit();
+				int i = 0;
+				while (i < length)
+				{
+					if (needed == 0)
+					{
+						// Skip ASCII eight bytes at a time
+						while (i + Long.BYTES <= length && (window.getLong(i) & HIGH_BITS) == 0)
+							i += Long.BYTES;
+						if (i == length)
+							break;
+					}
+					int b = window.get(i) & 0xFF;
+					if (needed == 0)
+					{
+						sequenceStart = offset + i;
+						if (b < 0x80)
+						{
+							++i;
+							continue;
+						}
+						if (b >= 0xC2 && b <= 0xDF)
+							needed = 1;
+						else if (b >= 0xE0 && b <= 0xEF)
+						{
+							needed = 2;
+							if (b == 0xE0)
+								lower = 0xA0;
+							else if (b == 0xED)
+								upper = 0x9F;
+						}
+						else if (b >= 0xF0 && b <= 0xF4)
+						{
+							needed = 3;
+							if (b == 0xF0)
+								lower = 0x90;
+							else if (b == 0xF4)
+								upper = 0x8F;
+						}
+						else
+							return sequenceStart;
+					}
+					else
+					{
+						if (b < lower || b > upper)
+							return sequenceStart;
+						lower = 0x80;
+						upper = 0xBF;
+						--needed;
+					}
+					++i;
+				}
+				return -1;
+			}
+
+			@Override
+			public long finish()
+			{
+				if (needed != 0)
+					return sequenceStart;
+				return -1;
+			}
+		});
+	}
+
+	/**
+	 * Scans a file one window at a time.
+	 *
+	 * @param path    a file
+	 * @param scanner the scanner
+	 * @return the value returned by the scanner
+	 * @throws IOException if an I/O error occurs while reading the file
+	 */
+	private static long scan(Path path, Scanner scanner) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			long size = channel.size();
+			scanner.size = size;
+			for (long offset = 0; offset < size; offset += WINDOW_SIZE)
+			{
+				int length = (int) Math.min(WINDOW_SIZE, size - offset);
+				// The mapping is released when the buffer is garbage-collected
+				ByteBuffer window = channel.map(MapMode.READ_ONLY, offset, length).
+					order(ByteOrder.LITTLE_ENDIAN);
+				long result = scanner.scan(window, offset);
+				if (result != -1)
+					return result;
+			}
+			return scanner.finish();
+		}
+	}
+
+	/**
+	 * Returns the bytes of a word that are zero.
+	 *
+	 * @param word eight bytes
+	 * @return a word in which the high bit of each byte is set if the corresponding byte of {@code word} is
+	 * 	zero, and all other bits are clear
+	 */
+	static long getZeroBytes(long word)
+	{
+		// Unlike the classic (word - ONES) & ~word & HIGH_BITS, this does not produce false positives
+		long y = (word & LOW_BITS) + LOW_BITS;
+		return ~(y | word | LOW_BITS);
+	}
+
+	/**
+	 * Scans the windows of a file in order.
+	 */
+	private abstract static class Scanner
+	{
+		/**
+		 * The size of the file.
+		 */
+		private long size;
+
+		/**
+		 * Returns the size of the file.
+		 *
+		 * @return the size of the file
+		 */
+		protected long getSize()
+		{
+			return size;
+		}
+
+		/**
+		 * Scans a window.
+		 *
+		 * @param window the contents of the window, in little-endian order
+		 * @param offset the offset of the window in the file
+		 * @return the result of the scan, or {@code -1} to continue with the next window
+		 */
+		public abstract long scan(ByteBuffer window, long offset);
+
+		/**
+		 * Invoked after the last window has been scanned without producing a result.
+		 *
+		 * @return the result of the scan
+		 */
+		public long finish()
+		{
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.util;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+
+/**
+ * Scans IP address literals without consulting the name resolver.
+ * <p>
+ * IPv4 addresses must be in dotted-decimal form with exactly four octets and no leading zeros (e.g.
+ * {@code 192.168.0.1}). IPv6 addresses use the text representation of
+ * <a href="https://www.rfc-editor.org/rfc/rfc4291#section-2.2">RFC 4291, section 2.2</a>, including
+ * {@code ::} compression and a trailing IPv4 address (e.g. {@code ::ffff:192.168.0.1}), optionally followed by
+ * a {@code %zone} identifier.
+ */
+public final class IpAddresses
+{
+	private IpAddresses()
+	{
+	}
+
+	/**
+	 * Indicates if a String is an IPv4 address literal.
+	 *
+	 * @param value a String
+	 * @return {@code true} if the value is an IPv4 address
+	 */
+	public static boolean isIpV4(String value)
+	{
+		return parseIpV4(value, 0, value.length(), null, 0);
+	}
+
+	/**
+	 * Indicates if a String is an IPv6 address literal.
+	 *
+	 * @param value a String
+	 * @return {@code true} if the value is an IPv6 address
+	 */
+	public static boolean isIpV6(String value)
+	{
+		int zoneIndex = getZoneIndex(value);
+		if (zoneIndex == -2)
+			return false;
+		int end;
+		if (zoneIndex == -1)
+			end = value.length();
+		else
+			end = zoneIndex;
+		return parseIpV6(value, 0, end, null);
+	}
+
+	/**
+	 * Indicates if a range of a String is an IPv6 address literal without a zone.
+	 *
+	 * @param value a String
+	 * @param start the index of the first character of the address
+	 * @param end   the index after the last character of the address
+	 * @return {@code true} if the characters form an IPv6 address
+	 */
+	public static boolean isIpV6(String value, int start, int end)
+	{
+		return parseIpV6(value, start, end, null);
+	}
+
+	/**
+	 * Converts an IP address literal that does not have a zone to its raw bytes.
+	 *
+	 * @param value a String
+	 * @return a 4-byte array for IPv4 addresses, a 16-byte array for IPv6 addresses, or {@code null} if the
+	 * 	value is not an IP address literal or if it has a zone
+	 */
+	public static byte[] toBytes(String value)
+	{
+		if (value.indexOf(':') == -1)
+		{
+			byte[] address = new byte[4];
+			if (!parseIpV4(value, 0, value.length(), address, 0))
+				return null;
+			return address;
+		}
+		byte[] address = new byte[16];
+		if (!parseIpV6(value, 0, value.length(), address))
+			return null;
+		return address;
+	}
+
+	/**
+	 * Converts an IP address literal to an {@code InetAddress}.
+	 * <p>
+	 * Named zones are looked up using {@link NetworkInterface#getByName(String)}, which queries the local
+	 * network interfaces but not the name resolver.
+	 *
+	 * @param value a String
+	 * @return an invalid target if the value is not an IP address literal, or if it refers to a zone that does
+	 * 	not exist
+	 */
+	public static ValidationTarget<InetAddress> parse(String value)
+	{
+		try
+		{
+			int zoneIndex = getZoneIndex(value);
+			if (zoneIndex == -2)
+				return ValidationTarget.invalid();
+			if (zoneIndex == -1)
+			{
+				byte[] address = toBytes(value);
+				if (address == null)
+					return ValidationTarget.invalid();
+				// Like InetAddress.getByName(), IPv4-mapped addresses are converted to Inet4Address
+				return ValidationTarget.valid(InetAddress.getByAddress(address));
+			}
+			byte[] address = new byte[16];
+			if (!parseIpV6(value, 0, zoneIndex, address))
+				return ValidationTarget.invalid();
+			int scopeId = parseScopeId(value, zoneIndex + 1);
+			if (scopeId != -1)
+				return ValidationTarget.valid(Inet6Address.getByAddress(null, address, scopeId));
+			NetworkInterface networkInterface = NetworkInterface.getByName(value.substring(zoneIndex + 1));
+			if (networkInterface == null)
+				return ValidationTarget.invalid();
+			return ValidationTarget.valid(Inet6Address.getByAddress(null, address, networkInterface));
+		}
+		catch (UnknownHostException | SocketException e)
+		{
+			// The network interfaces could not be queried, or the interface does not have an IPv6 address
+			return ValidationTarget.invalid();
+		}
+	}
+
+	/**
+	 * Parses a dotted-decimal IPv4 address.
+	 *
+	 * @param value  a String
+	 * @param start  the index of the first character of the address
+	 * @param end    the index after the last character of the address
+	 * @param target (optional) the array to write the address into
+	 * @param offset the index in {@code target} to write the first octet into
+	 * @return {@code true} if the characters form an IPv4 address
+	 */
+	private static boolean parseIpV4(String value, int start, int end, byte[] target, int offset)
+	{
+		int i = start;
+		for (int octets = 0; octets < 4; ++octets)
+		{
+			if (octets > 0)
+			{
+				if (i == end || value.charAt(i) != '.')
+					return false;
+				++i;
+			}
+			int octetStart = i;
+			int octet = 0;
+			while (i < end && i - octetStart < 3)
+			{
+				int digit = value.charAt(i) - '0';
+				if (digit < 0 || digit > 9)
+					break;
+				octet = octet * 10 + digit;
+				++i;
+			}
+			int length = i - octetStart;
+			// Leading zeros are rejected because some parsers interpret them as octal
+			if (length == 0 || octet > 255 || (length > 1 && value.charAt(octetStart) == '0'))
+				return false;
+			if (target != null)
+				target[offset + octets] = (byte) octet;
+		}
+		return i == end;
+	}
+
+	/**
+	 * Parses the address portion of an IPv6 address.
+	 *
+	 * @param value  a String
+	 * @param start  the index of the first character of the address
+	 * @param end    the index after the last character of the address
+	 * @param target (optional) a 16-byte array to write the address into
+	 * @return {@code true} if the characters form an IPv6 address
+	 */
+	private static boolean parseIpV6(String value, int start, int end, byte[] target)
+	{
+		int i = start;
+		// The number of 16-bit groups that were parsed
+		int groups = 0;
+		// The number of groups that precede "::", or -1 if the address is not compressed
+		int compressedAt = -1;
+		if (end - start >= 2 && value.charAt(start) == ':' && value.charAt(start + 1) == ':')
+		{
+			compressedAt = 0;
+			i += 2;
+		}
+		while (i < end)
+		{
+			if (groups == 8)
+				return false;
+			int groupStart = i;
+			int group = 0;
+			while (i < end && i - groupStart < 4)
+			{
+				int digit = getHexValue(value.charAt(i));
+				if (digit == -1)
+					break;
+				group = (group << 4) | digit;
+				++i;
+			}
+			if (i < end && value.charAt(i) == '.')
+			{
+				// A trailing IPv4 address occupies the last two groups
+				if (groups > 6 || !parseIpV4(value, groupStart, end, target, groups * 2))
+					return false;
+				groups += 2;
+				break;
+			}
+			if (i == groupStart)
+				return false;
+			if (target != null)
+			{
+				target[groups * 2] = (byte) (group >>> 8);
+				target[groups * 2 + 1] = (byte) group;
+			}
+			++groups;
+			if (i == end)
+				break;
+			if (value.charAt(i) != ':')
+				return false;
+			++i;
+			if (i < end && value.charAt(i) == ':')
+			{
+				if (compressedAt != -1)
+					return false;
+				compressedAt = groups;
+				++i;
+			}
+			else if (i == end)
+				return false;
+		}
+		if (compressedAt == -1)
+			return groups == 8;
+		// "::" must stand for at least one group
+		if (groups == 8)
+			return false;
+		if (target != null)
+		{
+			int trailingBytes = (groups - compressedAt) * 2;
+			System.arraycopy(target, compressedAt * 2, target, 16 - trailingBytes, trailingBytes);
+			for (int j = compressedAt * 2; j < 16 - trailingBytes; ++j)
+				target[j] = 0;
+		}
+		return true;
+	}
+
+	/**
+	 * @param c a character
+	 * @return the value of the ASCII hexadecimal digit, or {@code -1} if the character is not one
+	 */
+	private static int getHexValue(char c)
+	{
+		if (c >= '0' && c <= '9')
+			return c - '0';
+		if (c >= 'a' && c <= 'f')
+			return c - 'a' + 10;
+		if (c >= 'A' && c <= 'F')
+			return c - 'A' + 10;
+		return -1;
+	}
+
+	/**
+	 * @param value a String
+	 * @return the index of the {@code %} that starts the zone, {@code -1} if there is no zone, or {@code -2} if
+	 * 	the zone is malformed
+	 */
+	private static int getZoneIndex(String value)
+	{
+		int zoneIndex = value.indexOf('%');
+		if (zoneIndex == -1)
+			return -1;
+		int length = value.length();
+		if (zoneIndex == length - 1)
+			return -2;
+		// RFC 6874: the zone consists of unreserved characters
+		for (int i = zoneIndex + 1; i < length; ++i)
+		{
+			char c = value.charAt(i);
+			if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' ||
+				c == '.' || c == '_' || c == '~'))
+			{
+				return -2;
+			}
+		}
+		return zoneIndex;
+	}
+
+	/**
+	 * @param value a String
+	 * @param start the index of the first character of the zone
+	 * @return the numeric scope ID, or {@code -1} if the zone is not a non-negative {@code int}
+	 */
+	private static int parseScopeId(String value, int start)
+	{
+		int length = value.length();
+		if (length - start > 10)
+			return -1;
+		long result = 0;
+		for (int i = start; i < length; ++i)
+		{
+			int digit = value.charAt(i) - '0';
+			if (digit < 0 || digit > 9)
+				return -1;
+			result = result * 10 + digit;
+		}
+		if (result > Integer.MAX_VALUE)
+			return -1;
+		return (int) result;
+	}
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.util;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Locale.Category;
+
+/**
+ * Formats numbers using the default locale's grouping separator.
+ * <p>
+ * The output is identical to that of {@code String.format("%,d", value)} and
+ * {@code String.format("%,f", value)}, but the locale's symbols are looked up once per locale instead of once
+ * per invocation, and no {@code Formatter} is allocated.
+ * <p>
+ * <b>Thread Safety</b>: This class is thread-safe.
+ */
+public final class NumberFormatter
+{
+	/**
+	 * The number of fraction digits that {@code %f} outputs.
+	 */
+	private static final int FRACTION_DIGITS = 6;
+	/**
+	 * Powers of ten that fit in a {@code long}.
+	 */
+	private static final long[] POWERS_OF_TEN =
+		{
+			1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+			10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+			1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+			1_000_000_000_000_000_000L
+		};
+	/**
+	 * The symbols of the most recently used locale.
+	 */
+	private static volatile Symbols symbols = Symbols.of(Locale.US);
+
+	private NumberFormatter()
+	{
+	}
+
+	/**
+	 * Returns the equivalent of {@code String.format("%,d", value)}.
+	 *
+	 * @param value a value
+	 * @return the formatted value
+	 */
+	public static String format(long value)
+	{
+		Symbols symbols = getSymbols();
+		if (symbols == null)
+			return String.format("%,d", value);
+
+		// Extract the digits using negative numbers to avoid overflowing on Long.MIN_VALUE
+		char[] digits = new char[19];
+		int start = digits.length;
+		long remaining = value;
+		if (remaining > 0)
+			remaining = -remaining;
+		do
+		{
+			digits[--start] = (char) ('0' - remaining % 10);
+			remaining /= 10;
+		}
+		while (remaining != 0);
+
+		StringBuilder result = new StringBuilder(27);
+		if (value < 0)
+			result.append('-');
+		symbols.append(result, digits, start, digits.length, digits.length);
+		return result.toString();
+	}
+
+	/**
+	 * Returns the equivalent of {@code String.format("%,f", value)}.
+	 *
+	 * @param value a value
+	 * @return the formatted value
+	 */
+	public static String format(double value)
+	{
+		if (Double.isNaN(value))
+			return "NaN";
+		Symbols symbols = getSymbols();
+		if (symbols == null)
+			return String.format("%,f", value);
+
+		boolean negative = Double.compare(value, 0.0) < 0;
+		double magnitude = Math.abs(value);
+		if (Double.isInfinite(magnitude))
+		{
+			if (negative)
+				return "-Infinity";
+			return "Infinity";
+		}
+
+		// Like Formatter, round the shortest decimal that uniquely distinguishes the value (the one returned by
+		// Double.toString()) to 6 fraction digits using HALF_UP.
+		String decimal = Double.toString(magnitude);
+		long significand = 0;
+		int exponent = 0;
+		boolean fraction = false;
+		for (int i = 0; i < decimal.length(); ++i)
+		{
+			char c = decimal.charAt(i);
+			if (c == '.')
+				fraction = true;
+			else if (c == 'E')
+			{
+				exponent += Integer.parseInt(decimal, i + 1, decimal.length(), 10);
+				break;
+			}
+			else
+			{
+				significand = significand * 10 + (c - '0');
+				if (fraction)
+					--exponent;
+			}
+		}
+
+		// digits = value * 10^FRACTION_DIGITS, without any leading zeros
+		char[] digits;
+		int scale = exponent + FRACTION_DIGITS;
+		if (scale >= 0)
+		{
+			int significandLength = length(significand);
+			digits = new char[significandLength + scale];
+			toDigits(significand, digits, significandLength);
+			for (int i = significandLength; i < digits.length; ++i)
+				digits[i] = '0';
+		}
+		else
+		{
+			long rounded;
+			if (-scale > 18)
+				rounded = 0;
+			else
+			{
+				long divisor = POWERS_OF_TEN[-scale];
+				rounded = significand / divisor;
+				if ((significand % divisor) * 2 >= divisor)
+					++rounded;
+			}
+			int roundedLength = length(rounded);
+			digits = new char[roundedLength];
+			toDigits(rounded, digits, roundedLength);
+		}
+
+		StringBuilder result = new StringBuilder(digits.length + digits.length / 3 + 4);
+		if (negative)
+			result.append('-');
+		if (digits.length <= FRACTION_DIGITS)
+		{
+			// Pad the value with leading zeros so that it contains at least one integer digit
+			char[] padded = new char[FRACTION_DIGITS + 1];
+			int padding = padded.length - digits.length;
+			for (int i = 0; i < padding; ++i)
+				padded[i] = '0';
+			System.arraycopy(digits, 0, padded, padding, digits.length);
+			digits = padded;
+		}
+		symbols.append(result, digits, 0, digits.length - FRACTION_DIGITS, digits.length);
+		return result.toString();
+	}
+
+	/**
+	 * @param value a non-negative value
+	 * @return the number of decimal digits in {@code value}, or {@code 0} if {@code value} is zero
+	 */
+	private static int length(long value)
+	{
+		assert value >= 0 : "value: " + value;
+		int length = 0;
+		while (length < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[length])
+			++length;
+		return length;
+	}
+
+	/**
+	 * Writes the decimal digits of a value.
+	 *
+	 * @param value  a non-negative value
+	 * @param digits the array to write into
+	 * @param end    the index after the last digit
+	 */
+	private static void toDigits(long value, char[] digits, int end)
+	{
+		for (int i = end - 1; i >= 0 && value != 0; --i)
+		{
+			digits[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+	}
+
+	/**
+	 * @return the symbols of the default locale, or {@code null} if they cannot be determined without
+	 * 	{@code Formatter}
+	 */
+	private static Symbols getSymbols()
+	{
+		Locale locale = Locale.getDefault(Category.FORMAT);
+		Symbols cached = symbols;
+		if (cached.locale.equals(locale))
+			return cached.ifSupported();
+		cached = Symbols.of(locale);
+		symbols = cached;
+		return cached.ifSupported();
+	}
+
+	/**
+	 * The symbols that {@code Formatter} uses to format numbers in a locale.
+	 *
+	 * @param locale            the locale
+	 * @param supported         {@code false} if the locale's number format is not a {@code DecimalFormat}
+	 * @param zeroDigit         the character that represents zero
+	 * @param groupingSeparator the character that separates groups of integer digits, or {@code '\0'} if
+	 *                          digits are not grouped
+	 * @param groupingSize      the number of digits in each group
+	 * @param decimalSeparator  the character that separates the integer digits from the fraction digits
+	 */
+	private record Symbols(Locale locale, boolean supported, char zeroDigit, char groupingSeparator,
+	                       int groupingSize, char decimalSeparator)
+	{
+		/**
+		 * @param locale a locale
+		 * @return the symbols of the locale
+		 */
+		public static Symbols of(Locale locale)
+		{
+			DecimalFormatSymbols decimalSymbols = DecimalFormatSymbols.getInstance(locale);
+			char groupingSeparator = decimalSymbols.getGroupingSeparator();
+			int groupingSize;
+			if (locale.equals(Locale.US))
+				groupingSize = 3;
+			else
+			{
+				if (!(NumberFormat.getNumberInstance(locale) instanceof DecimalFormat format))
+					return new Symbols(locale, false, '0', ',', 3, '.');
+				groupingSize = format.getGroupingSize();
+				if (!format.isGroupingUsed() || groupingSize == 0)
+					groupingSeparator = '\0';
+			}
+			return new Symbols(locale, true, decimalSymbols.getZeroDigit(), groupingSeparator, groupingSize,
+				decimalSymbols.getDecimalSeparator());
+		}
+
+		/**
+		 * @return this instance, or {@code null} if the locale is not supported
+		 */
+		public Symbols ifSupported()
+		{
+			if (supported)
+				return this;
+			return null;
+		}
+
+		/**
+		 * Appends localized digits, separating groups of integer digits.
+		 *
+		 * @param target the builder to append to
+		 * @param digits the ASCII digits to append
+		 * @param start  the index of the first digit
+		 * @param dot    the index of the first fraction digit
+		 * @param end    the index after the last digit
+		 */
+		public void append(StringBuilder target, char[] digits, int start, int dot, int end)
+		{
+			for (int i = start; i < dot; ++i)
+			{
+				target.append((char) (digits[i] - '0' + zeroDigit));
+				// Mirror Formatter's condition, including its handling of unusual grouping sizes
+				if (groupingSeparator != '\0' && i != dot - 1 && (dot - i) % groupingSize == 1)
+					target.append(groupingSeparator);
+			}
+			if (dot == end)
+				return;
+			target.append(decimalSeparator);
+			for (int i = dot; i < end; ++i)
+				target.append((char) (digits[i] - '0' + zeroDigit));
+		}
+	}
+}
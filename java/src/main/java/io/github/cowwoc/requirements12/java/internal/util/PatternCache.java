@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A bounded cache of compiled regular expressions that evicts the least-recently used pattern once it is
+ * full.
+ * <p>
+ * Lookups do not acquire a lock. Recency is tracked at the granularity of cache misses: patterns that are used
+ * between the same two misses are considered equally recent, and one of them is evicted arbitrarily. A pattern
+ * that is used repeatedly without intervening misses is only written to once, so threads that share hot
+ * patterns do not contend on a cache line.
+ * <p>
+ * <b>Thread Safety</b>: This class is thread-safe.
+ */
+public final class PatternCache
+{
+	/**
+	 * The default maximum number of patterns in the cache.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+	private final ConcurrentHashMap<Key, Entry> patterns = new ConcurrentHashMap<>();
+	/**
+	 * The number of patterns that were added to the cache. Lookups stamp the pattern that they return with
+	 * the current value.
+	 */
+	private final AtomicLong clock = new AtomicLong();
+	/**
+	 * Serializes evictions so that concurrent misses do not evict more patterns than necessary.
+	 */
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	/**
+	 * The maximum number of patterns in the cache.
+	 */
+	private volatile int maximumSize;
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param maximumSize the maximum number of patterns in the cache ({@code 0} disables caching)
+	 * @throws IllegalArgumentException if {@code maximumSize} is negative
+	 */
+	public PatternCache(int maximumSize)
+	{
+		requireValidSize(maximumSize);
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * @param maximumSize the maximum number of patterns in the cache
+	 * @throws IllegalArgumentException if {@code maximumSize} is negative
+	 */
+	private static void requireValidSize(int maximumSize)
+	{
+		if (maximumSize < 0)
+		{
+			throw new IllegalArgumentException("maximumSize may not be negative.\n" +
+				"actual: " + maximumSize);
+		}
+	}
+
+	/**
+	 * Returns a compiled pattern, compiling it if it is not in the cache.
+	 *
+	 * @param regex the regular expression
+	 * @param flags the match flags passed to {@link Pattern#compile(String, int)}
+	 * @return the compiled pattern
+	 * @throws NullPointerException     if {@code regex} is null
+	 * @throws IllegalArgumentException if {@code flags} contains unsupported bit values
+	 * @throws PatternSyntaxException   if {@code regex} is not a valid regular expression
+	 */
+	public Pattern getPattern(String regex, int flags)
+	{
+		if (regex == null)
+			throw new NullPointerException("regex may not be null");
+		Key key = new Key(regex, flags);
+		Entry entry = patterns.get(key);
+		if (entry != null)
+		{
+			hits.increment();
+			entry.touch(clock.get());
+			return entry.pattern;
+		}
+		misses.increment();
+
+		// Compile the pattern outside the map so that slow compilations do not block other threads
+		Pattern pattern = Pattern.compile(regex, flags);
+		if (maximumSize == 0)
+			return pattern;
+		Entry newEntry = new Entry(pattern, clock.getAndIncrement());
+		Entry existing = patterns.putIfAbsent(key, newEntry);
+		if (existing != null)
+			return existing.pattern;
+		if (patterns.size() > maximumSize)
+			evictExcess();
+		return pattern;
+	}
+
+	/**
+	 * Evicts the least-recently used patterns until the cache is no larger than its maximum size.
+	 */
+	private void evictExcess()
+	{
+		evictionLock.lock();
+		try
+		{
+			while (patterns.size() > maximumSize)
+			{
+				Map.Entry<Key, Entry> leastRecentlyUsed = null;
+				for (Map.Entry<Key, Entry> candidate : patterns.entrySet())
+				{
+					if (leastRecentlyUsed == null ||
+						candidate.getValue().lastAccess < leastRecentlyUsed.getValue().lastAccess)
+					{
+						leastRecentlyUsed = candidate;
+					}
+				}
+				if (leastRecentlyUsed == null)
+					break;
+				patterns.remove(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue());
+			}
+		}
+		finally
+		{
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of patterns in the cache.
+	 *
+	 * @return {@code 0} if caching is disabled
+	 */
+	public int getMaximumSize()
+	{
+		return maximumSize;
+	}
+
+	/**
+	 * Sets the maximum number of patterns in the cache, evicting patterns if necessary.
+	 *
+	 * @param maximumSize the maximum number of patterns in the cache ({@code 0} disables caching)
+	 * @throws IllegalArgumentException if {@code maximumSize} is negative
+	 */
+	public void setMaximumSize(int maximumSize)
+	{
+		requireValidSize(maximumSize);
+		this.maximumSize = maximumSize;
+		evictExcess();
+	}
+
+	/**
+	 * Returns the number of lookups that found a compiled pattern in the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHits()
+	{
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that had to compile a pattern.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMisses()
+	{
+		return misses.sum();
+	}
+
+	@Override
+	public String toString()
+	{
+		return "maximumSize: " + getMaximumSize() + ", hits: " + getHits() + ", misses: " + getMisses();
+	}
+
+	/**
+	 * Identifies a compiled pattern.
+	 *
+	 * @param regex the regular expression
+	 * @param flags the match flags
+	 */
+	private record Key(String regex, int flags)
+	{
+	}
+
+	/**
+	 * A cached pattern.
+	 */
+	private static final class Entry
+	{
+		private final Pattern pattern;
+		/**
+		 * The value of the clock when the pattern was last used.
+		 */
+		private volatile long lastAccess;
+
+		/**
+		 * @param pattern    the compiled pattern
+		 * @param lastAccess the value of the clock when the pattern was added
+		 */
+		Entry(Pattern pattern, long lastAccess)
+		{
+			this.pattern = pattern;
+			this.lastAccess = lastAccess;
+		}
+
+		/**
+		 * Marks the pattern as used.
+		 *
+		 * @param now the current value of the clock
+		 */
+		void touch(long now)
+		{
+			// Skip redundant writes to avoid invalidating the cache line on other cores
+			if (lastAccess != now)
+				lastAccess = now;
+		}
+	}
+}
@@ -13,6 +13,14 @@ public enum Pluralizer
 	 * The names of one or more characters.
 	 */
 	CHARACTER("character", "characters"),
+	/**
+	 * The names of one or more codepoints.
+	 */
+	CODEPOINT("codepoint", "codepoints"),
+	/**
+	 * The names of one or more bytes.
+	 */
+	BYTE("byte", "bytes"),
 	/**
 	 * The names of one or more keys.
 	 */
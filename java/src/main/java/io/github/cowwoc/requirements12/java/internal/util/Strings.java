@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.util;
+
+import java.math.BigDecimal;
+
+/**
+ * String helper functions.
+ */
+public final class Strings
+{
+	private Strings()
+	{
+	}
+
+	/**
+	 * Returns the number of bytes in the UTF-8 encoding of a String, without encoding it.
+	 * <p>
+	 * Like {@code String.getBytes(UTF_8)}, unpaired surrogates are counted as a single replacement byte.
+	 *
+	 * @param value a String
+	 * @return the number of bytes, or {@link Integer#MAX_VALUE} if the length does not fit in an {@code int}
+	 */
+	public static int utf8Length(String value)
+	{
+		int length = value.length();
+		long result = length;
+		int i = 0;
+		// ASCII characters are encoded as one byte each
+		while (i < length && value.charAt(i) < 0x80)
+			++i;
+		while (i < length)
+		{
+			char c = value.charAt(i);
+			if (c < 0x80)
+			{
+				// 1 byte
+			}
+			else if (c < 0x800)
+				result += 1;
+			else if (Character.isSurrogate(c))
+			{
+				if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1)))
+				{
+					// A surrogate pair encodes a supplementary character in 4 bytes
+					result += 2;
+					++i;
+				}
+				// Otherwise, the unpaired surrogate is replaced by a 1-byte '?'
+			}
+			else
+				result += 2;
+			++i;
+		}
+		return (int) Math.min(result, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Indicates if a String is a UUID in its canonical form: 32 hexadecimal digits, separated into groups of
+	 * 8-4-4-4-12 by hyphens.
+	 *
+	 * @param value a String
+	 * @return {@code true} if the value is a UUID
+	 */
+	public static boolean isUuid(String value)
+	{
+		if (value.length() != 36)
+			return false;
+		for (int i = 0; i < 36; ++i)
+		{
+			char c = value.charAt(i);
+			if (i == 8 || i == 13 || i == 18 || i == 23)
+			{
+				if (c != '-')
+					return false;
+			}
+			else if (!isHexDigit(c))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Indicates if a String consists of one or more hexadecimal digits.
+	 *
+	 * @param value a String
+	 * @return {@code true} if the value is a non-empty sequence of hexadecimal digits
+	 */
+	public static boolean isHex(String value)
+	{
+		int length = value.length();
+		if (length == 0)
+			return false;
+		for (int i = 0; i < length; ++i)
+		{
+			if (!isHexDigit(value.charAt(i)))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param c a character
+	 * @return {@code true} if the character is an ASCII hexadecimal digit
+	 */
+	private static boolean isHexDigit(char c)
+	{
+		return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+	}
+
+	/**
+	 * Indicates if a String is encoded using the padded Base64 alphabet of
+	 * <a href="https://www.rfc-editor.org/rfc/rfc4648#section-4">RFC 4648, section 4</a>.
+	 *
+	 * @param value a String
+	 * @return {@code true} if {@code Base64.getDecoder()} can decode the value and its length is a multiple of
+	 * 	four
+	 */
+	public static boolean isBase64(String value)
+	{
+		int length = value.length();
+		if (length % 4 != 0)
+			return false;
+		for (int i = 0; i < length; ++i)
+		{
+			char c = value.charAt(i);
+			if (c == '=')
+			{
+				// Up to two padding characters may appear at the end of the value
+				if (i < length - 2)
+					return false;
+				for (int j = i + 1; j < length; ++j)
+				{
+					if (value.charAt(j) != '=')
+						return false;
+				}
+				return true;
+			}
+			if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' ||
+				c == '/'))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Indicates if a String is an instant that {@link java.time.Instant#parse(CharSequence)} accepts, with a
+	 * four-digit year. For example, {@code 2025-01-31T13:45:00Z} or {@code 2025-01-31T13:45:00.5+02:00}.
+	 *
+	 * @param value a String
+	 * @return {@code true} if the value is an ISO-8601 instant
+	 */
+	public static boolean isIso8601Instant(String value)
+	{
+		// yyyy-MM-ddTHH:mm:ss
+		int length = value.length();
+		if (length < 20)
+			return false;
+		int year = parseDigits(value, 0, 4);
+		int month = parseDigits(value, 5, 2);
+		int day = parseDigits(value, 8, 2);
+		int hour = parseDigits(value, 11, 2);
+		int minute = parseDigits(value, 14, 2);
+		int second = parseDigits(value, 17, 2);
+		if (year == -1 || month == -1 || day == -1 || hour == -1 || minute == -1 || second == -1)
+			return false;
+		if (value.charAt(4) != '-' || value.charAt(7) != '-' || (value.charAt(10) | 0x20) != 't' ||
+			value.charAt(13) != ':' || value.charAt(16) != ':')
+		{
+			return false;
+		}
+		if (month < 1 || month > 12 || day < 1 || day > getDaysInMonth(year, month) || minute > 59)
+			return false;
+
+		// Optional fraction of up to 9 digits
+		int i = 19;
+		boolean fractionIsZero = true;
+		if (value.charAt(i) == '.')
+		{
+			++i;
+			int start = i;
+			while (i < length && value.charAt(i) >= '0' && value.charAt(i) <= '9')
+			{
+				if (value.charAt(i) != '0')
+					fractionIsZero = false;
+				++i;
+			}
+			if (i - start > 9 || i == length)
+				return false;
+		}
+
+		// Like Instant.parse(), accept the end of the day (24:00:00) and leap seconds (23:59:60)
+		if (hour == 24)
+		{
+			if (minute != 0 || second != 0 || !fractionIsZero)
+				return false;
+		}
+		else if (hour > 23)
+			return false;
+		if (second == 60)
+		{
+			if (hour != 23 || minute != 59)
+				return false;
+		}
+		else if (second > 59)
+			return false;
+
+		// Z, +HH:mm or +HH:mm:ss
+		char zone = value.charAt(i);
+		if ((zone | 0x20) == 'z')
+			return i + 1 == length;
+		if (zone != '+' && zone != '-')
+			return false;
+		int offsetLength = length - i - 1;
+		if (offsetLength != 5 && offsetLength != 8)
+			return false;
+		int offsetHours = parseDigits(value, i + 1, 2);
+		int offsetMinutes = parseDigits(value, i + 4, 2);
+		if (offsetHours == -1 || offsetMinutes == -1 || value.charAt(i + 3) != ':' || offsetMinutes > 59)
+			return false;
+		int offsetSeconds = 0;
+		if (offsetLength == 8)
+		{
+			offsetSeconds = parseDigits(value, i + 7, 2);
+			if (offsetSeconds == -1 || value.charAt(i + 6) != ':' || offsetSeconds > 59)
+				return false;
+		}
+		return offsetHours < 18 || (offsetHours == 18 && offsetMinutes == 0 && offsetSeconds == 0);
+	}
+
+	/**
+	 * @param value  a String
+	 * @param start  the index of the first digit
+	 * @param length the number of digits
+	 * @return the value of the digits, or {@code -1} if any of the characters is not an ASCII digit
+	 */
+	private static int parseDigits(String value, int start, int length)
+	{
+		int result = 0;
+		for (int i = start; i < start + length; ++i)
+		{
+			int digit = value.charAt(i) - '0';
+			if (digit < 0 || digit > 9)
+				return -1;
+			result = result * 10 + digit;
+		}
+		return result;
+	}
+
+	/**
+	 * @param year  a proleptic year
+	 * @param month a month (1-12)
+	 * @return the number of days in the month
+	 */
+	private static int getDaysInMonth(int year, int month)
+	{
+		return switch (month)
+		{
+			case 2 ->
+			{
+				if (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0))
+					yield 29;
+				yield 28;
+			}
+			case 4, 6, 9, 11 -> 30;
+			default -> 31;
+		};
+	}
+
+	/**
+	 * Parses a String that contains a {@code long}.
+	 * <p>
+	 * Unlike {@link Long#parseLong(String)}, only ASCII digits are accepted and invalid input does not throw an
+	 * exception.
+	 *
+	 * @param value a String
+	 * @return the parsed value, or an invalid target if the value does not contain a {@code long}
+	 */
+	public static ValidationTarget<Long> parseLong(String value)
+	{
+		int length = value.length();
+		if (length == 0)
+			return ValidationTarget.invalid();
+		int i = 0;
+		boolean negative = false;
+		char first = value.charAt(0);
+		if (first == '-' || first == '+')
+		{
+			negative = first == '-';
+			++i;
+			if (length == 1)
+				return ValidationTarget.invalid();
+		}
+		// Accumulate the value as a negative number because Long.MIN_VALUE has a larger magnitude than
+		// Long.MAX_VALUE
+		long limit;
+		if (negative)
+			limit = Long.MIN_VALUE;
+		else
+			limit = -Long.MAX_VALUE;
+		long multiplicationLimit = limit / 10;
+		long result = 0;
+		for (; i < length; ++i)
+		{
+			int digit = value.charAt(i) - '0';
+			if (digit < 0 || digit > 9 || result < multiplicationLimit)
+				return ValidationTarget.invalid();
+			result *= 10;
+			if (result < limit + digit)
+				return ValidationTarget.invalid();
+			result -= digit;
+		}
+		if (negative)
+			return ValidationTarget.valid(result);
+		return ValidationTarget.valid(-result);
+	}
+
+	/**
+	 * Parses a String that contains an {@code int}.
+	 * <p>
+	 * Unlike {@link Integer#parseInt(String)}, only ASCII digits are accepted and invalid input does not throw
+	 * an exception.
+	 *
+	 * @param value a String
+	 * @return the parsed value, or an invalid target if the value does not contain an {@code int}
+	 */
+	public static ValidationTarget<Integer> parseInt(String value)
+	{
+		int length = value.length();
+		if (length == 0)
+			return ValidationTarget.invalid();
+		int i = 0;
+		boolean negative = false;
+		char first = value.charAt(0);
+		if (first == '-' || first == '+')
+		{
+			negative = first == '-';
+			++i;
+			if (length == 1)
+				return ValidationTarget.invalid();
+		}
+		int limit;
+		if (negative)
+			limit = Integer.MIN_VALUE;
+		else
+			limit = -Integer.MAX_VALUE;
+		int multiplicationLimit = limit / 10;
+		int result = 0;
+		for (; i < length; ++i)
+		{
+			int digit = value.charAt(i) - '0';
+			if (digit < 0 || digit > 9 || result < multiplicationLimit)
+				return ValidationTarget.invalid();
+			result *= 10;
+			if (result < limit + digit)
+				return ValidationTarget.invalid();
+			result -= digit;
+		}
+		if (negative)
+			return ValidationTarget.valid(result);
+		return ValidationTarget.valid(-result);
+	}
+
+	/**
+	 * Parses a String that contains a {@code BigDecimal}.
+	 * <p>
+	 * The value is scanned before it is converted, so invalid input does not throw an exception. Unlike
+	 * {@link BigDecimal#BigDecimal(String)}, only ASCII digits are accepted.
+	 *
+	 * @param value a String
+	 * @return the parsed value, or an invalid target if the value does not contain a {@code BigDecimal}
+	 */
+	public static ValidationTarget<BigDecimal> parseDecimal(String value)
+	{
+		// [+-]digits[.digits][(e|E)[+-]digits], with at least one digit in the significand
+		int length = value.length();
+		int i = 0;
+		if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+'))
+			++i;
+		int integerDigits = 0;
+		while (i < length && isDigit(value.charAt(i)))
+		{
+			++integerDigits;
+			++i;
+		}
+		int fractionDigits = 0;
+		if (i < length && value.charAt(i) == '.')
+		{
+			++i;
+			while (i < length && isDigit(value.charAt(i)))
+			{
+				++fractionDigits;
+				++i;
+			}
+		}
+		if (integerDigits == 0 && fractionDigits == 0)
+			return ValidationTarget.invalid();
+		long exponent = 0;
+		if (i < length && (value.charAt(i) | 0x20) == 'e')
+		{
+			++i;
+			boolean negativeExponent = false;
+			if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+'))
+			{
+				negativeExponent = value.charAt(i) == '-';
+				++i;
+			}
+			int start = i;
+			while (i < length && isDigit(value.charAt(i)))
+			{
+				// Stop accumulating once the exponent is out of range, but keep scanning
+				if (exponent <= Integer.MAX_VALUE)
+					exponent = exponent * 10 + (value.charAt(i) - '0');
+				++i;
+			}
+			if (i == start)
+				return ValidationTarget.invalid();
+			if (negativeExponent)
+				exponent = -exponent;
+		}
+		if (i != length)
+			return ValidationTarget.invalid();
+		// The scale of the result must fit in an int
+		long scale = fractionDigits - exponent;
+		if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE)
+			return ValidationTarget.invalid();
+		return ValidationTarget.valid(new BigDecimal(value));
+	}
+
+	/**
+	 * @param c a character
+	 * @return {@code true} if the character is an ASCII digit
+	 */
+	private static boolean isDigit(char c)
+	{
+		return c >= '0' && c <= '9';
+	}
+}
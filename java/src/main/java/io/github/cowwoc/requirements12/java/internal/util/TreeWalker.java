@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.util;
+
+import io.github.cowwoc.requirements12.java.TreeLimits;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Walks a directory tree, enforcing {@link TreeLimits} as entries are discovered.
+ * <p>
+ * Directories are read by a bounded number of virtual threads that take them from a shared stack. The stack
+ * holds the paths of directories that have not been read yet, rather than one parked thread per directory,
+ * and the number of threads bounds how many directories are open at once so that wide trees do not exhaust
+ * the process' file descriptors. The walk stops as soon as a limit is exceeded or an I/O error occurs,
+ * without reading the remaining directories. Symbolic links are never followed.
+ */
+public final class TreeWalker
+{
+	/**
+	 * The maximum number of threads that read directories.
+	 */
+	private static final int MAXIMUM_READERS = 16;
+	private final TreeLimits limits;
+	/**
+	 * The real path of the root directory, or {@code null} if symbolic links may point outside of it.
+	 */
+	private final Path realRoot;
+	private final ExecutorService executor;
+	/**
+	 * The directories that have not been read yet. Taking the most recently discovered directory first keeps
+	 * the stack no larger than the number of unread siblings along the current paths.
+	 */
+	private final ConcurrentLinkedDeque<Directory> unreadDirectories = new ConcurrentLinkedDeque<>();
+	/**
+	 * The number of threads that are reading directories.
+	 */
+	private final AtomicInteger readers = new AtomicInteger();
+	private final AtomicLong files = new AtomicLong();
+	private final AtomicLong directories = new AtomicLong();
+	private final AtomicLong size = new AtomicLong();
+	/**
+	 * The number of directories that were submitted but have not been read yet.
+	 */
+	private final AtomicInteger pendingDirectories = new AtomicInteger();
+	private final CountDownLatch done = new CountDownLatch(1);
+	private final AtomicReference<Violation> violation = new AtomicReference<>();
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+	/**
+	 * @param limits   the limits to enforce
+	 * @param realRoot the real path of the root directory, or {@code null} if symbolic links may point outside
+	 *                 of it
+	 * @param executor the executor that reads directories
+	 */
+	private TreeWalker(TreeLimits limits, Path realRoot, ExecutorService executor)
+	{
+		this.limits = limits;
+		this.realRoot = realRoot;
+		this.executor = executor;
+	}
+
+	/**
+	 * Walks a tree.
+	 * <p>
+	 * If {@code root} is not a directory, it is treated as a tree that consists of a single file at depth
+	 * {@code 0}.
+	 *
+	 * @param root   the root of the tree
+	 * @param limits the limits to enforce
+	 * @return the first limit that was found to be exceeded, or {@code null} if the tree is within the limits
+	 * @throws IOException if an I/O error occurs while walking the tree
+	 */
+	public static Violation walk(Path root, TreeLimits limits) throws IOException
+	{
+		BasicFileAttributes attributes = Files.readAttributes(root, BasicFileAttributes.class);
+		Path realRoot;
+		if (limits.isEscapingLinksAllowed())
+			realRoot = null;
+		else
+			realRoot = root.toRealPath();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+		{
+			TreeWalker walker = new TreeWalker(limits, realRoot, executor);
+			if (attributes.isDirectory())
+				walker.submit(root, 0);
+			else
+			{
+				walker.visit(root, attributes, 0);
+				walker.done.countDown();
+			}
+			try
+			{
+				walker.done.await();
+			}
+			catch (InterruptedException e)
+			{
+				walker.failure.compareAndSet(null, e);
+				Thread.currentThread().interrupt();
+			}
+			return walker.getResult();
+		}
+	}
+
+	/**
+	 * @return the first limit that was found to be exceeded, or {@code null} if the tree is within the limits
+	 * @throws IOException if an I/O error occurred while walking the tree
+	 */
+	private Violation getResult() throws IOException
+	{
+		Throwable cause = failure.get();
+		switch (cause)
+		{
+			case null ->
+			{
+				return violation.get();
+			}
+			case IOException ioe -> throw ioe;
+			case InterruptedException ie ->
+			{
+				InterruptedIOException exception = new InterruptedIOException("The walk was interrupted");
+				exception.initCause(ie);
+				throw exception;
+			}
+			case RuntimeException re -> throw re;
+			case Error error -> throw error;
+			default -> throw new AssertionError("Unexpected exception", cause);
+		}
+	}
+
+	/**
+	 * Schedules a directory to be read, starting a new reader thread if fewer than {@link #MAXIMUM_READERS}
+	 * are running.
+	 *
+	 * @param directory the directory
+	 * @param depth     the depth of the directory
+	 */
+	private void submit(Path directory, int depth)
+	{
+		pendingDirectories.incrementAndGet();
+		unreadDirectories.push(new Directory(directory, depth));
+		if (reserveReader())
+			executor.execute(this::readDirectories);
+	}
+
+	/**
+	 * Increments the number of readers, unless the maximum number of readers are running.
+	 *
+	 * @return {@code false} if the maximum number of readers are running
+	 */
+	private boolean reserveReader()
+	{
+		while (true)
+		{
+			int count = readers.get();
+			if (count >= MAXIMUM_READERS)
+				return false;
+			if (readers.compareAndSet(count, count + 1))
+				return true;
+		}
+	}
+
+	/**
+	 * Reads directories until none are left or the walk stops.
+	 */
+	private void readDirectories()
+	{
+		while (true)
+		{
+			Directory directory = unreadDirectories.poll();
+			if (directory == null || isStopped())
+			{
+				readers.decrementAndGet();
+				// A directory may have been submitted after poll() and before the decrement, while the maximum
+				// number of readers were running
+				if (isStopped() || unreadDirectories.isEmpty() || !reserveReader())
+					return;
+				continue;
+			}
+			try
+			{
+				read(directory.path(), directory.depth());
+			}
+			catch (IOException | RuntimeException | Error e)
+			{
+				failure.compareAndSet(null, e);
+			}
+			finally
+			{
+				if (pendingDirectories.decrementAndGet() == 0 || isStopped())
+					done.countDown();
+			}
+		}
+	}
+
+	/**
+	 * Reads a directory, submitting its subdirectories.
+	 *
+	 * @param directory the directory
+	 * @param depth     the depth of the directory
+	 * @throws IOException if an I/O error occurs while reading the directory
+	 */
+	private void read(Path directory, int depth) throws IOException
+	{
+		if (isStopped())
+			return;
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory))
+		{
+			for (Path entry : entries)
+			{
+				if (isStopped())
+					return;
+				BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class,
+					LinkOption.NOFOLLOW_LINKS);
+				if (!visit(entry, attributes, depth + 1))
+					return;
+			}
+		}
+		catch (DirectoryIteratorException e)
+		{
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Applies the limits to an entry of the tree.
+	 *
+	 * @param entry      the entry
+	 * @param attributes the attributes of the entry, without following symbolic links
+	 * @param depth      the depth of the entry
+	 * @return {@code false} if a limit was exceeded
+	 * @throws IOException if an I/O error occurs while resolving a symbolic link
+	 */
+	private boolean visit(Path entry, BasicFileAttributes attributes, int depth) throws IOException
+	{
+		if (depth > limits.getMaximumDepth())
+			return stop(new Violation(Limit.DEPTH, entry, depth));
+		// Concurrent threads may overshoot a limit. Only the thread that crosses it reports the violation, so
+		// that the reported value is deterministic.
+		if (attributes.isDirectory())
+		{
+			long directoryCount = directories.incrementAndGet();
+			if (directoryCount > limits.getMaximumDirectories())
+			{
+				if (directoryCount - 1 == limits.getMaximumDirectories())
+					stop(new Violation(Limit.DIRECTORIES, entry, directoryCount));
+				return false;
+			}
+			submit(entry, depth);
+			return true;
+		}
+		long fileCount = files.incrementAndGet();
+		if (fileCount > limits.getMaximumFiles())
+		{
+			if (fileCount - 1 == limits.getMaximumFiles())
+				stop(new Violation(Limit.FILES, entry, fileCount));
+			return false;
+		}
+		if (attributes.isSymbolicLink())
+		{
+			if (realRoot == null)
+				return true;
+			Path target = getLinkTarget(entry);
+			if (!target.startsWith(realRoot))
+				return stop(new Violation(Limit.ESCAPING_LINK, entry, target));
+			return true;
+		}
+		if (attributes.isRegularFile())
+		{
+			long totalSize = size.addAndGet(attributes.size());
+			if (totalSize > limits.getMaximumSize())
+			{
+				if (totalSize - attributes.size() <= limits.getMaximumSize())
+					stop(new Violation(Limit.SIZE, entry, totalSize));
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param link a symbolic link
+	 * @return the real path that the link points to
+	 * @throws IOException if an I/O error occurs while resolving the link
+	 */
+	private static Path getLinkTarget(Path link) throws IOException
+	{
+		try
+		{
+			return link.toRealPath();
+		}
+		catch (NoSuchFileException e)
+		{
+			// Dangling links are resolved lexically, relative to the directory that contains them
+			return link.getParent().toRealPath().resolve(Files.readSymbolicLink(link)).normalize();
+		}
+	}
+
+	/**
+	 * Stops the walk.
+	 *
+	 * @param violation the limit that was exceeded
+	 * @return {@code false}
+	 */
+	private boolean stop(Violation violation)
+	{
+		this.violation.compareAndSet(null, violation);
+		return false;
+	}
+
+	/**
+	 * @return {@code true} if the walk should stop
+	 */
+	private boolean isStopped()
+	{
+		return violation.get() != null || failure.get() != null;
+	}
+
+	/**
+	 * A limit that a tree may exceed.
+	 */
+	public enum Limit
+	{
+		/**
+		 * The number of files.
+		 */
+		FILES,
+		/**
+		 * The number of directories.
+		 */
+		DIRECTORIES,
+		/**
+		 * The total size of the regular files.
+		 */
+		SIZE,
+		/**
+		 * The depth of an entry.
+		 */
+		DEPTH,
+		/**
+		 * A symbolic link that points outside the tree.
+		 */
+		ESCAPING_LINK
+	}
+
+	/**
+	 * A directory that has not been read yet.
+	 *
+	 * @param path  the path of the directory
+	 * @param depth the depth of the directory
+	 */
+	private record Directory(Path path, int depth)
+	{
+	}
+
+	/**
+	 * A limit that was exceeded.
+	 *
+	 * @param limit  the limit
+	 * @param path   the entry that exceeded the limit
+	 * @param actual the value that exceeded the limit: the number of files, the number of directories, the
+	 *               total size or the depth, as of the time that {@code path} was visited; or the real path
+	 *               that an escaping link points to
+	 */
+	public record Violation(Limit limit, Path path, Object actual)
+	{
+	}
+}
@@ -0,0 +1,417 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.util;
+
+/**
+ * Scans URI references, as defined by <a href="https://www.rfc-editor.org/rfc/rfc3986#section-4.1">RFC 3986,
+ * section 4.1</a>, without decoding them or copying their components.
+ * <p>
+ * Components are reported as index ranges of the original string.
+ */
+public final class UriScanner
+{
+	/**
+	 * {@code ALPHA / DIGIT / "-" / "." / "_" / "~"}.
+	 */
+	private static final byte UNRESERVED = 1;
+	/**
+	 * {@code "!" / "$" / "&" / "'" / "(" / ")" / "*" / "+" / "," / ";" / "="}.
+	 */
+	private static final byte SUB_DELIMITER = 2;
+	private static final byte COLON = 4;
+	private static final byte AT = 8;
+	private static final byte SLASH = 16;
+	private static final byte QUESTION_MARK = 32;
+	/**
+	 * The characters that may appear in the userinfo component, other than percent-encoded octets.
+	 */
+	private static final int USER_INFO = UNRESERVED | SUB_DELIMITER | COLON;
+	/**
+	 * The characters that may appear in a registered host name, other than percent-encoded octets.
+	 */
+	private static final int REGISTERED_NAME = UNRESERVED | SUB_DELIMITER;
+	/**
+	 * The characters that may appear in the path component, other than percent-encoded octets.
+	 */
+	private static final int PATH = UNRESERVED | SUB_DELIMITER | COLON | AT | SLASH;
+	/**
+	 * The characters that may appear in the query and fragment components, other than percent-encoded octets.
+	 */
+	private static final int QUERY = PATH | QUESTION_MARK;
+	/**
+	 * The character classes of each ASCII character.
+	 */
+	private static final byte[] CLASSES = new byte[128];
+
+	static
+	{
+		for (char c = 'a'; c <= 'z'; ++c)
+			CLASSES[c] = UNRESERVED;
+		for (char c = 'A'; c <= 'Z'; ++c)
+			CLASSES[c] = UNRESERVED;
+		for (char c = '0'; c <= '9'; ++c)
+			CLASSES[c] = UNRESERVED;
+		for (char c : "-._~".toCharArray())
+			CLASSES[c] = UNRESERVED;
+		for (char c : "!$&'()*+,;=".toCharArray())
+			CLASSES[c] = SUB_DELIMITER;
+		CLASSES[':'] = COLON;
+		CLASSES['@'] = AT;
+		CLASSES['/'] = SLASH;
+		CLASSES['?'] = QUESTION_MARK;
+	}
+
+	private UriScanner()
+	{
+	}
+
+	/**
+	 * Scans a URI reference.
+	 *
+	 * @param value a String
+	 * @return the components of the URI
+	 */
+	public static Components scan(String value)
+	{
+		int length = value.length();
+		int i = 0;
+
+		// scheme = ALPHA *( ALPHA / DIGIT / "+" / "-" / "." )
+		int schemeEnd = -1;
+		if (length > 0 && isAlpha(value.charAt(0)))
+		{
+			int j = 1;
+			while (j < length && isSchemeCharacter(value.charAt(j)))
+				++j;
+			if (j < length && value.charAt(j) == ':')
+			{
+				schemeEnd = j;
+				i = j + 1;
+			}
+		}
+
+		// authority = [ userinfo "@" ] host [ ":" port ]
+		int userInfoEnd = -1;
+		int hostStart = -1;
+		int hostEnd = -1;
+		int portStart = -1;
+		int authorityEnd = -1;
+		if (i + 1 < length && value.charAt(i) == '/' && value.charAt(i + 1) == '/')
+		{
+			int authorityStart = i + 2;
+			authorityEnd = authorityStart;
+			int at = -1;
+			while (authorityEnd < length)
+			{
+				char c = value.charAt(authorityEnd);
+				if (c == '/' || c == '?' || c == '#')
+					break;
+				if (c == '@' && at == -1)
+					at = authorityEnd;
+				++authorityEnd;
+			}
+			hostStart = authorityStart;
+			if (at != -1)
+			{
+				int error = scan(value, authorityStart, at, USER_INFO);
+				if (error != -1)
+					return Components.error(error);
+				userInfoEnd = at;
+				hostStart = at + 1;
+			}
+			int hostSuffix;
+			if (hostStart < authorityEnd && value.charAt(hostStart) == '[')
+			{
+				// IP-literal = "[" ( IPv6address / IPvFuture  ) "]"
+				int close = hostStart + 1;
+				while (close < authorityEnd && value.charAt(close) != ']')
+					++close;
+				if (close == authorityEnd)
+					return Components.error(authorityEnd);
+				++hostStart;
+				if (!isIpLiteral(value, hostStart, close))
+					return Components.error(hostStart);
+				hostEnd = close;
+				hostSuffix = close + 1;
+			}
+			else
+			{
+				hostEnd = hostStart;
+				while (hostEnd < authorityEnd && value.charAt(hostEnd) != ':')
+					++hostEnd;
+				// An IPv4 address is also a valid registered name
+				int error = scan(value, hostStart, hostEnd, REGISTERED_NAME);
+				if (error != -1)
+					return Components.error(error);
+				hostSuffix = hostEnd;
+			}
+			if (hostSuffix < authorityEnd)
+			{
+				if (value.charAt(hostSuffix) != ':')
+					return Components.error(hostSuffix);
+				portStart = hostSuffix + 1;
+				for (int j = portStart; j < authorityEnd; ++j)
+				{
+					char c = value.charAt(j);
+					if (c < '0' || c > '9')
+						return Components.error(j);
+				}
+			}
+			i = authorityEnd;
+		}
+
+		int pathStart = i;
+		while (i < length && value.charAt(i) != '?' && value.charAt(i) != '#')
+			++i;
+		int pathEnd = i;
+		int error = scan(value, pathStart, pathEnd, PATH);
+		if (error != -1)
+			return Components.error(error);
+		if (schemeEnd == -1 && hostStart == -1)
+		{
+			// The first segment of a relative path may not contain a colon, or it would be mistaken for a
+			// scheme
+			for (int j = pathStart; j < pathEnd && value.charAt(j) != '/'; ++j)
+			{
+				if (value.charAt(j) == ':')
+					return Components.error(j);
+			}
+		}
+
+		int queryStart = -1;
+		if (i < length && value.charAt(i) == '?')
+		{
+			queryStart = i + 1;
+			i = queryStart;
+			while (i < length && value.charAt(i) != '#')
+				++i;
+			error = scan(value, queryStart, i, QUERY);
+			if (error != -1)
+				return Components.error(error);
+		}
+		int fragmentStart = -1;
+		if (i < length)
+		{
+			assert value.charAt(i) == '#' : value;
+			fragmentStart = i + 1;
+			error = scan(value, fragmentStart, length, QUERY);
+			if (error != -1)
+				return Components.error(error);
+		}
+		return new Components(-1, schemeEnd, userInfoEnd, hostStart, hostEnd, portStart, authorityEnd,
+			pathStart, pathEnd, queryStart, fragmentStart);
+	}
+
+	/**
+	 * Indicates if a path starts with a prefix, in a way that cannot be bypassed using dot-segments or
+	 * percent-encoded separators.
+	 * <p>
+	 * The path is compared as it appears in the URI, without decoding it. It does not match if:
+	 * <ul>
+	 *   <li>any of its segments is {@code "."} or {@code ".."}, where each dot may be percent-encoded as
+	 *   {@code %2E}. Path parameters are ignored, so {@code "..;x"} is a dot-segment because servers such as
+	 *   Tomcat remove them before normalizing the path.</li>
+	 *   <li>it contains a percent-encoded slash or backslash ({@code %2F} or {@code %5C}), which some servers
+	 *   decode before splitting the path into segments.</li>
+	 *   <li>the prefix ends in the middle of a segment. For example, {@code "/api"} matches {@code "/api"} and
+	 *   {@code "/api/v1"} but not {@code "/apiary"}.</li>
+	 * </ul>
+	 *
+	 * @param value     a URI
+	 * @param pathStart the index of the first character of the path
+	 * @param pathEnd   the index after the last character of the path
+	 * @param prefix    the prefix
+	 * @return {@code true} if the path starts with {@code prefix}
+	 */
+	public static boolean hasPathPrefix(String value, int pathStart, int pathEnd, String prefix)
+	{
+		int prefixEnd = pathStart + prefix.length();
+		if (prefixEnd > pathEnd || !value.startsWith(prefix, pathStart))
+			return false;
+		// The prefix must end on a segment boundary
+		if (!prefix.isEmpty() && !prefix.endsWith("/") && prefixEnd != pathEnd &&
+			value.charAt(prefixEnd) != '/')
+		{
+			return false;
+		}
+		int segmentStart = pathStart;
+		for (int i = pathStart; i <= pathEnd; ++i)
+		{
+			if (i == pathEnd || value.charAt(i) == '/')
+			{
+				if (isDotSegment(value, segmentStart, i))
+					return false;
+				segmentStart = i + 1;
+			}
+			else if (isPercentEncoded(value, i, pathEnd, '/') || isPercentEncoded(value, i, pathEnd, '\\'))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param value a String
+	 * @param start the index of the first character of the segment
+	 * @param end   the index after the last character of the segment
+	 * @return {@code true} if the segment is {@code "."} or {@code ".."}, where each dot may be
+	 * 	percent-encoded, optionally followed by path parameters
+	 */
+	private static boolean isDotSegment(String value, int start, int end)
+	{
+		int dots = 0;
+		int i = start;
+		while (i < end)
+		{
+			// Path parameters start with a semicolon, which may also be percent-encoded
+			if (value.charAt(i) == ';' || isPercentEncoded(value, i, end, ';'))
+				break;
+			if (value.charAt(i) == '.')
+				++i;
+			else if (isPercentEncoded(value, i, end, '.'))
+				i += 3;
+			else
+				return false;
+			++dots;
+		}
+		return dots == 1 || dots == 2;
+	}
+
+	/**
+	 * @param value     a String
+	 * @param index     the index of a character
+	 * @param end       the index after the last character that may be examined
+	 * @param character an ASCII character
+	 * @return {@code true} if {@code index} is the start of the percent-encoded form of {@code character}
+	 */
+	private static boolean isPercentEncoded(String value, int index, int end, char character)
+	{
+		if (index + 2 >= end || value.charAt(index) != '%')
+			return false;
+		return Character.digit(value.charAt(index + 1), 16) == character >> 4 &&
+			Character.digit(value.charAt(index + 2), 16) == (character & 0xF);
+	}
+
+	/**
+	 * Scans a range of characters.
+	 *
+	 * @param value   a String
+	 * @param start   the index of the first character
+	 * @param end     the index after the last character
+	 * @param allowed the character classes that may appear in the range, in addition to percent-encoded octets
+	 * @return the index of the first invalid character, or {@code -1} if all the characters are valid
+	 */
+	private static int scan(String value, int start, int end, int allowed)
+	{
+		for (int i = start; i < end; ++i)
+		{
+			char c = value.charAt(i);
+			if (c == '%')
+			{
+				// pct-encoded = "%" HEXDIG HEXDIG
+				if (i + 2 >= end || !isHexDigit(value.charAt(i + 1)) || !isHexDigit(value.charAt(i + 2)))
+					return i;
+				i += 2;
+			}
+			else if (c >= CLASSES.length || (CLASSES[c] & allowed) == 0)
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * @param value a String
+	 * @param start the index after the opening bracket
+	 * @param end   the index of the closing bracket
+	 * @return {@code true} if the characters form an {@code IPv6address} or {@code IPvFuture}
+	 */
+	private static boolean isIpLiteral(String value, int start, int end)
+	{
+		if (start == end || (value.charAt(start) | 0x20) != 'v')
+			return IpAddresses.isIpV6(value, start, end);
+		// IPvFuture = "v" 1*HEXDIG "." 1*( unreserved / sub-delims / ":" )
+		int i = start + 1;
+		while (i < end && isHexDigit(value.charAt(i)))
+			++i;
+		if (i == start + 1 || i == end || value.charAt(i) != '.' || i + 1 == end)
+			return false;
+		for (++i; i < end; ++i)
+		{
+			char c = value.charAt(i);
+			if (c >= CLASSES.length || (CLASSES[c] & USER_INFO) == 0)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param c a character
+	 * @return {@code true} if the character is an ASCII letter
+	 */
+	private static boolean isAlpha(char c)
+	{
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	/**
+	 * @param c a character
+	 * @return {@code true} if the character may appear after the first character of a scheme
+	 */
+	private static boolean isSchemeCharacter(char c)
+	{
+		return isAlpha(c) || (c >= '0' && c <= '9') || c == '+' || c == '-' || c == '.';
+	}
+
+	/**
+	 * @param c a character
+	 * @return {@code true} if the character is an ASCII hexadecimal digit
+	 */
+	private static boolean isHexDigit(char c)
+	{
+		return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+	}
+
+	/**
+	 * The index ranges of a URI's components. Each component ends where the next one begins, minus its
+	 * delimiter.
+	 *
+	 * @param errorIndex    the index of the first invalid character, or {@code -1} if the URI is valid
+	 * @param schemeEnd     the index of the colon after the scheme, or {@code -1} if there is no scheme
+	 * @param userInfoEnd   the index of the {@code @} after the user information, or {@code -1} if there is no
+	 *                      user information
+	 * @param hostStart     the index of the first character of the host, excluding any brackets, or {@code -1}
+	 *                      if there is no authority
+	 * @param hostEnd       the index after the last character of the host, excluding any brackets
+	 * @param portStart     the index of the first digit of the port, or {@code -1} if there is no port
+	 * @param authorityEnd  the index after the last character of the authority, or {@code -1} if there is no
+	 *                      authority
+	 * @param pathStart     the index of the first character of the path
+	 * @param pathEnd       the index after the last character of the path
+	 * @param queryStart    the index after the {@code ?}, or {@code -1} if there is no query
+	 * @param fragmentStart the index after the {@code #}, or {@code -1} if there is no fragment
+	 */
+	public record Components(int errorIndex, int schemeEnd, int userInfoEnd, int hostStart, int hostEnd,
+	                         int portStart, int authorityEnd, int pathStart, int pathEnd, int queryStart,
+	                         int fragmentStart)
+	{
+		/**
+		 * @param errorIndex the index of the first invalid character
+		 * @return the components of an invalid URI
+		 */
+		private static Components error(int errorIndex)
+		{
+			return new Components(errorIndex, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1);
+		}
+
+		/**
+		 * Indicates if the URI is valid.
+		 *
+		 * @return {@code true} if the URI is valid
+		 */
+		public boolean isValid()
+		{
+			return errorIndex == -1;
+		}
+	}
+}
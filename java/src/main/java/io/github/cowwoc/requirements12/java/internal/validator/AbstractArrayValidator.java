@@ -67,7 +67,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (value.validationFailed(v -> getLength(v) == 0))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isEmptyFailed(this).toString());
 		}
 		return self();
@@ -104,7 +104,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (value.validationFailed(v -> getLength(v) != 0))
 		{
 			failOnNull();
-			addIllegalArgumentException(CollectionMessages.isNotEmptyFailed(this).toString());
+			addIllegalArgumentException(() -> CollectionMessages.isNotEmptyFailed(this).toString());
 		}
 		return self();
 	}
@@ -129,7 +129,8 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (value.validationFailed(v -> contains(v, expected)))
 		{
 			failOnNull();
-			addIllegalArgumentException(CollectionMessages.containsFailed(this, name, expected).toString());
+			addIllegalArgumentException(() ->
+				CollectionMessages.containsFailed(this, name, expected).toString());
 		}
 		return self();
 	}
@@ -154,7 +155,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (value.validationFailed(v -> !contains(v, unwanted)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.doesNotContainFailed(this, name, unwanted).toString());
 		}
 		return self();
@@ -182,7 +183,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (difference == null || !difference.areTheSame())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsExactlyFailed(this, difference, name, expected, Pluralizer.ELEMENT).
 					toString());
 		}
@@ -239,7 +240,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (difference == null || !difference.areDifferent())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.doesNotContainExactlyFailed(this, name, unwanted, Pluralizer.ELEMENT).toString());
 		}
 		return self();
@@ -280,7 +281,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (value.validationFailed(v -> !Collections.disjoint(getValueAsSet(v), expected)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsAnyFailed(this, name, expected, Pluralizer.ELEMENT).toString());
 		}
 		return self();
@@ -323,7 +324,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (difference == null || !difference.common().isEmpty())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.doesNotContainAnyFailed(this, difference, name, unwanted, Pluralizer.ELEMENT).
 					toString());
 		}
@@ -367,7 +368,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (difference == null || !difference.onlyInOther().isEmpty())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsAllFailed(this, difference, name, expected, Pluralizer.ELEMENT).
 					toString());
 		}
@@ -409,7 +410,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (value.validationFailed(v -> !getValueAsSet(v).containsAll(unwanted)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.doesNotContainAllFailed(this, name, unwanted, Pluralizer.ELEMENT).toString());
 		}
 		return self();
@@ -439,7 +440,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (duplicates == null || !duplicates.isEmpty())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.doesNotContainDuplicatesFailed(this, duplicates, Pluralizer.ELEMENT).
 					toString());
 		}
@@ -464,7 +465,7 @@ public abstract class AbstractArrayValidator<S, T, E>
 		if (sorted.validationFailed(List::isEmpty))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.isSortedFailed(this, sorted.or(null)).toString());
 		}
 		return self();
@@ -64,7 +64,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		if (value.validationFailed(Collection::isEmpty))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isEmptyFailed(this).toString());
 		}
 		return self();
@@ -76,7 +76,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		if (value.validationFailed(v -> !v.isEmpty()))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isNotEmptyFailed(this).toString());
 		}
 		return self();
@@ -117,7 +117,8 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		}))
 		{
 			failOnNull();
-			addIllegalArgumentException(CollectionMessages.containsFailed(this, name, expected).toString());
+			addIllegalArgumentException(() ->
+				CollectionMessages.containsFailed(this, name, expected).toString());
 		}
 		return self();
 	}
@@ -154,7 +155,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		}))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.doesNotContainFailed(this, name, unwanted).toString());
 		}
 		return self();
@@ -182,7 +183,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		if (difference == null || !difference.areTheSame())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsExactlyFailed(this, difference, name, expected, pluralizer).toString());
 		}
 		return self();
@@ -225,7 +226,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		if (difference == null || !difference.areDifferent())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.doesNotContainExactlyFailed(this, name, unwanted, pluralizer).toString());
 		}
 		return self();
@@ -266,7 +267,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		if (value.validationFailed(v -> !Collections.disjoint(v, expected)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsAnyFailed(this, name, expected, pluralizer).toString());
 		}
 		return self();
@@ -309,7 +310,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		if (difference == null || !difference.common().isEmpty())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.doesNotContainAnyFailed(this, difference, name, unwanted, pluralizer).
 					toString());
 		}
@@ -353,7 +354,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		if (difference == null || !difference.onlyInOther().isEmpty())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsAllFailed(this, difference, name, expected, pluralizer).
 					toString());
 		}
@@ -395,7 +396,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		if (value.validationFailed(v -> !v.containsAll(unwanted)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.doesNotContainAllFailed(this, name, unwanted, pluralizer).toString());
 		}
 		return self();
@@ -424,7 +425,7 @@ public abstract class AbstractCollectionValidator<S, T extends Collection<E>, E>
 		if (duplicates == null || !duplicates.isEmpty())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.doesNotContainDuplicatesFailed(this, duplicates, pluralizer).
 					toString());
 		}
@@ -57,7 +57,7 @@ public abstract class AbstractObjectValidator<S, T> extends AbstractValidator<S,
 	{
 		if (!value.isNull())
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isNullFailed(this).toString());
 		}
 		return self();
@@ -76,7 +76,7 @@ public abstract class AbstractObjectValidator<S, T> extends AbstractValidator<S,
 		requireThatNameIsUnique(name);
 		if (value.map(v -> v != expected).or(true))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isReferenceEqualToFailed(this, name, expected).toString());
 		}
 		return self();
@@ -88,7 +88,7 @@ public abstract class AbstractObjectValidator<S, T> extends AbstractValidator<S,
 		requireThatNameIsUnique(name);
 		if (value.map(v -> v == unwanted).or(true))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isReferenceNotEqualToFailed(this, name).toString());
 		}
 		return self();
@@ -106,7 +106,7 @@ public abstract class AbstractObjectValidator<S, T> extends AbstractValidator<S,
 		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
 		if (value.validationFailed(expected::isTypeOf))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isInstanceOfFailed(this, expected).toString());
 		}
 		return self();
@@ -124,7 +124,7 @@ public abstract class AbstractObjectValidator<S, T> extends AbstractValidator<S,
 		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
 		if (value.map(unwanted::isTypeOf).or(true))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isNotInstanceOfFailed(this, unwanted).toString());
 		}
 		return self();
@@ -147,7 +147,7 @@ public abstract class AbstractObjectValidator<S, T> extends AbstractValidator<S,
 	{
 		if (value.map(v -> !getEqualityFunction().apply(v, expected)).or(true))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ValidatorMessages.isEqualToFailed(this, name, expected).toString());
 		}
 		return self();
@@ -170,7 +170,7 @@ public abstract class AbstractObjectValidator<S, T> extends AbstractValidator<S,
 	{
 		if (value.map(v -> getEqualityFunction().apply(v, unwanted)).or(true))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ValidatorMessages.isNotEqualToFailed(this, name, unwanted).toString());
 		}
 		return self();
@@ -192,6 +192,6 @@ public abstract class AbstractObjectValidator<S, T> extends AbstractValidator<S,
 	protected void failOnNull()
 	{
 		if (value.isNull())
-			addNullPointerException(ObjectMessages.isNotNullFailed(this).toString());
+			addNullPointerException(() -> ObjectMessages.isNotNullFailed(this).toString());
 	}
 }
\ No newline at end of file
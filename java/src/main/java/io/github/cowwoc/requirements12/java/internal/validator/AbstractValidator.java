@@ -17,6 +17,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -60,6 +62,11 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 	 * The list of validation failures.
 	 */
 	protected final List<ValidationFailure> failures;
+	/**
+	 * The messages of the failures that this validator recorded. The set is used to skip duplicate failures
+	 * and to enforce {@link Configuration#maximumFailures()}. {@code null} if no failures were recorded.
+	 */
+	private Set<String> failureMessages;
 	private final Logger log = LoggerFactory.getLogger(StringMappers.class);
 
 	/**
@@ -157,23 +164,24 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 	/**
 	 * Adds a validation failure and throws an exception if the validator is configured to throw an exception on
 	 * failure.
+	 * <p>
+	 * If the validator has already recorded {@link Configuration#maximumFailures()} failures, the failure is
+	 * discarded without building its message.
 	 *
-	 * @param message          a message that explains what went wrong
+	 * @param message          returns a message that explains what went wrong
 	 * @param cause            the underlying cause of the exception
+	 * @param type             the type of exception returned by {@code exceptionBuilder}
 	 * @param exceptionBuilder creates the exception associated with this failure
 	 */
-	public void addFailure(String message, Throwable cause, ExceptionBuilder exceptionBuilder)
+	public void addFailure(Supplier<String> message, Throwable cause, Class<? extends Throwable> type,
+		ExceptionBuilder exceptionBuilder)
 	{
-		ValidationFailureImpl failure = new ValidationFailureImpl(configuration, message, cause,
+		if (maximumFailuresReached())
+			return;
+		ValidationFailureImpl failure = new ValidationFailureImpl(configuration, message.get(), cause, type,
 			exceptionBuilder, Set.of());
-		for (ValidationFailure existingFailure : failures)
-			if (existingFailure.getMessage().equals(failure.getMessage()))
-			{
-				// Skip duplicate failure messages
-				return;
-			}
-
-		failures.add(failure);
+		if (!recordFailure(failure))
+			return;
 		if (configuration.throwOnFailure())
 		{
 			wrongValidator();
@@ -191,25 +199,26 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 	 * Adds a validation failure and throws an exception if the validator is configured to throw an exception on
 	 * failure.
 	 *
+	 * <p>
+	 * If the validator has already recorded {@link Configuration#maximumFailures()} failures, the failure is
+	 * discarded without building its message.
+	 *
 	 * @param <E>              a checked exception that is thrown by the validation method
-	 * @param message          a message that explains what went wrong
+	 * @param message          returns a message that explains what went wrong
 	 * @param cause            the underlying cause of the exception
+	 * @param type             the type of exception returned by {@code exceptionBuilder}
 	 * @param exceptionBuilder creates the exception associated with this failure
 	 * @param checkedException a checked exception that is thrown by the validation method
 	 */
-	public <E extends Exception> void addFailure(String message, Throwable cause,
-		ExceptionBuilder exceptionBuilder, Class<E> checkedException) throws E
+	public <E extends Exception> void addFailure(Supplier<String> message, Throwable cause,
+		Class<? extends Throwable> type, ExceptionBuilder exceptionBuilder, Class<E> checkedException) throws E
 	{
-		ValidationFailureImpl failure = new ValidationFailureImpl(configuration, message, cause, exceptionBuilder,
-			Set.of(checkedException));
-		for (ValidationFailure existingFailure : failures)
-			if (existingFailure.getMessage().equals(failure.getMessage()))
-			{
-				// Skip duplicate failure messages
-				return;
-			}
-
-		failures.add(failure);
+		if (maximumFailuresReached())
+			return;
+		ValidationFailureImpl failure = new ValidationFailureImpl(configuration, message.get(), cause, type,
+			exceptionBuilder, Set.of(checkedException));
+		if (!recordFailure(failure))
+			return;
 		if (configuration.throwOnFailure())
 		{
 			wrongValidator();
@@ -220,8 +229,7 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 				case Error e -> throw e;
 				default ->
 				{
-					Class<? extends Throwable> type = throwable.getClass();
-					if (checkedException.isAssignableFrom(type))
+					if (checkedException.isAssignableFrom(throwable.getClass()))
 					{
 						@SuppressWarnings("unchecked")
 						E e = (E) throwable;
@@ -233,6 +241,48 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 		}
 	}
 
+	/**
+	 * Indicates whether this validator has recorded the maximum number of failures. Failures that other
+	 * validators recorded into a shared list do not count towards this validator's limit.
+	 *
+	 * @return {@code true} if subsequent failures must be discarded
+	 */
+	private boolean maximumFailuresReached()
+	{
+		int maximumFailures = configuration.maximumFailures();
+		return maximumFailures != Integer.MAX_VALUE && failureMessages != null &&
+			failureMessages.size() >= maximumFailures;
+	}
+
+	/**
+	 * Adds a failure to the list of failures, unless this validator already recorded a failure with the same
+	 * message.
+	 * <p>
+	 * Only the failures of this validator are compared. The failures that other validators recorded into a
+	 * shared list are never scanned or discarded.
+	 *
+	 * @param failure the failure
+	 * @return {@code false} if the failure was discarded
+	 */
+	private boolean recordFailure(ValidationFailure failure)
+	{
+		String message = failure.getMessage();
+		if (failureMessages == null)
+			failureMessages = new HashSet<>(4);
+		else if (failureMessages.contains(message))
+		{
+			// Skip duplicate failure messages
+			return false;
+		}
+		if (!failures.add(failure))
+		{
+			// The session is full
+			return false;
+		}
+		failureMessages.add(message);
+		return true;
+	}
+
 	/**
 	 * Warn the user if they are using the wrong validator.
 	 */
@@ -251,12 +301,12 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 	 * Adds a {@code NullPointerException} validation failure and throws an exception if the validator is
 	 * configured to throw an exception on failure.
 	 *
-	 * @param message a message that explains what went wrong
+	 * @param message returns a message that explains what went wrong
 	 * @throws NullPointerException if {@link Configuration#throwOnFailure()}
 	 */
-	protected void addNullPointerException(String message)
+	protected void addNullPointerException(Supplier<String> message)
 	{
-		addFailure(message, null, (theMessage, cause) ->
+		addFailure(message, null, NullPointerException.class, (theMessage, cause) ->
 		{
 			NullPointerException newException = new NullPointerException(theMessage);
 			if (cause != null)
@@ -267,40 +317,40 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 
 	/**
 	 * Equivalent to
-	 * {@link #addIllegalArgumentException(String, Throwable) addIllegalArgumentException(message, null)}.
+	 * {@link #addIllegalArgumentException(Supplier, Throwable) addIllegalArgumentException(message, null)}.
 	 *
-	 * @param message a message that explains what went wrong
+	 * @param message returns a message that explains what went wrong
 	 * @throws IllegalArgumentException if {@link Configuration#throwOnFailure()}
 	 */
-	protected void addIllegalArgumentException(String message)
+	protected void addIllegalArgumentException(Supplier<String> message)
 	{
-		addFailure(message, null, IllegalArgumentException::new);
+		addFailure(message, null, IllegalArgumentException.class, IllegalArgumentException::new);
 	}
 
 	/**
 	 * Adds an {@code IllegalArgumentException} validation failure and throws an exception if the validator is
 	 * configured to throw an exception on failure.
 	 *
-	 * @param message a message that explains what went wrong
+	 * @param message returns a message that explains what went wrong
 	 * @param cause   the underlying cause of the exception
 	 * @throws IllegalArgumentException if {@link Configuration#throwOnFailure()}
 	 */
-	protected void addIllegalArgumentException(String message, Throwable cause)
+	protected void addIllegalArgumentException(Supplier<String> message, Throwable cause)
 	{
-		addFailure(message, cause, IllegalArgumentException::new);
+		addFailure(message, cause, IllegalArgumentException.class, IllegalArgumentException::new);
 	}
 
 	/**
 	 * Adds an {@code IllegalArgumentException} validation failure and throws an exception if the validator is
 	 * configured to throw an exception on failure.
 	 *
-	 * @param message a message that explains what went wrong
+	 * @param message returns a message that explains what went wrong
 	 * @param cause   the underlying cause of the exception
 	 * @throws IOException if {@link Configuration#throwOnFailure()}
 	 */
-	protected void addIOException(String message, IOException cause) throws IOException
+	protected void addIOException(Supplier<String> message, IOException cause) throws IOException
 	{
-		addFailure(message, cause, IOException::new, IOException.class);
+		addFailure(message, cause, IOException.class, IOException::new, IOException.class);
 	}
 
 	/**
@@ -350,6 +400,16 @@ public abstract class AbstractValidator<S, T> implements ValidatorComponent<S, T
 		return Map.copyOf(context);
 	}
 
+	/**
+	 * Returns the contextual information of this validator without copying it.
+	 *
+	 * @return an unmodifiable view of the contextual information
+	 */
+	public Map<String, Optional<Object>> getContextView()
+	{
+		return Collections.unmodifiableMap(context);
+	}
+
 	@Override
 	public S withContext(Object value, String name)
 	{
@@ -6,6 +6,9 @@ package io.github.cowwoc.requirements12.java.internal.validator;
 
 import io.github.cowwoc.requirements12.annotation.CheckReturnValue;
 import io.github.cowwoc.requirements12.java.GlobalConfiguration;
+import io.github.cowwoc.requirements12.java.ScopedContext;
+import io.github.cowwoc.requirements12.java.ValidationFailure;
+import io.github.cowwoc.requirements12.java.ValidationSession;
 import io.github.cowwoc.requirements12.java.Validators;
 import io.github.cowwoc.requirements12.java.internal.Configuration;
 import io.github.cowwoc.requirements12.java.internal.ConfigurationUpdater;
@@ -15,7 +18,9 @@ import io.github.cowwoc.requirements12.java.internal.StringMappers;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements12.java.internal.util.StampedLocks;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.locks.StampedLock;
@@ -44,7 +49,22 @@ public abstract class AbstractValidators<S> implements Validators<S>
 	private Configuration requireThatConfiguration;
 	private Configuration assertThatConfiguration;
 	private Configuration checkIfConfiguration;
-	protected final Map<String, Optional<Object>> context = new HashMap<>();
+	/**
+	 * The contextual information of this factory. Modify it using {@link #withContext(Object, String)},
+	 * {@link #removeContext(String)} or {@link #copyContext(AbstractValidators)} so that
+	 * {@link #contextSnapshot} is kept up to date.
+	 */
+	private final Map<String, Optional<Object>> context = new HashMap<>();
+	/**
+	 * An unmodifiable copy of {@link #context} that is shared by new validators. It is replaced whenever the
+	 * context changes, so readers never have to copy or lock the context.
+	 */
+	private volatile Map<String, Optional<Object>> contextSnapshot = Map.of();
+	/**
+	 * The session that new validators record their failures into, or {@code null} if each validator records
+	 * its failures into a list of its own.
+	 */
+	protected ValidationSession session;
 
 	/**
 	 * Creates a new instance.
@@ -176,7 +196,75 @@ public abstract class AbstractValidators<S> implements Validators<S>
 	@Override
 	public Map<String, Optional<Object>> getContext()
 	{
-		return Map.copyOf(context);
+		return contextSnapshot;
+	}
+
+	@Override
+	public S withContext(Object value, String name)
+	{
+		context.put(name, Optional.ofNullable(value));
+		contextSnapshot = Map.copyOf(context);
+		return self();
+	}
+
+	@Override
+	public S removeContext(String name)
+	{
+		if (context.remove(name) != null)
+			contextSnapshot = Map.copyOf(context);
+		return self();
+	}
+
+	/**
+	 * Copies the contextual information of another factory into this one.
+	 *
+	 * @param other the factory to copy from
+	 */
+	protected final void copyContext(AbstractValidators<?> other)
+	{
+		context.putAll(other.context);
+		contextSnapshot = Map.copyOf(context);
+	}
+
+	@Override
+	public S withSession(ValidationSession session)
+	{
+		if (session == null)
+			throw new NullPointerException("session may not be null");
+		this.session = session;
+		return self();
+	}
+
+	/**
+	 * Returns the session that new validators record their failures into.
+	 *
+	 * @return null if each validator records its failures into a list of its own
+	 */
+	public ValidationSession getSession()
+	{
+		return session;
+	}
+
+	/**
+	 * Returns the contextual information of a new validator.
+	 *
+	 * @return the context bound by {@link ScopedContext}, overridden by the context of this factory
+	 */
+	protected Map<String, Optional<Object>> newValidatorContext()
+	{
+		return new ValidatorContext(ScopedContext.getContext(), getContext());
+	}
+
+	/**
+	 * Returns the list that a new validator records its failures into.
+	 *
+	 * @return the session's failures if the factory is bound to a session; otherwise, a new list
+	 */
+	protected List<ValidationFailure> newValidatorFailures()
+	{
+		if (session != null)
+			return ((FailureSink) session).getFailures();
+		return new ArrayList<>(2);
 	}
 
 	@Override
@@ -199,6 +287,7 @@ public abstract class AbstractValidators<S> implements Validators<S>
 		private EqualityMethod equalityMethod;
 		private boolean recordStacktrace;
 		private Function<Throwable, ? extends Throwable> exceptionTransformer;
+		private int maximumFailures;
 		private boolean changed;
 		private boolean closed;
 
@@ -220,6 +309,7 @@ public abstract class AbstractValidators<S> implements Validators<S>
 			this.mutableStringMappers = MutableStringMappers.from(configuration.stringMappers());
 			this.recordStacktrace = configuration.recordStacktrace();
 			this.exceptionTransformer = configuration.exceptionTransformer();
+			this.maximumFailures = configuration.maximumFailures();
 		}
 
 		@Override
@@ -325,6 +415,27 @@ public abstract class AbstractValidators<S> implements Validators<S>
 			return this;
 		}
 
+		@Override
+		public int maximumFailures()
+		{
+			ensureOpen();
+			return maximumFailures;
+		}
+
+		@Override
+		public ConfigurationUpdater maximumFailures(int maximumFailures)
+		{
+			ensureOpen();
+			if (maximumFailures <= 0)
+				throw new IllegalArgumentException("maximumFailures must be positive");
+			if (maximumFailures != this.maximumFailures)
+			{
+				this.maximumFailures = maximumFailures;
+				changed = true;
+			}
+			return this;
+		}
+
 		/**
 		 * @throws IllegalStateException if the updater is closed
 		 */
@@ -346,7 +457,8 @@ public abstract class AbstractValidators<S> implements Validators<S>
 			if (!changed)
 				return;
 			this.setConfiguration.accept(new Configuration(cleanStackTrace, allowDiff, equalityMethod,
-				immutableStringMappers, recordStacktrace, oldConfiguration.throwOnFailure(), exceptionTransformer));
+				immutableStringMappers, recordStacktrace, oldConfiguration.throwOnFailure(),
+				exceptionTransformer, maximumFailures));
 		}
 
 		@Override
@@ -354,7 +466,8 @@ public abstract class AbstractValidators<S> implements Validators<S>
 		{
 			return "cleanStackTrace: " + cleanStackTrace + ", allowDiff: " + allowDiff + ", equalityMethod: " +
 				equalityMethod + ", stringMappers: " + mutableStringMappers + ", recordStacktrace: " +
-				recordStacktrace + ", exceptionTransformer: " + exceptionTransformer;
+				recordStacktrace + ", exceptionTransformer: " + exceptionTransformer + ", maximumFailures: " +
+				maximumFailures;
 		}
 	}
 }
\ No newline at end of file
@@ -69,7 +69,7 @@ public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDe
 		if (value.validationFailed(v -> v.compareTo(BigDecimal.ZERO) < 0))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isNegativeFailed(this).toString());
 		}
 		return this;
@@ -82,7 +82,7 @@ public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDe
 		if (value.validationFailed(v -> !(v.compareTo(BigDecimal.ZERO) < 0)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isNotNegativeFailed(this).toString());
 		}
 		return this;
@@ -94,7 +94,7 @@ public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDe
 		if (value.validationFailed(v -> v.compareTo(BigDecimal.ZERO) == 0))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isZeroFailed(this).toString());
 		}
 		return this;
@@ -107,7 +107,7 @@ public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDe
 		if (value.validationFailed(v -> !(v.compareTo(BigDecimal.ZERO) == 0)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isNotZeroFailed(this).toString());
 		}
 		return this;
@@ -119,7 +119,7 @@ public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDe
 		if (value.validationFailed(v -> v.compareTo(BigDecimal.ZERO) > 0))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isPositiveFailed(this).toString());
 		}
 		return this;
@@ -132,7 +132,7 @@ public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDe
 		if (value.validationFailed(v -> !(v.compareTo(BigDecimal.ZERO) > 0)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isNotPositiveFailed(this).toString());
 		}
 		return this;
@@ -144,7 +144,7 @@ public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDe
 		if (value.validationFailed(BigDecimalValidatorImpl::isWholeNumber))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isWholeNumberFailed(this).toString());
 		}
 		return this;
@@ -156,7 +156,7 @@ public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDe
 		if (value.validationFailed(v -> !isWholeNumber(v)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isNotWholeNumberFailed(this).toString());
 		}
 		return this;
@@ -182,7 +182,7 @@ public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDe
 		if (value.validationFailed(v -> isMultipleOf(v, factor)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isMultipleOfFailed(this, name, factor).toString());
 		}
 		return this;
@@ -208,7 +208,7 @@ public final class BigDecimalValidatorImpl extends AbstractObjectValidator<BigDe
 		if (value.validationFailed(v -> !isMultipleOf(v, factor)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isNotMultipleOfFailed(this, name, factor).toString());
 		}
 		return this;
@@ -57,7 +57,7 @@ public final class BigIntegerValidatorImpl extends AbstractObjectValidator<BigIn
 		if (value.validationFailed(v -> v.compareTo(BigInteger.ZERO) < 0))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isNegativeFailed(this).toString());
 		}
 		return this;
@@ -70,7 +70,7 @@ public final class BigIntegerValidatorImpl extends AbstractObjectValidator<BigIn
 		if (value.validationFailed(v -> !(v.compareTo(BigInteger.ZERO) < 0)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isNotNegativeFailed(this).toString());
 		}
 		return this;
@@ -82,7 +82,7 @@ public final class BigIntegerValidatorImpl extends AbstractObjectValidator<BigIn
 		if (value.validationFailed(v -> v.compareTo(BigInteger.ZERO) == 0))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isZeroFailed(this).toString());
 		}
 		return this;
@@ -95,7 +95,7 @@ public final class BigIntegerValidatorImpl extends AbstractObjectValidator<BigIn
 		if (value.validationFailed(v -> !(v.compareTo(BigInteger.ZERO) == 0)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isNotZeroFailed(this).toString());
 		}
 		return this;
@@ -107,7 +107,7 @@ public final class BigIntegerValidatorImpl extends AbstractObjectValidator<BigIn
 		if (value.validationFailed(v -> v.compareTo(BigInteger.ZERO) > 0))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isPositiveFailed(this).toString());
 		}
 		return this;
@@ -120,7 +120,7 @@ public final class BigIntegerValidatorImpl extends AbstractObjectValidator<BigIn
 		if (value.validationFailed(v -> !(v.compareTo(BigInteger.ZERO) > 0)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isNotPositiveFailed(this).toString());
 		}
 		return this;
@@ -146,7 +146,7 @@ public final class BigIntegerValidatorImpl extends AbstractObjectValidator<BigIn
 		if (value.validationFailed(v -> isMultipleOf(v, factor)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isMultipleOfFailed(this, name, factor).toString());
 		}
 		return this;
@@ -172,7 +172,7 @@ public final class BigIntegerValidatorImpl extends AbstractObjectValidator<BigIn
 		if (value.validationFailed(v -> !isMultipleOf(v, factor)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				NumberMessages.isNotMultipleOfFailed(this, name, factor).toString());
 		}
 		return this;
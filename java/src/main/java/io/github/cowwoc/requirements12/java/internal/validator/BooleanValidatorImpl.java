@@ -42,7 +42,7 @@ public final class BooleanValidatorImpl extends AbstractObjectValidator<BooleanV
 		if (value.validationFailed(v -> v))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				BooleanMessages.isTrueFailed(this).toString());
 		}
 		return this;
@@ -54,7 +54,7 @@ public final class BooleanValidatorImpl extends AbstractObjectValidator<BooleanV
 		if (value.validationFailed(v -> !v))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				BooleanMessages.isFalseFailed(this).toString());
 		}
 		return this;
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.validator;
+
+import io.github.cowwoc.requirements12.java.ValidationFailure;
+import io.github.cowwoc.requirements12.java.internal.Configuration;
+import io.github.cowwoc.requirements12.java.internal.message.ByteBufferMessages;
+import io.github.cowwoc.requirements12.java.internal.message.ValidatorMessages;
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.java.internal.util.ByteBuffers;
+import io.github.cowwoc.requirements12.java.internal.util.Checksums;
+import io.github.cowwoc.requirements12.java.internal.util.Pluralizer;
+import io.github.cowwoc.requirements12.java.internal.util.ValidationTarget;
+import io.github.cowwoc.requirements12.java.validator.ByteBufferValidator;
+import io.github.cowwoc.requirements12.java.validator.PrimitiveUnsignedIntegerValidator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class ByteBufferValidatorImpl extends AbstractObjectValidator<ByteBufferValidator, ByteBuffer>
+	implements ByteBufferValidator
+{
+	/**
+	 * @param scope         the application configuration
+	 * @param configuration the validator configuration
+	 * @param name          the name of the value
+	 * @param value         the value being validated
+	 * @param context       the contextual information set by a parent validator or the user
+	 * @param failures      the list of validation failures
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
+	 * @throws AssertionError           if {@code scope}, {@code configuration}, {@code value}, {@code context}
+	 *                                  or {@code failures} are null
+	 */
+	public ByteBufferValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
+		ValidationTarget<ByteBuffer> value, Map<String, Optional<Object>> context,
+		List<ValidationFailure> failures)
+	{
+		super(scope, configuration, name, value, context, failures);
+	}
+
+	@Override
+	public PrimitiveUnsignedIntegerValidator remaining()
+	{
+		failOnNull();
+		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".remaining()",
+			value.nullToInvalid().map(ByteBuffer::remaining), Pluralizer.BYTE, context, failures);
+	}
+
+	@Override
+	public PrimitiveUnsignedIntegerValidator limit()
+	{
+		failOnNull();
+		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".limit()",
+			value.nullToInvalid().map(ByteBuffer::limit), Pluralizer.BYTE, context, failures);
+	}
+
+	@Override
+	public PrimitiveUnsignedIntegerValidator capacity()
+	{
+		failOnNull();
+		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".capacity()",
+			value.nullToInvalid().map(ByteBuffer::capacity), Pluralizer.BYTE, context, failures);
+	}
+
+	@Override
+	public ByteBufferValidator isDirect()
+	{
+		if (value.validationFailed(ByteBuffer::isDirect))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				ValidatorMessages.constraintFailed(this, "must be a direct buffer").toString());
+		}
+		return this;
+	}
+
+	@Override
+	public ByteBufferValidator hasOrder(ByteOrder expected)
+	{
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		if (value.validationFailed(v -> v.order() == expected))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				ByteBufferMessages.hasOrder(this, expected).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public ByteBufferValidator isAligned(int unitSize)
+	{
+		// A power of two consists of its highest one-bit alone
+		scope.getInternalValidators().requireThat(unitSize, "unitSize").isPositive().
+			isEqualTo(Integer.highestOneBit(unitSize), "Integer.highestOneBit(unitSize)");
+		// ByteBuffer.alignmentOffset() throws UnsupportedOperationException if the alignment of a heap buffer
+		// depends on the JVM. The alignment is undefined, so the buffer is not known to be aligned.
+		ValidationTarget<Integer> alignmentOffset = value.nullToInvalid().
+			map(v ->
+			{
+				if (!v.isDirect() && unitSize > Long.BYTES)
+					return null;
+				return v.alignmentOffset(v.position(), unitSize);
+			}).nullToInvalid();
+		if (alignmentOffset.validationFailed(v -> v == 0))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				ByteBufferMessages.isAligned(this, unitSize, alignmentOffset.or(null)).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public ByteBufferValidator startsWith(byte[] prefix)
+	{
+		scope.getInternalValidators().requireThat(prefix, "prefix").isNotNull();
+		ValidationTarget<Integer> mismatch = value.nullToInvalid().map(v -> ByteBuffers.mismatch(v, prefix));
+		if (mismatch.validationFailed(v -> v == -1))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				ByteBufferMessages.bytesFailed(this, "must start with", prefix, mismatch.or(null)).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public ByteBufferValidator contains(byte[] expected)
+	{
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		if (value.validationFailed(v -> ByteBuffers.indexOf(v, expected) != -1))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				ByteBufferMessages.bytesFailed(this, "must contain", expected, null).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public ByteBufferValidator doesNotContain(byte[] unwanted)
+	{
+		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
+		ValidationTarget<Integer> index = value.nullToInvalid().map(v -> ByteBuffers.indexOf(v, unwanted));
+		if (index.validationFailed(v -> v == -1))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				ByteBufferMessages.bytesFailed(this, "may not contain", unwanted, index.or(null)).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public ByteBufferValidator hasChecksum(String algorithm, byte[] expected)
+	{
+		scope.getInternalValidators().requireThat(algorithm, "algorithm").isNotNull();
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		Checksums.requireSupported(algorithm);
+		ValidationTarget<byte[]> actual = value.nullToInvalid().map(v -> Checksums.compute(algorithm, v));
+		if (actual.validationFailed(v -> Arrays.equals(v, expected)))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				ValidatorMessages.hasChecksumFailed(this, algorithm, expected, actual.or(null)).toString());
+		}
+		return this;
+	}
+
+	@Override
+	protected ByteBufferValidator isEqualToImpl(Object expected, String name)
+	{
+		if (!(expected instanceof ByteBuffer expectedBuffer))
+			return super.isEqualToImpl(expected, name);
+		if (value.nullToInvalid().map(v -> v.mismatch(expectedBuffer) != -1).or(true))
+		{
+			addIllegalArgumentException(() ->
+				ByteBufferMessages.isEqualToFailed(this, name, expectedBuffer).toString());
+		}
+		return this;
+	}
+}
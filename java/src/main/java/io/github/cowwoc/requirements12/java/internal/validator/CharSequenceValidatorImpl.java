@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.validator;
+
+import io.github.cowwoc.requirements12.java.SubstringMatcher;
+import io.github.cowwoc.requirements12.java.SubstringMatcher.Match;
+import io.github.cowwoc.requirements12.java.ValidationFailure;
+import io.github.cowwoc.requirements12.java.internal.Configuration;
+import io.github.cowwoc.requirements12.java.internal.message.ObjectMessages;
+import io.github.cowwoc.requirements12.java.internal.message.StringMessages;
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.java.internal.util.CharSequences;
+import io.github.cowwoc.requirements12.java.internal.util.DeadlineCharSequence;
+import io.github.cowwoc.requirements12.java.internal.util.DeadlineCharSequence.MatchOutcome;
+import io.github.cowwoc.requirements12.java.internal.util.Pluralizer;
+import io.github.cowwoc.requirements12.java.internal.util.ValidationTarget;
+import io.github.cowwoc.requirements12.java.validator.CharSequenceValidator;
+import io.github.cowwoc.requirements12.java.validator.PrimitiveUnsignedIntegerValidator;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public final class CharSequenceValidatorImpl
+	extends AbstractObjectValidator<CharSequenceValidator, CharSequence>
+	implements CharSequenceValidator
+{
+	/**
+	 * @param scope         the application configuration
+	 * @param configuration the validator configuration
+	 * @param name          the name of the value
+	 * @param value         the value being validated
+	 * @param context       the contextual information set by a parent validator or the user
+	 * @param failures      the list of validation failures
+	 * @throws NullPointerException     if {@code name} is null
+	 * @throws IllegalArgumentException if {@code name} contains whitespace, or is empty
+	 * @throws AssertionError           if {@code scope}, {@code configuration}, {@code value}, {@code context}
+	 *                                  or {@code failures} are null
+	 */
+	public CharSequenceValidatorImpl(ApplicationScope scope, Configuration configuration, String name,
+		ValidationTarget<CharSequence> value, Map<String, Optional<Object>> context,
+		List<ValidationFailure> failures)
+	{
+		super(scope, configuration, name, value, context, failures);
+	}
+
+	@Override
+	public CharSequenceValidator isEmpty()
+	{
+		if (value.validationFailed(CharSequence::isEmpty))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				ObjectMessages.isEmptyFailed(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator isNotEmpty()
+	{
+		if (value.validationFailed(v -> !v.isEmpty()))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				ObjectMessages.isNotEmptyFailed(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator isBlank()
+	{
+		if (value.validationFailed(CharSequences::isBlank))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.isBlank(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator isNotBlank()
+	{
+		if (value.validationFailed(v -> !CharSequences.isBlank(v)))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.isNotBlank(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator isTrimmed()
+	{
+		if (value.validationFailed(CharSequences::isTrimmed))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.isTrimmed(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator isStripped()
+	{
+		if (value.validationFailed(CharSequences::isStripped))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.isStripped(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator startsWith(String prefix)
+	{
+		scope.getInternalValidators().requireThat(prefix, "prefix").isNotNull();
+		if (value.validationFailed(v -> CharSequences.startsWith(v, prefix)))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.startsWith(this, prefix).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator doesNotStartWith(String prefix)
+	{
+		scope.getInternalValidators().requireThat(prefix, "prefix").isNotNull();
+		if (value.validationFailed(v -> !CharSequences.startsWith(v, prefix)))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.doesNotStartWith(this, prefix).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator endsWith(String suffix)
+	{
+		scope.getInternalValidators().requireThat(suffix, "suffix").isNotNull();
+		if (value.validationFailed(v -> CharSequences.endsWith(v, suffix)))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.endsWith(this, suffix).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator doesNotEndWith(String suffix)
+	{
+		scope.getInternalValidators().requireThat(suffix, "suffix").isNotNull();
+		if (value.validationFailed(v -> !CharSequences.endsWith(v, suffix)))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.doesNotEndWith(this, suffix).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator contains(String expected)
+	{
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		if (value.validationFailed(v -> CharSequences.indexOf(v, expected) != -1))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.contains(this, expected).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator doesNotContain(String unwanted)
+	{
+		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
+		if (value.validationFailed(v -> CharSequences.indexOf(v, unwanted) == -1))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.doesNotContain(this, unwanted).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator containsAny(Collection<String> expected)
+	{
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		return containsAny(SubstringMatcher.of(expected));
+	}
+
+	@Override
+	public CharSequenceValidator containsAny(SubstringMatcher expected)
+	{
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		if (value.validationFailed(v -> expected.find(v) != null))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.containsAny(this, expected.getPatterns()).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator doesNotContainAny(Collection<String> unwanted)
+	{
+		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
+		return doesNotContainAny(SubstringMatcher.of(unwanted));
+	}
+
+	@Override
+	public CharSequenceValidator doesNotContainAny(SubstringMatcher unwanted)
+	{
+		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
+		CharSequence v = value.or(null);
+		if (v == null)
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.doesNotContainAny(this, null).toString());
+			return this;
+		}
+		Match match = unwanted.find(v);
+		if (match != null)
+		{
+			addIllegalArgumentException(() ->
+				StringMessages.doesNotContainAny(this, match.pattern()).
+					withContext(match.index(), "index").toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator doesNotContainWhitespace()
+	{
+		if (value.validationFailed(v -> !CharSequences.containsWhitespace(v)))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.doesNotContainWhitespace(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator matches(String regex)
+	{
+		scope.getInternalValidators().requireThat(regex, "regex").isNotNull();
+		return matches(scope.getPatternCache().getPattern(regex, 0));
+	}
+
+	@Override
+	public CharSequenceValidator matches(Pattern regex)
+	{
+		scope.getInternalValidators().requireThat(regex, "regex").isNotNull();
+		if (value.validationFailed(v -> regex.matcher(v).matches()))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.matches(this, regex).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public CharSequenceValidator matches(Pattern regex, Duration timeout)
+	{
+		scope.getInternalValidators().requireThat(regex, "regex").isNotNull();
+		scope.getInternalValidators().requireThat(timeout, "timeout").isGreaterThan(Duration.ZERO);
+		ValidationTarget<MatchOutcome> outcome = value.nullToInvalid().
+			map(v -> DeadlineCharSequence.matches(regex, v, timeout));
+		if (outcome.validationFailed(o -> o == MatchOutcome.MATCH))
+		{
+			failOnNull();
+			if (outcome.or(null) == MatchOutcome.TIMEOUT)
+			{
+				addIllegalArgumentException(() ->
+					StringMessages.matchesWithinTimeout(this, regex, timeout).toString());
+			}
+			else
+			{
+				addIllegalArgumentException(() ->
+					StringMessages.matches(this, regex).toString());
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public PrimitiveUnsignedIntegerValidator length()
+	{
+		failOnNull();
+		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".length()",
+			value.nullToInvalid().map(CharSequence::length), Pluralizer.CHARACTER, context, failures);
+	}
+
+	@Override
+	public PrimitiveUnsignedIntegerValidator codePointLength()
+	{
+		failOnNull();
+		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".codePointLength()",
+			value.nullToInvalid().map(v -> Character.codePointCount(v, 0, v.length())), Pluralizer.CODEPOINT,
+			context, failures);
+	}
+}
@@ -68,7 +68,7 @@ final class Characters<S>
 	{
 		if (validator.value.validationFailed(v -> v == expected))
 		{
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				ValidatorMessages.isEqualToFailed(validator, name, expected).toString());
 		}
 		return self();
@@ -112,7 +112,7 @@ final class Characters<S>
 	{
 		if (validator.value.validationFailed(v -> v != unwanted))
 		{
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				ValidatorMessages.isNotEqualToFailed(validator, name, unwanted).toString());
 		}
 		return self();
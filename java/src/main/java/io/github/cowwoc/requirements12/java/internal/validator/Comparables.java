@@ -68,7 +68,7 @@ final class Comparables<S, T extends Comparable<T>>
 		if (validator.value.validationFailed(v -> v.compareTo(maximumExclusive) < 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				ComparableMessages.isLessThanFailed(validator, name, maximumExclusive).toString());
 		}
 		return self();
@@ -116,7 +116,7 @@ final class Comparables<S, T extends Comparable<T>>
 		if (validator.value.validationFailed(v -> v.compareTo(maximumInclusive) <= 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				ComparableMessages.isLessThanOrEqualToFailed(validator, name, maximumInclusive).toString());
 		}
 		return self();
@@ -164,7 +164,7 @@ final class Comparables<S, T extends Comparable<T>>
 		if (validator.value.validationFailed(v -> v.compareTo(minimumInclusive) >= 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				ComparableMessages.isGreaterThanOrEqualToFailed(validator, name, minimumInclusive).toString());
 		}
 		return self();
@@ -212,7 +212,7 @@ final class Comparables<S, T extends Comparable<T>>
 		if (validator.value.validationFailed(v -> v.compareTo(minimumExclusive) > 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				ComparableMessages.isGreaterThanFailed(validator, name, minimumExclusive).toString());
 		}
 		return self();
@@ -270,7 +270,7 @@ final class Comparables<S, T extends Comparable<T>>
 			inBounds(v, minimum, minimumIsInclusive, maximum, maximumIsInclusive)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				ComparableMessages.isBetweenFailed(validator, minimum, minimumIsInclusive, maximum,
 						maximumIsInclusive).
 					toString());
@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.validator;
+
+import io.github.cowwoc.requirements12.java.ConcurrentValidationSession;
+import io.github.cowwoc.requirements12.java.ValidationFailure;
+import io.github.cowwoc.requirements12.java.ValidationFailures;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The default implementation of {@code ConcurrentValidationSession}.
+ * <p>
+ * Writers reserve a slot using compare-and-set and append their failure to a lock-free queue. The slot number
+ * orders failures that share the same index. Readers sort a snapshot of the queue.
+ */
+public final class ConcurrentValidationSessionImpl implements ConcurrentValidationSession, FailureSink
+{
+	/**
+	 * Sorts failures by their index, then by the order in which they were recorded.
+	 */
+	private static final Comparator<Entry> ENTRY_ORDER = Comparator.comparingLong(Entry::index).
+		thenComparingInt(Entry::slot);
+	private final ConcurrentLinkedQueue<Entry> entries = new ConcurrentLinkedQueue<>();
+	/**
+	 * The number of slots that writers have reserved.
+	 */
+	private final AtomicInteger reserved = new AtomicInteger();
+	/**
+	 * The number of failures in {@link #entries}. {@code ConcurrentLinkedQueue.size()} traverses the queue.
+	 */
+	private final AtomicInteger recorded = new AtomicInteger();
+	private final List<ValidationFailure> failuresView = new Failures();
+	private volatile int maximumFailures = Integer.MAX_VALUE;
+	private volatile boolean failFast;
+	/**
+	 * {@code true} if all the recorded failures allow their stack trace to be modified. Once set to
+	 * {@code false}, the value never changes.
+	 */
+	private volatile boolean cleanStackTrace = true;
+
+	/**
+	 * Creates a new session that records an unlimited number of failures.
+	 */
+	public ConcurrentValidationSessionImpl()
+	{
+	}
+
+	@Override
+	public int maximumFailures()
+	{
+		return maximumFailures;
+	}
+
+	@Override
+	public ConcurrentValidationSession maximumFailures(int maximumFailures)
+	{
+		if (maximumFailures <= 0)
+		{
+			throw new IllegalArgumentException("maximumFailures must be positive.\n" +
+				"actual: " + maximumFailures);
+		}
+		this.maximumFailures = maximumFailures;
+		return this;
+	}
+
+	@Override
+	public boolean failFast()
+	{
+		return failFast;
+	}
+
+	@Override
+	public ConcurrentValidationSession failFast(boolean failFast)
+	{
+		this.failFast = failFast;
+		return this;
+	}
+
+	@Override
+	public ConcurrentValidationSession forIndex(long index)
+	{
+		return new IndexedSession(index);
+	}
+
+	@Override
+	public boolean isCancelled()
+	{
+		return reserved.get() >= maximumFailures;
+	}
+
+	@Override
+	public boolean validationFailed()
+	{
+		return !entries.isEmpty();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Failures whose writers have not returned yet might be missing from the result.
+	 */
+	@Override
+	public ValidationFailures elseGetFailures()
+	{
+		Entry[] snapshot = entries.toArray(new Entry[0]);
+		Arrays.sort(snapshot, ENTRY_ORDER);
+		List<ValidationFailure> failures = new ArrayList<>(snapshot.length);
+		for (Entry entry : snapshot)
+			failures.add(entry.failure());
+		return new ValidationFailures(cleanStackTrace, failures);
+	}
+
+	@Override
+	public boolean elseThrow()
+	{
+		return elseGetFailures().throwOnFailure();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The list may be shared by validators running on multiple threads. Failures that are added to it are
+	 * associated with index {@code 0}. The list's iterator is weakly consistent, and its elements are listed
+	 * in the order that they were recorded.
+	 */
+	@Override
+	public List<ValidationFailure> getFailures()
+	{
+		return failuresView;
+	}
+
+	/**
+	 * Records a failure.
+	 *
+	 * @param index   the position of the failure relative to other failures in the session
+	 * @param failure the failure
+	 * @return {@code false} if the session is full and the failure was discarded
+	 */
+	private boolean record(long index, ValidationFailure failure)
+	{
+		int maximumFailures = this.maximumFailures;
+		int slot;
+		do
+		{
+			slot = reserved.get();
+			if (slot >= maximumFailures)
+				return false;
+		}
+		while (!reserved.compareAndSet(slot, slot + 1));
+
+		entries.add(new Entry(index, slot, failure));
+		recorded.incrementAndGet();
+		if (failure instanceof ValidationFailureImpl impl && !impl.cleanStackTrace())
+			cleanStackTrace = false;
+		if (failFast && slot + 1 == maximumFailures)
+			elseThrow();
+		return true;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "maximumFailures: " + maximumFailures + ", failFast: " + failFast + ", failures: " +
+			elseGetFailures().getFailures();
+	}
+
+	/**
+	 * A failure and its position in the session.
+	 *
+	 * @param index   the index of the failure
+	 * @param slot    the order in which the failure was recorded
+	 * @param failure the failure
+	 */
+	private record Entry(long index, int slot, ValidationFailure failure)
+	{
+	}
+
+	/**
+	 * The failures of the session, as seen by validators that are not associated with an index.
+	 * <p>
+	 * {@code size()} and {@code add()} run in constant time. {@code get()} traverses the queue, so validators
+	 * never invoke it.
+	 */
+	private final class Failures extends AbstractList<ValidationFailure>
+	{
+		@Override
+		public ValidationFailure get(int index)
+		{
+			if (index < 0)
+				throw new IndexOutOfBoundsException(index);
+			Iterator<ValidationFailure> iterator = iterator();
+			for (int i = 0; i < index && iterator.hasNext(); ++i)
+				iterator.next();
+			if (!iterator.hasNext())
+				throw new IndexOutOfBoundsException(index);
+			return iterator.next();
+		}
+
+		@Override
+		public Iterator<ValidationFailure> iterator()
+		{
+			Iterator<Entry> delegate = entries.iterator();
+			return new Iterator<>()
+			{
+				@Override
+				public boolean hasNext()
+				{
+					return delegate.hasNext();
+				}
+
+				@Override
+				public ValidationFailure next()
+				{
+					return delegate.next().failure();
+				}
+			};
+		}
+
+		@Override
+		public int size()
+		{
+			return recorded.get();
+		}
+
+		@Override
+		public boolean isEmpty()
+		{
+			return recorded.get() == 0;
+		}
+
+		@Override
+		public boolean add(ValidationFailure failure)
+		{
+			return record(0, failure);
+		}
+	}
+
+	/**
+	 * A view of the session that records failures under a fixed index.
+	 */
+	public final class IndexedSession implements ConcurrentValidationSession, FailureSink
+	{
+		private final long index;
+		/**
+		 * The failures that were recorded through this view.
+		 */
+		private final List<ValidationFailure> failures = new ArrayList<>(2);
+		private final List<ValidationFailure> failuresView = new IndexedFailures();
+
+		/**
+		 * @param index the position of the failures relative to other failures in the session
+		 */
+		private IndexedSession(long index)
+		{
+			this.index = index;
+		}
+
+		@Override
+		public int maximumFailures()
+		{
+			return ConcurrentValidationSessionImpl.this.maximumFailures();
+		}
+
+		@Override
+		public ConcurrentValidationSession maximumFailures(int maximumFailures)
+		{
+			ConcurrentValidationSessionImpl.this.maximumFailures(maximumFailures);
+			return this;
+		}
+
+		@Override
+		public boolean failFast()
+		{
+			return ConcurrentValidationSessionImpl.this.failFast();
+		}
+
+		@Override
+		public ConcurrentValidationSession failFast(boolean failFast)
+		{
+			ConcurrentValidationSessionImpl.this.failFast(failFast);
+			return this;
+		}
+
+		@Override
+		public ConcurrentValidationSession forIndex(long index)
+		{
+			return ConcurrentValidationSessionImpl.this.forIndex(index);
+		}
+
+		@Override
+		public boolean isCancelled()
+		{
+			return ConcurrentValidationSessionImpl.this.isCancelled();
+		}
+
+		@Override
+		public boolean validationFailed()
+		{
+			return !failures.isEmpty();
+		}
+
+		@Override
+		public ValidationFailures elseGetFailures()
+		{
+			boolean cleanStackTrace = true;
+			for (ValidationFailure failure : failures)
+				if (failure instanceof ValidationFailureImpl impl && !impl.cleanStackTrace())
+				{
+					cleanStackTrace = false;
+					break;
+				}
+			return new ValidationFailures(cleanStackTrace, failures);
+		}
+
+		@Override
+		public boolean elseThrow()
+		{
+			return elseGetFailures().throwOnFailure();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * The list is not thread-safe. It only contains the failures that were recorded through this view.
+		 */
+		@Override
+		public List<ValidationFailure> getFailures()
+		{
+			return failuresView;
+		}
+
+		@Override
+		public String toString()
+		{
+			return "index: " + index + ", failures: " + failures;
+		}
+
+		/**
+		 * The failures of the view, as seen by validators.
+		 */
+		private final class IndexedFailures extends AbstractList<ValidationFailure>
+			implements RandomAccess
+		{
+			@Override
+			public ValidationFailure get(int index)
+			{
+				return failures.get(index);
+			}
+
+			@Override
+			public int size()
+			{
+				return failures.size();
+			}
+
+			@Override
+			public boolean add(ValidationFailure failure)
+			{
+				// Add the failure to the local list first in case record() throws
+				failures.add(failure);
+				if (record(index, failure))
+					return true;
+				failures.removeLast();
+				return false;
+			}
+		}
+	}
+}
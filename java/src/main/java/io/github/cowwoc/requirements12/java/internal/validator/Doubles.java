@@ -73,7 +73,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> Double.compare(v, expected) == 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				ValidatorMessages.isEqualToFailed(validator, name, expected).toString());
 		}
 		return self();
@@ -120,7 +120,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> Double.compare(v, unwanted) != 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				ValidatorMessages.isNotEqualToFailed(validator, name, unwanted).toString());
 		}
 		return self();
@@ -142,7 +142,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> Double.compare(v, 0.0) < 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNegativeFailed(validator).toString());
 		}
 		return self();
@@ -161,7 +161,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> !(Double.compare(v, 0.0) < 0)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNotNegativeFailed(validator).toString());
 		}
 		return self();
@@ -183,7 +183,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> Double.compare(v, -0.0) == 0 || Double.compare(v, 0.0) == 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isZeroFailed(validator).toString());
 		}
 		return self();
@@ -201,7 +201,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> !(Double.compare(v, -0.0) == 0 || Double.compare(v, 0.0) == 0)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNotZeroFailed(validator).toString());
 		}
 		return self();
@@ -223,7 +223,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> !v.isNaN() && Double.compare(v, 0.0) > 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isPositiveFailed(validator).toString());
 		}
 		return self();
@@ -242,7 +242,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> v.isNaN() || !(Double.compare(v, 0.0) > 0)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNotPositiveFailed(validator).toString());
 		}
 		return self();
@@ -697,7 +697,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> Numbers.isMultipleOf(v, factor)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isMultipleOfFailed(validator, name, factor).toString());
 		}
 		return self();
@@ -742,7 +742,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> !Numbers.isMultipleOf(v, factor)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNotMultipleOfFailed(validator, name, factor).toString());
 		}
 		return self();
@@ -762,7 +762,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> !v.isNaN()))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNumberFailed(validator).toString());
 		}
 		return self();
@@ -782,7 +782,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> v.isNaN()))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNotNumberFailed(validator).toString());
 		}
 		return self();
@@ -806,7 +806,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(Double::isFinite))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isFiniteFailed(validator).toString());
 		}
 		return self();
@@ -830,7 +830,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> Double.isInfinite(v)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isInfiniteFailed(validator).toString());
 		}
 		return self();
@@ -852,7 +852,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(Numbers::isWholeNumber))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isWholeNumberFailed(validator).toString());
 		}
 		return self();
@@ -870,7 +870,7 @@ final class Doubles<S>
 		if (validator.value.validationFailed(v -> !Numbers.isWholeNumber(v)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNotWholeNumberFailed(validator).toString());
 		}
 		return self();
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.validator;
+
+import io.github.cowwoc.requirements12.java.ValidationFailure;
+
+import java.util.List;
+
+/**
+ * A destination that is shared by the failures of multiple validators.
+ */
+public interface FailureSink
+{
+	/**
+	 * Returns the list that validators record their failures into.
+	 *
+	 * @return the list of failures
+	 */
+	List<ValidationFailure> getFailures();
+}
@@ -47,7 +47,7 @@ public final class GenericTypeValidatorImpl<T>
 	{
 		if (value.validationFailed(GenericType::isPrimitive))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ClassMessages.isPrimitiveFailed(this).toString());
 		}
 		return this;
@@ -65,7 +65,7 @@ public final class GenericTypeValidatorImpl<T>
 		scope.getInternalValidators().requireThat(subtype, "type").isNotNull();
 		if (value.validationFailed(subtype::isSubtypeOf))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ClassMessages.isSupertypeOfFailed(this, subtype).toString());
 		}
 		return self();
@@ -83,7 +83,7 @@ public final class GenericTypeValidatorImpl<T>
 		scope.getInternalValidators().requireThat(supertype, "type").isNotNull();
 		if (value.validationFailed(supertype::isSupertypeOf))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ClassMessages.isSubtypeOfFailed(this, supertype).toString());
 		}
 		return self();
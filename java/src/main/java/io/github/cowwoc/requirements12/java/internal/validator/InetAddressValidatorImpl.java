@@ -4,6 +4,7 @@
  */
 package io.github.cowwoc.requirements12.java.internal.validator;
 
+import io.github.cowwoc.requirements12.java.SubnetSet;
 import io.github.cowwoc.requirements12.java.ValidationFailure;
 import io.github.cowwoc.requirements12.java.internal.Configuration;
 import io.github.cowwoc.requirements12.java.internal.message.InetAddressMessages;
@@ -21,6 +22,11 @@ import java.util.Optional;
 public final class InetAddressValidatorImpl extends AbstractObjectValidator<InetAddressValidator, InetAddress>
 	implements InetAddressValidator
 {
+	/**
+	 * The maximum number of nearby ranges to report when a value does not belong to any range.
+	 */
+	private static final int MAXIMUM_NEAREST_RANGES = 3;
+
 	/**
 	 * @param scope         the application configuration
 	 * @param configuration the validator configuration
@@ -46,7 +52,7 @@ public final class InetAddressValidatorImpl extends AbstractObjectValidator<Inet
 		if (value.validationFailed(v -> v instanceof Inet4Address))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				InetAddressMessages.isIpAddressFailed(this, "IP v4").toString());
 		}
 		return this;
@@ -58,9 +64,60 @@ public final class InetAddressValidatorImpl extends AbstractObjectValidator<Inet
 		if (value.validationFailed(v -> v instanceof Inet6Address))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				InetAddressMessages.isIpAddressFailed(this, "IP v6").toString());
 		}
 		return this;
 	}
-}
\ No newline at end of file
+
+	@Override
+	public InetAddressValidator isInSubnet(String range)
+	{
+		scope.getInternalValidators().requireThat(range, "range").isNotNull();
+		SubnetSet ranges = SubnetSet.of(List.of(range));
+		if (value.validationFailed(v -> ranges.getMatchingRange(v) != null))
+		{
+			failOnNull();
+			addIllegalArgumentException(() -> InetAddressMessages.isInSubnet(this, range).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public InetAddressValidator isInAnyOf(SubnetSet ranges)
+	{
+		scope.getInternalValidators().requireThat(ranges, "ranges").isNotNull();
+		if (value.validationFailed(v -> ranges.getMatchingRange(v) != null))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+			{
+				InetAddress v = value.or(null);
+				List<String> nearestRanges;
+				if (v == null)
+					nearestRanges = List.of();
+				else
+					nearestRanges = ranges.getNearestRanges(v, MAXIMUM_NEAREST_RANGES);
+				return InetAddressMessages.isInAnyOf(this, nearestRanges).toString();
+			});
+		}
+		return this;
+	}
+
+	@Override
+	public InetAddressValidator isNotInAnyOf(SubnetSet ranges)
+	{
+		scope.getInternalValidators().requireThat(ranges, "ranges").isNotNull();
+		InetAddress v = value.or(null);
+		if (v == null)
+		{
+			failOnNull();
+			addIllegalArgumentException(() -> InetAddressMessages.isNotInAnyOf(this, null).toString());
+			return this;
+		}
+		String range = ranges.getMatchingRange(v);
+		if (range != null)
+			addIllegalArgumentException(() -> InetAddressMessages.isNotInAnyOf(this, range).toString());
+		return this;
+	}
+}
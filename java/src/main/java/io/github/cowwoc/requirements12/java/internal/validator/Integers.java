@@ -70,7 +70,7 @@ final class Integers<S>
 	{
 		if (validator.value.validationFailed(v -> v == expected))
 		{
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				ValidatorMessages.isEqualToFailed(validator, name, expected).toString());
 		}
 		return self();
@@ -114,7 +114,7 @@ final class Integers<S>
 	{
 		if (validator.value.validationFailed(v -> v != unwanted))
 		{
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				ValidatorMessages.isNotEqualToFailed(validator, name, unwanted).toString());
 		}
 		return self();
@@ -132,7 +132,7 @@ final class Integers<S>
 		if (validator.value.validationFailed(v -> v < 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNegativeFailed(validator).toString());
 		}
 		return self();
@@ -151,7 +151,7 @@ final class Integers<S>
 		if (validator.value.validationFailed(v -> !(v < 0)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNotNegativeFailed(validator).toString());
 		}
 		return self();
@@ -169,7 +169,7 @@ final class Integers<S>
 		if (validator.value.validationFailed(v -> v == 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isZeroFailed(validator).toString());
 		}
 		return self();
@@ -188,7 +188,7 @@ final class Integers<S>
 		if (validator.value.validationFailed(v -> !(v == 0)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNotZeroFailed(validator).toString());
 		}
 		return self();
@@ -206,7 +206,7 @@ final class Integers<S>
 		if (validator.value.validationFailed(v -> v > 0))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isPositiveFailed(validator).toString());
 		}
 		return self();
@@ -225,7 +225,7 @@ final class Integers<S>
 		if (validator.value.validationFailed(v -> !(v > 0)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNotPositiveFailed(validator).toString());
 		}
 		return self();
@@ -633,7 +633,7 @@ final class Integers<S>
 		if (validator.value.validationFailed(v -> Numbers.isMultipleOf(v, factor)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isMultipleOfFailed(validator, name, factor).toString());
 		}
 		return self();
@@ -678,7 +678,7 @@ final class Integers<S>
 		if (validator.value.validationFailed(v -> !Numbers.isMultipleOf(v, factor)))
 		{
 			validator.failOnNull();
-			validator.addIllegalArgumentException(
+			validator.addIllegalArgumentException(() ->
 				NumberMessages.isNotMultipleOfFailed(validator, name, factor).toString());
 		}
 		return self();
@@ -6,7 +6,6 @@ package io.github.cowwoc.requirements12.java.internal.validator;
 
 import io.github.cowwoc.requirements12.java.GenericType;
 import io.github.cowwoc.requirements12.java.JavaValidators;
-import io.github.cowwoc.requirements12.java.ValidationFailure;
 import io.github.cowwoc.requirements12.java.internal.Configuration;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements12.java.internal.util.Pluralizer;
@@ -14,7 +13,9 @@ import io.github.cowwoc.requirements12.java.internal.util.ValidationTarget;
 import io.github.cowwoc.requirements12.java.validator.BigDecimalValidator;
 import io.github.cowwoc.requirements12.java.validator.BigIntegerValidator;
 import io.github.cowwoc.requirements12.java.validator.BooleanValidator;
+import io.github.cowwoc.requirements12.java.validator.ByteBufferValidator;
 import io.github.cowwoc.requirements12.java.validator.ByteValidator;
+import io.github.cowwoc.requirements12.java.validator.CharSequenceValidator;
 import io.github.cowwoc.requirements12.java.validator.CharacterValidator;
 import io.github.cowwoc.requirements12.java.validator.CollectionValidator;
 import io.github.cowwoc.requirements12.java.validator.ComparableValidator;
@@ -54,10 +55,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -92,7 +92,8 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 	public JavaValidatorsImpl(JavaValidatorsImpl other)
 	{
 		this(other.scope, other.configuration());
-		this.context.putAll(other.context);
+		copyContext(other);
+		this.session = other.session;
 	}
 
 	@Override
@@ -299,6 +300,12 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 		return newInstance(value, name, configuration());
 	}
 
+	@Override
+	public CharSequenceValidator requireThatCharSequence(CharSequence value, String name)
+	{
+		return newInstance(value, name, configuration());
+	}
+
 	@Override
 	public UriValidator requireThat(URI value, String name)
 	{
@@ -329,6 +336,12 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 		return newInstance(value, name, configuration());
 	}
 
+	@Override
+	public ByteBufferValidator requireThat(ByteBuffer value, String name)
+	{
+		return newInstance(value, name, configuration());
+	}
+
 	@Override
 	public PrimitiveByteValidator that(byte value, String name)
 	{
@@ -737,6 +750,18 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 		return that(value, DEFAULT_NAME);
 	}
 
+	@Override
+	public CharSequenceValidator thatCharSequence(CharSequence value, String name)
+	{
+		return newInstance(value, name, getAssertThatConfiguration());
+	}
+
+	@Override
+	public CharSequenceValidator thatCharSequence(CharSequence value)
+	{
+		return thatCharSequence(value, DEFAULT_NAME);
+	}
+
 	@Override
 	public UriValidator that(URI value, String name)
 	{
@@ -797,6 +822,18 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 		return that(value, DEFAULT_NAME);
 	}
 
+	@Override
+	public ByteBufferValidator that(ByteBuffer value, String name)
+	{
+		return newInstance(value, name, getAssertThatConfiguration());
+	}
+
+	@Override
+	public ByteBufferValidator that(ByteBuffer value)
+	{
+		return that(value, DEFAULT_NAME);
+	}
+
 	@Override
 	public PrimitiveByteValidator checkIf(byte value, String name)
 	{
@@ -1205,6 +1242,18 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 		return checkIf(value, DEFAULT_NAME);
 	}
 
+	@Override
+	public CharSequenceValidator checkIfCharSequence(CharSequence value, String name)
+	{
+		return newInstance(value, name, getCheckIfConfiguration());
+	}
+
+	@Override
+	public CharSequenceValidator checkIfCharSequence(CharSequence value)
+	{
+		return checkIfCharSequence(value, DEFAULT_NAME);
+	}
+
 	@Override
 	public UriValidator checkIf(URI value, String name)
 	{
@@ -1265,22 +1314,22 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 		return checkIf(value, DEFAULT_NAME);
 	}
 
-	private PrimitiveByteValidator newInstance(byte value, String name, Configuration configuration)
+	@Override
+	public ByteBufferValidator checkIf(ByteBuffer value, String name)
 	{
-		return new PrimitiveByteValidatorImpl(scope, configuration, name, ValidationTarget.valid(value),
-			newValidatorContext(), newValidatorFailures());
+		return newInstance(value, name, getCheckIfConfiguration());
 	}
 
-	private Map<String, Optional<Object>> newValidatorContext()
+	@Override
+	public ByteBufferValidator checkIf(ByteBuffer value)
 	{
-		Map<String, Optional<Object>> context = HashMap.newHashMap(this.context.size() + 2);
-		context.putAll(this.context);
-		return context;
+		return checkIf(value, DEFAULT_NAME);
 	}
 
-	private List<ValidationFailure> newValidatorFailures()
+	private PrimitiveByteValidator newInstance(byte value, String name, Configuration configuration)
 	{
-		return new ArrayList<>(2);
+		return new PrimitiveByteValidatorImpl(scope, configuration, name, ValidationTarget.valid(value),
+			newValidatorContext(), newValidatorFailures());
 	}
 
 	private ByteValidator newInstance(Byte value, String name, Configuration configuration)
@@ -1486,6 +1535,12 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 			newValidatorContext(), newValidatorFailures());
 	}
 
+	private CharSequenceValidator newInstance(CharSequence value, String name, Configuration configuration)
+	{
+		return new CharSequenceValidatorImpl(scope, configuration, name, ValidationTarget.valid(value),
+			newValidatorContext(), newValidatorFailures());
+	}
+
 	private UriValidator newInstance(URI value, String name, Configuration configuration)
 	{
 		return new UriValidatorImpl(scope, configuration, name, ValidationTarget.valid(value),
@@ -1517,23 +1572,15 @@ public final class JavaValidatorsImpl extends AbstractValidators<JavaValidators>
 			newValidatorContext(), newValidatorFailures());
 	}
 
-	@Override
-	public JavaValidators copy()
+	private ByteBufferValidator newInstance(ByteBuffer value, String name, Configuration configuration)
 	{
-		return new JavaValidatorsImpl(this);
-	}
-
-	@Override
-	public JavaValidators withContext(Object value, String name)
-	{
-		context.put(name, Optional.ofNullable(value));
-		return this;
+		return new ByteBufferValidatorImpl(scope, configuration, name, ValidationTarget.valid(value),
+			newValidatorContext(), newValidatorFailures());
 	}
 
 	@Override
-	public JavaValidators removeContext(String name)
+	public JavaValidators copy()
 	{
-		context.remove(name);
-		return this;
+		return new JavaValidatorsImpl(this);
 	}
 }
\ No newline at end of file
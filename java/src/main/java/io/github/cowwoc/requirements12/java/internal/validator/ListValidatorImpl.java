@@ -58,7 +58,7 @@ public final class ListValidatorImpl<T extends List<E>, E>
 		if (value.validationFailed(v -> v.equals(expected)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.isSortedFailed(this, expected).toString());
 		}
 		return this;
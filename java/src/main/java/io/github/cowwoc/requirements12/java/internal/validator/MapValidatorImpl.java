@@ -54,7 +54,7 @@ public final class MapValidatorImpl<T extends Map<K, V>, K, V>
 		if (value.validationFailed(Map::isEmpty))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.isEmptyFailed(this).toString());
 		}
 		return self();
@@ -66,7 +66,7 @@ public final class MapValidatorImpl<T extends Map<K, V>, K, V>
 		if (value.validationFailed(v -> !v.isEmpty()))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.isNotEmptyFailed(this).toString());
 		}
 		return self();
@@ -27,6 +27,7 @@ public final class MutableConfiguration
 	private boolean recordStacktrace;
 	private boolean throwOnFailure;
 	private Function<Throwable, ? extends Throwable> exceptionTransformer;
+	private int maximumFailures;
 
 	/**
 	 * Creates a new configuration.
@@ -46,11 +47,13 @@ public final class MutableConfiguration
 	 * @param throwOnFailure       {@code true} if an exception is thrown on validation failure.
 	 * @param exceptionTransformer a function that transforms the validation exception into a suitable runtime
 	 *                             exception or error
+	 * @param maximumFailures      the maximum number of failures that a validator records
 	 * @throws NullPointerException if any of the arguments are null
 	 */
 	private MutableConfiguration(boolean cleanStackTrace, boolean allowDiff,
 		EqualityMethod equalityMethod, MutableStringMappers stringMappers, boolean recordStacktrace,
-		boolean throwOnFailure, Function<Throwable, ? extends Throwable> exceptionTransformer)
+		boolean throwOnFailure, Function<Throwable, ? extends Throwable> exceptionTransformer,
+		int maximumFailures)
 	{
 		this.cleanStackTrace = cleanStackTrace;
 		this.allowDiff = allowDiff;
@@ -59,6 +62,7 @@ public final class MutableConfiguration
 		this.recordStacktrace = recordStacktrace;
 		this.throwOnFailure = throwOnFailure;
 		this.exceptionTransformer = exceptionTransformer;
+		this.maximumFailures = maximumFailures;
 	}
 
 	/**
@@ -69,7 +73,8 @@ public final class MutableConfiguration
 	{
 		return new MutableConfiguration(configuration.cleanStackTrace(), configuration.allowDiff(),
 			configuration.equalityMethod(), MutableStringMappers.from(configuration.stringMappers()),
-			configuration.recordStacktrace(), configuration.throwOnFailure(), configuration.exceptionTransformer());
+			configuration.recordStacktrace(), configuration.throwOnFailure(),
+			configuration.exceptionTransformer(), configuration.maximumFailures());
 	}
 
 	/**
@@ -81,7 +86,7 @@ public final class MutableConfiguration
 	public Configuration toImmutable()
 	{
 		return new Configuration(cleanStackTrace, allowDiff, equalityMethod, stringMappers.toImmutable(),
-			recordStacktrace, throwOnFailure, exceptionTransformer);
+			recordStacktrace, throwOnFailure, exceptionTransformer, maximumFailures);
 	}
 
 	/**
@@ -258,6 +263,34 @@ public final class MutableConfiguration
 		return this;
 	}
 
+	/**
+	 * Returns the maximum number of failures that a validator records. Once a validator reaches this limit,
+	 * subsequent failures are discarded without building their message.
+	 *
+	 * @return {@code Integer.MAX_VALUE} by default
+	 */
+	@CheckReturnValue
+	public int maximumFailures()
+	{
+		return maximumFailures;
+	}
+
+	/**
+	 * Sets the maximum number of failures that a validator records. Once a validator reaches this limit,
+	 * subsequent failures are discarded without building their message.
+	 *
+	 * @param maximumFailures the maximum number of failures
+	 * @return this
+	 * @throws IllegalArgumentException if {@code maximumFailures} is zero or negative
+	 */
+	public MutableConfiguration maximumFailures(int maximumFailures)
+	{
+		if (maximumFailures <= 0)
+			throw new IllegalArgumentException("maximumFailures must be positive");
+		this.maximumFailures = maximumFailures;
+		return this;
+	}
+
 	@Override
 	public int hashCode()
 	{
@@ -268,7 +301,8 @@ public final class MutableConfiguration
 		hash = 23 * hash + stringMappers.hashCode();
 		hash = 23 * hash + Boolean.hashCode(recordStacktrace);
 		hash = 23 * hash + Boolean.hashCode(throwOnFailure);
-		return 23 * hash + exceptionTransformer.hashCode();
+		hash = 23 * hash + exceptionTransformer.hashCode();
+		return 23 * hash + maximumFailures;
 	}
 
 	@Override
@@ -281,7 +315,7 @@ public final class MutableConfiguration
 		return other.cleanStackTrace == cleanStackTrace && other.allowDiff == allowDiff &&
 			other.equalityMethod == equalityMethod && other.stringMappers.equals(stringMappers) &&
 			other.recordStacktrace == recordStacktrace() && other.throwOnFailure == throwOnFailure &&
-			other.exceptionTransformer == exceptionTransformer;
+			other.exceptionTransformer == exceptionTransformer && other.maximumFailures == maximumFailures;
 	}
 
 	@Override
@@ -290,6 +324,6 @@ public final class MutableConfiguration
 		return "cleanStackTrace: " + cleanStackTrace + ", allowDiff: " + allowDiff +
 			", equalityMethod: " + equalityMethod + ", stringMappers: " + stringMappers +
 			", recordStacktrace: " + recordStacktrace + ", throwOnFailure:" + throwOnFailure +
-			", exceptionTransformer: " + exceptionTransformer;
+			", exceptionTransformer: " + exceptionTransformer + ", maximumFailures: " + maximumFailures;
 	}
 }
\ No newline at end of file
@@ -89,7 +89,7 @@ public final class ObjectSizeValidatorImpl
 	{
 		if (value.validationFailed(v -> v == expected))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsSizeFailed(objectValidator, this.name, value.or(null), "must contain",
 					name, expected, pluralizer).toString());
 		}
@@ -113,7 +113,7 @@ public final class ObjectSizeValidatorImpl
 	{
 		if (value.validationFailed(v -> v != unwanted))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsSizeFailed(objectValidator, this.name, value.or(null), "may not contain",
 					name, unwanted, pluralizer).toString());
 		}
@@ -126,7 +126,7 @@ public final class ObjectSizeValidatorImpl
 		if (value.validationFailed(v -> v == 0))
 		{
 			failOnNull();
-			addIllegalArgumentException(ObjectMessages.isEmptyFailed(objectValidator).toString());
+			addIllegalArgumentException(() -> ObjectMessages.isEmptyFailed(objectValidator).toString());
 		}
 		return this;
 	}
@@ -137,7 +137,7 @@ public final class ObjectSizeValidatorImpl
 		if (value.validationFailed(v -> v != 0))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.isNotEmptyFailed(objectValidator).toString());
 		}
 		return this;
@@ -174,7 +174,7 @@ public final class ObjectSizeValidatorImpl
 		if (value.validationFailed(v -> v < maximumExclusive))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsSizeFailed(objectValidator, this.name, value.or(null),
 					"must contain less than", name, maximumExclusive, pluralizer).toString());
 		}
@@ -201,7 +201,7 @@ public final class ObjectSizeValidatorImpl
 		if (value.validationFailed(v -> v <= maximumInclusive))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsSizeFailed(objectValidator, this.name, value.or(null),
 					"may not contain more than", name, maximumInclusive, pluralizer).toString());
 		}
@@ -228,7 +228,7 @@ public final class ObjectSizeValidatorImpl
 		if (value.validationFailed(v -> v >= minimumInclusive))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsSizeFailed(objectValidator, this.name, value.or(null),
 					"must contain at least", name, minimumInclusive, pluralizer).toString());
 		}
@@ -255,7 +255,7 @@ public final class ObjectSizeValidatorImpl
 		if (value.validationFailed(v -> v > minimumExclusive))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsSizeFailed(objectValidator, this.name, value.or(null),
 					"must contain more than", name, minimumExclusive, pluralizer).toString());
 		}
@@ -295,7 +295,7 @@ public final class ObjectSizeValidatorImpl
 			failOnNull();
 			MessageBuilder messageBuilder = NumberMessages.isMultipleOfFailed(this, name, factor);
 			objectValidator.value.ifValid(v -> messageBuilder.withContext(v, objectValidator.getName()));
-			addIllegalArgumentException(messageBuilder.toString());
+			addIllegalArgumentException(() -> messageBuilder.toString());
 		}
 		return this;
 	}
@@ -320,7 +320,7 @@ public final class ObjectSizeValidatorImpl
 			failOnNull();
 			MessageBuilder messageBuilder = NumberMessages.isNotMultipleOfFailed(this, name, factor);
 			objectValidator.value.ifValid(v -> messageBuilder.withContext(v, objectValidator.getName()));
-			addIllegalArgumentException(messageBuilder.toString());
+			addIllegalArgumentException(() -> messageBuilder.toString());
 		}
 		return this;
 	}
@@ -392,7 +392,7 @@ public final class ObjectSizeValidatorImpl
 			comparables.inBounds(v, minimum, minimumIsInclusive, maximum, maximumIsInclusive)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ComparableMessages.isBetweenFailed(this, minimum, minimumIsInclusive, maximum, maximumIsInclusive).
 					toString());
 		}
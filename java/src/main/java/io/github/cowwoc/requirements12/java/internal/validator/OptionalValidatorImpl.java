@@ -44,7 +44,7 @@ public final class OptionalValidatorImpl<T> extends AbstractObjectValidator<Opti
 		if (value.validationFailed(Optional::isPresent))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isNotEmptyFailed(this).toString());
 		}
 		return this;
@@ -56,7 +56,7 @@ public final class OptionalValidatorImpl<T> extends AbstractObjectValidator<Opti
 		if (value.validationFailed(Optional::isEmpty))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isEmptyFailed(this).toString());
 		}
 		return this;
@@ -80,7 +80,7 @@ public final class OptionalValidatorImpl<T> extends AbstractObjectValidator<Opti
 		if (value.validationFailed(v -> v.equals(Optional.ofNullable(expected))))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				CollectionMessages.containsFailed(this, name, expected).toString());
 		}
 		return this;
@@ -5,23 +5,38 @@
 package io.github.cowwoc.requirements12.java.internal.validator;
 
 import io.github.cowwoc.pouch.core.WrappedCheckedException;
+import io.github.cowwoc.requirements12.java.TreeLimits;
 import io.github.cowwoc.requirements12.java.ValidationFailure;
 import io.github.cowwoc.requirements12.java.internal.Configuration;
 import io.github.cowwoc.requirements12.java.internal.message.PathMessages;
+import io.github.cowwoc.requirements12.java.internal.message.section.MessageBuilder;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
-import io.github.cowwoc.requirements12.java.internal.util.Difference;
+import io.github.cowwoc.requirements12.java.internal.util.Checksums;
+import io.github.cowwoc.requirements12.java.internal.util.FileContents;
+import io.github.cowwoc.requirements12.java.internal.util.TreeWalker;
+import io.github.cowwoc.requirements12.java.internal.util.TreeWalker.Violation;
 import io.github.cowwoc.requirements12.java.internal.util.ValidationTarget;
+import io.github.cowwoc.requirements12.java.validator.ComparableValidator;
 import io.github.cowwoc.requirements12.java.validator.PathValidator;
+import io.github.cowwoc.requirements12.java.validator.PrimitiveLongValidator;
 
 import java.io.IOException;
-import java.nio.file.FileVisitResult;
-import java.nio.file.FileVisitor;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -29,11 +44,29 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
 
 public final class PathValidatorImpl extends AbstractObjectValidator<PathValidator, Path>
 	implements PathValidator
 {
+	/**
+	 * Follows symbolic links.
+	 */
+	private static final LinkOption[] FOLLOW_LINKS = new LinkOption[0];
+	/**
+	 * The maximum number of unwanted entries to report when comparing the entries of a directory.
+	 */
+	private static final int MAXIMUM_UNWANTED_ENTRIES = 100;
+	/**
+	 * The attributes of the path, following symbolic links, or {@code null} if they have not been read yet.
+	 */
+	private Snapshot followedSnapshot;
+	/**
+	 * The attributes of the path, without following symbolic links, or {@code null} if they have not been read
+	 * yet.
+	 */
+	private Snapshot linkSnapshot;
+
 	/**
 	 * @param scope         the application configuration
 	 * @param configuration the validator configuration
@@ -55,10 +88,11 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 	@Override
 	public PathValidator exists()
 	{
-		if (value.validationFailed(Files::exists))
+		// Files.exists() follows symbolic links and returns false if the attributes cannot be read
+		if (value.validationFailed(v -> getSnapshot(v, FOLLOW_LINKS).attributes() != null))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				PathMessages.exists(this).toString());
 		}
 		return this;
@@ -84,48 +118,100 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 	 */
 	private void isType(String type, Function<BasicFileAttributes, Boolean> attributesMatchExpectation,
 		LinkOption... options) throws IOException
+	{
+		ValidationTarget<BasicFileAttributes> attributes = getAttributes(type, options);
+		if (attributes == null)
+		{
+			// The attributes could not be read
+			return;
+		}
+		if (attributes.validationFailed(attributesMatchExpectation::apply))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				PathMessages.exists(this, type, options).toString());
+		}
+	}
+
+	/**
+	 * Returns the attributes of the path, recording a failure if they cannot be read.
+	 *
+	 * @param type    the expected type of the path
+	 * @param options determines how symbolic links are handled
+	 * @return the attributes, an invalid target if the value is null, or {@code null} if the attributes could
+	 * 	not be read
+	 * @throws NullPointerException if {@code options} is null
+	 * @throws IOException          if an I/O error occurs while reading the file attributes (e.g., the file
+	 *                              does not exist or the user lacks the required permissions)
+	 */
+	private ValidationTarget<BasicFileAttributes> getAttributes(String type, LinkOption... options)
+		throws IOException
 	{
 		scope.getInternalValidators().requireThat(options, "options").isNotNull();
-		try
+		Snapshot snapshot = value.nullToInvalid().map(v -> getSnapshot(v, options)).or(null);
+		if (snapshot == null)
+			return ValidationTarget.invalid();
+		if (snapshot.failure() != null)
+		{
+			IOException failure = snapshot.failure();
+			addIOException(() ->
+				PathMessages.readAttributes(this, type, options, failure).toString(), failure);
+			return null;
+		}
+		return ValidationTarget.valid(snapshot.attributes());
+	}
+
+	/**
+	 * Returns the attributes of a path, reading them on the first invocation.
+	 *
+	 * @param path    the path
+	 * @param options determines how symbolic links are handled
+	 * @return the attributes
+	 */
+	private Snapshot getSnapshot(Path path, LinkOption... options)
+	{
+		boolean followLinks = true;
+		for (LinkOption option : options)
 		{
-			if (value.validationFailed(v -> isType(v, attributesMatchExpectation, options)))
+			if (option == LinkOption.NOFOLLOW_LINKS)
 			{
-				failOnNull();
-				addIllegalArgumentException(
-					PathMessages.exists(this, type, options).toString());
+				followLinks = false;
+				break;
 			}
 		}
-		catch (WrappedCheckedException e)
+		if (followLinks)
 		{
-			Throwable cause = e.getCause();
-			if (!(cause instanceof IOException ioe))
-				throw e;
-			addIOException(
-				PathMessages.readAttributes(this, type, options, cause).toString(), ioe);
+			if (followedSnapshot == null)
+				followedSnapshot = readSnapshot(path, options);
+			return followedSnapshot;
 		}
+		if (linkSnapshot == null)
+			linkSnapshot = readSnapshot(path, options);
+		return linkSnapshot;
 	}
 
 	/**
-	 * Validates the type of a path.
+	 * Reads the attributes of a path.
 	 *
-	 * @param path                       the path
-	 * @param attributesMatchExpectation returns {@code true} if the path matches the expected type
-	 * @param options                    determines how symbolic links are handled
-	 * @return {@code true} if the path matched the expected type
-	 * @throws NullPointerException     if the value or {@code options} are null
-	 * @throws IllegalArgumentException if the path does not exist or is not a file
+	 * @param path    the path
+	 * @param options determines how symbolic links are handled
+	 * @return the attributes
 	 */
-	private boolean isType(Path path, Function<BasicFileAttributes, Boolean> attributesMatchExpectation,
-		LinkOption... options)
+	private static Snapshot readSnapshot(Path path, LinkOption... options)
 	{
 		try
 		{
-			BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class, options);
-			return attributesMatchExpectation.apply(attrs);
+			// getFileAttributeView() does not access the file system
+			BasicFileAttributes attributes;
+			if (Files.getFileAttributeView(path, PosixFileAttributeView.class, options) == null)
+				attributes = Files.readAttributes(path, BasicFileAttributes.class, options);
+			else
+				attributes = Files.readAttributes(path, PosixFileAttributes.class, options);
+			return new Snapshot(attributes, null);
 		}
 		catch (IOException e)
 		{
-			throw WrappedCheckedException.wrap(e);
+			return new Snapshot(null, e);
 		}
 	}
 
@@ -142,19 +228,97 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 		if (value.validationFailed(Files::isExecutable))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				PathMessages.isExecutable(this).toString());
 		}
 		return this;
 	}
 
+	@Override
+	public PrimitiveLongValidator size(LinkOption... options) throws IOException
+	{
+		failOnNull();
+		ValidationTarget<BasicFileAttributes> attributes = getAttributes("path", options);
+		if (attributes == null)
+			attributes = ValidationTarget.invalid();
+		return new PrimitiveLongValidatorImpl(scope, configuration, name + ".size()",
+			attributes.map(BasicFileAttributes::size), context, failures);
+	}
+
+	@Override
+	public ComparableValidator<FileTime> lastModifiedTime(LinkOption... options) throws IOException
+	{
+		failOnNull();
+		ValidationTarget<BasicFileAttributes> attributes = getAttributes("path", options);
+		if (attributes == null)
+			attributes = ValidationTarget.invalid();
+		return new ComparableValidatorImpl<>(scope, configuration, name + ".lastModifiedTime()",
+			attributes.map(BasicFileAttributes::lastModifiedTime), context, failures);
+	}
+
+	@Override
+	public PathValidator hasPermissions(Set<PosixFilePermission> expected, LinkOption... options)
+		throws IOException
+	{
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		ValidationTarget<BasicFileAttributes> attributes = getAttributes("path", options);
+		if (attributes == null)
+		{
+			// The attributes could not be read
+			return this;
+		}
+		Set<PosixFilePermission> permissions = attributes.map(PathValidatorImpl::getPermissions).or(null);
+		if (permissions == null || !permissions.containsAll(expected))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				PathMessages.hasPermissions(this, expected, permissions).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public PathValidator doesNotHavePermissions(Set<PosixFilePermission> unwanted, LinkOption... options)
+		throws IOException
+	{
+		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
+		ValidationTarget<BasicFileAttributes> attributes = getAttributes("path", options);
+		if (attributes == null)
+		{
+			// The attributes could not be read
+			return this;
+		}
+		Set<PosixFilePermission> permissions = attributes.map(PathValidatorImpl::getPermissions).or(null);
+		if (permissions == null || !Collections.disjoint(permissions, unwanted))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				PathMessages.doesNotHavePermissions(this, unwanted, permissions).toString());
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the POSIX permissions of a path.
+	 *
+	 * @param attributes the attributes of the path
+	 * @return the permissions
+	 * @throws UnsupportedOperationException if the file system does not support POSIX permissions
+	 */
+	private static Set<PosixFilePermission> getPermissions(BasicFileAttributes attributes)
+	{
+		if (!(attributes instanceof PosixFileAttributes posixAttributes))
+			throw new UnsupportedOperationException("The file system does not support POSIX permissions");
+		return posixAttributes.permissions();
+	}
+
 	@Override
 	public PathValidator isRelative()
 	{
 		if (value.validationFailed(v -> !v.isAbsolute()))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				PathMessages.isRelative(this).toString());
 		}
 		return this;
@@ -166,7 +330,7 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 		if (value.validationFailed(Path::isAbsolute))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				PathMessages.isAbsolute(this).toString());
 		}
 		return this;
@@ -175,49 +339,312 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 	@Override
 	public PathValidator isEmpty()
 	{
-		if (value.validationFailed(v ->
+		if (value.validationFailed(v -> countEntries(v, 1) == 0))
 		{
-			try (Stream<Path> files = Files.walk(v))
+			failOnNull();
+			addIllegalArgumentException(() ->
+				PathMessages.isEmptyFailed(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public PathValidator isNotEmpty()
+	{
+		if (value.validationFailed(v -> countEntries(v, 1) != 0))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				PathMessages.isNotEmptyFailed(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public PathValidator containsAtLeast(int minimum) throws IOException
+	{
+		scope.getInternalValidators().requireThat(minimum, "minimum").isNotNegative();
+		try
+		{
+			Integer entries = value.nullToInvalid().map(v -> countEntries(v, minimum)).or(null);
+			if (entries == null || entries < minimum)
 			{
-				// Skip the parent directory
-				return files.skip(1).findAny().isEmpty();
+				failOnNull();
+				addIllegalArgumentException(() ->
+					PathMessages.containsAtLeast(this, minimum, entries).toString());
 			}
-			catch (IOException e)
+		}
+		catch (WrappedCheckedException e)
+		{
+			Throwable cause = e.getCause();
+			if (!(cause instanceof IOException ioe))
+				throw e;
+			addIOException(() ->
+				PathMessages.readEntries(this, cause).toString(), ioe);
+		}
+		return this;
+	}
+
+	@Override
+	public PathValidator containsAtMost(int maximum) throws IOException
+	{
+		scope.getInternalValidators().requireThat(maximum, "maximum").isNotNegative();
+		try
+		{
+			// Stop reading as soon as one entry too many is found
+			if (value.validationFailed(v -> countEntries(v, (long) maximum + 1) <= maximum))
 			{
-				throw WrappedCheckedException.wrap(e);
+				failOnNull();
+				addIllegalArgumentException(() ->
+					PathMessages.containsAtMost(this, maximum).toString());
 			}
-		}))
+		}
+		catch (WrappedCheckedException e)
+		{
+			Throwable cause = e.getCause();
+			if (!(cause instanceof IOException ioe))
+				throw e;
+			addIOException(() ->
+				PathMessages.readEntries(this, cause).toString(), ioe);
+		}
+		return this;
+	}
+
+	@Override
+	public PathValidator isTreeWithin(TreeLimits limits) throws IOException
+	{
+		scope.getInternalValidators().requireThat(limits, "limits").isNotNull();
+		ValidationTarget<Violation> violation;
+		try
+		{
+			violation = value.nullToInvalid().map(v ->
+			{
+				try
+				{
+					return TreeWalker.walk(v, limits);
+				}
+				catch (IOException e)
+				{
+					throw WrappedCheckedException.wrap(e);
+				}
+			});
+		}
+		catch (WrappedCheckedException e)
+		{
+			Throwable cause = e.getCause();
+			if (!(cause instanceof IOException ioe))
+				throw e;
+			addIOException(() ->
+				PathMessages.walkTree(this, cause).toString(), ioe);
+			return this;
+		}
+		// The target is invalid if the value is null
+		if (!violation.isValid() || violation.or(null) != null)
 		{
 			failOnNull();
-			addIllegalArgumentException(
-				PathMessages.isEmptyFailed(this).toString());
+			addIllegalArgumentException(() ->
+				PathMessages.isTreeWithin(this, limits, violation.or(null)).toString());
 		}
 		return this;
 	}
 
 	@Override
-	public PathValidator isNotEmpty()
+	public PathValidator contentStartsWith(byte[] prefix) throws IOException
 	{
-		if (value.validationFailed(v ->
+		scope.getInternalValidators().requireThat(prefix, "prefix").isNotNull();
+		return checkContents(path -> FileContents.mismatch(path, prefix), offset ->
+			PathMessages.contentStartsWith(this, prefix, offset));
+	}
+
+	@Override
+	public PathValidator contentDoesNotContain(byte unwanted) throws IOException
+	{
+		return checkContents(path -> FileContents.indexOf(path, unwanted), offset ->
+			PathMessages.contentDoesNotContain(this, unwanted, offset));
+	}
+
+	@Override
+	public PathValidator contentIsUtf8() throws IOException
+	{
+		return checkContents(FileContents::getMalformedUtf8Offset, offset ->
+			PathMessages.contentIsUtf8(this, offset));
+	}
+
+	@Override
+	public PathValidator contentHasAtMostLines(long maximum) throws IOException
+	{
+		scope.getInternalValidators().requireThat(maximum, "maximum").isNotNegative();
+		return checkContents(path -> FileContents.getExcessLineOffset(path, maximum), offset ->
+			PathMessages.contentHasAtMostLines(this, maximum, offset));
+	}
+
+	@Override
+	public PathValidator hasChecksum(String algorithm, byte[] expected) throws IOException
+	{
+		scope.getInternalValidators().requireThat(algorithm, "algorithm").isNotNull();
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		Checksums.requireSupported(algorithm);
+		ValidationTarget<byte[]> actual;
+		try
 		{
-			try (Stream<Path> files = Files.walk(v))
+			actual = value.nullToInvalid().map(v ->
 			{
-				// Skip the parent directory
-				return files.skip(1).findAny().isPresent();
-			}
-			catch (IOException e)
+				try
+				{
+					return Checksums.compute(algorithm, v);
+				}
+				catch (IOException e)
+				{
+					throw WrappedCheckedException.wrap(e);
+				}
+			});
+		}
+		catch (WrappedCheckedException e)
+		{
+			Throwable cause = e.getCause();
+			if (!(cause instanceof IOException ioe))
+				throw e;
+			addIOException(() ->
+				PathMessages.readContents(this, cause).toString(), ioe);
+			return this;
+		}
+		if (actual.validationFailed(v -> Arrays.equals(v, expected)))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				PathMessages.hasChecksum(this, algorithm, expected, actual.or(null)).toString());
+		}
+		return this;
+	}
+
+	/**
+	 * Scans the contents of the file.
+	 *
+	 * @param scanner returns the offset of the first byte that violates the constraint, or {@code -1} if the
+	 *                contents are valid
+	 * @param message returns the failure message for an offset ({@code null} if the value is null)
+	 * @return this
+	 * @throws IOException if an I/O error occurs while reading the file
+	 */
+	private PathValidator checkContents(ContentScanner scanner, Function<Long, MessageBuilder> message)
+		throws IOException
+	{
+		ValidationTarget<Long> offset;
+		try
+		{
+			offset = value.nullToInvalid().map(v ->
 			{
-				throw WrappedCheckedException.wrap(e);
-			}
-		}))
+				try
+				{
+					return scanner.scan(v);
+				}
+				catch (IOException e)
+				{
+					throw WrappedCheckedException.wrap(e);
+				}
+			});
+		}
+		catch (WrappedCheckedException e)
+		{
+			Throwable cause = e.getCause();
+			if (!(cause instanceof IOException ioe))
+				throw e;
+			addIOException(() ->
+				PathMessages.readContents(this, cause).toString(), ioe);
+			return this;
+		}
+		if (offset.validationFailed(v -> v == -1))
 		{
 			failOnNull();
-			addIllegalArgumentException(
-				PathMessages.isNotEmptyFailed(this).toString());
+			addIllegalArgumentException(() -> message.apply(offset.or(null)).toString());
 		}
 		return this;
 	}
 
+	/**
+	 * Counts the entries of a directory, without descending into subdirectories.
+	 * <p>
+	 * Reading stops as soon as {@code limit} entries are found. Paths that are not directories are treated as
+	 * having no entries.
+	 *
+	 * @param directory a path
+	 * @param limit     the maximum number of entries to count
+	 * @return the number of entries, or {@code limit} if the directory contains more entries
+	 * @throws WrappedCheckedException if an I/O error occurs while reading the directory
+	 */
+	private static int countEntries(Path directory, long limit)
+	{
+		if (limit == 0)
+			return 0;
+		AtomicInteger count = new AtomicInteger();
+		try
+		{
+			forEachEntry(directory, name -> count.incrementAndGet() < limit);
+		}
+		catch (IOException e)
+		{
+			throw WrappedCheckedException.wrap(e);
+		}
+		return count.get();
+	}
+
+	/**
+	 * Reads the entries of a directory one at a time, without descending into subdirectories.
+	 * <p>
+	 * Paths that are not directories are treated as having no entries.
+	 *
+	 * @param directory a path
+	 * @param visitor   receives the file name of each entry, and returns {@code false} to stop reading
+	 * @return {@code true} if {@code visitor} stopped the iteration
+	 * @throws IOException if an I/O error occurs while reading the directory
+	 */
+	private static boolean forEachEntry(Path directory, Predicate<Path> visitor) throws IOException
+	{
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory))
+		{
+			for (Path entry : entries)
+			{
+				if (!visitor.test(entry.getFileName()))
+					return true;
+			}
+			return false;
+		}
+		catch (NotDirectoryException e)
+		{
+			return false;
+		}
+		catch (DirectoryIteratorException e)
+		{
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Reads the entries of a directory one at a time, without descending into subdirectories.
+	 * <p>
+	 * Paths that do not exist or that are not directories are treated as having no entries.
+	 *
+	 * @param directory a path
+	 * @param visitor   receives the file name of each entry, and returns {@code false} to stop reading
+	 * @return {@code true} if {@code visitor} stopped the iteration
+	 * @throws WrappedCheckedException if an I/O error occurs while reading the directory
+	 */
+	private static boolean forEachChild(Path directory, Predicate<Path> visitor)
+	{
+		try
+		{
+			return forEachEntry(directory, visitor);
+		}
+		catch (NoSuchFileException e)
+		{
+			return false;
+		}
+		catch (IOException e)
+		{
+			throw WrappedCheckedException.wrap(e);
+		}
+	}
+
 	@Override
 	public PathValidator contains(Path expected)
 	{
@@ -242,7 +669,7 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 		}))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				PathMessages.contains(this, name, expected).toString());
 		}
 		return this;
@@ -257,12 +684,47 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 	 * @param child  another path
 	 * @return {@code true} if {@code child} is an immediate child of {@code parent}
 	 */
-	private boolean isImmediateChild(Path parent, Path child)
+	private static boolean isImmediateChild(Path parent, Path child)
+	{
+		return getChildName(parent, child) != null;
+	}
+
+	/**
+	 * Returns the file name of an immediate child.
+	 * <p>
+	 * The parent path must be absolute and normalized prior to invoking this method.
+	 *
+	 * @param parent a path
+	 * @param child  another path
+	 * @return {@code null} if {@code child} is not an immediate child of {@code parent}
+	 */
+	private static Path getChildName(Path parent, Path child)
 	{
 		// If we don't invoke toAbsolutePath() first then Path.of("") will not contain Path.of("subDirectory")
 		assert parent.toAbsolutePath().normalize().equals(parent) : parent;
 		child = child.toAbsolutePath().normalize();
-		return child.getNameCount() == parent.getNameCount() + 1 && child.startsWith(parent);
+		if (child.getNameCount() != parent.getNameCount() + 1 || !child.startsWith(parent))
+			return null;
+		return child.getFileName();
+	}
+
+	/**
+	 * Returns the file names of the paths that are immediate children of a directory.
+	 *
+	 * @param parent the absolute, normalized path of the directory
+	 * @param paths  paths that may be immediate children of {@code parent}
+	 * @return a mutable set of file names
+	 */
+	private static Set<Path> getChildNames(Path parent, Collection<Path> paths)
+	{
+		Set<Path> names = HashSet.newHashSet(paths.size());
+		for (Path path : paths)
+		{
+			Path name = getChildName(parent, path);
+			if (name != null)
+				names.add(name);
+		}
+		return names;
 	}
 
 	@Override
@@ -289,7 +751,7 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 		}))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				PathMessages.doesNotContain(this, name, unwanted).toString());
 		}
 		return this;
@@ -312,73 +774,52 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 
 	private PathValidator containsExactlyImpl(Collection<Path> expected, String name)
 	{
-		Difference<Path> difference = value.nullToInvalid().map(v ->
-		{
-			try
-			{
-				return Difference.actualVsOther(getChildren(v), expected);
-			}
-			catch (IOException e)
-			{
-				throw WrappedCheckedException.wrap(e);
-			}
-		}).or(null);
-		if (difference == null || !difference.areTheSame())
+		Entries entries = value.nullToInvalid().map(v -> compareEntries(v, expected, false)).or(null);
+		if (entries == null || entries.areDifferent())
 		{
 			failOnNull();
-			addIllegalArgumentException(
-				PathMessages.containsExactlyFailed(this, difference, name, expected).
-					toString());
+			addIllegalArgumentException(() ->
+				PathMessages.containsExactlyFailed(this, entries, name, expected).toString());
 		}
 		return this;
 	}
 
 	/**
-	 * Returns the children of a Path.
+	 * Compares the entries of a directory to the expected entries, reading the directory once.
+	 * <p>
+	 * Memory usage is proportional to the number of expected entries, regardless of the size of the directory.
+	 * At most {@value #MAXIMUM_UNWANTED_ENTRIES} unwanted entries are retained.
 	 *
-	 * @param parent the parent path
-	 * @return the children
+	 * @param directory             a path
+	 * @param expected              the expected entries
+	 * @param stopAtFirstDifference {@code true} to stop reading once the first unwanted entry is found
+	 * @return the differences between the actual and expected entries
 	 */
-	private List<Path> getChildren(Path parent) throws IOException
+	private static Entries compareEntries(Path directory, Collection<Path> expected,
+		boolean stopAtFirstDifference)
 	{
-		List<Path> children = new ArrayList<>();
-		AtomicInteger depth = new AtomicInteger();
-		Files.walkFileTree(parent, new FileVisitor<>()
+		Path parent = directory.toAbsolutePath().normalize();
+		Set<Path> missingNames = getChildNames(parent, expected);
+		List<Path> unwanted = new ArrayList<>();
+		AtomicInteger unwantedCount = new AtomicInteger();
+		forEachChild(directory, name ->
 		{
-			@Override
-			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
-			{
-				if (depth.get() == 0)
-					return FileVisitResult.CONTINUE;
-				depth.incrementAndGet();
-				return FileVisitResult.SKIP_SUBTREE;
-			}
-
-			@Override
-			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
-			{
-				children.add(file);
-				return FileVisitResult.CONTINUE;
-			}
-
-			@Override
-			public FileVisitResult visitFileFailed(Path file, IOException e) throws IOException
-			{
-				if (e != null)
-					throw e;
-				children.add(file);
-				return FileVisitResult.CONTINUE;
-			}
-
-			@Override
-			public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException
-			{
-				if (e != null)
-					throw e;
-				return FileVisitResult.SKIP_SUBTREE;
-			}
+			if (missingNames.remove(name))
+				return true;
+			unwantedCount.incrementAndGet();
+			if (unwanted.size() < MAXIMUM_UNWANTED_ENTRIES)
+				unwanted.add(directory.resolve(name));
+			return !stopAtFirstDifference;
 		});
-		return children;
+
+		Set<Path> missing = new HashSet<>();
+		for (Path child : expected)
+		{
+			Path childName = getChildName(parent, child);
+			if (childName == null || missingNames.contains(childName))
+				missing.add(child);
+		}
+		return new Entries(missing, unwanted, unwantedCount.get());
 	}
 
 	@Override
@@ -399,21 +840,10 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 
 	private PathValidator doesNotContainExactlyImpl(Collection<Path> unwanted, String name)
 	{
-		Difference<Path> difference = value.nullToInvalid().map(v ->
-		{
-			try
-			{
-				return Difference.actualVsOther(getChildren(v), unwanted);
-			}
-			catch (IOException e)
-			{
-				throw WrappedCheckedException.wrap(e);
-			}
-		}).or(null);
-		if (difference == null || !difference.areDifferent())
+		if (value.validationFailed(v -> compareEntries(v, unwanted, true).areDifferent()))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				PathMessages.doesNotContainExactlyFailed(this, name, unwanted).toString());
 		}
 		return this;
@@ -438,17 +868,12 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 	{
 		if (value.validationFailed(v ->
 		{
-			Path parent = v.toAbsolutePath().normalize();
-			for (Path child : expected)
-			{
-				if (isImmediateChild(parent, child) && Files.exists(child))
-					return true;
-			}
-			return false;
+			Set<Path> names = getChildNames(v.toAbsolutePath().normalize(), expected);
+			return !names.isEmpty() && forEachChild(v, childName -> !names.contains(childName));
 		}))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				PathMessages.containsAnyFailed(this, name, expected).toString());
 		}
 		return this;
@@ -474,10 +899,22 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 		Set<Path> unwantedMatches = value.nullToInvalid().map(v ->
 		{
 			Path parent = v.toAbsolutePath().normalize();
+			Set<Path> names = getChildNames(parent, unwanted);
+			Set<Path> foundNames = new HashSet<>();
+			if (!names.isEmpty())
+			{
+				forEachChild(v, childName ->
+				{
+					if (names.contains(childName))
+						foundNames.add(childName);
+					return foundNames.size() < names.size();
+				});
+			}
 			Set<Path> matches = new HashSet<>();
 			for (Path child : unwanted)
 			{
-				if (isImmediateChild(parent, child) && Files.exists(child))
+				Path childName = getChildName(parent, child);
+				if (childName != null && foundNames.contains(childName))
 					matches.add(child);
 			}
 			return matches;
@@ -485,7 +922,7 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 		if (unwantedMatches == null || !unwantedMatches.isEmpty())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				PathMessages.doesNotContainAnyFailed(this, unwantedMatches, name, unwanted).
 					toString());
 		}
@@ -512,10 +949,20 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 		Set<Path> missingMatches = value.nullToInvalid().map(v ->
 		{
 			Path parent = v.toAbsolutePath().normalize();
+			Set<Path> missingNames = getChildNames(parent, expected);
+			if (!missingNames.isEmpty())
+			{
+				forEachChild(v, childName ->
+				{
+					missingNames.remove(childName);
+					return !missingNames.isEmpty();
+				});
+			}
 			Set<Path> missing = new HashSet<>();
 			for (Path child : expected)
 			{
-				if (!isImmediateChild(parent, child) || Files.notExists(child))
+				Path childName = getChildName(parent, child);
+				if (childName == null || missingNames.contains(childName))
 					missing.add(child);
 			}
 			return missing;
@@ -523,7 +970,7 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 		if (missingMatches == null || !missingMatches.isEmpty())
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				PathMessages.containsAllFailed(this, missingMatches, name, expected).
 					toString());
 		}
@@ -550,18 +997,74 @@ public final class PathValidatorImpl extends AbstractObjectValidator<PathValidat
 		if (value.validationFailed(v ->
 		{
 			Path parent = v.toAbsolutePath().normalize();
+			Set<Path> missingNames = HashSet.newHashSet(unwanted.size());
 			for (Path child : unwanted)
 			{
-				if (!isImmediateChild(parent, child) || Files.notExists(child))
+				Path childName = getChildName(parent, child);
+				if (childName == null)
 					return true;
+				missingNames.add(childName);
 			}
-			return false;
+			if (missingNames.isEmpty())
+				return false;
+			forEachChild(v, childName ->
+			{
+				missingNames.remove(childName);
+				return !missingNames.isEmpty();
+			});
+			return !missingNames.isEmpty();
 		}))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				PathMessages.doesNotContainAllFailed(this, name, unwanted).toString());
 		}
 		return this;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * The attributes of a path at the time that they were first read. All the checks in a validator chain share
+	 * the same snapshot, so that each check does not query the file system again.
+	 *
+	 * @param attributes the attributes of the path, or {@code null} if they could not be read
+	 * @param failure    the reason that the attributes could not be read, or {@code null} on success
+	 */
+	private record Snapshot(BasicFileAttributes attributes, IOException failure)
+	{
+	}
+
+	/**
+	 * The differences between the entries of a directory and the expected entries.
+	 *
+	 * @param missing       the expected paths that are not entries of the directory
+	 * @param unwanted      the first {@value #MAXIMUM_UNWANTED_ENTRIES} entries that were not expected
+	 * @param unwantedCount the number of entries that were not expected
+	 */
+	public record Entries(Set<Path> missing, List<Path> unwanted, int unwantedCount)
+	{
+		/**
+		 * Indicates if the entries differ from the expected entries.
+		 *
+		 * @return {@code true} if any entries are missing or unwanted
+		 */
+		public boolean areDifferent()
+		{
+			return !missing.isEmpty() || unwantedCount != 0;
+		}
+	}
+
+	/**
+	 * Scans the contents of a file.
+	 */
+	@FunctionalInterface
+	private interface ContentScanner
+	{
+		/**
+		 * @param path a file
+		 * @return the offset of the first byte that violates the constraint, or {@code -1} if the contents are
+		 * 	valid
+		 * @throws IOException if an I/O error occurs while reading the file
+		 */
+		long scan(Path path) throws IOException;
+	}
+}
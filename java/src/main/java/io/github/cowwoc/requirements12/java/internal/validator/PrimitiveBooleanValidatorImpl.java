@@ -55,7 +55,7 @@ public final class PrimitiveBooleanValidatorImpl extends AbstractPrimitiveValida
 		if (value.validationFailed(v -> v))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				BooleanMessages.isTrueFailed(this).toString());
 		}
 		return this;
@@ -67,7 +67,7 @@ public final class PrimitiveBooleanValidatorImpl extends AbstractPrimitiveValida
 		if (value.validationFailed(v -> !v))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				BooleanMessages.isFalseFailed(this).toString());
 		}
 		return this;
@@ -90,7 +90,7 @@ public final class PrimitiveBooleanValidatorImpl extends AbstractPrimitiveValida
 	{
 		if (value.validationFailed(v -> v == expected))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ValidatorMessages.isEqualToFailed(this, name, expected).toString());
 		}
 		return this;
@@ -113,7 +113,7 @@ public final class PrimitiveBooleanValidatorImpl extends AbstractPrimitiveValida
 	{
 		if (value.validationFailed(v -> v != unwanted))
 		{
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ValidatorMessages.isNotEqualToFailed(this, name, unwanted).toString());
 		}
 		return this;
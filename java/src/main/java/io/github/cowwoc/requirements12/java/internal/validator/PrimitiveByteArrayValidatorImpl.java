@@ -6,8 +6,10 @@ package io.github.cowwoc.requirements12.java.internal.validator;
 
 import io.github.cowwoc.requirements12.java.ValidationFailure;
 import io.github.cowwoc.requirements12.java.internal.Configuration;
+import io.github.cowwoc.requirements12.java.internal.message.ValidatorMessages;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements12.java.internal.util.Arrays;
+import io.github.cowwoc.requirements12.java.internal.util.Checksums;
 import io.github.cowwoc.requirements12.java.internal.util.ValidationTarget;
 import io.github.cowwoc.requirements12.java.validator.PrimitiveByteArrayValidator;
 
@@ -100,4 +102,20 @@ public final class PrimitiveByteArrayValidatorImpl
 	{
 		return isSorted(Comparator.naturalOrder());
 	}
-}
\ No newline at end of file
+
+	@Override
+	public PrimitiveByteArrayValidator hasChecksum(String algorithm, byte[] expected)
+	{
+		scope.getInternalValidators().requireThat(algorithm, "algorithm").isNotNull();
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		Checksums.requireSupported(algorithm);
+		ValidationTarget<byte[]> actual = value.nullToInvalid().map(v -> Checksums.compute(algorithm, v));
+		if (actual.validationFailed(v -> java.util.Arrays.equals(v, expected)))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				ValidatorMessages.hasChecksumFailed(this, algorithm, expected, actual.or(null)).toString());
+		}
+		return this;
+	}
+}
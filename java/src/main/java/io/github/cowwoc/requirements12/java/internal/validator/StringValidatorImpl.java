@@ -4,19 +4,40 @@
  */
 package io.github.cowwoc.requirements12.java.internal.validator;
 
+import io.github.cowwoc.requirements12.java.StringConstraints;
+import io.github.cowwoc.requirements12.java.SubstringMatcher;
+import io.github.cowwoc.requirements12.java.SubstringMatcher.Match;
+import io.github.cowwoc.requirements12.java.UriConstraints;
 import io.github.cowwoc.requirements12.java.ValidationFailure;
 import io.github.cowwoc.requirements12.java.internal.Configuration;
 import io.github.cowwoc.requirements12.java.internal.message.ObjectMessages;
 import io.github.cowwoc.requirements12.java.internal.message.StringMessages;
+import io.github.cowwoc.requirements12.java.internal.message.UriMessages;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.java.internal.util.DeadlineCharSequence;
+import io.github.cowwoc.requirements12.java.internal.util.DeadlineCharSequence.MatchOutcome;
+import io.github.cowwoc.requirements12.java.internal.util.IpAddresses;
 import io.github.cowwoc.requirements12.java.internal.util.Pluralizer;
+import io.github.cowwoc.requirements12.java.internal.util.Strings;
+import io.github.cowwoc.requirements12.java.internal.util.UriScanner;
+import io.github.cowwoc.requirements12.java.internal.util.UriScanner.Components;
 import io.github.cowwoc.requirements12.java.internal.util.ValidationTarget;
+import io.github.cowwoc.requirements12.java.validator.BigDecimalValidator;
+import io.github.cowwoc.requirements12.java.validator.InetAddressValidator;
+import io.github.cowwoc.requirements12.java.validator.PrimitiveIntegerValidator;
+import io.github.cowwoc.requirements12.java.validator.PrimitiveLongValidator;
 import io.github.cowwoc.requirements12.java.validator.PrimitiveUnsignedIntegerValidator;
 import io.github.cowwoc.requirements12.java.validator.StringValidator;
 
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
 import java.util.regex.Pattern;
 
 public final class StringValidatorImpl extends AbstractObjectValidator<StringValidator, String>
@@ -46,7 +67,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(String::isEmpty))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isEmptyFailed(this).toString());
 		}
 		return this;
@@ -58,7 +79,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(v -> !v.isEmpty()))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				ObjectMessages.isNotEmptyFailed(this).toString());
 		}
 		return this;
@@ -70,7 +91,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(String::isBlank))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.isBlank(this).toString());
 		}
 		return this;
@@ -82,7 +103,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(v -> !v.isBlank()))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.isNotBlank(this).toString());
 		}
 		return this;
@@ -94,7 +115,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(StringValidatorImpl::isTrimmed))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.isTrimmed(this).toString());
 		}
 		return this;
@@ -122,7 +143,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(StringValidatorImpl::isStripped))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.isStripped(this).toString());
 		}
 		return this;
@@ -155,7 +176,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(v -> v.startsWith(prefix)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.startsWith(this, prefix).toString());
 		}
 		return this;
@@ -168,7 +189,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(v -> !v.startsWith(prefix)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.doesNotStartWith(this, prefix).toString());
 		}
 		return this;
@@ -181,7 +202,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(v -> v.endsWith(suffix)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.endsWith(this, suffix).toString());
 		}
 		return this;
@@ -194,7 +215,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(v -> !v.endsWith(suffix)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.doesNotEndWith(this, suffix).toString());
 		}
 		return this;
@@ -207,7 +228,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(v -> v.contains(expected)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.contains(this, expected).toString());
 		}
 		return this;
@@ -220,12 +241,61 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(v -> !v.contains(unwanted)))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.doesNotContain(this, unwanted).toString());
 		}
 		return this;
 	}
 
+	@Override
+	public StringValidator containsAny(Collection<String> expected)
+	{
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		return containsAny(SubstringMatcher.of(expected));
+	}
+
+	@Override
+	public StringValidator containsAny(SubstringMatcher expected)
+	{
+		scope.getInternalValidators().requireThat(expected, "expected").isNotNull();
+		if (value.validationFailed(v -> expected.find(v) != null))
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.containsAny(this, expected.getPatterns()).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public StringValidator doesNotContainAny(Collection<String> unwanted)
+	{
+		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
+		return doesNotContainAny(SubstringMatcher.of(unwanted));
+	}
+
+	@Override
+	public StringValidator doesNotContainAny(SubstringMatcher unwanted)
+	{
+		scope.getInternalValidators().requireThat(unwanted, "unwanted").isNotNull();
+		String v = value.or(null);
+		if (v == null)
+		{
+			failOnNull();
+			addIllegalArgumentException(() ->
+				StringMessages.doesNotContainAny(this, null).toString());
+			return this;
+		}
+		Match match = unwanted.find(v);
+		if (match != null)
+		{
+			addIllegalArgumentException(() ->
+				StringMessages.doesNotContainAny(this, match.pattern()).
+					withContext(match.index(), "index").toString());
+		}
+		return this;
+	}
+
 	@Override
 	public StringValidator doesNotContainWhitespace()
 	{
@@ -244,7 +314,7 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		}))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.doesNotContainWhitespace(this).toString());
 		}
 		return this;
@@ -253,7 +323,8 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 	@Override
 	public StringValidator matches(String regex)
 	{
-		return matches(Pattern.compile(regex));
+		scope.getInternalValidators().requireThat(regex, "regex").isNotNull();
+		return matches(scope.getPatternCache().getPattern(regex, 0));
 	}
 
 	@Override
@@ -263,12 +334,349 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		if (value.validationFailed(v -> regex.matcher(v).matches()))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				StringMessages.matches(this, regex).toString());
 		}
 		return this;
 	}
 
+	@Override
+	public StringValidator matches(Pattern regex, Duration timeout)
+	{
+		scope.getInternalValidators().requireThat(regex, "regex").isNotNull();
+		scope.getInternalValidators().requireThat(timeout, "timeout").isGreaterThan(Duration.ZERO);
+		ValidationTarget<MatchOutcome> outcome = value.nullToInvalid().
+			map(v -> DeadlineCharSequence.matches(regex, v, timeout));
+		if (outcome.validationFailed(o -> o == MatchOutcome.MATCH))
+		{
+			failOnNull();
+			if (outcome.or(null) == MatchOutcome.TIMEOUT)
+			{
+				addIllegalArgumentException(() ->
+					StringMessages.matchesWithinTimeout(this, regex, timeout).toString());
+			}
+			else
+			{
+				addIllegalArgumentException(() ->
+					StringMessages.matches(this, regex).toString());
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public StringValidator satisfies(StringConstraints constraints)
+	{
+		scope.getInternalValidators().requireThat(constraints, "constraints").isNotNull();
+		int minimumLength = constraints.getMinimumLength();
+		int maximumLength = constraints.getMaximumLength();
+		String prefix = constraints.getPrefix();
+		String suffix = constraints.getSuffix();
+		boolean whitespaceAllowed = constraints.isWhitespaceAllowed();
+		IntPredicate allowedCharacters = constraints.getAllowedCharacters();
+
+		String v = value.or(null);
+		if (v == null)
+		{
+			failOnNull();
+			if (minimumLength > 0 || maximumLength < Integer.MAX_VALUE)
+			{
+				addIllegalArgumentException(() ->
+					StringMessages.lengthIsBetween(this, minimumLength, maximumLength).toString());
+			}
+			if (!prefix.isEmpty())
+				addIllegalArgumentException(() -> StringMessages.startsWith(this, prefix).toString());
+			if (!suffix.isEmpty())
+				addIllegalArgumentException(() -> StringMessages.endsWith(this, suffix).toString());
+			if (!whitespaceAllowed)
+			{
+				addIllegalArgumentException(() ->
+					StringMessages.doesNotContainWhitespace(this).toString());
+			}
+			if (allowedCharacters != null)
+			{
+				addIllegalArgumentException(() ->
+					StringMessages.containsOnlyAllowedCharacters(this).toString());
+			}
+			return this;
+		}
+
+		int length = v.length();
+		if (length < minimumLength || length > maximumLength)
+		{
+			addIllegalArgumentException(() ->
+				StringMessages.lengthIsBetween(this, minimumLength, maximumLength).
+					withContext(length, "length").toString());
+		}
+		if (!v.startsWith(prefix))
+			addIllegalArgumentException(() -> StringMessages.startsWith(this, prefix).toString());
+		if (!v.endsWith(suffix))
+			addIllegalArgumentException(() -> StringMessages.endsWith(this, suffix).toString());
+		if (whitespaceAllowed && allowedCharacters == null)
+			return this;
+
+		// Check all the codepoints in a single pass
+		int whitespaceIndex = -1;
+		int disallowedIndex = -1;
+		for (int i = 0; i < length; )
+		{
+			int codepoint = v.codePointAt(i);
+			if (whitespaceIndex == -1 && !whitespaceAllowed && Character.isWhitespace(codepoint))
+				whitespaceIndex = i;
+			if (disallowedIndex == -1 && allowedCharacters != null && !allowedCharacters.test(codepoint))
+				disallowedIndex = i;
+			if ((whitespaceIndex != -1 || whitespaceAllowed) &&
+				(disallowedIndex != -1 || allowedCharacters == null))
+			{
+				break;
+			}
+			i += Character.charCount(codepoint);
+		}
+		if (whitespaceIndex != -1)
+		{
+			int index = whitespaceIndex;
+			addIllegalArgumentException(() ->
+				StringMessages.doesNotContainWhitespace(this).withContext(index, "index").toString());
+		}
+		if (disallowedIndex != -1)
+		{
+			int index = disallowedIndex;
+			addIllegalArgumentException(() ->
+				StringMessages.containsOnlyAllowedCharacters(this).
+					withContext(Character.toString(v.codePointAt(index)), "codepoint").
+					withContext(index, "index").toString());
+		}
+		return this;
+	}
+
+	@Override
+	public StringValidator isUuid()
+	{
+		if (value.validationFailed(Strings::isUuid))
+		{
+			failOnNull();
+			addIllegalArgumentException(() -> StringMessages.isUuid(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public StringValidator isHex()
+	{
+		if (value.validationFailed(Strings::isHex))
+		{
+			failOnNull();
+			addIllegalArgumentException(() -> StringMessages.isHex(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public StringValidator isBase64()
+	{
+		if (value.validationFailed(Strings::isBase64))
+		{
+			failOnNull();
+			addIllegalArgumentException(() -> StringMessages.isBase64(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public StringValidator isIso8601Instant()
+	{
+		if (value.validationFailed(Strings::isIso8601Instant))
+		{
+			failOnNull();
+			addIllegalArgumentException(() -> StringMessages.isIso8601Instant(this).toString());
+		}
+		return this;
+	}
+
+	@Override
+	public StringValidator isIpV4()
+	{
+		if (value.validationFailed(IpAddresses::isIpV4))
+		{
+			failOnNull();
+			addIllegalArgumentException(() -> StringMessages.isIpAddress(this, "IP v4").toString());
+		}
+		return this;
+	}
+
+	@Override
+	public StringValidator isIpV6()
+	{
+		if (value.validationFailed(IpAddresses::isIpV6))
+		{
+			failOnNull();
+			addIllegalArgumentException(() -> StringMessages.isIpAddress(this, "IP v6").toString());
+		}
+		return this;
+	}
+
+	@Override
+	public InetAddressValidator isParsableAsIpAddress()
+	{
+		ValidationTarget<InetAddress> parsed = parse(IpAddresses::parse, "an IP address");
+		return new InetAddressValidatorImpl(scope, configuration, name, parsed, context, failures);
+	}
+
+	@Override
+	public StringValidator isUri()
+	{
+		scanUri();
+		return this;
+	}
+
+	/**
+	 * Scans the value as a URI reference, recording a failure if it is invalid.
+	 *
+	 * @return the components of the URI, or {@code null} if the value is invalid or is not a URI reference
+	 */
+	private Components scanUri()
+	{
+		String v = value.or(null);
+		if (v == null)
+		{
+			failOnNull();
+			addIllegalArgumentException(() -> UriMessages.isUri(this).toString());
+			return null;
+		}
+		Components components = UriScanner.scan(v);
+		if (!components.isValid())
+		{
+			addIllegalArgumentException(() ->
+				UriMessages.isUri(this).withContext(components.errorIndex(), "index").toString());
+			return null;
+		}
+		return components;
+	}
+
+	@Override
+	public StringValidator isUri(UriConstraints constraints)
+	{
+		scope.getInternalValidators().requireThat(constraints, "constraints").isNotNull();
+		Components components = scanUri();
+		if (components == null)
+			return this;
+		String v = value.or(null);
+
+		List<String> schemes = constraints.getSchemes();
+		if (!schemes.isEmpty() && !containsIgnoreCase(schemes, v, 0, components.schemeEnd()))
+			addIllegalArgumentException(() -> UriMessages.hasScheme(this, schemes).toString());
+		List<String> hosts = constraints.getHosts();
+		if (!hosts.isEmpty() && !containsIgnoreCase(hosts, v, components.hostStart(), components.hostEnd()))
+			addIllegalArgumentException(() -> UriMessages.hasHost(this, hosts).toString());
+		int minimumPort = constraints.getMinimumPort();
+		int maximumPort = constraints.getMaximumPort();
+		int portStart = components.portStart();
+		if (portStart != -1 && portStart != components.authorityEnd())
+		{
+			int port = parsePort(v, portStart, components.authorityEnd());
+			if (port < minimumPort || port > maximumPort)
+			{
+				addIllegalArgumentException(() ->
+					UriMessages.hasPort(this, minimumPort, maximumPort).
+						withContext(v.substring(portStart, components.authorityEnd()), "port").toString());
+			}
+		}
+		String pathPrefix = constraints.getPathPrefix();
+		int pathStart = components.pathStart();
+		if (!pathPrefix.isEmpty() && !UriScanner.hasPathPrefix(v, pathStart, components.pathEnd(), pathPrefix))
+		{
+			addIllegalArgumentException(() ->
+				UriMessages.hasPathPrefix(this, pathPrefix).
+					withContext(v.substring(pathStart, components.pathEnd()), "path").toString());
+		}
+		if (!constraints.isUserInfoAllowed() && components.userInfoEnd() != -1)
+			addIllegalArgumentException(() -> UriMessages.doesNotContainUserInfo(this).toString());
+		return this;
+	}
+
+	/**
+	 * @param candidates the strings to look for
+	 * @param value      a String
+	 * @param start      the index of the first character of the range, or {@code -1} if the range is absent
+	 * @param end        the index after the last character of the range
+	 * @return {@code true} if the range is equal to any of the candidates, ignoring case
+	 */
+	private static boolean containsIgnoreCase(List<String> candidates, String value, int start, int end)
+	{
+		if (start == -1 || end == -1)
+			return false;
+		int length = end - start;
+		for (String candidate : candidates)
+		{
+			if (candidate.length() == length && value.regionMatches(true, start, candidate, 0, length))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @param value a String
+	 * @param start the index of the first digit of the port
+	 * @param end   the index after the last digit of the port
+	 * @return the port, or {@link Integer#MAX_VALUE} if it does not fit in an {@code int}
+	 */
+	private static int parsePort(String value, int start, int end)
+	{
+		long port = 0;
+		for (int i = start; i < end; ++i)
+		{
+			port = port * 10 + (value.charAt(i) - '0');
+			if (port > Integer.MAX_VALUE)
+				return Integer.MAX_VALUE;
+		}
+		return (int) port;
+	}
+
+	@Override
+	public PrimitiveLongValidator isParsableAsLong()
+	{
+		ValidationTarget<Long> parsed = parse(Strings::parseLong, "a long");
+		return new PrimitiveLongValidatorImpl(scope, configuration, name, parsed, context, failures);
+	}
+
+	@Override
+	public PrimitiveIntegerValidator isParsableAsInt()
+	{
+		ValidationTarget<Integer> parsed = parse(Strings::parseInt, "an int");
+		return new PrimitiveIntegerValidatorImpl(scope, configuration, name, parsed, context, failures);
+	}
+
+	@Override
+	public BigDecimalValidator isParsableAsDecimal()
+	{
+		ValidationTarget<BigDecimal> parsed = parse(Strings::parseDecimal, "a decimal number");
+		return new BigDecimalValidatorImpl(scope, configuration, name, parsed, context, failures);
+	}
+
+	/**
+	 * Parses the value, recording a failure if it cannot be parsed.
+	 *
+	 * @param <T>    the type of the parsed value
+	 * @param parser parses the value, returning an invalid target on failure
+	 * @param type   a description of the parsed type, used in the failure message (e.g. "a long")
+	 * @return the parsed value, or an invalid target if the value is invalid or cannot be parsed
+	 */
+	private <T> ValidationTarget<T> parse(Function<String, ValidationTarget<T>> parser, String type)
+	{
+		String v = value.or(null);
+		ValidationTarget<T> parsed;
+		if (v == null)
+		{
+			failOnNull();
+			parsed = ValidationTarget.invalid();
+		}
+		else
+			parsed = parser.apply(v);
+		if (!parsed.isValid())
+			addIllegalArgumentException(() -> StringMessages.isParsableAs(this, type).toString());
+		return parsed;
+	}
+
 	@Override
 	public PrimitiveUnsignedIntegerValidator length()
 	{
@@ -276,4 +684,21 @@ public final class StringValidatorImpl extends AbstractObjectValidator<StringVal
 		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".length()",
 			value.nullToInvalid().map(String::length), Pluralizer.CHARACTER, context, failures);
 	}
+
+	@Override
+	public PrimitiveUnsignedIntegerValidator utf8Length()
+	{
+		failOnNull();
+		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".utf8Length()",
+			value.nullToInvalid().map(Strings::utf8Length), Pluralizer.BYTE, context, failures);
+	}
+
+	@Override
+	public PrimitiveUnsignedIntegerValidator codePointLength()
+	{
+		failOnNull();
+		return new ObjectSizeValidatorImpl(scope, configuration, this, name + ".codePointLength()",
+			value.nullToInvalid().map(v -> v.codePointCount(0, v.length())), Pluralizer.CODEPOINT, context,
+			failures);
+	}
 }
\ No newline at end of file
@@ -43,7 +43,7 @@ public final class UriValidatorImpl extends AbstractObjectValidator<UriValidator
 		if (value.validationFailed(URI::isAbsolute))
 		{
 			failOnNull();
-			addIllegalArgumentException(
+			addIllegalArgumentException(() ->
 				UriMessages.isAbsolute(this).toString());
 		}
 		return this;
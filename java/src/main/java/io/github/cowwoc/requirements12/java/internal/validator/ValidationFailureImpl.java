@@ -16,10 +16,12 @@ public final class ValidationFailureImpl implements ValidationFailure
 {
 	private final String message;
 	private final Throwable cause;
+	private final Class<? extends Throwable> type;
 	private final ExceptionBuilder exceptionBuilder;
 	private Throwable throwable;
 	private final Function<Throwable, ? extends Throwable> exceptionTransformer;
 	private Throwable transformedThrowable;
+	private final boolean cleanStackTrace;
 	private boolean needToCleanStackTrace;
 	private final Set<Class<? extends Throwable>> checkedExceptions;
 
@@ -27,28 +29,34 @@ public final class ValidationFailureImpl implements ValidationFailure
 	 * @param configuration     the validator's configuration
 	 * @param message           the failure message
 	 * @param cause             (optional) the underlying cause of the exception, or {@code null} if undefined
+	 * @param type              the type of exception returned by {@code exceptionBuilder}
 	 * @param exceptionBuilder  returns the exception associated with the failure message
 	 * @param checkedExceptions the checked exceptions that are thrown by the validation method
 	 * @throws AssertionError if:
 	 *                        <ul>
-	 *                          <li>{@code configuration}, {@code message}, {@code exceptionBuilder} or
-	 *                          {@code checkedExceptions} are null</li>
+	 *                          <li>{@code configuration}, {@code message}, {@code type},
+	 *                          {@code exceptionBuilder} or {@code checkedExceptions} are null</li>
 	 *                          <li>{@code message} is blank</li>
 	 *                        </ul>
 	 */
 	public ValidationFailureImpl(Configuration configuration, String message, Throwable cause,
-		ExceptionBuilder exceptionBuilder, Set<Class<? extends Throwable>> checkedExceptions)
+		Class<? extends Throwable> type, ExceptionBuilder exceptionBuilder,
+		Set<Class<? extends Throwable>> checkedExceptions)
 	{
 		assert configuration != null;
+		assert type != null;
 		assert exceptionBuilder != null;
 		assert message != null;
 		assert !message.isBlank() : "message may not be blank";
 		assert checkedExceptions != null;
 
 		this.exceptionTransformer = configuration.exceptionTransformer();
-		this.needToCleanStackTrace = configuration.cleanStackTrace();
+		this.cleanStackTrace = configuration.cleanStackTrace();
+		this.needToCleanStackTrace = cleanStackTrace;
+		this.type = type;
 		if (configuration.recordStacktrace())
 		{
+			// The stack trace must be captured at the point of failure, so the exception cannot be deferred
 			this.message = null;
 			this.cause = null;
 			this.exceptionBuilder = null;
@@ -63,6 +71,16 @@ public final class ValidationFailureImpl implements ValidationFailure
 		this.checkedExceptions = Set.copyOf(checkedExceptions);
 	}
 
+	/**
+	 * Returns {@code true} if the exception's stack trace may be modified.
+	 *
+	 * @return {@code true} if the exception's stack trace may be modified
+	 */
+	public boolean cleanStackTrace()
+	{
+		return cleanStackTrace;
+	}
+
 	@Override
 	public String getMessage()
 	{
@@ -74,7 +92,20 @@ public final class ValidationFailureImpl implements ValidationFailure
 	@Override
 	public Class<? extends Throwable> getType()
 	{
-		return getTransformedThrowable().getClass();
+		if (transformedThrowable != null || exceptionTransformer != Configuration.IDENTITY_TRANSFORMER)
+			return getTransformedThrowable().getClass();
+		// Avoid creating the exception if the exception type can be derived from the exception builder
+		Class<? extends Throwable> untransformedType;
+		if (throwable == null)
+			untransformedType = type;
+		else
+			untransformedType = throwable.getClass();
+		if (RuntimeException.class.isAssignableFrom(untransformedType) ||
+			Error.class.isAssignableFrom(untransformedType) || checkedExceptions.contains(untransformedType))
+		{
+			return untransformedType;
+		}
+		return WrappedCheckedException.class;
 	}
 
 	@Override
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.validator;
+
+import io.github.cowwoc.requirements12.java.ValidationFailure;
+import io.github.cowwoc.requirements12.java.ValidationFailures;
+import io.github.cowwoc.requirements12.java.ValidationSession;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The default implementation of {@code ValidationSession}.
+ */
+public final class ValidationSessionImpl implements ValidationSession, FailureSink
+{
+	private final List<ValidationFailure> failures = new ArrayList<>();
+	private final List<ValidationFailure> failuresView = new Failures();
+	private int maximumFailures = Integer.MAX_VALUE;
+	private boolean failFast;
+	/**
+	 * {@code true} if all the recorded failures allow their stack trace to be modified.
+	 */
+	private boolean cleanStackTrace = true;
+
+	/**
+	 * Creates a new session that records an unlimited number of failures.
+	 */
+	public ValidationSessionImpl()
+	{
+	}
+
+	@Override
+	public int maximumFailures()
+	{
+		return maximumFailures;
+	}
+
+	@Override
+	public ValidationSession maximumFailures(int maximumFailures)
+	{
+		if (maximumFailures <= 0)
+		{
+			throw new IllegalArgumentException("maximumFailures must be positive.\n" +
+				"actual: " + maximumFailures);
+		}
+		this.maximumFailures = maximumFailures;
+		return this;
+	}
+
+	@Override
+	public boolean failFast()
+	{
+		return failFast;
+	}
+
+	@Override
+	public ValidationSession failFast(boolean failFast)
+	{
+		this.failFast = failFast;
+		return this;
+	}
+
+	@Override
+	public boolean validationFailed()
+	{
+		return !failures.isEmpty();
+	}
+
+	@Override
+	public ValidationFailures elseGetFailures()
+	{
+		return new ValidationFailures(cleanStackTrace, failures);
+	}
+
+	@Override
+	public boolean elseThrow()
+	{
+		return elseGetFailures().throwOnFailure();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Once the list contains {@link #maximumFailures()} elements, {@code add()} discards new failures, or
+	 * throws them if the session is configured to {@link #failFast() fail fast}.
+	 */
+	@Override
+	public List<ValidationFailure> getFailures()
+	{
+		return failuresView;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "maximumFailures: " + maximumFailures + ", failFast: " + failFast + ", failures: " + failures;
+	}
+
+	/**
+	 * The failures of the session, as seen by validators.
+	 */
+	private final class Failures extends AbstractList<ValidationFailure>
+		implements RandomAccess
+	{
+		@Override
+		public ValidationFailure get(int index)
+		{
+			return failures.get(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return failures.size();
+		}
+
+		@Override
+		public boolean add(ValidationFailure failure)
+		{
+			if (failures.size() >= maximumFailures)
+				return false;
+			failures.add(failure);
+			if (failure instanceof ValidationFailureImpl impl)
+				cleanStackTrace &= impl.cleanStackTrace();
+			if (failFast && failures.size() == maximumFailures)
+				elseThrow();
+			return true;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.internal.validator;
+
+import io.github.cowwoc.requirements12.java.ScopedContext;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The contextual information of a validator.
+ * <p>
+ * Reads fall through three layers: the validator's own entries, the factory's entries and the
+ * {@link ScopedContext scoped entries}, in decreasing order of precedence. The two outer layers are shared
+ * without copying; the validator's own layer is only allocated when an entry is added to it.
+ * <p>
+ * Entries may only be added through {@link #put(String, Optional)}. Iterating over the entries merges the
+ * layers, so it should be reserved for building failure messages.
+ */
+final class ValidatorContext extends AbstractMap<String, Optional<Object>>
+{
+	private final Map<String, Optional<Object>> scoped;
+	private final Map<String, Optional<Object>> factory;
+	/**
+	 * The entries that were added to the validator, or {@code null} if there are none.
+	 */
+	private Map<String, Optional<Object>> local;
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param scoped  the unmodifiable context bound by {@link ScopedContext}
+	 * @param factory the unmodifiable context of the validator factory
+	 */
+	ValidatorContext(Map<String, Optional<Object>> scoped, Map<String, Optional<Object>> factory)
+	{
+		assert scoped != null : "scoped may not be null";
+		assert factory != null : "factory may not be null";
+		this.scoped = scoped;
+		this.factory = factory;
+	}
+
+	@Override
+	public Optional<Object> get(Object key)
+	{
+		if (local != null)
+		{
+			Optional<Object> value = local.get(key);
+			if (value != null)
+				return value;
+		}
+		Optional<Object> value = factory.get(key);
+		if (value != null)
+			return value;
+		return scoped.get(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key)
+	{
+		return (local != null && local.containsKey(key)) || factory.containsKey(key) || scoped.containsKey(key);
+	}
+
+	@Override
+	public Optional<Object> put(String key, Optional<Object> value)
+	{
+		Optional<Object> previous = get(key);
+		if (local == null)
+			local = HashMap.newHashMap(2);
+		local.put(key, value);
+		return previous;
+	}
+
+	@Override
+	public Set<Entry<String, Optional<Object>>> entrySet()
+	{
+		if (local == null)
+		{
+			if (factory.isEmpty())
+				return scoped.entrySet();
+			if (scoped.isEmpty())
+				return factory.entrySet();
+		}
+		else if (factory.isEmpty() && scoped.isEmpty())
+			return Collections.unmodifiableMap(local).entrySet();
+		Map<String, Optional<Object>> merged = HashMap.newHashMap(size(local) + factory.size() + scoped.size());
+		merged.putAll(scoped);
+		merged.putAll(factory);
+		if (local != null)
+			merged.putAll(local);
+		return Collections.unmodifiableMap(merged).entrySet();
+	}
+
+	/**
+	 * @param map a map
+	 * @return the size of the map, or {@code 0} if it is null
+	 */
+	private static int size(Map<?, ?> map)
+	{
+		if (map == null)
+			return 0;
+		return map.size();
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.validator;
+
+import io.github.cowwoc.requirements12.java.validator.component.ObjectComponent;
+import io.github.cowwoc.requirements12.java.validator.component.ValidatorComponent;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Validates the state of a {@code ByteBuffer}.
+ * <p>
+ * Content checks apply to the remaining bytes of the buffer, between its position and its limit. The buffer is
+ * read in place, so its contents are never copied, and its position, limit, mark and byte order are left
+ * unchanged.
+ * <p>
+ * {@link #isEqualTo(Object)} compares the remaining bytes of two buffers. On failure, it reports the offset of
+ * the first mismatch, the number of mismatching bytes and the bytes surrounding the first few mismatches.
+ */
+public interface ByteBufferValidator extends
+	ValidatorComponent<ByteBufferValidator, ByteBuffer>,
+	ObjectComponent<ByteBufferValidator, ByteBuffer>
+{
+	/**
+	 * Returns a validator for the number of bytes between the position and the limit of the buffer.
+	 *
+	 * @return a validator for the number of remaining bytes
+	 * @throws NullPointerException if the value is null
+	 */
+	PrimitiveUnsignedIntegerValidator remaining();
+
+	/**
+	 * Returns a validator for the limit of the buffer.
+	 *
+	 * @return a validator for the limit
+	 * @throws NullPointerException if the value is null
+	 */
+	PrimitiveUnsignedIntegerValidator limit();
+
+	/**
+	 * Returns a validator for the capacity of the buffer.
+	 *
+	 * @return a validator for the capacity
+	 * @throws NullPointerException if the value is null
+	 */
+	PrimitiveUnsignedIntegerValidator capacity();
+
+	/**
+	 * Ensures that the buffer is direct.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the buffer is not direct
+	 * @see ByteBuffer#isDirect()
+	 */
+	ByteBufferValidator isDirect();
+
+	/**
+	 * Ensures that the buffer has a byte order.
+	 *
+	 * @param expected the byte order
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code expected} are null
+	 * @throws IllegalArgumentException if the buffer has a different byte order
+	 */
+	ByteBufferValidator hasOrder(ByteOrder expected);
+
+	/**
+	 * Ensures that the memory address of the byte at the buffer's position is aligned to a unit size.
+	 *
+	 * @param unitSize the unit size in bytes
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code unitSize} is not a power of two</li>
+	 *                                    <li>the buffer's position is not aligned to {@code unitSize}</li>
+	 *                                    <li>the buffer is not direct and {@code unitSize} is greater than
+	 *                                    {@code 8}, in which case its alignment is undefined</li>
+	 *                                  </ul>
+	 * @see ByteBuffer#alignmentOffset(int, int)
+	 */
+	ByteBufferValidator isAligned(int unitSize);
+
+	/**
+	 * Ensures that the remaining bytes of the buffer start with a sequence of bytes.
+	 *
+	 * @param prefix the bytes that the buffer must start with
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code prefix} are null
+	 * @throws IllegalArgumentException if the remaining bytes do not start with {@code prefix}
+	 */
+	ByteBufferValidator startsWith(byte[] prefix);
+
+	/**
+	 * Ensures that the remaining bytes of the buffer contain a sequence of bytes.
+	 *
+	 * @param expected the bytes that the buffer must contain
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code expected} are null
+	 * @throws IllegalArgumentException if the remaining bytes do not contain {@code expected}
+	 */
+	ByteBufferValidator contains(byte[] expected);
+
+	/**
+	 * Ensures that the remaining bytes of the buffer do not contain a sequence of bytes.
+	 *
+	 * @param unwanted the bytes that the buffer may not contain
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code unwanted} are null
+	 * @throws IllegalArgumentException if the remaining bytes contain {@code unwanted}
+	 */
+	ByteBufferValidator doesNotContain(byte[] unwanted);
+
+	/**
+	 * Ensures that the remaining bytes of the buffer have a checksum or message digest.
+	 * <p>
+	 * {@code algorithm} may be {@code CRC32}, {@code CRC32C}, {@code Adler32} or any {@code MessageDigest}
+	 * algorithm that is available to the JVM, such as {@code SHA-256}. The value of a {@code CRC32},
+	 * {@code CRC32C} or {@code Adler32} checksum is represented as four big-endian bytes.
+	 *
+	 * @param algorithm the name of the algorithm
+	 * @param expected  the expected checksum
+	 * @return this
+	 * @throws NullPointerException     if the value, {@code algorithm} or {@code expected} are null
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code algorithm} is not supported</li>
+	 *                                    <li>the checksum of the remaining bytes is not equal to
+	 *                                    {@code expected}</li>
+	 *                                  </ul>
+	 */
+	ByteBufferValidator hasChecksum(String algorithm, byte[] expected);
+}
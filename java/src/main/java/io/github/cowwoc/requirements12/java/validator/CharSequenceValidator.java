@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.java.validator;
+
+import io.github.cowwoc.requirements12.java.SubstringMatcher;
+import io.github.cowwoc.requirements12.java.validator.component.ObjectComponent;
+import io.github.cowwoc.requirements12.java.validator.component.ValidatorComponent;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.regex.Pattern;
+
+/**
+ * Validates the state of a {@code CharSequence}, such as a {@code StringBuilder} or a {@code CharBuffer}.
+ * <p>
+ * The value is read through the {@code CharSequence} interface. It is only converted to a {@code String} when
+ * a failure message is generated.
+ * <p>
+ * Most {@code CharSequence} implementations do not override {@code equals()}, so {@link #isEqualTo(Object)}
+ * compares their identity rather than their contents.
+ * <p>
+ * Instances are created by {@code requireThatCharSequence()}, {@code thatCharSequence()} and
+ * {@code checkIfCharSequence()}. These methods do not overload {@code requireThat()} because many sequences,
+ * such as {@code StringBuilder}, are also {@code Comparable}; an overload would make existing calls ambiguous.
+ */
+public interface CharSequenceValidator extends
+	ValidatorComponent<CharSequenceValidator, CharSequence>,
+	ObjectComponent<CharSequenceValidator, CharSequence>
+{
+	/**
+	 * Ensures that the value starts with some prefix.
+	 *
+	 * @param prefix the value that the sequence must start with
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code prefix} are null
+	 * @throws IllegalArgumentException if the value does not start with {@code prefix}
+	 */
+	CharSequenceValidator startsWith(String prefix);
+
+	/**
+	 * Ensures that the value does not start with some prefix.
+	 *
+	 * @param prefix the value that the sequence may not start with
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code prefix} are null
+	 * @throws IllegalArgumentException if the value starts with {@code prefix}
+	 */
+	CharSequenceValidator doesNotStartWith(String prefix);
+
+	/**
+	 * Ensures that the value ends with some suffix.
+	 *
+	 * @param suffix the value that the sequence must end with
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code suffix} are null
+	 * @throws IllegalArgumentException if the value does not end with {@code suffix}
+	 */
+	CharSequenceValidator endsWith(String suffix);
+
+	/**
+	 * Ensures that the value does not end with some suffix.
+	 *
+	 * @param suffix the value that the sequence may not end with
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code suffix} are null
+	 * @throws IllegalArgumentException if the value ends with {@code suffix}
+	 */
+	CharSequenceValidator doesNotEndWith(String suffix);
+
+	/**
+	 * Ensures that the value contains some substring.
+	 *
+	 * @param expected the string that the value must contain
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code expected} are null
+	 * @throws IllegalArgumentException if the value does not contain {@code expected}
+	 */
+	CharSequenceValidator contains(String expected);
+
+	/**
+	 * Ensures that the value does not contain some substring.
+	 *
+	 * @param unwanted the string that the value may not contain
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code unwanted} are null
+	 * @throws IllegalArgumentException if the value contains {@code unwanted}
+	 */
+	CharSequenceValidator doesNotContain(String unwanted);
+
+	/**
+	 * Ensures that the value contains at least one of the specified substrings.
+	 * <p>
+	 * The substrings are compiled on every invocation. To validate many values against the same substrings,
+	 * compile them once using {@link SubstringMatcher#of(Collection)} and invoke
+	 * {@link #containsAny(SubstringMatcher)} instead.
+	 *
+	 * @param expected the strings that the value must contain at least one of
+	 * @return this
+	 * @throws NullPointerException     if the value, {@code expected} or any of its elements are null
+	 * @throws IllegalArgumentException if the value does not contain any of {@code expected}
+	 */
+	CharSequenceValidator containsAny(Collection<String> expected);
+
+	/**
+	 * Ensures that the value contains at least one of the specified substrings.
+	 *
+	 * @param expected the strings that the value must contain at least one of
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code expected} are null
+	 * @throws IllegalArgumentException if the value does not contain any of {@code expected}
+	 */
+	CharSequenceValidator containsAny(SubstringMatcher expected);
+
+	/**
+	 * Ensures that the value does not contain any of the specified substrings.
+	 * <p>
+	 * The substrings are compiled on every invocation. To validate many values against the same substrings,
+	 * compile them once using {@link SubstringMatcher#of(Collection)} and invoke
+	 * {@link #doesNotContainAny(SubstringMatcher)} instead.
+	 *
+	 * @param unwanted the strings that the value may not contain
+	 * @return this
+	 * @throws NullPointerException     if the value, {@code unwanted} or any of its elements are null
+	 * @throws IllegalArgumentException if the value contains any of {@code unwanted}. The exception message
+	 *                                  contains the first occurrence and its index.
+	 */
+	CharSequenceValidator doesNotContainAny(Collection<String> unwanted);
+
+	/**
+	 * Ensures that the value does not contain any of the specified substrings.
+	 *
+	 * @param unwanted the strings that the value may not contain
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code unwanted} are null
+	 * @throws IllegalArgumentException if the value contains any of {@code unwanted}. The exception message
+	 *                                  contains the first occurrence and its index.
+	 */
+	CharSequenceValidator doesNotContainAny(SubstringMatcher unwanted);
+
+	/**
+	 * Ensures that the value does not contain whitespace characters.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value contains whitespace characters
+	 */
+	CharSequenceValidator doesNotContainWhitespace();
+
+	/**
+	 * Ensures that the value matches a regular expression.
+	 *
+	 * @param regex the regular expression
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value does not match {@code regex}
+	 */
+	CharSequenceValidator matches(String regex);
+
+	/**
+	 * Ensures that the value matches a regular expression.
+	 *
+	 * @param regex the regular expression
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value does not match {@code regex}
+	 */
+	CharSequenceValidator matches(Pattern regex);
+
+	/**
+	 * Ensures that the value matches a regular expression within a time limit.
+	 * <p>
+	 * Use this method to protect against regular expressions that backtrack catastrophically when applied to
+	 * untrusted input. The match is abandoned, and validation fails, once it takes longer than
+	 * {@code timeout}.
+	 *
+	 * @param regex   the regular expression
+	 * @param timeout the maximum amount of time that the match may take
+	 * @return this
+	 * @throws NullPointerException     if the value or any of the arguments are null
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code timeout} is not positive</li>
+	 *                                    <li>the value does not match {@code regex}</li>
+	 *                                    <li>the match does not complete within {@code timeout}</li>
+	 *                                  </ul>
+	 */
+	CharSequenceValidator matches(Pattern regex, Duration timeout);
+
+	/**
+	 * Ensures that the value is empty.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is not empty
+	 */
+	CharSequenceValidator isEmpty();
+
+	/**
+	 * Ensures that the value is not empty.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is empty
+	 */
+	CharSequenceValidator isNotEmpty();
+
+	/**
+	 * Ensures that the value does not contain leading or trailing whitespace, where whitespace is defined by
+	 * {@link String#trim()}.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value contains leading or trailing whitespace
+	 * @see String#trim()
+	 * @see #isEmpty()
+	 */
+	CharSequenceValidator isTrimmed();
+
+	/**
+	 * Ensures that the value does not contain leading or trailing whitespace, where whitespace is defined by
+	 * {@link String#strip()}.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value contains leading or trailing whitespace
+	 * @see #isBlank()
+	 */
+	CharSequenceValidator isStripped();
+
+	/**
+	 * Ensures that the value is empty or contains only {@link Character#isWhitespace(int) whitespace}
+	 * codepoints.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is not empty or contains non-whitespace codepoints
+	 */
+	CharSequenceValidator isBlank();
+
+	/**
+	 * Ensures that the value is not empty or contains non-{@link Character#isWhitespace(int) whitespace}
+	 * codepoints.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is empty or contains only whitespace codepoints
+	 */
+	CharSequenceValidator isNotBlank();
+
+	/**
+	 * Returns a validator for the length of the sequence.
+	 *
+	 * @return a validator for the length of the sequence
+	 * @throws NullPointerException if the value is null
+	 */
+	PrimitiveUnsignedIntegerValidator length();
+
+	/**
+	 * Returns a validator for the number of Unicode codepoints in the sequence.
+	 * <p>
+	 * Unlike {@link #length()}, a supplementary character counts as one codepoint instead of two
+	 * {@code char}s.
+	 *
+	 * @return a validator for the number of codepoints in the sequence
+	 * @throws NullPointerException if the value is null
+	 */
+	PrimitiveUnsignedIntegerValidator codePointLength();
+}
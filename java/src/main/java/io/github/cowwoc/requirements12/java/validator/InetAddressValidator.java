@@ -4,10 +4,12 @@
  */
 package io.github.cowwoc.requirements12.java.validator;
 
+import io.github.cowwoc.requirements12.java.SubnetSet;
 import io.github.cowwoc.requirements12.java.validator.component.ObjectComponent;
 import io.github.cowwoc.requirements12.java.validator.component.ValidatorComponent;
 
 import java.net.InetAddress;
+import java.util.Collection;
 
 /**
  * Validates the state of an {@code InetAddress}.
@@ -33,4 +35,37 @@ public interface InetAddressValidator extends
 	 * @throws IllegalArgumentException if the value is not an IP v6 address
 	 */
 	InetAddressValidator isIpV6();
-}
\ No newline at end of file
+
+	/**
+	 * Ensures that the value belongs to an IP address range.
+	 *
+	 * @param range a range in CIDR notation, such as {@code 10.0.0.0/8} or {@code 2001:db8::/32}
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code range} are null
+	 * @throws IllegalArgumentException if {@code range} is malformed, or if the value does not belong to it
+	 * @see SubnetSet#of(Collection)
+	 */
+	InetAddressValidator isInSubnet(String range);
+
+	/**
+	 * Ensures that the value belongs to at least one of a set of IP address ranges.
+	 *
+	 * @param ranges the ranges that the value must belong to
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code ranges} are null
+	 * @throws IllegalArgumentException if the value does not belong to any of the ranges. The exception
+	 *                                  message contains the ranges that are nearest to the value.
+	 */
+	InetAddressValidator isInAnyOf(SubnetSet ranges);
+
+	/**
+	 * Ensures that the value does not belong to any of a set of IP address ranges.
+	 *
+	 * @param ranges the ranges that the value may not belong to
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code ranges} are null
+	 * @throws IllegalArgumentException if the value belongs to any of the ranges. The exception message contains
+	 *                                  the most specific range that contains the value.
+	 */
+	InetAddressValidator isNotInAnyOf(SubnetSet ranges);
+}
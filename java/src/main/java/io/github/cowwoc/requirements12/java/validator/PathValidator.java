@@ -4,6 +4,7 @@
  */
 package io.github.cowwoc.requirements12.java.validator;
 
+import io.github.cowwoc.requirements12.java.TreeLimits;
 import io.github.cowwoc.requirements12.java.validator.component.ObjectComponent;
 import io.github.cowwoc.requirements12.java.validator.component.ValidatorComponent;
 
@@ -11,10 +12,19 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
 import java.util.Collection;
+import java.util.Set;
 
 /**
  * Validates the state of a {@link Path}.
+ * <p>
+ * The attributes of the path are read at most once per validator (once when following symbolic links, and
+ * once when not following them) and are shared by all the checks in the chain. For example,
+ * {@code isRegularFile().size().isLessThan(1024)} reads the attributes once. Consequently, changes to the file
+ * system that take place after the attributes are read are not visible to subsequent checks.
  */
 public interface PathValidator extends
 	ValidatorComponent<PathValidator, Path>,
@@ -86,6 +96,59 @@ public interface PathValidator extends
 	 */
 	PathValidator isExecutable();
 
+	/**
+	 * Returns a validator for the size of the file, in bytes.
+	 *
+	 * @param options options indicating how symbolic links are handled
+	 * @return a validator for the size of the file
+	 * @throws NullPointerException if the value or {@code options} are null
+	 * @throws IOException          if an I/O error occurs while reading the file attributes (e.g., the file
+	 *                              does not exist or the user lacks the required permissions)
+	 * @see BasicFileAttributes#size()
+	 */
+	PrimitiveLongValidator size(LinkOption... options) throws IOException;
+
+	/**
+	 * Returns a validator for the time that the file was last modified.
+	 *
+	 * @param options options indicating how symbolic links are handled
+	 * @return a validator for the time that the file was last modified
+	 * @throws NullPointerException if the value or {@code options} are null
+	 * @throws IOException          if an I/O error occurs while reading the file attributes (e.g., the file
+	 *                              does not exist or the user lacks the required permissions)
+	 * @see BasicFileAttributes#lastModifiedTime()
+	 */
+	ComparableValidator<FileTime> lastModifiedTime(LinkOption... options) throws IOException;
+
+	/**
+	 * Ensures that the file has all the specified POSIX permissions.
+	 *
+	 * @param expected the permissions that the file must have
+	 * @param options  options indicating how symbolic links are handled
+	 * @return this
+	 * @throws NullPointerException          if the value, {@code expected} or {@code options} are null
+	 * @throws IllegalArgumentException      if the file is missing any of the permissions
+	 * @throws UnsupportedOperationException if the file system does not support POSIX permissions
+	 * @throws IOException                   if an I/O error occurs while reading the file attributes (e.g., the
+	 *                                       file does not exist or the user lacks the required permissions)
+	 */
+	PathValidator hasPermissions(Set<PosixFilePermission> expected, LinkOption... options) throws IOException;
+
+	/**
+	 * Ensures that the file does not have any of the specified POSIX permissions.
+	 *
+	 * @param unwanted the permissions that the file may not have
+	 * @param options  options indicating how symbolic links are handled
+	 * @return this
+	 * @throws NullPointerException          if the value, {@code unwanted} or {@code options} are null
+	 * @throws IllegalArgumentException      if the file has any of the permissions
+	 * @throws UnsupportedOperationException if the file system does not support POSIX permissions
+	 * @throws IOException                   if an I/O error occurs while reading the file attributes (e.g., the
+	 *                                       file does not exist or the user lacks the required permissions)
+	 */
+	PathValidator doesNotHavePermissions(Set<PosixFilePermission> unwanted, LinkOption... options)
+		throws IOException;
+
 	/**
 	 * Ensures that the path is empty.
 	 *
@@ -104,6 +167,147 @@ public interface PathValidator extends
 	 */
 	PathValidator isNotEmpty();
 
+	/**
+	 * Ensures that the path contains at least {@code minimum} entries, without descending into subdirectories.
+	 * <p>
+	 * The directory is read until {@code minimum} entries are found, so large directories are not read in
+	 * full. Paths that are not directories are treated as having no entries.
+	 *
+	 * @param minimum the minimum number of entries (inclusive)
+	 * @return this
+	 * @throws NullPointerException     if the value is {@code null}
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code minimum} is negative</li>
+	 *                                    <li>the path contains fewer than {@code minimum} entries</li>
+	 *                                  </ul>
+	 * @throws IOException              if an I/O error occurs while reading the directory (e.g., the directory
+	 *                                  does not exist or the user lacks the required permissions)
+	 */
+	PathValidator containsAtLeast(int minimum) throws IOException;
+
+	/**
+	 * Ensures that the path contains at most {@code maximum} entries, without descending into subdirectories.
+	 * <p>
+	 * The directory is read until {@code maximum + 1} entries are found, so large directories are not read in
+	 * full. Paths that are not directories are treated as having no entries.
+	 *
+	 * @param maximum the maximum number of entries (inclusive)
+	 * @return this
+	 * @throws NullPointerException     if the value is {@code null}
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code maximum} is negative</li>
+	 *                                    <li>the path contains more than {@code maximum} entries</li>
+	 *                                  </ul>
+	 * @throws IOException              if an I/O error occurs while reading the directory (e.g., the directory
+	 *                                  does not exist or the user lacks the required permissions)
+	 */
+	PathValidator containsAtMost(int maximum) throws IOException;
+
+	/**
+	 * Ensures that the directory tree rooted at the path is within limits, such as the number of files, their
+	 * total size or the depth of nesting.
+	 * <p>
+	 * Directories are read concurrently on virtual threads, and the walk stops as soon as a limit is exceeded,
+	 * so oversized trees are not read in full. Symbolic links are never followed. If the path is not a
+	 * directory, it is treated as a tree that consists of a single file.
+	 *
+	 * @param limits the limits that the tree must be within
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code limits} are null
+	 * @throws IllegalArgumentException if the tree exceeds any of the limits
+	 * @throws IOException              if an I/O error occurs while walking the tree (e.g., the path does not
+	 *                                  exist or the user lacks the required permissions)
+	 */
+	PathValidator isTreeWithin(TreeLimits limits) throws IOException;
+
+	/**
+	 * Ensures that the contents of the file start with a sequence of bytes, such as a magic number or a
+	 * header.
+	 * <p>
+	 * Only the first {@code prefix.length} bytes of the file are read.
+	 *
+	 * @param prefix the bytes that the file must start with
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code prefix} are null
+	 * @throws IllegalArgumentException if the file does not start with {@code prefix}
+	 * @throws IOException              if an I/O error occurs while reading the file (e.g., the file does not
+	 *                                  exist or the user lacks the required permissions)
+	 */
+	PathValidator contentStartsWith(byte[] prefix) throws IOException;
+
+	/**
+	 * Ensures that the contents of the file do not contain a byte, such as {@code 0x00} in a text file.
+	 * <p>
+	 * The file is memory-mapped and scanned without copying it onto the heap.
+	 *
+	 * @param unwanted the byte that the file may not contain
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the file contains {@code unwanted}
+	 * @throws IOException              if an I/O error occurs while reading the file (e.g., the file does not
+	 *                                  exist or the user lacks the required permissions)
+	 */
+	PathValidator contentDoesNotContain(byte unwanted) throws IOException;
+
+	/**
+	 * Ensures that the contents of the file are well-formed UTF-8. Overlong encodings, surrogates, code points
+	 * above {@code U+10FFFF} and truncated sequences are rejected.
+	 * <p>
+	 * The file is memory-mapped and scanned without copying it onto the heap.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the file contains malformed UTF-8
+	 * @throws IOException              if an I/O error occurs while reading the file (e.g., the file does not
+	 *                                  exist or the user lacks the required permissions)
+	 */
+	PathValidator contentIsUtf8() throws IOException;
+
+	/**
+	 * Ensures that the file contains at most a number of lines. Lines are terminated by {@code \n}, and a
+	 * final line without a terminator is also counted.
+	 * <p>
+	 * The file is memory-mapped and scanning stops as soon as the limit is exceeded.
+	 *
+	 * @param maximum the maximum number of lines (inclusive)
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code maximum} is negative</li>
+	 *                                    <li>the file contains more than {@code maximum} lines</li>
+	 *                                  </ul>
+	 * @throws IOException              if an I/O error occurs while reading the file (e.g., the file does not
+	 *                                  exist or the user lacks the required permissions)
+	 */
+	PathValidator contentHasAtMostLines(long maximum) throws IOException;
+
+	/**
+	 * Ensures that the contents of the file have a checksum or message digest.
+	 * <p>
+	 * {@code algorithm} may be {@code CRC32}, {@code CRC32C}, {@code Adler32} or any {@code MessageDigest}
+	 * algorithm that is available to the JVM, such as {@code SHA-256}. The value of a {@code CRC32},
+	 * {@code CRC32C} or {@code Adler32} checksum is represented as four big-endian bytes.
+	 * <p>
+	 * The file is streamed through the algorithm in fixed-size chunks, so it is never loaded into memory in
+	 * full.
+	 *
+	 * @param algorithm the name of the algorithm
+	 * @param expected  the expected checksum
+	 * @return this
+	 * @throws NullPointerException     if the value, {@code algorithm} or {@code expected} are null
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code algorithm} is not supported</li>
+	 *                                    <li>the checksum of the file is not equal to {@code expected}</li>
+	 *                                  </ul>
+	 * @throws IOException              if an I/O error occurs while reading the file (e.g., the file does not
+	 *                                  exist or the user lacks the required permissions)
+	 */
+	PathValidator hasChecksum(String algorithm, byte[] expected) throws IOException;
+
 	/**
 	 * Ensures that the path contains another path.
 	 *
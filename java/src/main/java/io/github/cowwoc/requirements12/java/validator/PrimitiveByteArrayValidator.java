@@ -82,4 +82,23 @@ public interface PrimitiveByteArrayValidator extends
 	 * @see Comparator#naturalOrder()
 	 */
 	PrimitiveByteArrayValidator isSorted();
+
+	/**
+	 * Ensures that the array has a checksum or message digest.
+	 * <p>
+	 * {@code algorithm} may be {@code CRC32}, {@code CRC32C}, {@code Adler32} or any {@code MessageDigest}
+	 * algorithm that is available to the JVM, such as {@code SHA-256}. The value of a {@code CRC32},
+	 * {@code CRC32C} or {@code Adler32} checksum is represented as four big-endian bytes.
+	 *
+	 * @param algorithm the name of the algorithm
+	 * @param expected  the expected checksum
+	 * @return this
+	 * @throws NullPointerException     if the value, {@code algorithm} or {@code expected} are null
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code algorithm} is not supported</li>
+	 *                                    <li>the checksum of the array is not equal to {@code expected}</li>
+	 *                                  </ul>
+	 */
+	PrimitiveByteArrayValidator hasChecksum(String algorithm, byte[] expected);
 }
\ No newline at end of file
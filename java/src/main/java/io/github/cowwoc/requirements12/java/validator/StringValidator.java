@@ -4,9 +4,20 @@
  */
 package io.github.cowwoc.requirements12.java.validator;
 
+import io.github.cowwoc.requirements12.java.StringConstraints;
+import io.github.cowwoc.requirements12.java.SubstringMatcher;
+import io.github.cowwoc.requirements12.java.UriConstraints;
 import io.github.cowwoc.requirements12.java.validator.component.ObjectComponent;
 import io.github.cowwoc.requirements12.java.validator.component.ValidatorComponent;
 
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.UUID;
 import java.util.regex.Pattern;
 
 /**
@@ -76,6 +87,56 @@ public interface StringValidator extends
 	 */
 	StringValidator doesNotContain(String unwanted);
 
+	/**
+	 * Ensures that the value contains at least one of the specified substrings.
+	 * <p>
+	 * The substrings are compiled on every invocation. To validate many values against the same substrings,
+	 * compile them once using {@link SubstringMatcher#of(Collection)} and invoke
+	 * {@link #containsAny(SubstringMatcher)} instead.
+	 *
+	 * @param expected the strings that the value must contain at least one of
+	 * @return this
+	 * @throws NullPointerException     if the value, {@code expected} or any of its elements are null
+	 * @throws IllegalArgumentException if the value does not contain any of {@code expected}
+	 */
+	StringValidator containsAny(Collection<String> expected);
+
+	/**
+	 * Ensures that the value contains at least one of the specified substrings.
+	 *
+	 * @param expected the strings that the value must contain at least one of
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code expected} are null
+	 * @throws IllegalArgumentException if the value does not contain any of {@code expected}
+	 */
+	StringValidator containsAny(SubstringMatcher expected);
+
+	/**
+	 * Ensures that the value does not contain any of the specified substrings.
+	 * <p>
+	 * The substrings are compiled on every invocation. To validate many values against the same substrings,
+	 * compile them once using {@link SubstringMatcher#of(Collection)} and invoke
+	 * {@link #doesNotContainAny(SubstringMatcher)} instead.
+	 *
+	 * @param unwanted the strings that the value may not contain
+	 * @return this
+	 * @throws NullPointerException     if the value, {@code unwanted} or any of its elements are null
+	 * @throws IllegalArgumentException if the value contains any of {@code unwanted}. The exception message
+	 *                                  contains the first occurrence and its index.
+	 */
+	StringValidator doesNotContainAny(Collection<String> unwanted);
+
+	/**
+	 * Ensures that the value does not contain any of the specified substrings.
+	 *
+	 * @param unwanted the strings that the value may not contain
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code unwanted} are null
+	 * @throws IllegalArgumentException if the value contains any of {@code unwanted}. The exception message
+	 *                                  contains the first occurrence and its index.
+	 */
+	StringValidator doesNotContainAny(SubstringMatcher unwanted);
+
 	/**
 	 * Ensures that the value does not contain whitespace characters.
 	 *
@@ -105,6 +166,39 @@ public interface StringValidator extends
 	 */
 	StringValidator matches(Pattern regex);
 
+	/**
+	 * Ensures that the value matches a regular expression within a time limit.
+	 * <p>
+	 * Use this method to protect against regular expressions that backtrack catastrophically when applied to
+	 * untrusted input. The match is abandoned, and validation fails, once it takes longer than
+	 * {@code timeout}.
+	 *
+	 * @param regex   the regular expression
+	 * @param timeout the maximum amount of time that the match may take
+	 * @return this
+	 * @throws NullPointerException     if the value or any of the arguments are null
+	 * @throws IllegalArgumentException if:
+	 *                                  <ul>
+	 *                                    <li>{@code timeout} is not positive</li>
+	 *                                    <li>the value does not match {@code regex}</li>
+	 *                                    <li>the match does not complete within {@code timeout}</li>
+	 *                                  </ul>
+	 */
+	StringValidator matches(Pattern regex, Duration timeout);
+
+	/**
+	 * Ensures that the value satisfies character-level constraints.
+	 * <p>
+	 * This is equivalent to checking each constraint separately, but the value is scanned once, and failures
+	 * report the index of the first offending codepoint.
+	 *
+	 * @param constraints the constraints
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code constraints} are null
+	 * @throws IllegalArgumentException if the value violates any of the constraints
+	 */
+	StringValidator satisfies(StringConstraints constraints);
+
 	/**
 	 * Ensures that the value is empty.
 	 *
@@ -166,6 +260,155 @@ public interface StringValidator extends
 	 */
 	StringValidator isNotBlank();
 
+	/**
+	 * Ensures that the value is a UUID in its canonical form: 32 hexadecimal digits, separated into groups of
+	 * 8-4-4-4-12 by hyphens. For example, {@code 123e4567-e89b-12d3-a456-426614174000}.
+	 * <p>
+	 * Unlike {@link UUID#fromString(String)}, groups with fewer or extra digits are rejected.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is not a UUID
+	 */
+	StringValidator isUuid();
+
+	/**
+	 * Ensures that the value consists of one or more hexadecimal digits ({@code 0-9}, {@code a-f} or
+	 * {@code A-F}).
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is empty or contains a character that is not a hexadecimal
+	 *                                  digit
+	 */
+	StringValidator isHex();
+
+	/**
+	 * Ensures that the value is encoded using the padded
+	 * <a href="https://www.rfc-editor.org/rfc/rfc4648#section-4">Base64 alphabet</a>, as produced by
+	 * {@link Base64#getEncoder()}.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is not Base64-encoded
+	 */
+	StringValidator isBase64();
+
+	/**
+	 * Ensures that the value is an ISO-8601 instant with a four-digit year, such as
+	 * {@code 2025-01-31T13:45:00Z} or {@code 2025-01-31T13:45:00.5+02:00}.
+	 * <p>
+	 * The value is accepted if and only if {@link Instant#parse(CharSequence)} accepts it.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is not an ISO-8601 instant
+	 */
+	StringValidator isIso8601Instant();
+
+	/**
+	 * Ensures that the value is an IP v4 address literal in dotted-decimal form, such as {@code 192.168.0.1}.
+	 * <p>
+	 * The value is scanned without consulting the name resolver. Octets with leading zeros are rejected because
+	 * some parsers interpret them as octal numbers.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is not an IP v4 address
+	 */
+	StringValidator isIpV4();
+
+	/**
+	 * Ensures that the value is an IP v6 address literal, such as {@code 2001:db8::1},
+	 * {@code ::ffff:192.168.0.1} or {@code fe80::1%eth0}.
+	 * <p>
+	 * The value is scanned without consulting the name resolver. The zone, if any, is not required to exist.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is not an IP v6 address
+	 */
+	StringValidator isIpV6();
+
+	/**
+	 * Ensures that the value is an IP v4 or IP v6 address literal, and returns a validator for the
+	 * corresponding {@code InetAddress}.
+	 * <p>
+	 * Unlike {@link InetAddress#getByName(String)}, the value is never resolved using DNS. Named zones are
+	 * looked up among the local network interfaces. Like {@code InetAddress.getByName()}, IPv4-mapped IP v6
+	 * addresses are converted to IP v4 addresses.
+	 *
+	 * @return a validator for the address
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is not an IP address literal, or if it refers to a network
+	 *                                  interface that does not exist
+	 */
+	InetAddressValidator isParsableAsIpAddress();
+
+	/**
+	 * Ensures that the value is a URI reference, as defined by
+	 * <a href="https://www.rfc-editor.org/rfc/rfc3986#section-4.1">RFC 3986</a>.
+	 * <p>
+	 * The value is scanned in place, without constructing a {@link URI}. The exception message contains the
+	 * index of the first invalid character.
+	 *
+	 * @return this
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value is not a URI reference
+	 */
+	StringValidator isUri();
+
+	/**
+	 * Ensures that the value is a URI reference whose components satisfy a set of constraints.
+	 * <p>
+	 * The components are compared in place, without constructing a {@link URI} or copying them. A separate
+	 * failure is reported for each constraint that is violated. If the value is not a URI reference, the
+	 * constraints are not evaluated.
+	 *
+	 * @param constraints the constraints that the URI must satisfy
+	 * @return this
+	 * @throws NullPointerException     if the value or {@code constraints} are null
+	 * @throws IllegalArgumentException if the value is not a URI reference, or if it violates any of the
+	 *                                  constraints
+	 */
+	StringValidator isUri(UriConstraints constraints);
+
+	/**
+	 * Ensures that the value contains a {@code long}, and returns a validator for the parsed value.
+	 * <p>
+	 * The value is parsed once, without throwing any exceptions for invalid input. Unlike
+	 * {@link Long#parseLong(String)}, only ASCII digits are accepted.
+	 *
+	 * @return a validator for the parsed value
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value does not contain a {@code long}
+	 */
+	PrimitiveLongValidator isParsableAsLong();
+
+	/**
+	 * Ensures that the value contains an {@code int}, and returns a validator for the parsed value.
+	 * <p>
+	 * The value is parsed once, without throwing any exceptions for invalid input. Unlike
+	 * {@link Integer#parseInt(String)}, only ASCII digits are accepted.
+	 *
+	 * @return a validator for the parsed value
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value does not contain an {@code int}
+	 */
+	PrimitiveIntegerValidator isParsableAsInt();
+
+	/**
+	 * Ensures that the value contains a decimal number, and returns a validator for the parsed value.
+	 * <p>
+	 * The value is scanned before it is converted, so invalid input does not throw any exceptions. Unlike
+	 * {@link BigDecimal#BigDecimal(String)}, only ASCII digits are accepted.
+	 *
+	 * @return a validator for the parsed value
+	 * @throws NullPointerException     if the value is null
+	 * @throws IllegalArgumentException if the value does not contain a decimal number
+	 */
+	BigDecimalValidator isParsableAsDecimal();
+
 	/**
 	 * Returns a validator for the length of the String.
 	 *
@@ -173,4 +416,27 @@ public interface StringValidator extends
 	 * @throws NullPointerException if the value is null
 	 */
 	PrimitiveUnsignedIntegerValidator length();
+
+	/**
+	 * Returns a validator for the number of bytes in the UTF-8 encoding of the String.
+	 * <p>
+	 * The length is equal to {@code value.getBytes(StandardCharsets.UTF_8).length}, including the replacement
+	 * of unpaired surrogates by a single byte, but it is computed without encoding the String. Lengths that do
+	 * not fit in an {@code int} are reported as {@link Integer#MAX_VALUE}.
+	 *
+	 * @return a validator for the UTF-8 length of the String
+	 * @throws NullPointerException if the value is null
+	 */
+	PrimitiveUnsignedIntegerValidator utf8Length();
+
+	/**
+	 * Returns a validator for the number of Unicode codepoints in the String.
+	 * <p>
+	 * Unlike {@link #length()}, a supplementary character counts as one codepoint instead of two
+	 * {@code char}s.
+	 *
+	 * @return a validator for the number of codepoints in the String
+	 * @throws NullPointerException if the value is null
+	 */
+	PrimitiveUnsignedIntegerValidator codePointLength();
 }
\ No newline at end of file
@@ -29,7 +29,7 @@ module io.github.cowwoc.requirements12.java
 		io.github.cowwoc.requirements12.test;
 	exports io.github.cowwoc.requirements12.java.internal.util to
 		io.github.cowwoc.requirements12.guava, io.github.cowwoc.requirements12.jackson,
-		io.github.cowwoc.requirements12.test;
+		io.github.cowwoc.requirements12.test, io.github.cowwoc.requirements12.benchmark.java;
 	exports io.github.cowwoc.requirements12.java.internal.terminal to
 		io.github.cowwoc.requirements12.test;
 	exports io.github.cowwoc.requirements12.java.internal.validator to
@@ -10,6 +10,7 @@ import io.github.cowwoc.requirements12.jackson.internal.validator.JacksonValidat
 import io.github.cowwoc.requirements12.jackson.validator.JsonNodeValidator;
 import io.github.cowwoc.requirements12.java.GenericType;
 import io.github.cowwoc.requirements12.java.GlobalConfiguration;
+import io.github.cowwoc.requirements12.java.ValidationSession;
 import io.github.cowwoc.requirements12.java.internal.Configuration;
 import io.github.cowwoc.requirements12.java.internal.ConfigurationUpdater;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
@@ -17,7 +18,9 @@ import io.github.cowwoc.requirements12.java.internal.validator.JavaValidatorsImp
 import io.github.cowwoc.requirements12.java.validator.BigDecimalValidator;
 import io.github.cowwoc.requirements12.java.validator.BigIntegerValidator;
 import io.github.cowwoc.requirements12.java.validator.BooleanValidator;
+import io.github.cowwoc.requirements12.java.validator.ByteBufferValidator;
 import io.github.cowwoc.requirements12.java.validator.ByteValidator;
+import io.github.cowwoc.requirements12.java.validator.CharSequenceValidator;
 import io.github.cowwoc.requirements12.java.validator.CharacterValidator;
 import io.github.cowwoc.requirements12.java.validator.CollectionValidator;
 import io.github.cowwoc.requirements12.java.validator.ComparableValidator;
@@ -60,6 +63,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
@@ -99,6 +103,9 @@ public final class TestValidatorsImpl implements TestValidators
 		setConfiguration(other.configuration());
 		for (Entry<String, Optional<Object>> entry : other.getContext().entrySet())
 			withContext(entry.getValue().orElse(null), entry.getKey());
+		ValidationSession session = other.javaValidators.getSession();
+		if (session != null)
+			withSession(session);
 	}
 
 	/**
@@ -318,6 +325,12 @@ public final class TestValidatorsImpl implements TestValidators
 		return javaValidators.requireThat(value, name);
 	}
 
+	@Override
+	public CharSequenceValidator requireThatCharSequence(CharSequence value, String name)
+	{
+		return javaValidators.requireThatCharSequence(value, name);
+	}
+
 	@Override
 	public UriValidator requireThat(URI value, String name)
 	{
@@ -348,6 +361,12 @@ public final class TestValidatorsImpl implements TestValidators
 		return javaValidators.requireThat(value, name);
 	}
 
+	@Override
+	public ByteBufferValidator requireThat(ByteBuffer value, String name)
+	{
+		return javaValidators.requireThat(value, name);
+	}
+
 	@Override
 	public PrimitiveByteValidator that(byte value, String name)
 	{
@@ -756,6 +775,18 @@ public final class TestValidatorsImpl implements TestValidators
 		return javaValidators.that(value);
 	}
 
+	@Override
+	public CharSequenceValidator thatCharSequence(CharSequence value, String name)
+	{
+		return javaValidators.thatCharSequence(value, name);
+	}
+
+	@Override
+	public CharSequenceValidator thatCharSequence(CharSequence value)
+	{
+		return javaValidators.thatCharSequence(value);
+	}
+
 	@Override
 	public UriValidator that(URI value, String name)
 	{
@@ -816,6 +847,18 @@ public final class TestValidatorsImpl implements TestValidators
 		return javaValidators.that(value);
 	}
 
+	@Override
+	public ByteBufferValidator that(ByteBuffer value, String name)
+	{
+		return javaValidators.that(value, name);
+	}
+
+	@Override
+	public ByteBufferValidator that(ByteBuffer value)
+	{
+		return javaValidators.that(value);
+	}
+
 	@Override
 	public PrimitiveByteValidator checkIf(byte value, String name)
 	{
@@ -1224,6 +1267,18 @@ public final class TestValidatorsImpl implements TestValidators
 		return javaValidators.checkIf(value);
 	}
 
+	@Override
+	public CharSequenceValidator checkIfCharSequence(CharSequence value, String name)
+	{
+		return javaValidators.checkIfCharSequence(value, name);
+	}
+
+	@Override
+	public CharSequenceValidator checkIfCharSequence(CharSequence value)
+	{
+		return javaValidators.checkIfCharSequence(value);
+	}
+
 	@Override
 	public UriValidator checkIf(URI value, String name)
 	{
@@ -1284,6 +1339,18 @@ public final class TestValidatorsImpl implements TestValidators
 		return javaValidators.checkIf(value);
 	}
 
+	@Override
+	public ByteBufferValidator checkIf(ByteBuffer value, String name)
+	{
+		return javaValidators.checkIf(value, name);
+	}
+
+	@Override
+	public ByteBufferValidator checkIf(ByteBuffer value)
+	{
+		return javaValidators.checkIf(value);
+	}
+
 	@Override
 	public <K, V, T extends Multimap<K, V>> MultimapValidator<T, K, V> requireThat(T value, String name)
 	{
@@ -1402,4 +1469,13 @@ public final class TestValidatorsImpl implements TestValidators
 		jacksonValidators.removeContext(name);
 		return this;
 	}
-}
\ No newline at end of file
+
+	@Override
+	public TestValidators withSession(ValidationSession session)
+	{
+		javaValidators.withSession(session);
+		guavaValidators.withSession(session);
+		jacksonValidators.withSession(session);
+		return this;
+	}
+}
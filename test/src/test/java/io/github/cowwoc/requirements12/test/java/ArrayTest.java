@@ -11,8 +11,10 @@ import io.github.cowwoc.requirements12.test.TestValidatorsImpl;
 import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
 
 import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
@@ -1673,4 +1675,109 @@ public final class ArrayTest
 			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void hasChecksum()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			byte[] actual = "123456789".getBytes(StandardCharsets.US_ASCII);
+			byte[] sha256 = HexFormat.of().
+				parseHex("15e2b0d3c33891ebb0f1ef609ec419420c20e320ce94c65fbc8c3312448eb225");
+			validators.requireThat(actual, "actual").
+				hasChecksum("CRC32", HexFormat.of().parseHex("cbf43926")).
+				hasChecksum("crc32c", HexFormat.of().parseHex("e3069283")).
+				hasChecksum("SHA-256", sha256).
+				hasChecksum("sha-256", sha256);
+		}
+	}
+
+	@Test
+	public void hasChecksum_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			byte[] actual = "123456789".getBytes(StandardCharsets.US_ASCII);
+			List<String> messages = validators.checkIf(actual, "actual").
+				hasChecksum("CRC32", HexFormat.of().parseHex("00000000")).elseGetFailures().getMessages();
+			assert messages.size() == 1 : messages;
+			String message = messages.getFirst();
+			assert message.contains("\"actual\" must have a CRC32 checksum of 00000000.") :
+				message;
+			assert message.contains("checksum: cbf43926") : message;
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void hasChecksum_unsupportedAlgorithm()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			byte[] actual = new byte[0];
+			validators.requireThat(actual, "actual").hasChecksum("CRC64", new byte[8]);
+		}
+	}
+
+	@Test
+	public void isEqualTo_largeArrayMismatch()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			byte[] actual = new byte[1 << 20];
+			byte[] expected = new byte[actual.length];
+			actual[500_000] = 1;
+			expected[500_000] = 2;
+			expected[500_004] = 3;
+			expected[900_000] = 4;
+			List<String> messages = validators.checkIf(actual, "actual").isEqualTo(expected, "expected").
+				elseGetFailures().getMessages();
+			assert messages.size() == 1 : messages;
+			String message = messages.getFirst();
+			List<String> expectedMessages = List.of("""
+				"actual" had an unexpected value.
+				actual.length           : 1048576
+				expected.length         : 1048576
+				mismatch                : 500000
+				mismatchCount           : 3
+				actual[499992..500008]  : [0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0]
+				expected[499992..500008]: [0, 0, 0, 0, 0, 0, 0, 0, 2, 0, 0, 0, 3, 0, 0, 0, 0]
+				actual[899992..900008]  : [0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0]
+				expected[899992..900008]: [0, 0, 0, 0, 0, 0, 0, 0, 4, 0, 0, 0, 0, 0, 0, 0, 0]""");
+			validators.requireThat(List.of(message), "messages").isEqualTo(expectedMessages);
+		}
+	}
+
+	@Test
+	public void isEqualTo_largeArrayLengthMismatch()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			int[] expected = new int[100];
+			Arrays.setAll(expected, i -> i);
+			int[] actual = Arrays.copyOf(expected, 98);
+			List<String> messages = validators.checkIf(actual, "actual").isEqualTo(expected).
+				elseGetFailures().getMessages();
+			assert messages.size() == 1 : messages;
+			String message = messages.getFirst();
+			List<String> expectedMessages = List.of("""
+				"actual" had an unexpected value.
+				actual.length   : 98
+				expected.length : 100
+				mismatch        : 98
+				mismatchCount   : 2
+				actual[90..97]  : [90, 91, 92, 93, 94, 95, 96, 97]
+				expected[90..99]: [90, 91, 92, 93, 94, 95, 96, 97, 98, 99]""");
+			validators.requireThat(List.of(message), "messages").isEqualTo(expectedMessages);
+		}
+	}
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.test.java;
+
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.test.TestValidators;
+import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+
+import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
+
+@SuppressWarnings("ConstantConditions")
+public final class ByteBufferTest
+{
+	@Test(expectedExceptions = NullPointerException.class)
+	public void nameIsNull()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(0);
+			validators.requireThat(actual, null);
+		}
+	}
+
+	@Test
+	public void sizes()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(16).position(4).limit(12);
+			validators.requireThat(actual, "actual").
+				and(v -> v.remaining().isEqualTo(8)).
+				and(v -> v.limit().isEqualTo(12)).
+				and(v -> v.capacity().isEqualTo(16));
+		}
+	}
+
+	@Test
+	public void remaining_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(16).position(10);
+			List<String> messages = validators.checkIf(actual, "actual").remaining().isGreaterThanOrEqualTo(8).
+				elseGetFailures().getMessages();
+			assert messages.size() == 1 : messages;
+			String message = messages.getFirst();
+			assert message.contains("\"actual\" must contain at least 8 bytes.") : message;
+			assert message.contains("actual.remaining(): 6") : message;
+		}
+	}
+
+	@Test
+	public void isDirect()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocateDirect(16);
+			validators.requireThat(actual, "actual").isDirect();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isDirect_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(16);
+			validators.requireThat(actual, "actual").isDirect();
+		}
+	}
+
+	@Test
+	public void hasOrder()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+			validators.requireThat(actual, "actual").hasOrder(ByteOrder.LITTLE_ENDIAN);
+		}
+	}
+
+	@Test
+	public void hasOrder_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(16);
+			List<String> messages = validators.checkIf(actual, "actual").hasOrder(ByteOrder.LITTLE_ENDIAN).
+				elseGetFailures().getMessages();
+			assert messages.size() == 1 : messages;
+			String message = messages.getFirst();
+			assert message.contains("\"actual\" must have a byte order of LITTLE_ENDIAN.") : message;
+			assert message.contains("actual.order(): BIG_ENDIAN") : message;
+		}
+	}
+
+	@Test
+	public void isAligned()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+			ByteBuffer actual = buffer.alignedSlice(8);
+			validators.requireThat(actual, "actual").isAligned(8);
+		}
+	}
+
+	@Test
+	public void isAligned_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocateDirect(64).alignedSlice(8).position(3);
+			List<String> messages = validators.checkIf(actual, "actual").isAligned(8).
+				elseGetFailures().getMessages();
+			assert messages.size() == 1 : messages;
+			String message = messages.getFirst();
+			assert message.contains("\"actual\" must be aligned to 8 bytes.") : message;
+			assert message.contains("alignmentOffset: 3") : message;
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isAligned_unitSizeIsNotPowerOfTwo()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocateDirect(64);
+			validators.requireThat(actual, "actual").isAligned(6);
+		}
+	}
+
+	@Test
+	public void isAligned_heapBufferAlignmentIsUndefined()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(64);
+			List<String> messages = validators.checkIf(actual, "actual").isAligned(16).
+				elseGetFailures().getMessages();
+			assert messages.size() == 1 : messages;
+			String message = messages.getFirst();
+			assert message.contains("\"actual\" must be aligned to 16 bytes.") : message;
+			assert !message.contains("alignmentOffset") : message;
+		}
+	}
+
+	@Test
+	public void startsWith()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.wrap("xxGIF89a".getBytes(StandardCharsets.US_ASCII)).position(2);
+			validators.requireThat(actual, "actual").startsWith("GIF8".getBytes(StandardCharsets.US_ASCII));
+			validators.requireThat(actual.position(), "actual.position()").isEqualTo(2);
+		}
+	}
+
+	@Test
+	public void startsWith_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.wrap("GIF87a".getBytes(StandardCharsets.US_ASCII));
+			List<String> messages = validators.checkIf(actual, "actual").
+				startsWith("GIF89a".getBytes(StandardCharsets.US_ASCII)).elseGetFailures().getMessages();
+			assert messages.size() == 1 : messages;
+			String message = messages.getFirst();
+			assert message.contains("\"actual\" must start with the bytes 0x474946383961.") : message;
+			assert message.contains("offset: 4") : message;
+		}
+	}
+
+	@Test
+	public void contains()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			// The match follows several words that do not contain the first byte of the pattern
+			byte[] bytes = "abcdefghijklmnopqrstuvwxyz-needle-".getBytes(StandardCharsets.US_ASCII);
+			ByteBuffer actual = ByteBuffer.wrap(bytes);
+			validators.requireThat(actual, "actual").
+				contains("needle".getBytes(StandardCharsets.US_ASCII)).
+				contains("-".getBytes(StandardCharsets.US_ASCII)).
+				contains(new byte[0]).
+				doesNotContain("needles".getBytes(StandardCharsets.US_ASCII)).
+				doesNotContain("za".getBytes(StandardCharsets.US_ASCII));
+		}
+	}
+
+	@Test
+	public void contains_ignoresBytesOutsideOfRemaining()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			byte[] bytes = "needle-abcdefghijklmnop-needle".getBytes(StandardCharsets.US_ASCII);
+			ByteBuffer actual = ByteBuffer.wrap(bytes).position(1).limit(bytes.length - 1);
+			validators.requireThat(actual, "actual").
+				doesNotContain("needle".getBytes(StandardCharsets.US_ASCII));
+		}
+	}
+
+	@Test
+	public void doesNotContain_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			byte[] bytes = "0123456789\0abc".getBytes(StandardCharsets.US_ASCII);
+			ByteBuffer actual = ByteBuffer.wrap(bytes).position(2);
+			List<String> messages = validators.checkIf(actual, "actual").doesNotContain(new byte[1]).
+				elseGetFailures().getMessages();
+			assert messages.size() == 1 : messages;
+			String message = messages.getFirst();
+			assert message.contains("\"actual\" may not contain the bytes 0x00.") : message;
+			assert message.contains("offset: 8") : message;
+		}
+	}
+
+	@Test
+	public void isEqualTo()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocateDirect(8).putLong(0, 42);
+			ByteBuffer expected = ByteBuffer.allocate(8).putLong(0, 42);
+			validators.requireThat(actual, "actual").isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void isEqualTo_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(8).putLong(0, 0x0102_0304_0506_0708L);
+			ByteBuffer expected = ByteBuffer.allocate(8).putLong(0, 0x0102_0304_FF06_0708L);
+			List<String> messages = validators.checkIf(actual, "actual").isEqualTo(expected, "expected").
+				elseGetFailures().getMessages();
+			assert messages.size() == 1 : messages;
+			String message = messages.getFirst();
+			assert message.contains("\"actual\" must be equal to \"expected\".") : message;
+			assert message.contains("mismatch                        : 4") : message;
+			assert message.contains("actual[position+0..position+7]  : [1, 2, 3, 4, 5, 6, 7, 8]") : message;
+			assert message.contains("expected[position+0..position+7]: [1, 2, 3, 4, -1, 6, 7, 8]") : message;
+		}
+	}
+
+	@Test
+	public void isEqualTo_mismatchAfterPosition()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocate(32).position(3);
+			ByteBuffer expected = ByteBuffer.allocate(29).order(ByteOrder.LITTLE_ENDIAN).put(20, (byte) 1);
+			List<String> messages = validators.checkIf(actual, "actual").isEqualTo(expected, "expected").
+				elseGetFailures().getMessages();
+			assert messages.size() == 1 : messages;
+			String message = messages.getFirst();
+			assert message.contains("mismatch                          : 20") : message;
+			assert message.contains("actual[position+12..position+28]") : message;
+			assert message.contains("expected[position+12..position+28]") : message;
+		}
+	}
+
+	@Test
+	public void hasChecksum()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			ByteBuffer actual = ByteBuffer.allocateDirect(16);
+			actual.put("--123456789".getBytes(StandardCharsets.US_ASCII)).flip().position(2);
+			validators.requireThat(actual, "actual").hasChecksum("CRC32C", HexFormat.of().parseHex("e3069283"));
+			validators.requireThat(actual.position(), "actual.position()").isEqualTo(2);
+		}
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.test.java;
+
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.test.TestValidators;
+import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.nio.CharBuffer;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
+
+@SuppressWarnings("ConstantConditions")
+public final class CharSequenceTest
+{
+	@Test(expectedExceptions = NullPointerException.class)
+	public void nameIsNull()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = new StringBuilder();
+			validators.requireThatCharSequence(actual, null);
+		}
+	}
+
+	@Test
+	public void stringBuilder()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = new StringBuilder("GET /index.html HTTP/1.1");
+			validators.requireThatCharSequence(actual, "actual").
+				startsWith("GET ").
+				doesNotStartWith("POST").
+				endsWith("HTTP/1.1").
+				doesNotEndWith("HTTP/1.0").
+				contains("/index.html").
+				doesNotContain("..").
+				isNotEmpty().
+				isNotBlank().
+				isTrimmed().
+				isStripped().
+				matches("[A-Z]+ \\S+ HTTP/\\d\\.\\d").
+				and(v -> v.length().isEqualTo(24));
+		}
+	}
+
+	@Test
+	public void charBuffer()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			// The buffer is a view into a larger receive buffer
+			CharBuffer received = CharBuffer.wrap("Host: example.com\r\nAccept: */*\r\n");
+			CharBuffer actual = received.slice(6, 11);
+			validators.requireThatCharSequence(actual, "actual").
+				startsWith("example").
+				endsWith(".com").
+				contains("ple.c").
+				doesNotContain("Host").
+				doesNotContain("\r\n").
+				doesNotContainWhitespace().
+				matches(Pattern.compile("[a-z.]+")).
+				and(v -> v.length().isEqualTo(11));
+		}
+	}
+
+	@Test
+	public void contentIsNotCopied()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			CharSequence actual = new NonCopyableSequence("  text  ");
+			validators.requireThatCharSequence(actual, "actual").
+				startsWith(" ").
+				endsWith(" ").
+				contains("text").
+				doesNotContain("texts").
+				isNotBlank().
+				matches(".*text.*").
+				and(v -> v.length().isEqualTo(8)).
+				and(v -> v.codePointLength().isEqualTo(8));
+		}
+	}
+
+	@Test
+	public void startsWith_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = new StringBuilder("POST /");
+			List<String> expectedMessages = List.of("""
+				"actual" must start with "GET ".
+				actual: "POST /\"""");
+			List<String> actualMessages = validators.checkIfCharSequence(actual, "actual").startsWith("GET ").
+				elseGetFailures().getMessages();
+			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void endsWith_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			CharBuffer actual = CharBuffer.wrap("abc");
+			validators.requireThatCharSequence(actual, "actual").endsWith("abcd");
+		}
+	}
+
+	@Test
+	public void doesNotContain_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			CharBuffer actual = CharBuffer.wrap("/static/../etc/passwd");
+			List<String> expectedMessages = List.of("""
+				"actual" may not contain "..".
+				actual: "/static/../etc/passwd\"""");
+			List<String> actualMessages = validators.checkIfCharSequence(actual, "actual").doesNotContain("..").
+				elseGetFailures().getMessages();
+			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
+		}
+	}
+
+	@Test
+	public void isBlank()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = new StringBuilder(" \t ");
+			validators.requireThatCharSequence(actual, "actual").isBlank();
+			validators.requireThatCharSequence(new StringBuilder(), "empty").isEmpty().isBlank();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isStripped_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			// U+2003 is whitespace according to String.strip() but not String.trim()
+			StringBuilder actual = new StringBuilder("value\u2003");
+			validators.requireThatCharSequence(actual, "actual").isTrimmed().isStripped();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isTrimmed_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = new StringBuilder("value\t");
+			validators.requireThatCharSequence(actual, "actual").isTrimmed();
+		}
+	}
+
+	@Test
+	public void codePointLength()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = new StringBuilder().appendCodePoint(0x1F600).append("ab");
+			validators.requireThatCharSequence(actual, "actual").
+				and(v -> v.length().isEqualTo(4)).
+				and(v -> v.codePointLength().isEqualTo(3));
+		}
+	}
+
+	@Test
+	public void containsAny()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			CharBuffer actual = CharBuffer.wrap("Content-Type: text/html");
+			validators.requireThatCharSequence(actual, "actual").
+				containsAny(List.of("text/plain", "text/html")).
+				doesNotContainAny(List.of("\r", "\n"));
+		}
+	}
+
+	/**
+	 * Ensure that {@code requireThat()} still treats sequences that are also {@code Comparable} as
+	 * {@code Comparable}.
+	 */
+	@Test
+	public void comparableSequence()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringBuilder actual = new StringBuilder("b");
+			validators.requireThat(actual, "actual").isGreaterThan(new StringBuilder("a"));
+			validators.requireThatCharSequence(actual, "actual").isEqualTo(actual);
+		}
+	}
+
+	/**
+	 * A sequence that fails the test if it is converted to a {@code String}.
+	 */
+	private static final class NonCopyableSequence implements CharSequence
+	{
+		private final String value;
+
+		/**
+		 * @param value the characters of the sequence
+		 */
+		NonCopyableSequence(String value)
+		{
+			this.value = value;
+		}
+
+		@Override
+		public int length()
+		{
+			return value.length();
+		}
+
+		@Override
+		public char charAt(int index)
+		{
+			return value.charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end)
+		{
+			return new NonCopyableSequence(value.substring(start, end));
+		}
+
+		@Override
+		public String toString()
+		{
+			throw new AssertionError("The sequence was copied");
+		}
+	}
+}
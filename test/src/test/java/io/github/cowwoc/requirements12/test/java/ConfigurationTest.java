@@ -5,9 +5,11 @@
 package io.github.cowwoc.requirements12.test.java;
 
 import com.google.common.collect.Sets;
+import io.github.cowwoc.requirements12.java.ScopedContext;
 import io.github.cowwoc.requirements12.java.internal.Configuration;
 import io.github.cowwoc.requirements12.java.internal.ConfigurationUpdater;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.java.validator.StringValidator;
 import io.github.cowwoc.requirements12.test.TestValidators;
 import io.github.cowwoc.requirements12.test.TestValidatorsImpl;
 import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
@@ -18,6 +20,10 @@ import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
 
@@ -200,6 +206,27 @@ public final class ConfigurationTest
 		}
 	}
 
+	/**
+	 * Ensure that changes to the factory context do not affect validators that were already created.
+	 */
+	@Test
+	public void factoryContextChangesAfterValidatorCreation()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			TestValidatorsImpl factory = new TestValidatorsImpl(scope);
+			factory.withContext("oldValue", "factoryName");
+			StringValidator validator = factory.checkIf("value", "name");
+			factory.withContext("newValue", "factoryName");
+
+			String message = validator.isNull().elseGetFailures().getMessages().getFirst();
+			validators.requireThat(message, "message").contains("factoryName: \"oldValue\"").
+				doesNotContain("newValue");
+		}
+	}
+
 	/**
 	 * Ensure that a validator can override the context set by its factory.
 	 */
@@ -248,4 +275,136 @@ public final class ConfigurationTest
 				doesNotContain("missing: \"factoryValue\"");
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Ensure that validators pick up the context that is bound to the current thread.
+	 */
+	@Test
+	public void scopedContext() throws Exception
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			String message = validators.checkIf("value", "name").isNull().elseGetFailures().getMessages().
+				getFirst();
+			String scopedMessage = ScopedContext.newInstance().withContext("request1", "requestId").call(() ->
+				validators.checkIf("value", "name").isNull().elseGetFailures().getMessages().getFirst());
+
+			validators.requireThat(scopedMessage, "scopedMessage").contains("requestId: \"request1\"");
+			validators.requireThat(message, "message").doesNotContain("requestId");
+			validators.requireThat(ScopedContext.getContext(), "ScopedContext.getContext()").isEmpty();
+		}
+	}
+
+	/**
+	 * Ensure that the context of one thread is not visible to other threads.
+	 */
+	@Test
+	public void scopedContextIsThreadLocal() throws Exception
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE);
+		     ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Future<String> otherThread = ScopedContext.newInstance().withContext("request1", "requestId").call(() ->
+				executor.submit(() -> validators.checkIf("value", "name").isNull().elseGetFailures().
+					getMessages().getFirst()));
+
+			validators.requireThat(otherThread.get(), "otherThread.get()").doesNotContain("requestId");
+		}
+	}
+
+	/**
+	 * Ensure that nested scopes override the context of the enclosing scope, and that the factory context
+	 * overrides the scoped context.
+	 */
+	@Test
+	public void scopedContextPrecedence() throws Exception
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+			TestValidators factory = validators.copy().withContext("factoryValue", "factory");
+
+			ScopedContext outer = ScopedContext.newInstance().withContext("outerValue", "collision").
+				withContext("scopedValue", "factory");
+			ScopedContext inner = ScopedContext.newInstance().withContext("innerValue", "collision");
+			String message = outer.call(() -> inner.call(() ->
+				factory.checkIf("value", "name").isNull().elseGetFailures().getMessages().getFirst()));
+
+			validators.requireThat(message, "message").contains("collision: \"innerValue\"").
+				contains("factory  : \"factoryValue\"");
+		}
+	}
+
+	@Test
+	public void maximumFailures()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			TestValidators factory = validators.copy();
+			try (ConfigurationUpdater configurationUpdater = factory.updateConfiguration())
+			{
+				configurationUpdater.maximumFailures(2);
+			}
+			List<String> messages = factory.checkIf(5, "actual").isNegative().isZero().isGreaterThan(10).
+				isLessThan(1).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(2);
+		}
+	}
+
+	/**
+	 * Ensure that failures that exceed the maximum do not build their message.
+	 */
+	@Test
+	public void maximumFailuresSkipsMessages()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			AtomicInteger invocations = new AtomicInteger();
+			TestValidators factory = validators.copy();
+			try (ConfigurationUpdater configurationUpdater = factory.updateConfiguration())
+			{
+				configurationUpdater.maximumFailures(1);
+				configurationUpdater.stringMappers().put(Counted.class, (value, seen) ->
+				{
+					invocations.incrementAndGet();
+					return "counted";
+				});
+			}
+			Counted value = new Counted();
+			factory.checkIf(value, "actual").isNull();
+			int invocationsOfFirstCheck = invocations.get();
+			factory.checkIf(value, "actual").isNull().isNull().isEqualTo(5).isNotEqualTo(value);
+
+			validators.requireThat(invocationsOfFirstCheck, "invocationsOfFirstCheck").isPositive();
+			validators.requireThat(invocations.get(), "invocations").isEqualTo(2 * invocationsOfFirstCheck);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void maximumFailuresZero()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+			try (ConfigurationUpdater configurationUpdater = validators.updateConfiguration())
+			{
+				configurationUpdater.maximumFailures(0);
+			}
+		}
+	}
+
+	/**
+	 * A type whose string representation is tracked by tests.
+	 */
+	private static final class Counted
+	{
+	}
+}
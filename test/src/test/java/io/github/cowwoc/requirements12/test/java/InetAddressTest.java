@@ -4,6 +4,7 @@
  */
 package io.github.cowwoc.requirements12.test.java;
 
+import io.github.cowwoc.requirements12.java.SubnetSet;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements12.test.TestValidators;
 import io.github.cowwoc.requirements12.test.TestValidatorsImpl;
@@ -101,4 +102,157 @@ public final class InetAddressTest
 			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
 		}
 	}
+
+	@Test
+	public void stringIsIpV4()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("192.168.0.255", "actual").isIpV4();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void stringIsIpV4_LeadingZero()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("192.168.010.1", "actual").isIpV4();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void stringIsIpV4_Hostname()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("example.com", "actual").isIpV4();
+		}
+	}
+
+	@Test
+	public void stringIsIpV6()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("2001:db8:a0b:12f0::1", "first").isIpV6();
+			validators.requireThat("::ffff:192.168.0.1", "second").isIpV6();
+			validators.requireThat("fe80::1%eth0", "third").isIpV6();
+			validators.requireThat("::", "fourth").isIpV6();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void stringIsIpV6_DoubleCompression()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("1::2::3", "actual").isIpV6();
+		}
+	}
+
+	@Test
+	public void isParsableAsIpAddress() throws UnknownHostException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("2001:db8::1", "actual").isParsableAsIpAddress().isIpV6().
+				isEqualTo(InetAddress.getByName("2001:db8::1"));
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isParsableAsIpAddress_Hostname()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("localhost", "actual").isParsableAsIpAddress();
+		}
+	}
+
+	@Test
+	public void isInSubnet() throws UnknownHostException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			InetAddress actual = InetAddress.getByName("10.1.2.3");
+			validators.requireThat(actual, "actual").isInSubnet("10.0.0.0/8");
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isInSubnet_False() throws UnknownHostException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			InetAddress actual = InetAddress.getByName("11.1.2.3");
+			validators.requireThat(actual, "actual").isInSubnet("10.0.0.0/8");
+		}
+	}
+
+	@Test
+	public void isInAnyOf() throws UnknownHostException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			SubnetSet ranges = SubnetSet.of(List.of("10.0.0.0/8", "192.168.0.0/16", "2001:db8::/32"));
+			validators.requireThat(InetAddress.getByName("192.168.5.5"), "first").isInAnyOf(ranges);
+			validators.requireThat(InetAddress.getByName("2001:db8::1"), "second").isInAnyOf(ranges);
+		}
+	}
+
+	@Test
+	public void isInAnyOf_False() throws UnknownHostException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			SubnetSet ranges = SubnetSet.of(List.of("10.0.0.0/8", "192.168.1.0/24", "192.168.2.0/24"));
+			InetAddress actual = InetAddress.getByName("192.168.3.1");
+			List<String> messages = validators.checkIf(actual, "actual").isInAnyOf(ranges).
+				elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			// 192.168.3.1 shares a longer prefix with 192.168.2.0 than with 192.168.1.0
+			validators.requireThat(messages.getFirst(), "message").
+				contains("nearestSubnets: [\"192.168.2.0/24\"]");
+		}
+	}
+
+	@Test
+	public void isNotInAnyOf_False() throws UnknownHostException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			SubnetSet ranges = SubnetSet.of(List.of("10.0.0.0/8", "10.1.0.0/16"));
+			InetAddress actual = InetAddress.getByName("10.1.2.3");
+			List<String> messages = validators.checkIf(actual, "actual").isNotInAnyOf(ranges).
+				elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			validators.requireThat(messages.getFirst(), "message").
+				startsWith("\"actual\" may not belong to the subnet 10.1.0.0/16.");
+		}
+	}
 }
@@ -4,7 +4,9 @@
  */
 package io.github.cowwoc.requirements12.test.java;
 
+import io.github.cowwoc.requirements12.java.TreeLimits;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.java.validator.PathValidator;
 import io.github.cowwoc.requirements12.test.TestValidators;
 import io.github.cowwoc.requirements12.test.TestValidatorsImpl;
 import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
@@ -12,14 +14,21 @@ import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.nio.file.attribute.PosixFileAttributeView;
 import java.nio.file.attribute.PosixFilePermission;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
 
@@ -291,6 +300,153 @@ public final class PathTest
 		}
 	}
 
+	@Test
+	public void size() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path actual = Files.createTempFile(null, null);
+			try
+			{
+				Files.write(actual, new byte[5]);
+				validators.requireThat(actual, "actual").isRegularFile().size().isEqualTo(5L);
+			}
+			finally
+			{
+				Files.delete(actual);
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void size_actualIsMissing() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path actual = Files.createTempFile(null, null);
+			Files.delete(actual);
+			validators.requireThat(actual, "actual").size();
+		}
+	}
+
+	@Test
+	public void size_actualIsNull() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path actual = null;
+			List<String> expectedMessages = List.of("\"actual\" may not be null",
+				"actual.size() must be positive");
+			List<String> actualMessages = validators.checkIf(actual, "actual").size().isPositive().
+				elseGetFailures().getMessages();
+			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
+		}
+	}
+
+	@Test
+	public void lastModifiedTime() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path actual = Files.createTempFile(null, null);
+			try
+			{
+				FileTime lastModifiedTime = FileTime.fromMillis(1_000_000);
+				Files.setLastModifiedTime(actual, lastModifiedTime);
+				validators.requireThat(actual, "actual").lastModifiedTime().isEqualTo(lastModifiedTime).
+					isLessThan(FileTime.fromMillis(2_000_000));
+			}
+			finally
+			{
+				Files.delete(actual);
+			}
+		}
+	}
+
+	@Test
+	public void attributesAreReadOnce() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path actual = Files.createTempFile(null, null);
+			PathValidator validator = validators.requireThat(actual, "actual").exists();
+			Files.delete(actual);
+			// The checks share the snapshot that exists() took before the file was deleted
+			validator.isRegularFile().size().isEqualTo(0L);
+		}
+	}
+
+	@Test
+	public void hasPermissions() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path actual = Files.createTempFile(null, null);
+			try
+			{
+				PosixFileAttributeView view = Files.getFileAttributeView(actual, PosixFileAttributeView.class);
+				if (view == null)
+					return;
+				view.setPermissions(Set.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE));
+				validators.requireThat(actual, "actual").
+					hasPermissions(Set.of(PosixFilePermission.OWNER_READ)).
+					doesNotHavePermissions(Set.of(PosixFilePermission.OTHERS_READ,
+						PosixFilePermission.OTHERS_WRITE));
+			}
+			finally
+			{
+				Files.delete(actual);
+			}
+		}
+	}
+
+	@Test
+	public void hasPermissions_False() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path actual = Files.createTempFile(null, null);
+			try
+			{
+				PosixFileAttributeView view = Files.getFileAttributeView(actual, PosixFileAttributeView.class);
+				if (view == null)
+					return;
+				view.setPermissions(Set.of(PosixFilePermission.OWNER_READ, PosixFilePermission.GROUP_READ));
+				List<String> messages = validators.checkIf(actual, "actual").
+					hasPermissions(Set.of(PosixFilePermission.OWNER_WRITE, PosixFilePermission.OWNER_READ)).
+					doesNotHavePermissions(Set.of(PosixFilePermission.GROUP_READ)).
+					elseGetFailures().getMessages();
+				assert messages.size() == 2 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"actual\" must have the permissions [OWNER_READ, OWNER_WRITE].") :
+					message;
+				assert message.contains("missing             : [OWNER_WRITE]") : message;
+				message = messages.get(1);
+				assert message.contains("\"actual\" may not have any of the permissions [GROUP_READ].") :
+					message;
+				assert message.contains("unwantedMatches     : [GROUP_READ]") : message;
+			}
+			finally
+			{
+				Files.delete(actual);
+			}
+		}
+	}
+
 	@Test
 	public void isEmpty() throws IOException
 	{
@@ -298,81 +454,691 @@ public final class PathTest
 		{
 			TestValidators validators = TestValidators.of(scope);
 
-			Path parent = Files.createTempDirectory("");
+			Path parent = Files.createTempDirectory("");
+			try
+			{
+				validators.requireThat(parent, "parent").isEmpty();
+			}
+			finally
+			{
+				Files.delete(parent);
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isEmpty_False() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			Path child = parent.resolve("child");
+			Files.createDirectory(child);
+			try
+			{
+				validators.requireThat(parent, "parent").isEmpty();
+			}
+			finally
+			{
+				Files.delete(child);
+				Files.delete(parent);
+			}
+		}
+	}
+
+	@Test
+	public void isNotEmpty() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			Path child = parent.resolve("child");
+			Files.createDirectory(child);
+			try
+			{
+				validators.requireThat(parent, "parent").isNotEmpty();
+			}
+			finally
+			{
+				Files.delete(child);
+				Files.delete(parent);
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isNotEmpty_False() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			try
+			{
+				validators.requireThat(parent, "parent").isNotEmpty();
+			}
+			finally
+			{
+				Files.delete(parent);
+			}
+		}
+	}
+
+	@Test
+	public void containsAtLeast() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			Path child1 = Files.createDirectory(parent.resolve("child1"));
+			Path child2 = Files.createFile(parent.resolve("child2"));
+			try
+			{
+				validators.requireThat(parent, "parent").containsAtLeast(0).containsAtLeast(2);
+			}
+			finally
+			{
+				Files.delete(child2);
+				Files.delete(child1);
+				Files.delete(parent);
+			}
+		}
+	}
+
+	@Test
+	public void containsAtLeast_False() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			Path child = Files.createDirectory(parent.resolve("child"));
+			try
+			{
+				List<String> messages = validators.checkIf(parent, "parent").containsAtLeast(2).
+					elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"parent\" must contain at least 2 entries.") : message;
+				assert message.contains("parent.entries(): 1") : message;
+			}
+			finally
+			{
+				Files.delete(child);
+				Files.delete(parent);
+			}
+		}
+	}
+
+	@Test
+	public void containsAtMost() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			Path child = Files.createDirectory(parent.resolve("child"));
+			try
+			{
+				validators.requireThat(parent, "parent").containsAtMost(1).containsAtMost(Integer.MAX_VALUE);
+			}
+			finally
+			{
+				Files.delete(child);
+				Files.delete(parent);
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void containsAtMost_False() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			Path child1 = Files.createDirectory(parent.resolve("child1"));
+			Path child2 = Files.createFile(parent.resolve("child2"));
+			try
+			{
+				validators.requireThat(parent, "parent").containsAtMost(1);
+			}
+			finally
+			{
+				Files.delete(child2);
+				Files.delete(child1);
+				Files.delete(parent);
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void containsAtMost_Negative() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			try
+			{
+				validators.requireThat(parent, "parent").containsAtMost(-1);
+			}
+			finally
+			{
+				Files.delete(parent);
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void containsAtLeast_DirectoryDoesNotExist() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			Files.delete(parent);
+			validators.requireThat(parent, "parent").containsAtLeast(1);
+		}
+	}
+
+	@Test
+	public void isTreeWithin() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path root = Files.createTempDirectory("");
+			try
+			{
+				Path directory = Files.createDirectory(root.resolve("directory"));
+				Files.write(directory.resolve("file"), new byte[3]);
+				Files.write(root.resolve("file"), new byte[2]);
+				Files.createSymbolicLink(root.resolve("link"), directory);
+				TreeLimits limits = TreeLimits.newInstance().
+					withMaximumFiles(3).
+					withMaximumSize(5).
+					withMaximumDepth(2).
+					withoutEscapingLinks();
+				validators.requireThat(root, "root").isTreeWithin(limits);
+			}
+			finally
+			{
+				deleteRecursively(root);
+			}
+		}
+	}
+
+	@Test
+	public void isTreeWithin_tooManyFiles() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path root = Files.createTempDirectory("");
+			try
+			{
+				for (int i = 0; i < 20; ++i)
+				{
+					Path directory = Files.createDirectory(root.resolve("directory" + i));
+					for (int j = 0; j < 5; ++j)
+						Files.createFile(directory.resolve("file" + j));
+				}
+				TreeLimits limits = TreeLimits.newInstance().withMaximumFiles(50);
+				List<String> messages = validators.checkIf(root, "root").isTreeWithin(limits).
+					elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"root\" may not contain more than 50 files.") : message;
+				assert message.contains("files        : 51") : message;
+			}
+			finally
+			{
+				deleteRecursively(root);
+			}
+		}
+	}
+
+	@Test
+	public void isTreeWithin_tooManyDirectories() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path root = Files.createTempDirectory("");
+			try
+			{
+				for (int i = 0; i < 20; ++i)
+					Files.createDirectories(root.resolve("directory" + i).resolve("child"));
+				TreeLimits limits = TreeLimits.newInstance().withMaximumDirectories(30);
+				List<String> messages = validators.checkIf(root, "root").isTreeWithin(limits).
+					elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"root\" may not contain more than 30 directories.") : message;
+				assert message.contains("directories  : 31") : message;
+			}
+			finally
+			{
+				deleteRecursively(root);
+			}
+		}
+	}
+
+	@Test
+	public void isTreeWithin_tooLarge() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path root = Files.createTempDirectory("");
+			try
+			{
+				Files.write(root.resolve("file1"), new byte[3]);
+				Files.write(root.resolve("file2"), new byte[3]);
+				TreeLimits limits = TreeLimits.newInstance().withMaximumSize(5);
+				List<String> messages = validators.checkIf(root, "root").isTreeWithin(limits).
+					elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"root\" may not contain more than 5 bytes.") : message;
+				assert message.contains("size         : 6") : message;
+			}
+			finally
+			{
+				deleteRecursively(root);
+			}
+		}
+	}
+
+	@Test
+	public void isTreeWithin_tooDeep() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path root = Files.createTempDirectory("");
 			try
 			{
-				validators.requireThat(parent, "parent").isEmpty();
+				Path nested = Files.createDirectories(root.resolve("a").resolve("b").resolve("c"));
+				TreeLimits limits = TreeLimits.newInstance().withMaximumDepth(2);
+				List<String> messages = validators.checkIf(root, "root").isTreeWithin(limits).
+					elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"root\" may not contain entries that are nested more than 2 levels " +
+					"deep.") : message;
+				assert message.contains("offendingPath: " + nested) : message;
 			}
 			finally
 			{
-				Files.delete(parent);
+				deleteRecursively(root);
 			}
 		}
 	}
 
-	@Test(expectedExceptions = IllegalArgumentException.class)
-	public void isEmpty_False() throws IOException
+	@Test
+	public void isTreeWithin_escapingLink() throws IOException
 	{
 		try (ApplicationScope scope = new TestApplicationScope(NONE))
 		{
 			TestValidators validators = TestValidators.of(scope);
 
-			Path parent = Files.createTempDirectory("");
-			Path child = parent.resolve("child");
-			Files.createDirectory(child);
+			Path root = Files.createTempDirectory("");
+			Path outside = Files.createTempDirectory("");
 			try
 			{
-				validators.requireThat(parent, "parent").isEmpty();
+				Path link = Files.createSymbolicLink(root.resolve("link"), outside);
+				validators.requireThat(root, "root").isTreeWithin(TreeLimits.newInstance());
+
+				List<String> messages = validators.checkIf(root, "root").
+					isTreeWithin(TreeLimits.newInstance().withoutEscapingLinks()).
+					elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"root\" may not contain symbolic links that point outside of it.") :
+					message;
+				assert message.contains("offendingPath: " + link) : message;
 			}
 			finally
 			{
-				Files.delete(child);
-				Files.delete(parent);
+				deleteRecursively(root);
+				Files.delete(outside);
 			}
 		}
 	}
 
+	@Test(expectedExceptions = IOException.class)
+	public void isTreeWithin_rootIsMissing() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path root = Files.createTempDirectory("");
+			Files.delete(root);
+			validators.requireThat(root, "root").isTreeWithin(TreeLimits.newInstance());
+		}
+	}
+
 	@Test
-	public void isNotEmpty() throws IOException
+	public void contentStartsWith() throws IOException
 	{
 		try (ApplicationScope scope = new TestApplicationScope(NONE))
 		{
 			TestValidators validators = TestValidators.of(scope);
 
-			Path parent = Files.createTempDirectory("");
-			Path child = parent.resolve("child");
-			Files.createDirectory(child);
+			Path file = Files.createTempFile("", "");
 			try
 			{
-				validators.requireThat(parent, "parent").isNotEmpty();
+				Files.write(file, new byte[]{(byte) 0x89, 'P', 'N', 'G', 1, 2});
+				validators.requireThat(file, "file").contentStartsWith(new byte[]{(byte) 0x89, 'P', 'N', 'G'});
 			}
 			finally
 			{
-				Files.delete(child);
-				Files.delete(parent);
+				Files.delete(file);
 			}
 		}
 	}
 
-	@Test(expectedExceptions = IllegalArgumentException.class)
-	public void isNotEmpty_False() throws IOException
+	@Test
+	public void contentStartsWith_False() throws IOException
 	{
 		try (ApplicationScope scope = new TestApplicationScope(NONE))
 		{
 			TestValidators validators = TestValidators.of(scope);
 
-			Path parent = Files.createTempDirectory("");
+			Path file = Files.createTempFile("", "");
 			try
 			{
-				validators.requireThat(parent, "parent").isNotEmpty();
+				Files.write(file, new byte[]{'G', 'I', 'F', '8'});
+				List<String> messages = validators.checkIf(file, "file").
+					contentStartsWith(new byte[]{'G', 'I', 'X'}).elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"file\" must start with the bytes 0x474958.") : message;
+				assert message.contains("offset: 2") : message;
 			}
 			finally
 			{
-				Files.delete(parent);
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void contentStartsWith_fileIsShorter() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				Files.write(file, new byte[]{'G', 'I'});
+				List<String> messages = validators.checkIf(file, "file").
+					contentStartsWith(new byte[]{'G', 'I', 'F'}).elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("offset: 2") : message;
+			}
+			finally
+			{
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void contentDoesNotContain() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				Files.writeString(file, "name,value\nkey,42\n");
+				validators.requireThat(file, "file").contentDoesNotContain((byte) 0);
+			}
+			finally
+			{
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void contentDoesNotContain_False() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				byte[] contents = "name,value\nkey,42\n".getBytes(StandardCharsets.UTF_8);
+				contents[13] = 0;
+				Files.write(file, contents);
+				List<String> messages = validators.checkIf(file, "file").contentDoesNotContain((byte) 0).
+					elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"file\" may not contain the byte 0x00.") : message;
+				assert message.contains("offset: 13") : message;
+			}
+			finally
+			{
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void contentIsUtf8() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				Files.writeString(file, "Grüße, 世界! \uD83D\uDE00");
+				validators.requireThat(file, "file").contentIsUtf8();
+			}
+			finally
+			{
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void contentIsUtf8_False() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				Files.writeString(file, "caf\u00E9", StandardCharsets.ISO_8859_1);
+				List<String> messages = validators.checkIf(file, "file").contentIsUtf8().
+					elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"file\" must contain valid UTF-8.") : message;
+				assert message.contains("offset: 3") : message;
+			}
+			finally
+			{
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void contentHasAtMostLines() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				Files.writeString(file, "one\ntwo\nthree\n");
+				validators.requireThat(file, "file").contentHasAtMostLines(3);
+			}
+			finally
+			{
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void contentHasAtMostLines_False() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				Files.writeString(file, "one\ntwo\nthree");
+				List<String> messages = validators.checkIf(file, "file").contentHasAtMostLines(2).
+					elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"file\" may not contain more than 2 lines.") : message;
+				assert message.contains("offset: 8") : message;
+			}
+			finally
+			{
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void contentIsUtf8_fileIsMissing() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			Files.delete(file);
+			validators.requireThat(file, "file").contentIsUtf8();
+		}
+	}
+
+	@Test
+	public void hasChecksum() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				// Spans multiple chunks
+				byte[] contents = new byte[200_000];
+				for (int i = 0; i < contents.length; ++i)
+					contents[i] = (byte) i;
+				Files.write(file, contents);
+				byte[] expected = MessageDigest.getInstance("SHA-256").digest(contents);
+				validators.requireThat(file, "file").hasChecksum("SHA-256", expected);
+			}
+			catch (NoSuchAlgorithmException e)
+			{
+				throw new AssertionError(e);
+			}
+			finally
+			{
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void hasChecksum_False() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				Files.writeString(file, "123456789");
+				List<String> messages = validators.checkIf(file, "file").
+					hasChecksum("CRC32C", new byte[4]).elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("\"file\" must have a CRC32C checksum of 00000000.") : message;
+				assert message.contains("checksum: e3069283") : message;
+			}
+			finally
+			{
+				Files.delete(file);
 			}
 		}
 	}
 
+	@Test(expectedExceptions = IOException.class)
+	public void hasChecksum_fileIsMissing() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			Files.delete(file);
+			validators.requireThat(file, "file").hasChecksum("SHA-256", new byte[32]);
+		}
+	}
+
+	/**
+	 * Deletes a directory and its contents, without following symbolic links.
+	 *
+	 * @param root the directory to delete
+	 * @throws IOException if an I/O error occurs
+	 */
+	private static void deleteRecursively(Path root) throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(root))
+		{
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList())
+				Files.delete(path);
+		}
+	}
+
 	@Test
 	public void contains() throws IOException
 	{
@@ -550,6 +1316,64 @@ public final class PathTest
 		}
 	}
 
+	@Test
+	public void containsExactly_reportsDifferences() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			Path child1 = Files.createFile(parent.resolve("child1"));
+			Path child2 = Files.createFile(parent.resolve("child2"));
+			Path child3 = parent.resolve("child3");
+			try
+			{
+				List<String> messages = validators.checkIf(parent, "parent").
+					containsExactly(List.of(child1, child3)).elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("missing : [" + child3 + "]") : message;
+				assert message.contains("unwanted: [" + child2 + "]") : message;
+				assert !message.contains("unwantedCount") : message;
+			}
+			finally
+			{
+				Files.delete(child2);
+				Files.delete(child1);
+				Files.delete(parent);
+			}
+		}
+	}
+
+	@Test
+	public void containsExactly_manyUnwanted() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			List<Path> children = new ArrayList<>();
+			try
+			{
+				for (int i = 0; i < 150; ++i)
+					children.add(Files.createFile(parent.resolve("child" + i)));
+				List<String> messages = validators.checkIf(parent, "parent").
+					containsExactly(List.of()).elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("unwantedCount: 150") : message;
+			}
+			finally
+			{
+				for (Path child : children)
+					Files.delete(child);
+				Files.delete(parent);
+			}
+		}
+	}
+
 	@Test
 	public void doesNotContainExactly() throws IOException
 	{
@@ -741,6 +1565,35 @@ public final class PathTest
 		}
 	}
 
+	@Test
+	public void containsAll_reportsMissing() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path parent = Files.createTempDirectory("");
+			Path child1 = Files.createDirectory(parent.resolve("child1"));
+			Path child2 = parent.resolve("child2");
+			try
+			{
+				// Paths are normalized before they are compared to the entries of the directory
+				Path child1Alias = parent.resolve("child2").resolve("..").resolve("child1");
+				validators.requireThat(parent, "parent").containsAll(List.of(child1Alias));
+				List<String> messages = validators.checkIf(parent, "parent").
+					containsAll(List.of(child1, child2)).elseGetFailures().getMessages();
+				assert messages.size() == 1 : messages;
+				String message = messages.getFirst();
+				assert message.contains("missing: [" + child2 + "]") : message;
+			}
+			finally
+			{
+				Files.delete(child1);
+				Files.delete(parent);
+			}
+		}
+	}
+
 	@Test
 	public void doesNotContainAll() throws IOException
 	{
@@ -4,12 +4,17 @@
  */
 package io.github.cowwoc.requirements12.test.java;
 
+import io.github.cowwoc.requirements12.java.StringConstraints;
+import io.github.cowwoc.requirements12.java.SubstringMatcher;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements12.test.TestValidators;
 import io.github.cowwoc.requirements12.test.TestValidatorsImpl;
 import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -390,6 +395,197 @@ public final class StringTest
 		}
 	}
 
+	@Test
+	public void matchesWithinTimeout()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Pattern expected = Pattern.compile("^.*\\sdog\\s.*$");
+			String actual = "my dog is the best";
+			validators.requireThat(actual, "actual").matches(expected, Duration.ofSeconds(10));
+		}
+	}
+
+	@Test
+	public void matchesWithinTimeout_TimedOut()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			// Catastrophic backtracking
+			Pattern expected = Pattern.compile("(.*a){20}");
+			String actual = "a".repeat(28) + "!";
+			List<String> messages = validators.checkIf(actual, "actual").
+				matches(expected, Duration.ofMillis(10)).
+				elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			validators.requireThat(messages.getFirst(), "message").
+				contains("the match did not complete within PT0.01S");
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void matchesWithinTimeout_ZeroTimeout()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Pattern expected = Pattern.compile("dog");
+			validators.requireThat("dog", "actual").matches(expected, Duration.ZERO);
+		}
+	}
+
+	@Test
+	public void satisfies()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringConstraints constraints = StringConstraints.newInstance().
+				withLength(5, 64).
+				withPrefix("req-").
+				withSuffix("z").
+				withoutWhitespace().
+				withAllowedCharacters(c -> (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-');
+			validators.requireThat("req-abc123z", "actual").satisfies(constraints);
+		}
+	}
+
+	@Test
+	public void satisfies_ReportsIndex()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringConstraints constraints = StringConstraints.newInstance().
+				withLength(1, 5).
+				withPrefix("req-").
+				withoutWhitespace().
+				withAllowedCharacters(c -> c >= 'a' && c <= 'z');
+			List<String> messages = validators.checkIf("abc def1", "actual").satisfies(constraints).
+				elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(4);
+			validators.requireThat(messages.get(0), "messages.get(0)").
+				contains("\"actual\" must contain between 1 and 5 characters").
+				contains("length: 8");
+			validators.requireThat(messages.get(1), "messages.get(1)").contains("must start with \"req-\"");
+			validators.requireThat(messages.get(2), "messages.get(2)").
+				contains("may not contain whitespace characters").
+				contains("index : 3");
+			validators.requireThat(messages.get(3), "messages.get(3)").
+				contains("may only contain allowed characters").
+				contains("codepoint: \" \"").
+				contains("index    : 3");
+		}
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void satisfies_Null()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			StringConstraints constraints = StringConstraints.newInstance().withoutWhitespace();
+			validators.requireThat((String) null, "actual").satisfies(constraints);
+		}
+	}
+
+	@Test
+	public void containsAny()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			String actual = "my dog is the best";
+			validators.requireThat(actual, "actual").containsAny(List.of("cat", "dog"));
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void containsAny_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			String actual = "my dog is the best";
+			validators.requireThat(actual, "actual").containsAny(List.of("cat", "bird"));
+		}
+	}
+
+	@Test
+	public void containsAny_ManySubstrings()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<String> expected = new ArrayList<>();
+			for (int i = 0; i < 1000; ++i)
+				expected.add("host" + i + ".example.com");
+			List<String> expectedMessages = List.of("""
+				"actual" must contain at least one of 1000 substrings.
+				actual                 : "evil.com"
+				expected.subList(0, 10): ["host0.example.com", "host1.example.com", "host2.example.com", \
+				"host3.example.com", "host4.example.com", "host5.example.com", "host6.example.com", \
+				"host7.example.com", "host8.example.com", "host9.example.com"]""");
+			List<String> actualMessages = validators.checkIf("evil.com", "actual").containsAny(expected).
+				elseGetFailures().getMessages();
+			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
+		}
+	}
+
+	@Test
+	public void doesNotContainAny()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			SubstringMatcher unwanted = SubstringMatcher.of(List.of("cat", "bird"));
+			validators.requireThat("my dog is the best", "first").doesNotContainAny(unwanted);
+			validators.requireThat("my dog is the worst", "second").doesNotContainAny(unwanted);
+		}
+	}
+
+	@Test
+	public void doesNotContainAny_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			String actual = "my dog is the best";
+			validators.requireThat(actual, "actual").doesNotContainAny(List.of("cat", "is"));
+			assert false : "Expected validator to throw an exception";
+		}
+		catch (IllegalArgumentException e)
+		{
+			String actualMessage = e.getMessage();
+			assert actualMessage.contains("may not contain \"is\"") : actualMessage;
+			assert actualMessage.contains("index : 7") : actualMessage;
+		}
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void doesNotContainAny_Null()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat((String) null, "actual").doesNotContainAny(List.of("cat"));
+		}
+	}
+
 	@Test
 	public void doesNotContain()
 	{
@@ -516,6 +712,232 @@ public final class StringTest
 		}
 	}
 
+	@Test
+	public void isUuid()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("123e4567-e89b-12d3-a456-426614174000", "actual").isUuid();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isUuid_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			// UUID.fromString() accepts this value
+			validators.requireThat("1-2-3-4-5", "actual").isUuid();
+		}
+	}
+
+	@Test
+	public void isHex()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("09afAF", "actual").isHex();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isHex_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("0x1f", "actual").isHex();
+		}
+	}
+
+	@Test
+	public void isBase64()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("YQ==", "first").isBase64();
+			validators.requireThat("YWJj", "second").isBase64();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isBase64_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("YQ=a", "actual").isBase64();
+		}
+	}
+
+	@Test
+	public void isIso8601Instant()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("2025-01-31T13:45:00.5+02:00", "actual").isIso8601Instant();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void isIso8601Instant_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("2025-02-29T13:45:00Z", "actual").isIso8601Instant();
+		}
+	}
+
+	@Test
+	public void isParsableAsLong()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			long actual = validators.requireThat("-9223372036854775808", "actual").isParsableAsLong().
+				isNegative().getValue();
+			validators.requireThat(actual, "actual").isEqualTo(Long.MIN_VALUE);
+		}
+	}
+
+	@Test
+	public void isParsableAsInt_OutOfRange()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<String> failures = validators.checkIf("70000", "port").isParsableAsInt().
+				isBetween(1, 65_536).elseGetFailures().getMessages();
+			validators.requireThat(failures, "failures").size().isEqualTo(1);
+			validators.requireThat(failures.getFirst(), "failures.getFirst()").contains("port  : 70000");
+		}
+	}
+
+	@Test
+	public void isParsableAsInt_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<String> failures = validators.checkIf("2147483648", "actual").isParsableAsInt().
+				isPositive().elseGetFailures().getMessages();
+			validators.requireThat(failures.getFirst(), "failures.getFirst()").
+				isEqualTo("\"actual\" must be parsable as an int.\n" +
+					"actual: \"2147483648\"");
+		}
+	}
+
+	@Test
+	public void isParsableAsDecimal()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("-1.5e3", "actual").isParsableAsDecimal().
+				isNegative().isWholeNumber();
+		}
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void isParsableAsDecimal_Null()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat((String) null, "actual").isParsableAsDecimal();
+		}
+	}
+
+	@Test
+	public void utf8Length()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			// 1 + 2 + 3 + 4 bytes
+			String actual = "a\u00e9\u20ac\uD83D\uDE00";
+			validators.requireThat(actual, "actual").utf8Length().
+				isEqualTo(actual.getBytes(StandardCharsets.UTF_8).length).
+				isEqualTo(10);
+		}
+	}
+
+	@Test
+	public void utf8Length_UnpairedSurrogates()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			String actual = "\uDE00a\uD83D";
+			validators.requireThat(actual, "actual").utf8Length().
+				isEqualTo(actual.getBytes(StandardCharsets.UTF_8).length);
+		}
+	}
+
+	@Test
+	public void utf8Length_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			String actual = "\u20ac";
+			validators.requireThat(actual, "actual").utf8Length().isLessThanOrEqualTo(2);
+			assert false : "Expected validator to throw an exception";
+		}
+		catch (IllegalArgumentException e)
+		{
+			String actualMessage = e.getMessage();
+			assert actualMessage.contains("more than 2 bytes") : actualMessage;
+			assert actualMessage.contains("actual.utf8Length(): 3") : actualMessage;
+		}
+	}
+
+	@Test
+	public void codePointLength()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			String actual = "a\uD83D\uDE00b";
+			validators.requireThat(actual, "actual").codePointLength().isEqualTo(3);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void codePointLength_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			String actual = "a\uD83D\uDE00b";
+			validators.requireThat(actual, "actual").codePointLength().isEqualTo(4);
+		}
+	}
+
 	@Test
 	public void lengthIsBetweenClosed()
 	{
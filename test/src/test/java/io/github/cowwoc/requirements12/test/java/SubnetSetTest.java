@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.test.java;
+
+import io.github.cowwoc.requirements12.java.SubnetSet;
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.test.TestValidators;
+import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
+
+public final class SubnetSetTest
+{
+	@Test
+	public void longestMatch() throws UnknownHostException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			SubnetSet ranges = SubnetSet.of(List.of("0.0.0.0/0", "10.0.0.0/8", "10.1.0.0/16", "10.1.2.3",
+				"::/0", "2001:db8::/32"));
+			validators.requireThat(ranges.getMatchingRange(InetAddress.getByName("10.1.2.3")), "host").
+				isEqualTo("10.1.2.3");
+			validators.requireThat(ranges.getMatchingRange(InetAddress.getByName("10.1.2.4")), "network").
+				isEqualTo("10.1.0.0/16");
+			validators.requireThat(ranges.getMatchingRange(InetAddress.getByName("8.8.8.8")), "default").
+				isEqualTo("0.0.0.0/0");
+			validators.requireThat(ranges.getMatchingRange(InetAddress.getByName("2001:db8::5")), "ipV6").
+				isEqualTo("2001:db8::/32");
+		}
+	}
+
+	@Test
+	public void addressFamiliesAreSeparate() throws UnknownHostException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			SubnetSet ranges = SubnetSet.of(List.of("::/0"));
+			validators.requireThat(ranges.getMatchingRange(InetAddress.getByName("1.2.3.4")), "actual").isNull();
+			validators.requireThat(ranges.getNearestRanges(InetAddress.getByName("1.2.3.4"), 3), "nearest").
+				isEmpty();
+		}
+	}
+
+	@Test
+	public void hostBitsAreIgnored() throws UnknownHostException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			SubnetSet ranges = SubnetSet.of(List.of("192.168.1.77/24"));
+			validators.requireThat(ranges.getMatchingRange(InetAddress.getByName("192.168.1.1")), "actual").
+				isEqualTo("192.168.1.77/24");
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void prefixTooLong()
+	{
+		SubnetSet.of(List.of("10.0.0.0/33"));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidAddress()
+	{
+		SubnetSet.of(List.of("example.com/8"));
+	}
+}
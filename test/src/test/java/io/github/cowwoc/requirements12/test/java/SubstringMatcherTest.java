@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.test.java;
+
+import io.github.cowwoc.requirements12.java.SubstringMatcher;
+import io.github.cowwoc.requirements12.java.SubstringMatcher.Match;
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.test.TestValidators;
+import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
+
+public final class SubstringMatcherTest
+{
+	@Test
+	public void findsOverlappingPatterns()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			SubstringMatcher matcher = SubstringMatcher.of(List.of("he", "she", "his", "hers"));
+			validators.requireThat(matcher.find("ushers"), "matcher.find(ushers)").
+				isEqualTo(new Match("she", 1));
+			validators.requireThat(matcher.find("ahis"), "matcher.find(ahis)").
+				isEqualTo(new Match("his", 1));
+			validators.requireThat(matcher.find("hxs"), "matcher.find(hxs)").isNull();
+		}
+	}
+
+	@Test
+	public void emptyPattern()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			SubstringMatcher matcher = SubstringMatcher.of(List.of("abc", ""));
+			validators.requireThat(matcher.find("xyz"), "matcher.find(xyz)").isEqualTo(new Match("", 0));
+		}
+	}
+
+	@Test
+	public void noPatterns()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			SubstringMatcher matcher = SubstringMatcher.of(List.of());
+			validators.requireThat(matcher.find("xyz"), "matcher.find(xyz)").isNull();
+		}
+	}
+
+	@Test
+	public void sameAsIndexOf()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Random random = new Random(0);
+			for (int iteration = 0; iteration < 200; ++iteration)
+			{
+				List<String> patterns = new ArrayList<>();
+				int patternCount = 1 + random.nextInt(8);
+				for (int i = 0; i < patternCount; ++i)
+					patterns.add(randomString(random, 1 + random.nextInt(4)));
+				String input = randomString(random, random.nextInt(40));
+
+				// The first occurrence ends at the smallest index; ties are broken by the longest pattern
+				Match expected = null;
+				for (String pattern : patterns)
+				{
+					int index = input.indexOf(pattern);
+					if (index == -1)
+						continue;
+					int end = index + pattern.length();
+					if (expected == null)
+					{
+						expected = new Match(pattern, index);
+						continue;
+					}
+					int expectedEnd = expected.index() + expected.pattern().length();
+					if (end < expectedEnd || (end == expectedEnd && index < expected.index()))
+						expected = new Match(pattern, index);
+				}
+				Match actual = SubstringMatcher.of(patterns).find(input);
+				validators.requireThat(actual, "actual").withContext(patterns, "patterns").
+					withContext(input, "input").isEqualTo(expected, "expected");
+			}
+		}
+	}
+
+	/**
+	 * @param random a random number generator
+	 * @param length the length of the string
+	 * @return a string over a small alphabet, so that patterns overlap frequently
+	 */
+	private static String randomString(Random random, int length)
+	{
+		StringBuilder result = new StringBuilder(length);
+		for (int i = 0; i < length; ++i)
+			result.append((char) ('a' + random.nextInt(3)));
+		return result.toString();
+	}
+}
@@ -4,6 +4,7 @@
  */
 package io.github.cowwoc.requirements12.test.java;
 
+import io.github.cowwoc.requirements12.java.UriConstraints;
 import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
 import io.github.cowwoc.requirements12.test.TestValidators;
 import io.github.cowwoc.requirements12.test.TestValidatorsImpl;
@@ -83,4 +84,121 @@ public final class UriTest
 			validators.requireThat(actualMessages, "actualMessages").isEqualTo(expectedMessages);
 		}
 	}
+
+	@Test
+	public void stringIsUri()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.requireThat("https://user@[2001:db8::1]:8443/a/b?q=1#top", "first").isUri();
+			validators.requireThat("../relative/path", "second").isUri();
+		}
+	}
+
+	@Test
+	public void stringIsUri_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			List<String> messages = validators.checkIf("http://host/a b", "actual").isUri().
+				elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+			validators.requireThat(messages.getFirst(), "message").contains("index : 13");
+		}
+	}
+
+	@Test
+	public void stringIsUriWithConstraints()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			UriConstraints constraints = UriConstraints.newInstance().
+				withSchemes(List.of("https")).
+				withHosts(List.of("hooks.example.com")).
+				withPorts(443, 8443).
+				withPathPrefix("/callbacks/").
+				withoutUserInfo();
+			validators.requireThat("HTTPS://Hooks.Example.com/callbacks/1", "first").isUri(constraints);
+			validators.requireThat("https://hooks.example.com:8443/callbacks/1?x=y", "second").
+				isUri(constraints);
+		}
+	}
+
+	@Test
+	public void stringIsUriWithConstraints_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			UriConstraints constraints = UriConstraints.newInstance().
+				withSchemes(List.of("https")).
+				withHosts(List.of("hooks.example.com")).
+				withPorts(443, 443).
+				withPathPrefix("/callbacks/").
+				withoutUserInfo();
+			List<String> messages = validators.checkIf("http://admin@evil.com:22/other", "actual").
+				isUri(constraints).elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(5);
+		}
+	}
+
+	@Test
+	public void stringIsUriWithPathPrefix()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			UriConstraints constraints = UriConstraints.newInstance().withPathPrefix("/api");
+			validators.requireThat("https://a.com/api", "first").isUri(constraints);
+			validators.requireThat("https://a.com/api/v1/..data", "second").isUri(constraints);
+			validators.requireThat("https://a.com/api?x=../admin", "third").isUri(constraints);
+			validators.requireThat("https://a.com/api/v1;version=2/data", "fourth").isUri(constraints);
+		}
+	}
+
+	@Test
+	public void stringIsUriWithPathPrefix_False()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			UriConstraints constraints = UriConstraints.newInstance().withPathPrefix("/api/");
+			List<String> values = List.of("https://a.com/api/../admin", "https://a.com/api/./x/..",
+				"https://a.com/api/%2e%2E/admin", "https://a.com/api/.%2E", "https://a.com/api/..%2Fadmin",
+				"https://a.com/api/%5c..%5cadmin", "https://a.com/api/..;/admin", "https://a.com/api/.;x/..;y",
+				"https://a.com/api/%2e%2e%3b/admin", "https://a.com/apiary");
+			for (String value : values)
+			{
+				validators.requireThat(validators.checkIf(value, "value").isUri(constraints).validationFailed(),
+					value).isTrue();
+			}
+			UriConstraints withoutSlash = UriConstraints.newInstance().withPathPrefix("/api");
+			validators.requireThat(validators.checkIf("https://a.com/apiary", "value").isUri(withoutSlash).
+				validationFailed(), "apiary").isTrue();
+		}
+	}
+
+	@Test
+	public void stringIsUriWithConstraints_Invalid()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			// Constraints are not evaluated if the value is not a URI
+			UriConstraints constraints = UriConstraints.newInstance().withSchemes(List.of("https"));
+			List<String> messages = validators.checkIf("http://[::1", "actual").isUri(constraints).
+				elseGetFailures().getMessages();
+			validators.requireThat(messages, "messages").size().isEqualTo(1);
+		}
+	}
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.test.java;
+
+import io.github.cowwoc.requirements12.java.ConcurrentValidationSession;
+import io.github.cowwoc.requirements12.java.MultipleFailuresException;
+import io.github.cowwoc.requirements12.java.ValidationFailure;
+import io.github.cowwoc.requirements12.java.ValidationSession;
+import io.github.cowwoc.requirements12.java.internal.ConfigurationUpdater;
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.test.TestValidators;
+import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
+
+public final class ValidationSessionTest
+{
+	@Test
+	public void failuresAreShared()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			ValidationSession session = ValidationSession.newInstance();
+			TestValidators validators = TestValidators.of(scope).withSession(session);
+
+			validators.checkIf(5, "first").isLessThan(3);
+			validators.checkIf("value", "second").isEmpty();
+			validators.checkIf(1, "third").isPositive();
+
+			List<ValidationFailure> failures = session.elseGetFailures().getFailures();
+			validators.requireThat(failures, "failures").size().isEqualTo(2);
+			validators.requireThat(failures.get(0).getMessage(), "failures.get(0).getMessage()").
+				startsWith("\"first\"");
+			validators.requireThat(failures.get(1).getMessage(), "failures.get(1).getMessage()").
+				startsWith("\"second\"");
+		}
+	}
+
+	@Test(expectedExceptions = MultipleFailuresException.class)
+	public void elseThrow()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			ValidationSession session = ValidationSession.newInstance();
+			TestValidators validators = TestValidators.of(scope).withSession(session);
+
+			validators.checkIf(5, "first").isLessThan(3);
+			validators.checkIf(5, "second").isGreaterThan(10);
+			session.elseThrow();
+		}
+	}
+
+	@Test
+	public void maximumFailures()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			ValidationSession session = ValidationSession.newInstance().maximumFailures(2);
+			TestValidators validators = TestValidators.of(scope).withSession(session);
+
+			for (int i = 0; i < 5; ++i)
+				validators.checkIf(i, "value" + i).isNegative();
+
+			List<ValidationFailure> failures = session.elseGetFailures().getFailures();
+			validators.requireThat(failures, "failures").size().isEqualTo(2);
+		}
+	}
+
+	/**
+	 * Ensure that identical failures of different validators are all recorded.
+	 */
+	@Test
+	public void identicalFailuresOfDifferentValidators()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			ValidationSession session = ValidationSession.newInstance();
+			TestValidators validators = TestValidators.of(scope).withSession(session);
+
+			for (int i = 0; i < 3; ++i)
+				validators.checkIf("", "name").isNotEmpty().isNotEmpty();
+
+			List<ValidationFailure> failures = session.elseGetFailures().getFailures();
+			validators.requireThat(failures, "failures").size().isEqualTo(3);
+		}
+	}
+
+	/**
+	 * Ensure that the failures of other validators do not count towards a validator's maximum number of
+	 * failures.
+	 */
+	@Test
+	public void maximumFailuresPerValidator()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			ValidationSession session = ValidationSession.newInstance();
+			TestValidators validators = TestValidators.of(scope);
+			TestValidators factory = validators.copy().withSession(session);
+			try (ConfigurationUpdater configurationUpdater = factory.updateConfiguration())
+			{
+				configurationUpdater.maximumFailures(2);
+			}
+
+			factory.checkIf(5, "first").isNegative().isZero().isGreaterThan(10);
+			factory.checkIf(5, "second").isNegative().isZero().isGreaterThan(10);
+
+			List<ValidationFailure> failures = session.elseGetFailures().getFailures();
+			validators.requireThat(failures, "failures").size().isEqualTo(4);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void failFast()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			ValidationSession session = ValidationSession.newInstance().maximumFailures(1).failFast(true);
+			TestValidators validators = TestValidators.of(scope).withSession(session);
+
+			validators.checkIf(5, "value").isLessThan(3);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void maximumFailuresZero()
+	{
+		ValidationSession.newInstance().maximumFailures(0);
+	}
+
+	@Test
+	public void copyRetainsSession()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			ValidationSession session = ValidationSession.newInstance();
+			TestValidators validators = TestValidators.of(scope).withSession(session);
+
+			validators.copy().checkIf(5, "value").isLessThan(3);
+			validators.requireThat(session.validationFailed(), "session.validationFailed()").isTrue();
+		}
+	}
+
+	@Test
+	public void concurrentFailuresAreSortedByIndex()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+			ConcurrentValidationSession session = ConcurrentValidationSession.newInstance();
+
+			IntStream.range(0, 100).parallel().forEach(i ->
+			{
+				TestValidators copy = validators.copy().withSession(session.forIndex(i));
+				copy.checkIf(i, "value" + i).isNegative();
+			});
+
+			List<ValidationFailure> failures = session.elseGetFailures().getFailures();
+			List<String> actual = new ArrayList<>(failures.size());
+			List<String> expected = new ArrayList<>(failures.size());
+			for (int i = 0; i < failures.size(); ++i)
+			{
+				String message = failures.get(i).getMessage();
+				actual.add(message.substring(0, message.indexOf('"', 1) + 1));
+				expected.add("\"value" + i + "\"");
+			}
+			validators.requireThat(failures, "failures").size().isEqualTo(100);
+			validators.requireThat(actual, "actual").isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void concurrentMaximumFailures()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+			ConcurrentValidationSession session = ConcurrentValidationSession.newInstance().maximumFailures(10);
+
+			IntStream.range(0, 100).parallel().forEach(i ->
+			{
+				if (session.isCancelled())
+					return;
+				TestValidators copy = validators.copy().withSession(session.forIndex(i));
+				copy.checkIf(i, "value" + i).isNegative();
+			});
+
+			validators.requireThat(session.isCancelled(), "session.isCancelled()").isTrue();
+			validators.requireThat(session.elseGetFailures().getFailures(), "failures").size().isEqualTo(10);
+		}
+	}
+
+	@Test
+	public void indexedSessionReportsOwnFailures()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			ConcurrentValidationSession session = ConcurrentValidationSession.newInstance();
+			ConcurrentValidationSession first = session.forIndex(1);
+			ConcurrentValidationSession second = session.forIndex(0);
+			TestValidators validators = TestValidators.of(scope);
+
+			validators.copy().withSession(first).checkIf(5, "first").isLessThan(3);
+			validators.requireThat(first.validationFailed(), "first.validationFailed()").isTrue();
+			validators.requireThat(second.validationFailed(), "second.validationFailed()").isFalse();
+
+			validators.copy().withSession(second).checkIf(5, "second").isLessThan(3);
+			List<ValidationFailure> failures = session.elseGetFailures().getFailures();
+			validators.requireThat(failures.getFirst().getMessage(), "failures.getFirst().getMessage()").
+				startsWith("\"second\"");
+		}
+	}
+}
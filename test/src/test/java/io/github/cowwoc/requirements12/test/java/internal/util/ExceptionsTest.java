@@ -15,6 +15,7 @@ import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
 import static io.github.cowwoc.requirements12.java.internal.util.Exceptions.LIBRARY_PACKAGE;
@@ -276,4 +277,51 @@ public final class ExceptionsTest
 			validators.requireThat(failures.getMessages(), "messages").size().isEqualTo(2);
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void multipleFailuresMessageDoesNotCreateExceptions()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+			ValidationFailure failure = new ValidationFailure()
+			{
+				@Override
+				public String getMessage()
+				{
+					return "\"actual\" must be positive";
+				}
+
+				@Override
+				public Class<? extends Throwable> getType()
+				{
+					return IllegalArgumentException.class;
+				}
+
+				@Override
+				public Throwable getException()
+				{
+					throw new AssertionError("The exception message should not create nested exceptions");
+				}
+			};
+			MultipleFailuresException e = new MultipleFailuresException(List.of(failure, failure));
+			validators.requireThat(e.getMessage(), "message").
+				contains("1. java.lang.IllegalArgumentException: \"actual\" must be positive");
+		}
+	}
+
+	@Test
+	public void multipleFailuresWithSharedContext()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+			ValidationFailures failures = validators.checkIf(5, "actual").isLessThan(3).isGreaterThan(10).
+				elseGetFailures();
+			String message = failures.getException().getMessage();
+			validators.requireThat(message, "message").
+				contains("2. java.lang.IllegalArgumentException: \"actual\" must be greater than 10.\n" +
+					"(same context as failure 1)");
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.test.java.internal.util;
+
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.java.internal.util.FileContents;
+import io.github.cowwoc.requirements12.test.TestValidators;
+import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+
+import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
+
+public final class FileContentsTest
+{
+	/**
+	 * Well-formed UTF-8 sequences, in hexadecimal.
+	 */
+	private static final String[] VALID_UTF8 =
+		{
+			"", "41", "c2a0", "dfbf", "e0a080", "ed9fbf", "ee8080", "efbfbf", "f0908080", "f48fbfbf",
+			"4142434445464748c3a9"
+		};
+	/**
+	 * Malformed UTF-8 sequences, in hexadecimal, and the offset of the first malformed sequence.
+	 */
+	private static final Object[][] INVALID_UTF8 =
+		{
+			// Stray continuation byte
+			{"80", 0L},
+			// Overlong encodings
+			{"c0af", 0L}, {"c1bf", 0L}, {"e08080", 0L}, {"f0808080", 0L},
+			// Surrogate
+			{"41eda080", 1L},
+			// Above U+10FFFF
+			{"f4908080", 0L}, {"f5808080", 0L},
+			// Truncated sequences
+			{"4142e282", 2L}, {"e2", 0L},
+			// Non-ASCII byte after a run of ASCII that spans a whole word
+			{"414243444546474849ff", 9L}
+		};
+
+	@Test
+	public void indexOfAcrossWords() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				byte[] contents = new byte[19];
+				for (int i = 0; i < contents.length; ++i)
+					contents[i] = (byte) ('a' + i);
+				Files.write(file, contents);
+				validators.requireThat(FileContents.indexOf(file, (byte) 0), "indexOf").isEqualTo(-1L);
+				for (int i : new int[]{0, 7, 9, 16, 18})
+				{
+					byte[] copy = contents.clone();
+					copy[i] = 0;
+					// A 0x01 byte after the match must not be reported as a match
+					if (i + 1 < copy.length)
+						copy[i + 1] = 1;
+					Files.write(file, copy);
+					validators.requireThat(FileContents.indexOf(file, (byte) 0), "indexOf").isEqualTo((long) i);
+				}
+			}
+			finally
+			{
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void malformedUtf8() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				for (String value : VALID_UTF8)
+				{
+					Files.write(file, HexFormat.of().parseHex(value));
+					validators.requireThat(FileContents.getMalformedUtf8Offset(file), "offset").
+						withContext(value, "value").isEqualTo(-1L);
+				}
+				for (Object[] entry : INVALID_UTF8)
+				{
+					Files.write(file, HexFormat.of().parseHex((String) entry[0]));
+					validators.requireThat(FileContents.getMalformedUtf8Offset(file), "offset").
+						withContext(entry[0], "value").isEqualTo((long) entry[1]);
+				}
+			}
+			finally
+			{
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void excessLines() throws IOException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			Path file = Files.createTempFile("", "");
+			try
+			{
+				Files.writeString(file, "");
+				validators.requireThat(FileContents.getExcessLineOffset(file, 0), "offset").isEqualTo(-1L);
+
+				Files.writeString(file, "a");
+				validators.requireThat(FileContents.getExcessLineOffset(file, 0), "offset").isEqualTo(0L);
+				validators.requireThat(FileContents.getExcessLineOffset(file, 1), "offset").isEqualTo(-1L);
+
+				// Terminators that span a whole word
+				Files.writeString(file, "\n".repeat(20));
+				validators.requireThat(FileContents.getExcessLineOffset(file, 20), "offset").isEqualTo(-1L);
+				validators.requireThat(FileContents.getExcessLineOffset(file, 19), "offset").isEqualTo(19L);
+				validators.requireThat(FileContents.getExcessLineOffset(file, 9), "offset").isEqualTo(9L);
+
+				Files.writeString(file, "line1\nline2\nline3");
+				validators.requireThat(FileContents.getExcessLineOffset(file, 3), "offset").isEqualTo(-1L);
+				validators.requireThat(FileContents.getExcessLineOffset(file, 2), "offset").isEqualTo(12L);
+			}
+			finally
+			{
+				Files.delete(file);
+			}
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.test.java.internal.util;
+
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.java.internal.util.IpAddresses;
+import io.github.cowwoc.requirements12.test.TestValidators;
+import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
+
+public final class IpAddressesTest
+{
+	private static final String[] VALID_IP_V4 =
+		{
+			"0.0.0.0", "1.2.3.4", "255.255.255.255", "10.0.0.1"
+		};
+	private static final String[] INVALID_IP_V4 =
+		{
+			"", "1.2.3", "1.2.3.4.5", "256.1.1.1", "01.1.1.1", "1..2.3", "1.2.3.", ".1.2.3", "1.2.3.4 ", "1.2.3.a",
+			"1111.1.1.1"
+		};
+	private static final String[] VALID_IP_V6 =
+		{
+			"::", "::1", "1::", "1:2:3:4:5:6:7:8", "1:2:3:4:5:6:7::", "::2:3:4:5:6:7:8", "2001:DB8::ff00:42:8329",
+			"::ffff:192.168.0.1", "1:2:3:4:5:6:1.2.3.4", "::1.2.3.4", "fe80::1%eth0", "fe80::1%25"
+		};
+	private static final String[] INVALID_IP_V6 =
+		{
+			"", ":", ":::", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9", "1:2:3:4:5:6:7:8::", "1::2::3", ":1::2", "1::2:",
+			"12345::", "g::", "1:2:3:4:5:6:7:1.2.3.4", "::1.2.3", "::1.2.3.04", "fe80::1%", "fe80::1%a b",
+			"1.2.3.4"
+		};
+
+	@Test
+	public void isIpV4()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			for (String value : VALID_IP_V4)
+				validators.requireThat(IpAddresses.isIpV4(value), "isIpV4(" + value + ")").isTrue();
+			for (String value : INVALID_IP_V4)
+			{
+				validators.requireThat(IpAddresses.isIpV4(value), "actual").withContext(value, "value").
+					isFalse();
+			}
+		}
+	}
+
+	@Test
+	public void isIpV6()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			for (String value : VALID_IP_V6)
+				validators.requireThat(IpAddresses.isIpV6(value), "isIpV6(" + value + ")").isTrue();
+			for (String value : INVALID_IP_V6)
+			{
+				validators.requireThat(IpAddresses.isIpV6(value), "actual").withContext(value, "value").
+					isFalse();
+			}
+		}
+	}
+
+	@Test
+	public void parseSameAsGetByName() throws UnknownHostException
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			for (String value : VALID_IP_V4)
+			{
+				validators.requireThat(IpAddresses.parse(value).or(null), "actual").withContext(value, "value").
+					isEqualTo(InetAddress.getByName(value));
+			}
+			for (String value : VALID_IP_V6)
+			{
+				// Named zones depend on the local network interfaces
+				if (value.contains("%eth0"))
+					continue;
+				validators.requireThat(IpAddresses.parse(value).or(null), "actual").withContext(value, "value").
+					isEqualTo(InetAddress.getByName(value));
+			}
+		}
+	}
+}
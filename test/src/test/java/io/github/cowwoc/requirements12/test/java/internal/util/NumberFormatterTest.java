@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.test.java.internal.util;
+
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.java.internal.util.NumberFormatter;
+import io.github.cowwoc.requirements12.test.TestValidators;
+import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
+
+public final class NumberFormatterTest
+{
+	private static final long[] INTEGRAL_VALUES =
+		{
+			0, 1, -1, 999, 1000, -1000, 123_456_789, Integer.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE
+		};
+	private static final double[] FLOATING_POINT_VALUES =
+		{
+			0.0, -0.0, 0.1, 5.0e-7, 4.9e-7, 1.5e-6, 123.4565, 999_999.999_999_5, 1.0e7, 2.0e23, -1.0e300,
+			Double.MIN_VALUE, Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+		};
+
+	@Test
+	public void sameAsFormatter()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			for (long value : INTEGRAL_VALUES)
+			{
+				validators.requireThat(NumberFormatter.format(value), "NumberFormatter.format(" + value + ")").
+					isEqualTo(String.format("%,d", value));
+			}
+			for (double value : FLOATING_POINT_VALUES)
+			{
+				validators.requireThat(NumberFormatter.format(value), "NumberFormatter.format(" + value + ")").
+					isEqualTo(String.format("%,f", value));
+			}
+			validators.requireThat(NumberFormatter.format(0.1f), "NumberFormatter.format(0.1f)").
+				isEqualTo(String.format("%,f", 0.1f));
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.test.java.internal.util;
+
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.java.internal.util.PatternCache;
+import io.github.cowwoc.requirements12.test.TestValidators;
+import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+
+import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
+
+public final class PatternCacheTest
+{
+	@Test
+	public void reusesPatterns()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			PatternCache cache = new PatternCache(2);
+			Pattern first = cache.getPattern("a+", 0);
+			Pattern second = cache.getPattern("a+", 0);
+			validators.requireThat(second, "second").isReferenceEqualTo(first, "first");
+			validators.requireThat(cache.getHits(), "cache.getHits()").isEqualTo(1L);
+			validators.requireThat(cache.getMisses(), "cache.getMisses()").isEqualTo(1L);
+
+			Pattern caseInsensitive = cache.getPattern("a+", Pattern.CASE_INSENSITIVE);
+			validators.requireThat(caseInsensitive, "caseInsensitive").isReferenceNotEqualTo(first, "first");
+		}
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsed()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			PatternCache cache = new PatternCache(2);
+			Pattern first = cache.getPattern("first", 0);
+			cache.getPattern("second", 0);
+			// Mark "first" as recently used so that "second" is evicted
+			cache.getPattern("first", 0);
+			cache.getPattern("third", 0);
+
+			Pattern cachedFirst = cache.getPattern("first", 0);
+			validators.requireThat(cachedFirst, "cachedFirst").isReferenceEqualTo(first, "first");
+			long misses = cache.getMisses();
+			cache.getPattern("second", 0);
+			validators.requireThat(cache.getMisses(), "cache.getMisses()").isEqualTo(misses + 1);
+		}
+	}
+
+	@Test
+	public void disabled()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			PatternCache cache = new PatternCache(0);
+			Pattern first = cache.getPattern("a+", 0);
+			Pattern second = cache.getPattern("a+", 0);
+			validators.requireThat(second, "second").isReferenceNotEqualTo(first, "first");
+			validators.requireThat(cache.getHits(), "cache.getHits()").isZero();
+		}
+	}
+
+	@Test
+	public void matchesUsesCache()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			String regex = "matchesUsesCache\\d+";
+			long hits = scope.getGlobalConfiguration().patternCacheHits();
+			validators.requireThat("matchesUsesCache1", "first").matches(regex);
+			validators.requireThat("matchesUsesCache2", "second").matches(regex);
+			validators.requireThat(scope.getGlobalConfiguration().patternCacheHits(), "patternCacheHits()").
+				isGreaterThan(hits);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 Gili Tzabari
+ * Licensed under the Apache License, Version 2.0: http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.github.cowwoc.requirements12.test.java.internal.util;
+
+import io.github.cowwoc.requirements12.java.internal.scope.ApplicationScope;
+import io.github.cowwoc.requirements12.java.internal.util.Strings;
+import io.github.cowwoc.requirements12.test.TestValidators;
+import io.github.cowwoc.requirements12.test.scope.TestApplicationScope;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import static io.github.cowwoc.requirements12.java.TerminalEncoding.NONE;
+
+public final class StringsTest
+{
+	private static final String[] INSTANTS =
+		{
+			"2024-02-29T10:00:00Z", "2023-02-29T10:00:00Z", "2024-04-31T10:00:00Z", "2024-13-01T10:00:00Z",
+			"2024-01-01T24:00:00Z", "2024-01-01T24:00:00.000Z", "2024-01-01T24:00:01Z", "2024-01-01T25:00:00Z",
+			"2024-01-01T23:59:60Z", "2024-01-01T22:59:60Z", "2024-01-01t10:00:00z", "2024-01-01T10:00:00+01:00",
+			"2024-01-01T10:00:00+01", "2024-01-01T10:00:00+01:00:30", "2024-01-01T10:00:00.123456789Z",
+			"2024-01-01T10:00:00.1234567891Z", "2024-01-01T10:00:00.Z", "2024-01-01T10:00Z",
+			"2024-01-01T10:00:00+19:00", "2024-01-01T10:00:00+18:00", "2024-01-01T10:00:00-18:00:01",
+			"2024-01-01T10:00:00-00:00", "0000-01-01T00:00:00Z", "2024-01-01 10:00:00Z", "2024-01-01T10:60:00Z",
+			"2024-01-01T10:00:00Zx", "2024-01-01T10:00:00.5"
+		};
+	private static final String[] DECIMALS =
+		{
+			"0", "-1", "+1", "1.", ".5", "-.5", ".", "", "+", "1e5", "1E-5", "1.5e+3", "1e", "1e+", "1.2.3", "1x",
+			"1e2147483647", "1e2147483648", "1.5e-2147483647", "1e-2147483648", "1e99999999999"
+		};
+	private static final String[] LONGS =
+		{
+			"0", "-0", "+0", "-", "+", "", "9223372036854775807", "9223372036854775808", "-9223372036854775808",
+			"-9223372036854775809", "2147483647", "2147483648", "-2147483648", "-2147483649", "12a", " 1",
+			"00000000000000000000001"
+		};
+
+	@Test
+	public void isIso8601InstantSameAsInstantParse()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			for (String value : INSTANTS)
+			{
+				boolean expected;
+				try
+				{
+					Instant.parse(value);
+					expected = true;
+				}
+				catch (DateTimeParseException e)
+				{
+					expected = false;
+				}
+				validators.requireThat(Strings.isIso8601Instant(value), "actual").withContext(value, "value").
+					isEqualTo(expected, "expected");
+			}
+		}
+	}
+
+	@Test
+	public void parseDecimalSameAsBigDecimal()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			for (String value : DECIMALS)
+			{
+				BigDecimal expected;
+				try
+				{
+					expected = new BigDecimal(value);
+				}
+				catch (NumberFormatException e)
+				{
+					expected = null;
+				}
+				BigDecimal actual = Strings.parseDecimal(value).or(null);
+				validators.requireThat(actual, "actual").withContext(value, "value").isEqualTo(expected, "expected");
+			}
+		}
+	}
+
+	@Test
+	public void parseLongSameAsLongParseLong()
+	{
+		try (ApplicationScope scope = new TestApplicationScope(NONE))
+		{
+			TestValidators validators = TestValidators.of(scope);
+
+			for (String value : LONGS)
+			{
+				Long expectedLong;
+				try
+				{
+					expectedLong = Long.parseLong(value);
+				}
+				catch (NumberFormatException e)
+				{
+					expectedLong = null;
+				}
+				Integer expectedInt;
+				try
+				{
+					expectedInt = Integer.parseInt(value);
+				}
+				catch (NumberFormatException e)
+				{
+					expectedInt = null;
+				}
+				validators.requireThat(Strings.parseLong(value).or(null), "actualLong").withContext(value, "value").
+					isEqualTo(expectedLong, "expectedLong");
+				validators.requireThat(Strings.parseInt(value).or(null), "actualInt").withContext(value, "value").
+					isEqualTo(expectedInt, "expectedInt");
+			}
+		}
+	}
+}
@@ -7,6 +7,7 @@ package io.github.cowwoc.requirements12.test.scope;
 import io.github.cowwoc.requirements12.java.TerminalEncoding;
 import io.github.cowwoc.requirements12.java.internal.scope.AbstractApplicationScope;
 import io.github.cowwoc.requirements12.java.internal.scope.DefaultJvmScope;
+import io.github.cowwoc.requirements12.java.internal.util.PatternCache;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -17,6 +18,11 @@ import static io.github.cowwoc.requirements12.java.internal.scope.DefaultJvmScop
  */
 public final class TestApplicationScope extends AbstractApplicationScope
 {
+	/**
+	 * The compiled regular expressions of this scope. Each test gets its own cache so that resizing it does not
+	 * affect other tests.
+	 */
+	private final PatternCache patternCache;
 	private final AtomicBoolean closed = new AtomicBoolean();
 
 	/**
@@ -25,10 +31,27 @@ public final class TestApplicationScope extends AbstractApplicationScope
 	 */
 	public TestApplicationScope(TerminalEncoding terminalEncoding)
 	{
-		super(DefaultJvmScope.INSTANCE, new TestGlobalConfiguration(terminalEncoding));
+		this(terminalEncoding, new PatternCache(PatternCache.DEFAULT_MAXIMUM_SIZE));
+	}
+
+	/**
+	 * @param terminalEncoding the type of encoding that validators should output
+	 * @param patternCache     the compiled regular expressions of this scope
+	 * @throws NullPointerException if any of the arguments are null
+	 */
+	private TestApplicationScope(TerminalEncoding terminalEncoding, PatternCache patternCache)
+	{
+		super(DefaultJvmScope.INSTANCE, new TestGlobalConfiguration(terminalEncoding, patternCache));
+		this.patternCache = patternCache;
 		parent.addChild(this);
 	}
 
+	@Override
+	public PatternCache getPatternCache()
+	{
+		return patternCache;
+	}
+
 	@Override
 	public boolean isClosed()
 	{
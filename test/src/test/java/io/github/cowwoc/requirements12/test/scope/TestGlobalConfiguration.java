@@ -6,22 +6,28 @@ package io.github.cowwoc.requirements12.test.scope;
 
 import io.github.cowwoc.requirements12.java.GlobalConfiguration;
 import io.github.cowwoc.requirements12.java.TerminalEncoding;
+import io.github.cowwoc.requirements12.java.internal.util.PatternCache;
 
 import java.util.Set;
 
 public final class TestGlobalConfiguration implements GlobalConfiguration
 {
 	private final TerminalEncoding terminalEncoding;
+	private final PatternCache patternCache;
 
 	/**
 	 * @param terminalEncoding the terminal encoding that the test should use
-	 * @throws NullPointerException if {@code terminalEncoding} is null
+	 * @param patternCache     the compiled regular expressions that are shared by the validators of a scope
+	 * @throws NullPointerException if any of the arguments are null
 	 */
-	public TestGlobalConfiguration(TerminalEncoding terminalEncoding)
+	public TestGlobalConfiguration(TerminalEncoding terminalEncoding, PatternCache patternCache)
 	{
 		if (terminalEncoding == null)
 			throw new NullPointerException("terminalEncoding may not be null");
+		if (patternCache == null)
+			throw new NullPointerException("patternCache may not be null");
 		this.terminalEncoding = terminalEncoding;
+		this.patternCache = patternCache;
 	}
 
 	@Override
@@ -46,4 +52,29 @@ public final class TestGlobalConfiguration implements GlobalConfiguration
 		}
 		return this;
 	}
+
+	@Override
+	public int patternCacheSize()
+	{
+		return patternCache.getMaximumSize();
+	}
+
+	@Override
+	public TestGlobalConfiguration patternCacheSize(int size)
+	{
+		patternCache.setMaximumSize(size);
+		return this;
+	}
+
+	@Override
+	public long patternCacheHits()
+	{
+		return patternCache.getHits();
+	}
+
+	@Override
+	public long patternCacheMisses()
+	{
+		return patternCache.getMisses();
+	}
 }
\ No newline at end of file